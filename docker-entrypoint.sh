@@ -1,25 +1,58 @@
 #!/bin/bash
 
-echo "🚀 Running tests..."
+RESULTS_DIR="target/allure-results"
+REPORT_DIR="target/allure-report"
+SHARD_ARGS=""
 
-# Run tests (continue even if they fail)
-mvn test -Dbrowser=chrome -Dheadless=true || echo "⚠️ Tests completed with failures"
+if [ -n "$MERGE_SHARDS" ]; then
+    # Combine the shards' results (and the previous report's history) instead of running tests
+    echo "🔀 Merging shard results..."
+    mvn -q -B process-test-resources dependency:build-classpath -Dmdep.outputFile=target/merge-classpath.txt
+    START=$(date +%s%3N)
+    java -cp "target/classes:target/test-classes:$(cat target/merge-classpath.txt)" com.swaglabs.reporting.AllureResultsMerger \
+        --clean --history $REPORT_DIR/history $RESULTS_DIR target/shards/*/allure-results \
+        || echo "⚠️ Merging shard results failed"
+    echo "⏱️ Merged shard results in $(( $(date +%s%3N) - START )) ms"
+else
+    # SHARD=i/n runs only this container's slice of the suite (see ShardListener); the
+    # report service merges the slices and generates the report
+    if [ -n "$SHARD" ]; then
+        SHARD_INDEX="${SHARD%%/*}"
+        RESULTS_DIR="target/shards/shard-$SHARD_INDEX/allure-results"
+        SHARD_ARGS="-Dshard=$SHARD -Dallure.results.dir=$RESULTS_DIR"
+        if [ -n "$DURATIONS_FILE" ]; then
+            SHARD_ARGS="$SHARD_ARGS -Dshard.durations.file=$DURATIONS_FILE"
+        fi
+        rm -rf "$RESULTS_DIR"
+        echo "🧩 Running shard $SHARD"
+    fi
+
+    echo "🚀 Running tests..."
+
+    # Run tests (continue even if they fail)
+    mvn test -Dbrowser=chrome -Dheadless=true $SHARD_ARGS || echo "⚠️ Tests completed with failures"
+
+    if [ -n "$SHARD" ]; then
+        echo "🏁  Shard $SHARD done! Results in $RESULTS_DIR"
+        exit 0
+    fi
+fi
 
 echo "📊 Generating Allure report..."
 
 # Check if results exist
-if [ -d "target/allure-results" ] && [ "$(ls -A target/allure-results)" ]; then
+if [ -d "$RESULTS_DIR" ] && [ "$(ls -A $RESULTS_DIR)" ]; then
     # Generate static HTML report (not serve)
-    allure generate target/allure-results -o target/allure-report --clean
-    echo "✅ Allure report generated in target/allure-report"
+    allure generate $RESULTS_DIR -o $REPORT_DIR --clean
+    echo "✅ Allure report generated in $REPORT_DIR"
 
     # List files for debugging
     echo "Report files:"
-    ls -la target/allure-report/
+    ls -la $REPORT_DIR/
 else
     echo "❌ No test results found"
-    mkdir -p target/allure-report
-    echo "<h1>No Test Results Found</h1><p>Tests may have failed to run or no test results were generated.</p>" > target/allure-report/index.html
+    mkdir -p $REPORT_DIR
+    echo "<h1>No Test Results Found</h1><p>Tests may have failed to run or no test results were generated.</p>" > $REPORT_DIR/index.html
 fi
 
 echo "🏁  Done! Exiting..."
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.swaglabs.base;
+
+import com.swaglabs.instrumentation.HostResources;
+import com.swaglabs.utils.ConfigReader;
+import com.swaglabs.utils.Settings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grows or shrinks {@link BrowserSlots} between parallelism.min and parallelism.max from
+ * periodic {@link HostResources} samples. A slot is added only when tests are queued for one,
+ * CPU is below parallelism.cpu.grow and free memory minus parallelism.memory.reserve.mb fits
+ * another session (average Chrome RSS per running session, or parallelism.session.rss.mb before
+ * any is observed). A slot is removed when CPU exceeds parallelism.cpu.shrink or free memory
+ * drops below the reserve. After a change the controller holds for parallelism.cooldown.samples
+ * so Chrome start-up spikes are not read as steady load. Every decision is logged and appended
+ * to parallelism.decisions.file.
+ */
+public class AdaptiveParallelism {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveParallelism.class);
+    private static final long MB = 1024 * 1024;
+
+    private final HostResources host = new HostResources();
+    private final int min;
+    private final int max;
+    private final double cpuGrow;
+    private final double cpuShrink;
+    private final long memoryReserveBytes;
+    private final long sessionRssEstimateBytes;
+    private final int cooldownSamples;
+    private final long sampleMillis;
+    private final Path decisionsFile;
+
+    private ScheduledExecutorService sampler;
+    private BufferedWriter decisions;
+    private int cooldown;
+
+    public AdaptiveParallelism() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        Settings settings = ConfigReader.settings();
+        this.min = Math.max(1, settings.getParallelismMin());
+        this.max = Math.max(min, settings.getParallelismMax() > 0 ? settings.getParallelismMax() : processors);
+        this.cpuGrow = settings.getParallelismCpuGrow();
+        this.cpuShrink = settings.getParallelismCpuShrink();
+        this.memoryReserveBytes = settings.getParallelismMemoryReserveMb() * MB;
+        this.sessionRssEstimateBytes = settings.getParallelismSessionRssMb() * MB;
+        this.cooldownSamples = settings.getParallelismCooldownSamples();
+        this.sampleMillis = Math.max(1, settings.getParallelismSampleInterval().toMillis());
+        this.decisionsFile = Paths.get(settings.get("parallelism.decisions.file", "target/parallelism-decisions.csv"));
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.settings().isAdaptiveParallelism();
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public synchronized void start() {
+        if (sampler != null) {
+            return;
+        }
+        if (!HostResources.isSupported()) {
+            logger.warn("Adaptive parallelism disabled: /proc is not available on this host");
+            return;
+        }
+        int initial = Math.max(min, Math.min(max, ConfigReader.settings().getParallelismInitial()));
+        BrowserSlots.resize(initial);
+
+        try {
+            Files.createDirectories(decisionsFile.toAbsolutePath().getParent());
+            decisions = Files.newBufferedWriter(decisionsFile, StandardCharsets.UTF_8);
+            decisions.write("timestamp,action,slots_before,slots_after,in_use,waiting,cpu_busy,load_avg,"
+                    + "mem_available_mb,chrome_rss_mb,chrome_processes,reason\n");
+        } catch (IOException e) {
+            logger.warn("Failed to open parallelism decision log {}: {}", decisionsFile, e.getMessage());
+            decisions = null;
+        }
+
+        try {
+            host.sample();
+        } catch (IOException e) {
+            logger.warn("Initial host sample failed: {}", e.getMessage());
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "adaptive-parallelism");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleWithFixedDelay(this::adjust, sampleMillis, sampleMillis, TimeUnit.MILLISECONDS);
+        logger.info("Adaptive parallelism started with {} browser slots (bounds {}..{}, sampling every {} ms)",
+                initial, min, max, sampleMillis);
+    }
+
+    public synchronized void stop() {
+        if (sampler == null) {
+            return;
+        }
+        sampler.shutdownNow();
+        sampler = null;
+        if (decisions != null) {
+            try {
+                decisions.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close parallelism decision log: {}", e.getMessage());
+            }
+            decisions = null;
+        }
+        logger.info("Adaptive parallelism stopped at {} browser slots; decisions in {}",
+                BrowserSlots.getLimit(), decisionsFile);
+    }
+
+    private synchronized void adjust() {
+        HostResources.Sample sample;
+        try {
+            sample = host.sample();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Host sample failed, keeping {} browser slots: {}", BrowserSlots.getLimit(), e.getMessage());
+            return;
+        }
+
+        int slots = BrowserSlots.getLimit();
+        int inUse = BrowserSlots.getInUse();
+        int waiting = BrowserSlots.getWaiting();
+        long rssPerSession = inUse > 0 && sample.getChromeRssBytes() > 0
+                ? sample.getChromeRssBytes() / inUse : sessionRssEstimateBytes;
+        long headroom = sample.getMemAvailableBytes() - memoryReserveBytes;
+
+        int target = slots;
+        String reason;
+        if (headroom < 0 && slots > min) {
+            target = slots - 1;
+            reason = String.format(Locale.ROOT, "free memory %d MB below reserve %d MB",
+                    sample.getMemAvailableBytes() / MB, memoryReserveBytes / MB);
+        } else if (sample.getCpuBusy() > cpuShrink && slots > min) {
+            target = slots - 1;
+            reason = String.format(Locale.ROOT, "cpu %.0f%% above %.0f%%", sample.getCpuBusy() * 100, cpuShrink * 100);
+        } else if (cooldown > 0) {
+            cooldown--;
+            reason = "cooling down after last change";
+        } else if (waiting == 0) {
+            reason = "no tests waiting for a slot";
+        } else if (slots >= max) {
+            reason = "at upper bound " + max;
+        } else if (sample.getCpuBusy() >= cpuGrow) {
+            reason = String.format(Locale.ROOT, "cpu %.0f%% not below %.0f%%", sample.getCpuBusy() * 100, cpuGrow * 100);
+        } else if (headroom < rssPerSession) {
+            reason = String.format(Locale.ROOT, "memory headroom %d MB below one session (%d MB)",
+                    headroom / MB, rssPerSession / MB);
+        } else {
+            target = slots + 1;
+            reason = String.format(Locale.ROOT, "%d waiting, cpu %.0f%%, headroom %d MB fits a %d MB session",
+                    waiting, sample.getCpuBusy() * 100, headroom / MB, rssPerSession / MB);
+        }
+
+        String action = target > slots ? "grow" : target < slots ? "shrink" : "hold";
+        if (target != slots) {
+            BrowserSlots.resize(target);
+            cooldown = cooldownSamples;
+            logger.info("Parallelism {} {} -> {}: {} ({})", action, slots, target, reason, sample);
+        } else {
+            logger.debug("Parallelism hold at {}: {} ({})", slots, reason, sample);
+        }
+        recordDecision(action, slots, target, inUse, waiting, sample, reason);
+    }
+
+    private void recordDecision(String action, int before, int after, int inUse, int waiting,
+                                HostResources.Sample sample, String reason) {
+        if (decisions == null) {
+            return;
+        }
+        try {
+            decisions.write(String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%.3f,%.2f,%d,%d,%d,\"%s\"%n",
+                    Instant.now(), action, before, after, inUse, waiting, sample.getCpuBusy(),
+                    sample.getLoadAverage(), sample.getMemAvailableBytes() / MB, sample.getChromeRssBytes() / MB,
+                    sample.getChromeProcesses(), reason));
+            decisions.flush();
+        } catch (IOException e) {
+            logger.warn("Failed to record parallelism decision: {}", e.getMessage());
+        }
+    }
+}
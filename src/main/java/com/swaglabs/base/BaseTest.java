@@ -1,6 +1,19 @@
 package com.swaglabs.base;
 
+import com.swaglabs.instrumentation.FlowTimings;
+import com.swaglabs.instrumentation.InstrumentedDriverDecorator;
+import com.swaglabs.instrumentation.jfr.ScreenshotEvent;
+import com.swaglabs.navigation.Navigator;
+import com.swaglabs.network.AllowResources;
+import com.swaglabs.network.HarRecorder;
+import com.swaglabs.network.NetworkConditions;
+import com.swaglabs.network.NetworkPolicy;
+import com.swaglabs.network.NetworkPolicyInterceptor;
+import com.swaglabs.pages.BasePage;
+import com.swaglabs.transport.WebDriverTransport;
 import com.swaglabs.utils.ConfigReader;
+import com.swaglabs.utils.DriverManager;
+import com.swaglabs.utils.Settings;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import io.qameta.allure.Attachment;
 import org.openqa.selenium.OutputType;
@@ -13,34 +26,58 @@ import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
-import java.time.Duration;
+import java.lang.reflect.Method;
 
 public class BaseTest {
     private static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
-    protected WebDriver driver;
-    protected WebDriverWait wait;
-    private static final int TIMEOUT = 10;
+    // Per thread, so test methods of one instance can run in parallel (parallel="methods")
+    private final ThreadLocal<WebDriver> drivers = new ThreadLocal<>();
+    private final ThreadLocal<WebDriverWait> waits = new ThreadLocal<>();
 
     @BeforeMethod
-    @Parameters({"browser"})
-    public void setUp(@Optional("chrome") String browser) {
+    @Parameters({"browser", "networkProfile"})
+    public void setUp(@Optional("chrome") String browser, @Optional("") String networkProfile, Method method) {
         logger.info("Setting up test environment for browser: {}", browser);
-        initializeDriver(browser);
+        Settings settings = ConfigReader.settings();
+        long setupStart = System.nanoTime();
+        BrowserSlots.acquire();
+        WebDriver driver = initializeDriver(browser, settings.isHeadless());
+        drivers.set(driver);
+        applyNetworkPolicy(driver, method);
+        NetworkConditions.apply(driver, NetworkConditions.resolveProfile(networkProfile));
+        HarRecorder.start(driver, getClass().getSimpleName() + "." + method.getName());
         driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(TIMEOUT));
-        wait = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT));
+        driver.manage().timeouts().implicitlyWait(settings.getImplicitWait());
+        waits.set(new WebDriverWait(driver, settings.getExplicitWait(), settings.getPollingInterval()));
 
-        String baseUrl = ConfigReader.getProperty("base.url");
+        String baseUrl = settings.get("base.url");
         logger.info("Navigating to: {}", baseUrl);
         driver.get(baseUrl);
+        logger.info("Test environment ready in {} ms", (System.nanoTime() - setupStart) / 1_000_000);
     }
 
-    private void initializeDriver(String browser) {
+    private void applyNetworkPolicy(WebDriver driver, Method method) {
+        AllowResources allow = method.getAnnotation(AllowResources.class);
+        if (allow == null) {
+            allow = getClass().getAnnotation(AllowResources.class);
+        }
+        NetworkPolicyInterceptor.install(driver, NetworkPolicy.configured().allowing(allow));
+    }
+
+    private WebDriver initializeDriver(String browser, boolean headless) {
+        // A warm session from a running BrowserDaemon skips the Chrome launch
+        return DriverManager.leaseFromDaemon(browser, headless).orElseGet(() -> launchDriver(browser, headless));
+    }
+
+    private WebDriver launchDriver(String browser, boolean headless) {
+        WebDriverTransport.configure();
+        WebDriver driver;
         switch (browser.toLowerCase()) {
             case "chrome":
                 WebDriverManager.chromedriver().setup();
@@ -49,7 +86,7 @@ public class BaseTest {
                 chromeOptions.addArguments("--disable-extensions");
                 chromeOptions.addArguments("--no-sandbox");
                 chromeOptions.addArguments("--disable-dev-shm-usage");
-                if (Boolean.parseBoolean(System.getProperty("headless", "false"))) {
+                if (headless) {
                     chromeOptions.addArguments("--headless");
                 }
                 driver = new ChromeDriver(chromeOptions);
@@ -57,7 +94,7 @@ public class BaseTest {
             case "firefox":
                 WebDriverManager.firefoxdriver().setup();
                 FirefoxOptions firefoxOptions = new FirefoxOptions();
-                if (Boolean.parseBoolean(System.getProperty("headless", "false"))) {
+                if (headless) {
                     firefoxOptions.addArguments("--headless");
                 }
                 driver = new FirefoxDriver(firefoxOptions);
@@ -66,26 +103,66 @@ public class BaseTest {
                 throw new IllegalArgumentException("Browser not supported: " + browser);
         }
         logger.info("Driver initialized for browser: {}", browser);
+        return InstrumentedDriverDecorator.instrument(driver);
     }
 
-    @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            logger.info("Closing browser and cleaning up resources");
-            driver.quit();
+    @AfterMethod(alwaysRun = true)
+    public void tearDown(ITestResult result) {
+        WebDriver driver = drivers.get();
+        drivers.remove();
+        waits.remove();
+        try {
+            if (driver != null) {
+                logger.info("Closing browser and cleaning up resources");
+                driver.quit();
+            }
+        } finally {
+            // The slot guards the browser only; flushing the HAR file happens after it is handed on.
+            // HarCaptureListener normally finishes it first; without it, only failures keep theirs
+            BrowserSlots.release();
+            HarRecorder.stopCurrent(result.getStatus() == ITestResult.FAILURE);
+            FlowTimings.end();
         }
     }
 
     @Attachment(value = "Screenshot", type = "image/png")
     public byte[] takeScreenshot() {
-        return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        ScreenshotEvent event = new ScreenshotEvent();
+        event.begin();
+        byte[] screenshot = ((TakesScreenshot) driver()).getScreenshotAs(OutputType.BYTES);
+        event.bytes = screenshot.length;
+        event.commit();
+        return screenshot;
+    }
+
+    /**
+     * Opens page with the given cart (item ids, 4 = backpack, 0 = bike light) along the cheapest
+     * measured path, teleporting by URL and state injection where that beats clicking through.
+     */
+    protected <P extends BasePage> P navigateTo(Class<P> page, int... cartItemIds) {
+        return new Navigator(driver(), driverWait()).goTo(page, cartItemIds);
+    }
+
+    /**
+     * The current test's session, per thread; replaces the former driver field.
+     */
+    protected WebDriver driver() {
+        return drivers.get();
+    }
+
+    /**
+     * The current test's explicit wait, per thread; replaces the former wait field (a wait()
+     * accessor would clash with Object.wait()).
+     */
+    protected WebDriverWait driverWait() {
+        return waits.get();
     }
 
     public WebDriver getDriver() {
-        return driver;
+        return drivers.get();
     }
 
     public WebDriverWait getWait() {
-        return wait;
+        return waits.get();
     }
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.swaglabs.base;
+
+import com.swaglabs.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the number of concurrent browser sessions at browser.slots (0 = unlimited). A test
+ * holds a slot from driver creation until quit, so when tests are scheduled on many
+ * (virtual) threads only the browser-bound part is throttled and data loading, report
+ * writing and screenshot encoding overlap freely. The limit can be changed while tests run
+ * with {@link #resize(int)}; shrinking takes effect as running sessions release their slots.
+ */
+public class BrowserSlots {
+    private static final Logger logger = LoggerFactory.getLogger(BrowserSlots.class);
+    private static final ThreadLocal<Boolean> held = ThreadLocal.withInitial(() -> false);
+    private static final AtomicInteger inUse = new AtomicInteger();
+    private static volatile ResizableSemaphore slots;
+    private static volatile int limit = -1;
+
+    private BrowserSlots() {
+    }
+
+    public static void acquire() {
+        Semaphore semaphore = semaphore();
+        if (semaphore == null || held.get()) {
+            return;
+        }
+        long start = System.nanoTime();
+        semaphore.acquireUninterruptibly();
+        held.set(true);
+        inUse.incrementAndGet();
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+        if (waitedMs > 0) {
+            logger.debug("Waited {} ms for a browser slot ({} available)", waitedMs, semaphore.availablePermits());
+        }
+    }
+
+    public static void release() {
+        Semaphore semaphore = slots;
+        if (semaphore != null && held.get()) {
+            held.set(false);
+            inUse.decrementAndGet();
+            semaphore.release();
+        }
+    }
+
+    public static int getLimit() {
+        semaphore();
+        return limit;
+    }
+
+    /**
+     * Sessions currently holding a slot.
+     */
+    public static int getInUse() {
+        return inUse.get();
+    }
+
+    /**
+     * Tests blocked waiting for a slot.
+     */
+    public static int getWaiting() {
+        Semaphore semaphore = slots;
+        return semaphore != null ? semaphore.getQueueLength() : 0;
+    }
+
+    /**
+     * Changes the number of concurrent sessions. Growing wakes waiting tests immediately;
+     * shrinking never interrupts a running session, it only holds back the next acquires.
+     */
+    public static synchronized void resize(int newLimit) {
+        if (newLimit < 1) {
+            throw new IllegalArgumentException("Browser slot limit must be at least 1: " + newLimit);
+        }
+        ResizableSemaphore semaphore = semaphore();
+        if (semaphore == null) {
+            slots = new ResizableSemaphore(newLimit);
+        } else if (newLimit > limit) {
+            semaphore.release(newLimit - limit);
+        } else if (newLimit < limit) {
+            semaphore.reducePermits(limit - newLimit);
+        }
+        logger.debug("Browser slots resized from {} to {}", limit, newLimit);
+        limit = newLimit;
+    }
+
+    private static ResizableSemaphore semaphore() {
+        if (limit < 0) {
+            synchronized (BrowserSlots.class) {
+                if (limit < 0) {
+                    int configured = ConfigReader.settings().getBrowserSlots();
+                    slots = configured > 0 ? new ResizableSemaphore(configured) : null;
+                    limit = configured;
+                }
+            }
+        }
+        return slots;
+    }
+
+    private static class ResizableSemaphore extends Semaphore {
+        private ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
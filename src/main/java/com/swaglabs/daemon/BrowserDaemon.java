@@ -0,0 +1,305 @@
+package com.swaglabs.daemon;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.swaglabs.transport.WebDriverTransport;
+import com.swaglabs.utils.ConfigReader;
+import com.swaglabs.utils.Settings;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-lived local process that keeps daemon.pool.size Chrome sessions warm so test runs can
+ * lease one instead of launching Chrome (see {@link BrowserDaemonClient}). A lease hands out
+ * the session id and chromedriver URL of an idle session, provided the browser and headless
+ * mode the client asks for are the ones the pool was launched with; on release the session is reset
+ * (extra windows closed, cookies, storage and cache cleared, timeouts restored, about:blank)
+ * and goes back to the pool, or is replaced when the reset fails. Leases not released within
+ * daemon.lease.max.ms, for example after a killed test JVM, are reclaimed the same way.
+ * <p>
+ * Start it once per working session and leave it running across mvn test invocations:
+ * <pre>java -cp "target/classes:$(cat cp.txt)" com.swaglabs.daemon.BrowserDaemon</pre>
+ * with cp.txt from {@code mvn dependency:build-classpath -Dmdep.outputFile=cp.txt}.
+ */
+public class BrowserDaemon {
+    private static final Logger logger = LoggerFactory.getLogger(BrowserDaemon.class);
+    private static final Json json = new Json();
+
+    private final int poolSize;
+    private final long leaseMaxMillis;
+    private final boolean headless;
+    private final BlockingDeque<PooledBrowser> idle = new LinkedBlockingDeque<>();
+    private final ConcurrentMap<String, PooledBrowser> leased = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "browser-daemon-maintenance");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private HttpServer server;
+
+    public BrowserDaemon(int poolSize, long leaseMaxMillis, boolean headless) {
+        this.poolSize = Math.max(1, poolSize);
+        this.leaseMaxMillis = leaseMaxMillis;
+        this.headless = headless;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = ConfigReader.settings();
+        BrowserDaemon daemon = new BrowserDaemon(settings.getDaemonPoolSize(),
+                settings.getDaemonLeaseMax().toMillis(), settings.isHeadless());
+        Runtime.getRuntime().addShutdownHook(new Thread(daemon::stop, "browser-daemon-shutdown"));
+        daemon.start(settings.getDaemonPort());
+        daemon.stopped.await();
+    }
+
+    public void start(int port) throws IOException {
+        WebDriverManager.chromedriver().setup();
+        WebDriverTransport.configure();
+        for (int i = 0; i < poolSize; i++) {
+            idle.add(launch());
+        }
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/lease", this::handleLease);
+        server.createContext("/release", this::handleRelease);
+        server.createContext("/status", this::handleStatus);
+        server.createContext("/shutdown", exchange -> {
+            respond(exchange, 200, Map.of("stopping", true));
+            maintenance.execute(this::stop);
+        });
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "browser-daemon-http");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+        maintenance.scheduleWithFixedDelay(this::reclaimExpiredLeases, 10, 10, TimeUnit.SECONDS);
+        logger.info("Browser daemon listening on 127.0.0.1:{} with {} warm Chrome sessions (headless: {})",
+                server.getAddress().getPort(), poolSize, headless);
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        server = null;
+        maintenance.shutdownNow();
+        idle.forEach(PooledBrowser::quit);
+        leased.values().forEach(PooledBrowser::quit);
+        idle.clear();
+        leased.clear();
+        logger.info("Browser daemon stopped");
+        stopped.countDown();
+    }
+
+    private void handleLease(HttpExchange exchange) throws IOException {
+        // Sessions are launched with this JVM's settings; a client wanting others launches its own
+        String requestedBrowser = queryParameter(exchange, "browser");
+        String requestedHeadless = queryParameter(exchange, "headless");
+        if ((requestedBrowser != null && !"chrome".equalsIgnoreCase(requestedBrowser))
+                || (requestedHeadless != null && Boolean.parseBoolean(requestedHeadless) != headless)) {
+            respond(exchange, 409, Map.of("error", "pool runs chrome with headless=" + headless,
+                    "browser", String.valueOf(requestedBrowser), "headless", String.valueOf(requestedHeadless)));
+            return;
+        }
+        PooledBrowser browser = idle.pollFirst();
+        if (browser == null) {
+            // The client launches its own browser rather than waiting for a lease
+            respond(exchange, 503, Map.of("error", "no idle browser", "leased", leased.size()));
+            return;
+        }
+        browser.leaseId = UUID.randomUUID().toString();
+        browser.leasedAtMillis = System.currentTimeMillis();
+        leased.put(browser.leaseId, browser);
+
+        Map<String, Object> lease = new LinkedHashMap<>();
+        lease.put("lease", browser.leaseId);
+        lease.put("url", browser.service.getUrl().toString());
+        lease.put("sessionId", browser.driver.getSessionId().toString());
+        lease.put("capabilities", browser.driver.getCapabilities().asMap());
+        logger.info("Leased session {} as {} ({} idle)", browser.driver.getSessionId(), browser.leaseId, idle.size());
+        respond(exchange, 200, lease);
+    }
+
+    private void handleRelease(HttpExchange exchange) throws IOException {
+        String leaseId = queryParameter(exchange, "lease");
+        PooledBrowser browser = leaseId != null ? leased.remove(leaseId) : null;
+        if (browser == null) {
+            respond(exchange, 404, Map.of("error", "unknown lease " + leaseId));
+            return;
+        }
+        respond(exchange, 200, Map.of("released", leaseId));
+        maintenance.execute(() -> recycle(browser));
+    }
+
+    private void handleStatus(HttpExchange exchange) throws IOException {
+        respond(exchange, 200, Map.of("idle", idle.size(), "leased", leased.size(), "poolSize", poolSize));
+    }
+
+    private void reclaimExpiredLeases() {
+        long now = System.currentTimeMillis();
+        leased.values().removeIf(browser -> {
+            if (now - browser.leasedAtMillis < leaseMaxMillis) {
+                return false;
+            }
+            logger.warn("Reclaiming lease {} held for {} s", browser.leaseId, (now - browser.leasedAtMillis) / 1000);
+            maintenance.execute(() -> recycle(browser));
+            return true;
+        });
+    }
+
+    private void recycle(PooledBrowser browser) {
+        long start = System.nanoTime();
+        try {
+            reset(browser.driver);
+            browser.leaseId = null;
+            idle.addLast(browser);
+            logger.info("Session {} reset in {} ms", browser.driver.getSessionId(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (WebDriverException e) {
+            logger.warn("Reset of session {} failed, replacing it: {}", browser.driver.getSessionId(), e.getMessage());
+            browser.quit();
+            try {
+                idle.addLast(launch());
+            } catch (WebDriverException launchFailure) {
+                logger.error("Failed to launch a replacement browser", launchFailure);
+            }
+        }
+    }
+
+    /**
+     * Returns the session to the state of a freshly launched one, as far as a test can observe.
+     */
+    private static void reset(ChromeDriver driver) {
+        try {
+            driver.switchTo().alert().dismiss();
+        } catch (NoAlertPresentException e) {
+            // Nothing to dismiss
+        }
+        String first = driver.getWindowHandles().iterator().next();
+        for (String handle : driver.getWindowHandles()) {
+            if (!handle.equals(first)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(first);
+
+        String origin = origin(driver.getCurrentUrl());
+        if (origin != null) {
+            driver.executeScript("try { localStorage.clear(); sessionStorage.clear(); } catch (e) {}");
+            driver.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+        }
+        String baseOrigin = origin(ConfigReader.getProperty("base.url", ""));
+        if (baseOrigin != null && !baseOrigin.equals(origin)) {
+            driver.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", baseOrigin, "storageTypes", "all"));
+        }
+        driver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        driver.executeCdpCommand("Network.clearBrowserCache", Map.of());
+
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofMinutes(5));
+        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(30));
+        driver.get("about:blank");
+    }
+
+    private static String origin(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) {
+                return null;
+            }
+            return uri.getScheme() + "://" + uri.getAuthority();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private PooledBrowser launch() {
+        long start = System.nanoTime();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--disable-blink-features=AutomationControlled");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--remote-allow-origins=*");
+        if (headless) {
+            options.addArguments("--headless=new");
+            options.addArguments("--window-size=1920,1080");
+        }
+        ChromeDriverService service = ChromeDriverService.createDefaultService();
+        PooledBrowser browser = new PooledBrowser(service, new ChromeDriver(service, options));
+        logger.info("Launched warm Chrome session {} in {} ms", browser.driver.getSessionId(),
+                (System.nanoTime() - start) / 1_000_000);
+        return browser;
+    }
+
+    private static String queryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith(name + "=")) {
+                return parameter.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    private static void respond(HttpExchange exchange, int status, Map<String, ?> body) throws IOException {
+        byte[] bytes = json.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static class PooledBrowser {
+        private final ChromeDriverService service;
+        private final ChromeDriver driver;
+        private volatile String leaseId;
+        private volatile long leasedAtMillis;
+
+        private PooledBrowser(ChromeDriverService service, ChromeDriver driver) {
+            this.service = service;
+            this.driver = driver;
+        }
+
+        private void quit() {
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                logger.warn("Failed to quit pooled session: {}", e.getMessage());
+            }
+        }
+    }
+}
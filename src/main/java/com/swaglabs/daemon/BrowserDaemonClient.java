@@ -0,0 +1,182 @@
+package com.swaglabs.daemon;
+
+import com.swaglabs.utils.ConfigReader;
+import com.swaglabs.utils.Settings;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpCommandCodec;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpResponseCodec;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Leases a warm session from a running {@link BrowserDaemon} and attaches to it with a
+ * RemoteWebDriver that speaks W3C to the session's chromedriver directly, skipping the
+ * new-session round trip. quit() on the returned driver releases the lease instead of closing
+ * the browser. When no daemon listens on daemon.port, every pooled session is leased, or the
+ * daemon's sessions were launched with another headless mode than requested, the caller
+ * launches its own browser.
+ */
+public class BrowserDaemonClient {
+    private static final Logger logger = LoggerFactory.getLogger(BrowserDaemonClient.class);
+    private static final Json json = new Json();
+
+    private BrowserDaemonClient() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.settings().isDaemonEnabled();
+    }
+
+    /**
+     * A leased Chrome session matching the requested headless mode, or empty.
+     */
+    public static Optional<WebDriver> lease(boolean headless) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Settings settings = ConfigReader.settings();
+        int port = settings.getDaemonPort();
+        int connectTimeoutMs = (int) Math.min(Integer.MAX_VALUE, settings.getDaemonConnectTimeout().toMillis());
+        // A plain socket probe keeps runs without a daemon from paying for the HTTP client start-up
+        try (Socket probe = new Socket()) {
+            probe.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), connectTimeoutMs);
+        } catch (IOException e) {
+            logger.debug("No browser daemon on port {}, launching locally", port);
+            return Optional.empty();
+        }
+
+        URI daemon = URI.create("http://127.0.0.1:" + port + "/");
+        java.net.http.HttpClient control = java.net.http.HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        long start = System.nanoTime();
+        Map<String, Object> lease;
+        try {
+            HttpResponse<String> response = control.send(HttpRequest.newBuilder(
+                            daemon.resolve("lease?browser=chrome&headless=" + headless))
+                    .POST(HttpRequest.BodyPublishers.noBody()).timeout(Duration.ofSeconds(5)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 409) {
+                logger.info("Browser daemon sessions do not match the requested options ({}), launching locally",
+                        response.body());
+                return Optional.empty();
+            }
+            if (response.statusCode() != 200) {
+                logger.info("Browser daemon has no idle session ({}), launching locally", response.body());
+                return Optional.empty();
+            }
+            lease = json.toType(response.body(), Json.MAP_TYPE);
+        } catch (ConnectException | HttpTimeoutException e) {
+            logger.debug("No browser daemon at {}, launching locally", daemon);
+            return Optional.empty();
+        } catch (IOException e) {
+            logger.warn("Browser daemon lease failed, launching locally: {}", e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+
+        String leaseId = (String) lease.get("lease");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> capabilities = (Map<String, Object>) lease.get("capabilities");
+        try {
+            LeasedSessionExecutor executor = new LeasedSessionExecutor(new URL((String) lease.get("url")),
+                    (String) lease.get("sessionId"), capabilities, () -> release(control, daemon, leaseId));
+            WebDriver driver = new Augmenter().augment(new RemoteWebDriver(executor, new ImmutableCapabilities(capabilities)));
+            logger.info("Attached to warm session {} from browser daemon in {} ms", lease.get("sessionId"),
+                    (System.nanoTime() - start) / 1_000_000);
+            return Optional.of(driver);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to attach to leased session, launching locally: {}", e.getMessage());
+            release(control, daemon, leaseId);
+            return Optional.empty();
+        }
+    }
+
+    private static void release(java.net.http.HttpClient control, URI daemon, String leaseId) {
+        try {
+            control.send(HttpRequest.newBuilder(daemon.resolve("release?lease=" + leaseId))
+                    .POST(HttpRequest.BodyPublishers.noBody()).timeout(Duration.ofSeconds(5)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            logger.info("Released browser daemon lease {}", leaseId);
+        } catch (IOException e) {
+            logger.warn("Failed to release browser daemon lease {}: {}", leaseId, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends commands for an existing session straight to its chromedriver. NEW_SESSION is
+     * answered from the lease and QUIT releases it, so the daemon keeps the browser.
+     */
+    private static class LeasedSessionExecutor implements CommandExecutor {
+        private final HttpClient client;
+        private final W3CHttpCommandCodec commandCodec = new W3CHttpCommandCodec();
+        private final W3CHttpResponseCodec responseCodec = new W3CHttpResponseCodec();
+        private final String sessionId;
+        private final Map<String, Object> capabilities;
+        private final Runnable release;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private LeasedSessionExecutor(URL url, String sessionId, Map<String, Object> capabilities, Runnable release) {
+            this.client = HttpClient.Factory.createDefault().createClient(ClientConfig.defaultConfig().baseUrl(url));
+            this.sessionId = sessionId;
+            this.capabilities = capabilities;
+            this.release = release;
+        }
+
+        @Override
+        public Response execute(Command command) throws IOException {
+            if (DriverCommand.NEW_SESSION.equals(command.getName())) {
+                return success(capabilities);
+            }
+            if (DriverCommand.QUIT.equals(command.getName())) {
+                if (released.compareAndSet(false, true)) {
+                    client.close();
+                    release.run();
+                }
+                return success(null);
+            }
+            Response response = responseCodec.decode(client.execute(commandCodec.encode(command)));
+            if (response.getSessionId() == null) {
+                response.setSessionId(sessionId);
+            }
+            return response;
+        }
+
+        private Response success(Object value) {
+            Response response = new Response(new SessionId(sessionId));
+            response.setState("success");
+            response.setValue(value);
+            return response;
+        }
+    }
+}
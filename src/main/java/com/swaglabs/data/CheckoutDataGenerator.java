@@ -0,0 +1,162 @@
+package com.swaglabs.data;
+
+import com.swaglabs.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reproducible synthetic checkout details: first and last names drawn from several cultures
+ * and postal codes in every {@link PostalFormat}. Filling a {@link CheckoutRecord} allocates
+ * nothing once its buffers have grown (a SplitMix64 state in a long, name tables as char arrays),
+ * so millions of records a second cost no garbage; only rows handed to tests are materialized.
+ * <p>
+ * The run seed is data.seed, or the clock when it is empty, and is logged once so a run's data
+ * can be regenerated. {@link #forTest} mixes it with the test name, so each test sees the same
+ * data however the suite is scheduled.
+ */
+public class CheckoutDataGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(CheckoutDataGenerator.class);
+    private static final char[] LETTERS = "ABCEGHJKLMNPRSTVWXYZ".toCharArray();
+    private static final PostalFormat[] FORMATS = PostalFormat.values();
+
+    private static final char[][] FIRST_NAMES = chars(
+            "Emmanuel", "Kwame", "Akua", "Kofi", "Ama", "Yaw", "Abena", "Chinedu", "Ngozi", "Amina",
+            "Olivia", "James", "Sophie", "Liam", "Emma", "Noah", "Mia", "Lucas", "Hannah", "Jonas",
+            "Jos\u00E9", "Mar\u00EDa", "Zo\u00EB", "Fran\u00E7ois", "S\u00F8ren", "J\u00FCrgen", "Chlo\u00E9",
+            "Priya", "Arjun", "Wei", "Mei", "Hiroshi", "Yuki", "Min-jun", "Seo-yeon", "Olga", "Dmitri",
+            "Fatima", "Omar", "Aroha", "Mateo", "Jean-Luc", "Mary Ann");
+    private static final char[][] LAST_NAMES = chars(
+            "Arhu", "Mensah", "Owusu", "Asante", "Boateng", "Osei", "Adeyemi", "Okafor", "Mwangi", "Diallo",
+            "Smith", "Johnson", "Brown", "Taylor", "Wilson", "Martin", "Anderson", "Thompson", "Walker", "Clarke",
+            "M\u00FCller", "Schr\u00F6der", "Garc\u00EDa", "Fern\u00E1ndez", "Lef\u00E8vre", "Nu\u00F1ez",
+            "O'Connor", "O'Brien", "MacDonald", "van der Berg", "da Silva", "Smith-Jones", "Nguyen", "Tanaka",
+            "Kim", "Patel", "Sharma", "Chen", "Ivanova", "Kowalski", "Haddad", "Al-Sayed", "Ng");
+
+    private static volatile Long runSeed;
+
+    private final long seed;
+    private long state;
+
+    public CheckoutDataGenerator(long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    /**
+     * This run's seed: data.seed, or the clock when it is empty.
+     */
+    public static long runSeed() {
+        if (runSeed == null) {
+            synchronized (CheckoutDataGenerator.class) {
+                if (runSeed == null) {
+                    runSeed = ConfigReader.settings().getSeed("data.seed");
+                    logger.info("Synthetic checkout data seeded with {} (-Ddata.seed={} to regenerate)", runSeed, runSeed);
+                }
+            }
+        }
+        return runSeed;
+    }
+
+    /**
+     * A generator for one test: the run seed mixed with name.
+     */
+    public static CheckoutDataGenerator forTest(String name) {
+        return new CheckoutDataGenerator(mix(runSeed() ^ mix(name.hashCode())));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Refills record with the next details, in any postal format.
+     */
+    public CheckoutRecord fill(CheckoutRecord record) {
+        return fill(record, FORMATS[nextInt(FORMATS.length)]);
+    }
+
+    public CheckoutRecord fill(CheckoutRecord record, PostalFormat format) {
+        record.firstName.setLength(0);
+        record.firstName.append(FIRST_NAMES[nextInt(FIRST_NAMES.length)]);
+        record.lastName.setLength(0);
+        record.lastName.append(LAST_NAMES[nextInt(LAST_NAMES.length)]);
+        record.postalCode.setLength(0);
+        for (char c : format.template()) {
+            if (c == 'A') {
+                record.postalCode.append(LETTERS[nextInt(LETTERS.length)]);
+            } else if (c == '9') {
+                record.postalCode.append((char) ('0' + nextInt(10)));
+            } else {
+                record.postalCode.append(c);
+            }
+        }
+        record.postalFormat = format;
+        return record;
+    }
+
+    public CheckoutRecord next() {
+        return fill(new CheckoutRecord());
+    }
+
+    public CheckoutRecord next(PostalFormat format) {
+        return fill(new CheckoutRecord(), format);
+    }
+
+    /**
+     * The next count records as data provider rows, generated as they are iterated.
+     */
+    public Iterator<Object[]> rows(int count) {
+        CheckoutRecord record = new CheckoutRecord();
+        return new Iterator<Object[]>() {
+            private int remaining = count;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public Object[] next() {
+                if (remaining <= 0) {
+                    throw new NoSuchElementException();
+                }
+                remaining--;
+                return fill(record).toRow();
+            }
+        };
+    }
+
+    public Stream<Object[]> stream(int count) {
+        return StreamSupport.stream(Spliterators.spliterator(rows(count), count,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Uniform in [0, bound), from the high 32 bits by multiply-shift.
+     */
+    private int nextInt(int bound) {
+        state += 0x9E3779B97F4A7C15L;
+        return (int) (((mix(state) >>> 32) * bound) >>> 32);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static char[][] chars(String... values) {
+        char[][] chars = new char[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            chars[i] = values[i].toCharArray();
+        }
+        return chars;
+    }
+}
@@ -0,0 +1,39 @@
+package com.swaglabs.data;
+
+/**
+ * Details for the checkout information form: the "checkout" section when a test data file pins
+ * one, otherwise a generated {@link CheckoutRecord}.
+ */
+public final class CheckoutInfo {
+    private final String firstName;
+    private final String lastName;
+    private final String postalCode;
+
+    public CheckoutInfo(String firstName, String lastName, String postalCode) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.postalCode = postalCode;
+    }
+
+    public static CheckoutInfo of(CheckoutRecord record) {
+        return new CheckoutInfo(record.getFirstName().toString(), record.getLastName().toString(),
+                record.getPostalCode().toString());
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    @Override
+    public String toString() {
+        return firstName + " " + lastName + ", " + postalCode;
+    }
+}
@@ -0,0 +1,41 @@
+package com.swaglabs.data;
+
+/**
+ * One generated set of checkout details. The generator refills the same record, so the fields
+ * are views that change on the next fill; call {@link #toRow()} (or toString on a field) to keep
+ * a value.
+ */
+public final class CheckoutRecord {
+    final StringBuilder firstName = new StringBuilder(16);
+    final StringBuilder lastName = new StringBuilder(16);
+    final StringBuilder postalCode = new StringBuilder(12);
+    PostalFormat postalFormat;
+
+    public CharSequence getFirstName() {
+        return firstName;
+    }
+
+    public CharSequence getLastName() {
+        return lastName;
+    }
+
+    public CharSequence getPostalCode() {
+        return postalCode;
+    }
+
+    public PostalFormat getPostalFormat() {
+        return postalFormat;
+    }
+
+    /**
+     * The details as a TestNG data provider row: first name, last name, postal code.
+     */
+    public Object[] toRow() {
+        return new Object[]{firstName.toString(), lastName.toString(), postalCode.toString()};
+    }
+
+    @Override
+    public String toString() {
+        return firstName + " " + lastName + ", " + postalCode + " (" + postalFormat + ")";
+    }
+}
@@ -0,0 +1,27 @@
+package com.swaglabs.data;
+
+/**
+ * The "credentials" section of the test data.
+ */
+public final class Credentials {
+    private final String username;
+    private final String password;
+
+    public Credentials(String username, String password) {
+        this.username = username;
+        this.password = password;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String toString() {
+        return "Credentials[" + username + "]";
+    }
+}
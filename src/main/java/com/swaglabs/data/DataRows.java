@@ -0,0 +1,358 @@
+package com.swaglabs.data;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swaglabs.sharding.Shard;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A lazy data provider over a JSON Lines (.jsonl, .ndjson) or CSV file, for datasets too large to
+ * load. Rows are parsed one at a time as TestNG asks for them (Jackson's streaming parser for
+ * JSON Lines, a buffered RFC 4180 reader for CSV), so heap use does not grow with the file.
+ * <p>
+ * A row is an Object[] of the requested columns as strings (null when a row lacks one); without
+ * columns, a CSV file gives its header's and a JSON Lines file its first object's. With a
+ * {@link Shard} only rows i, i + n, i + 2n, ... are returned, so n parallel tests (or machines)
+ * can each stream a disjoint slice of the same file. The file is closed when the last row has
+ * been read; close() releases it earlier.
+ * <p>
+ * The location is a file path, or a classpath resource when no such file exists.
+ */
+public final class DataRows implements Iterator<Object[]>, Closeable {
+    private static final JsonFactory JSON = new ObjectMapper().getFactory();
+
+    private final RowReader reader;
+    private final Shard shard;
+    private long position = -1;
+    private Object[] next;
+    private boolean closed;
+
+    private DataRows(RowReader reader, Shard shard) {
+        this.reader = reader;
+        this.shard = shard;
+    }
+
+    public static DataRows open(String location, String... columns) {
+        return open(location, null, columns);
+    }
+
+    public static DataRows open(String location, Shard shard, String... columns) {
+        Reader source = openReader(location);
+        try {
+            String name = location.toLowerCase();
+            RowReader reader = name.endsWith(".jsonl") || name.endsWith(".ndjson")
+                    ? new JsonLinesReader(source, columns)
+                    : new CsvReader(source, columns);
+            return new DataRows(reader, shard);
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(source);
+            if (e instanceof IOException) {
+                throw new UncheckedIOException("Failed to open data rows " + location, (IOException) e);
+            }
+            throw (RuntimeException) e;
+        }
+    }
+
+    private static Reader openReader(String location) {
+        try {
+            Path path = Paths.get(location);
+            if (Files.isRegularFile(path)) {
+                return Files.newBufferedReader(path, StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open data rows " + location, e);
+        } catch (RuntimeException e) {
+            // Not a valid path on this file system; try the classpath
+        }
+        InputStream resource = DataRows.class.getClassLoader().getResourceAsStream(location);
+        if (resource == null) {
+            throw new IllegalArgumentException("Data rows not found as file or classpath resource: " + location);
+        }
+        return new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Column names of the rows, in row order.
+     */
+    public List<String> getColumns() {
+        return Arrays.asList(reader.columns());
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object[] row = next;
+        next = null;
+        return row;
+    }
+
+    private Object[] advance() {
+        try {
+            Object[] row;
+            while ((row = reader.read()) != null) {
+                position++;
+                if (shard == null || position % shard.getTotal() == shard.getIndex() - 1) {
+                    return row;
+                }
+            }
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Failed to read data row " + (position + 1), e);
+        }
+        close();
+        return null;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            closeQuietly(reader);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Nothing left to read from it either way
+        }
+    }
+
+    private interface RowReader extends Closeable {
+        String[] columns();
+
+        Object[] read() throws IOException;
+    }
+
+    private static final class JsonLinesReader implements RowReader {
+        private final JsonParser parser;
+        private final Map<String, Integer> positions = new HashMap<>();
+        private String[] columns;
+        private Object[] first;
+
+        private JsonLinesReader(Reader source, String[] columns) throws IOException {
+            this.parser = JSON.createParser(source);
+            if (columns.length > 0) {
+                setColumns(columns);
+            } else {
+                // Columns come from the first object, which is kept as the first row
+                List<String> names = new ArrayList<>();
+                List<Object> values = new ArrayList<>();
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        names.add(parser.getCurrentName());
+                        parser.nextToken();
+                        values.add(value());
+                    }
+                }
+                setColumns(names.toArray(new String[0]));
+                first = values.isEmpty() ? null : values.toArray();
+            }
+        }
+
+        private void setColumns(String[] names) {
+            columns = names;
+            for (int i = 0; i < names.length; i++) {
+                positions.put(names[i], i);
+            }
+        }
+
+        @Override
+        public String[] columns() {
+            return columns.clone();
+        }
+
+        @Override
+        public Object[] read() throws IOException {
+            if (first != null) {
+                Object[] row = first;
+                first = null;
+                return row;
+            }
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object per line but found " + token
+                        + " at line " + parser.getCurrentLocation().getLineNr());
+            }
+            Object[] row = new Object[columns.length];
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Integer column = positions.get(parser.getCurrentName());
+                parser.nextToken();
+                if (column != null) {
+                    row[column] = value();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return row;
+        }
+
+        /**
+         * Scalars as text, nested objects and arrays as their JSON.
+         */
+        private String value() throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                return parser.readValueAsTree().toString();
+            }
+            return parser.getValueAsString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class CsvReader implements RowReader {
+        private final Reader source;
+        private final String[] columns;
+        private final int[] selected;
+        private final StringBuilder field = new StringBuilder();
+        private final List<String> fields = new ArrayList<>();
+        private int peeked = -2;
+
+        private CsvReader(Reader source, String[] columns) throws IOException {
+            this.source = source;
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IOException("CSV data has no header row");
+            }
+            if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+                header.set(0, header.get(0).substring(1));
+            }
+            this.columns = columns.length > 0 ? columns.clone() : header.toArray(new String[0]);
+            this.selected = new int[this.columns.length];
+            for (int i = 0; i < this.columns.length; i++) {
+                selected[i] = header.indexOf(this.columns[i]);
+                if (selected[i] < 0) {
+                    throw new IllegalArgumentException("CSV header has no column " + this.columns[i] + ": " + header);
+                }
+            }
+        }
+
+        @Override
+        public String[] columns() {
+            return columns.clone();
+        }
+
+        @Override
+        public Object[] read() throws IOException {
+            List<String> record = readRecord();
+            if (record == null) {
+                return null;
+            }
+            Object[] row = new Object[selected.length];
+            for (int i = 0; i < selected.length; i++) {
+                row[i] = selected[i] < record.size() ? record.get(selected[i]) : null;
+            }
+            return row;
+        }
+
+        /**
+         * The next record's fields, or null at the end. Quoted fields may hold commas, doubled
+         * quotes and line breaks; blank lines are skipped.
+         */
+        private List<String> readRecord() throws IOException {
+            fields.clear();
+            field.setLength(0);
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = nextChar()) != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        if (peekChar() == '"') {
+                            nextChar();
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                    any = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    any = true;
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r' && peekChar() == '\n') {
+                        nextChar();
+                    }
+                    if (any || field.length() > 0) {
+                        break;
+                    }
+                } else {
+                    field.append((char) c);
+                    any = true;
+                }
+            }
+            if (!any && field.length() == 0) {
+                return null;
+            }
+            fields.add(field.toString());
+            return new ArrayList<>(fields);
+        }
+
+        private int nextChar() throws IOException {
+            if (peeked != -2) {
+                int c = peeked;
+                peeked = -2;
+                return c;
+            }
+            return source.read();
+        }
+
+        private int peekChar() throws IOException {
+            if (peeked == -2) {
+                peeked = source.read();
+            }
+            return peeked;
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+    }
+}
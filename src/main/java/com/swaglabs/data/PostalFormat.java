@@ -0,0 +1,49 @@
+package com.swaglabs.data;
+
+/**
+ * Postal code layouts the generator produces. In a template 'A' is a letter, '9' a digit and
+ * anything else is copied as is.
+ */
+public enum PostalFormat {
+    US_ZIP("99999"),
+    US_ZIP_PLUS_4("99999-9999"),
+    UK_A9("A9 9AA"),
+    UK_A99("A99 9AA"),
+    UK_AA9("AA9 9AA"),
+    UK_AA99("AA99 9AA"),
+    UK_A9A("A9A 9AA"),
+    UK_AA9A("AA9A 9AA"),
+    CANADA("A9A 9A9"),
+    GERMANY("99999"),
+    NETHERLANDS("9999 AA"),
+    JAPAN("999-9999"),
+    BRAZIL("99999-999"),
+    INDIA("999999"),
+    GHANA_GPS("AA-999-9999");
+
+    private final char[] template;
+
+    PostalFormat(String template) {
+        this.template = template.toCharArray();
+    }
+
+    public String getTemplate() {
+        return new String(template);
+    }
+
+    char[] template() {
+        return template;
+    }
+
+    /**
+     * Whether the code has letters as well as digits.
+     */
+    public boolean isAlphanumeric() {
+        for (char c : template) {
+            if (c == 'A') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
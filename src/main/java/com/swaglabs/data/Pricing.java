@@ -0,0 +1,33 @@
+package com.swaglabs.data;
+
+/**
+ * The "pricing" section of the test data: expected overview amounts, without the currency sign.
+ */
+public final class Pricing {
+    private final String subtotal;
+    private final String tax;
+    private final String total;
+
+    public Pricing(String subtotal, String tax, String total) {
+        this.subtotal = subtotal;
+        this.tax = tax;
+        this.total = total;
+    }
+
+    public String getSubtotal() {
+        return subtotal;
+    }
+
+    public String getTax() {
+        return tax;
+    }
+
+    public String getTotal() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "Pricing[subtotal=" + subtotal + ", tax=" + tax + ", total=" + total + "]";
+    }
+}
@@ -0,0 +1,36 @@
+package com.swaglabs.data;
+
+/**
+ * An entry of the "products" section of the test data.
+ */
+public final class Product {
+    private final String key;
+    private final String name;
+    private final String price;
+
+    public Product(String key, String name, String price) {
+        this.key = key;
+        this.name = name;
+        this.price = price;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Price as displayed, e.g. "$29.99".
+     */
+    public String getPrice() {
+        return price;
+    }
+
+    @Override
+    public String toString() {
+        return key + "[" + name + ", " + price + "]";
+    }
+}
@@ -0,0 +1,202 @@
+package com.swaglabs.fuzz;
+
+import com.swaglabs.navigation.Navigator;
+import com.swaglabs.pages.CheckoutStepOnePage;
+import com.swaglabs.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Property-based checking of the checkout information form on one session. Generated inputs
+ * ({@link InputGenerator}) are submitted in place on the open form; only an accepted input
+ * costs a page load, to get back to the form. Two properties are checked per submission:
+ * <ul>
+ *     <li>the outcome is {@link CheckoutOutcome#expected}: the first blank field is reported as
+ *     required, anything else is accepted;</li>
+ *     <li>a rejected form keeps what was entered (less the line breaks the browser strips).</li>
+ * </ul>
+ * A failing input is shrunk ({@link Shrinker}) while it keeps failing the same way, and the
+ * failure names the session seed and input number, which regenerate it with -Dfuzz.replay.
+ */
+public class CheckoutFuzzer {
+    private static final Logger logger = LoggerFactory.getLogger(CheckoutFuzzer.class);
+    private static final String[] FIELDS = {"firstName", "lastName", "postalCode"};
+    private static final String FIELD_VALUES_SCRIPT = "return ['firstName', 'lastName', 'postalCode'].map("
+            + "function (name) { var input = document.querySelector(\"[data-test='\" + name + \"']\");"
+            + " return input ? input.value : null; });";
+
+    private static final ConcurrentMap<CheckoutOutcome, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private static final List<String> failures = new CopyOnWriteArrayList<>();
+    private static final LongAdder submissions = new LongAdder();
+    private static final AtomicLong firstStartNanos = new AtomicLong();
+    private static final AtomicLong lastEndNanos = new AtomicLong();
+
+    private final WebDriver driver;
+    private final Navigator navigator;
+    private final long seed;
+    private final boolean blankIsEmpty;
+    private CheckoutStepOnePage page;
+
+    public CheckoutFuzzer(WebDriver driver, WebDriverWait wait, long seed) {
+        this.driver = driver;
+        this.navigator = new Navigator(driver, wait);
+        this.seed = seed;
+        this.blankIsEmpty = ConfigReader.settings().isFuzzBlankIsEmpty();
+    }
+
+    /**
+     * Session seeds: -Dfuzz.replay (comma-separated) when set, otherwise fuzz.sessions seeds
+     * derived from fuzz.seed, or from the clock when no seed is configured.
+     */
+    public static List<Long> seeds() {
+        List<Long> seeds = new ArrayList<>(ConfigReader.settings().getFuzzReplay());
+        if (!seeds.isEmpty()) {
+            return seeds;
+        }
+        long master = ConfigReader.settings().getSeed("fuzz.seed");
+        int sessions = ConfigReader.settings().getFuzzSessions();
+        logger.info("Fuzzing the checkout form on {} sessions from seed {} (-Dfuzz.seed={} to regenerate)",
+                sessions, master, master);
+        SplittableRandom random = new SplittableRandom(master);
+        for (int i = 0; i < sessions; i++) {
+            seeds.add(random.nextLong());
+        }
+        return seeds;
+    }
+
+    /**
+     * Inputs per session: fuzz.count spread over the sessions.
+     */
+    public static int inputsPerSession(int sessions) {
+        int count = ConfigReader.settings().getFuzzCount();
+        return Math.max(1, (count + sessions - 1) / sessions);
+    }
+
+    /**
+     * Submits count generated inputs, returning one description per property violation with the
+     * original and the shrunk input.
+     */
+    public List<String> run(int count) {
+        firstStartNanos.compareAndSet(0, System.nanoTime());
+        long start = System.nanoTime();
+        InputGenerator generator = new InputGenerator(seed, ConfigReader.settings().getFuzzMaxLength());
+        int maxShrinkAttempts = ConfigReader.settings().getFuzzShrinkMaxAttempts();
+        List<String> found = new ArrayList<>();
+        Map<CheckoutOutcome, Integer> seen = new EnumMap<>(CheckoutOutcome.class);
+        page = navigator.goTo(CheckoutStepOnePage.class, 4);
+        try {
+            for (int i = 1; i <= count; i++) {
+                CheckoutInput input = generator.next();
+                Verdict verdict = check(input);
+                seen.merge(verdict.actual, 1, Integer::sum);
+                if (verdict.isPass()) {
+                    continue;
+                }
+                String violation = verdict.violation();
+                CheckoutInput shrunk = Shrinker.shrink(input,
+                        candidate -> violation.equals(check(candidate).violation()), maxShrinkAttempts);
+                String failure = String.format("Seed %d input #%d: %s%n  input:  %s%n  shrunk: %s%n"
+                        + "  replay with -Dfuzz.replay=%d", seed, i, violation, input, shrunk, seed);
+                logger.warn(failure);
+                found.add(failure);
+                failures.add(failure);
+            }
+        } finally {
+            lastEndNanos.accumulateAndGet(System.nanoTime(), Math::max);
+        }
+        logger.info("Fuzzed {} checkout inputs with seed {} in {} ms: {}, {} violations", count, seed,
+                (System.nanoTime() - start) / 1_000_000, seen, found.size());
+        return found;
+    }
+
+    private Verdict check(CheckoutInput input) {
+        String error = page.submitInPlace(input.getFirstName(), input.getLastName(), input.getPostalCode());
+        CheckoutOutcome actual = CheckoutOutcome.classify(error);
+        submissions.increment();
+        outcomes.computeIfAbsent(actual, key -> new LongAdder()).increment();
+
+        List<String> notKept = new ArrayList<>();
+        if (actual == CheckoutOutcome.ACCEPTED || actual == CheckoutOutcome.NO_RESPONSE) {
+            // Back to an empty form; only acceptance (or a hung submit) costs a page load
+            page = navigator.goTo(CheckoutStepOnePage.class, 4);
+        } else {
+            @SuppressWarnings("unchecked")
+            List<String> values = (List<String>) ((JavascriptExecutor) driver).executeScript(FIELD_VALUES_SCRIPT);
+            for (int field = 0; field < 3; field++) {
+                if (!CheckoutOutcome.sanitized(input.get(field)).equals(values.get(field))) {
+                    notKept.add(FIELDS[field]);
+                }
+            }
+        }
+        return new Verdict(CheckoutOutcome.expected(input, blankIsEmpty), actual, error, notKept);
+    }
+
+    public static long getSubmissions() {
+        return submissions.sum();
+    }
+
+    public static List<String> getFailures() {
+        return new ArrayList<>(failures);
+    }
+
+    public static String summary() {
+        long wallNanos = lastEndNanos.get() - firstStartNanos.get();
+        double perSecond = wallNanos > 0 ? submissions.sum() * 1_000_000_000.0 / wallNanos : 0;
+        Map<CheckoutOutcome, Long> counts = new EnumMap<>(CheckoutOutcome.class);
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return String.format("%d checkout submissions (shrinking included), %.1f/s, %d violations; outcomes %s",
+                submissions.sum(), perSecond, failures.size(), counts);
+    }
+
+    private static final class Verdict {
+        private final CheckoutOutcome expected;
+        private final CheckoutOutcome actual;
+        private final String error;
+        private final List<String> notKept;
+
+        private Verdict(CheckoutOutcome expected, CheckoutOutcome actual, String error, List<String> notKept) {
+            this.expected = expected;
+            this.actual = actual;
+            this.error = error;
+            this.notKept = notKept;
+        }
+
+        private boolean isPass() {
+            return expected == actual && notKept.isEmpty();
+        }
+
+        /**
+         * What went wrong, without the input, so shrinking can hold it fixed.
+         */
+        private String violation() {
+            if (isPass()) {
+                return null;
+            }
+            StringBuilder violation = new StringBuilder();
+            if (expected != actual) {
+                violation.append("expected ").append(expected).append(" but was ").append(actual);
+                if (actual == CheckoutOutcome.UNRECOGNIZED_ERROR) {
+                    violation.append(" (\"").append(error).append("\")");
+                }
+            }
+            if (!notKept.isEmpty()) {
+                violation.append(violation.length() > 0 ? "; " : "").append("form lost ").append(notKept);
+            }
+            return violation.toString();
+        }
+    }
+}
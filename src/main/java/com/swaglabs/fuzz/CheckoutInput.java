@@ -0,0 +1,108 @@
+package com.swaglabs.fuzz;
+
+import java.util.Objects;
+
+/**
+ * One submission of the checkout information form.
+ */
+public final class CheckoutInput {
+    private final String firstName;
+    private final String lastName;
+    private final String postalCode;
+
+    public CheckoutInput(String firstName, String lastName, String postalCode) {
+        this.firstName = Objects.requireNonNull(firstName, "firstName");
+        this.lastName = Objects.requireNonNull(lastName, "lastName");
+        this.postalCode = Objects.requireNonNull(postalCode, "postalCode");
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    public String get(int field) {
+        switch (field) {
+            case 0:
+                return firstName;
+            case 1:
+                return lastName;
+            case 2:
+                return postalCode;
+            default:
+                throw new IllegalArgumentException("No checkout field " + field);
+        }
+    }
+
+    public CheckoutInput with(int field, String value) {
+        switch (field) {
+            case 0:
+                return new CheckoutInput(value, lastName, postalCode);
+            case 1:
+                return new CheckoutInput(firstName, value, postalCode);
+            case 2:
+                return new CheckoutInput(firstName, lastName, value);
+            default:
+                throw new IllegalArgumentException("No checkout field " + field);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof CheckoutInput)) {
+            return false;
+        }
+        CheckoutInput that = (CheckoutInput) other;
+        return firstName.equals(that.firstName) && lastName.equals(that.lastName)
+                && postalCode.equals(that.postalCode);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstName, lastName, postalCode);
+    }
+
+    /**
+     * Java-escaped, with long values abbreviated, so inputs with control characters, invisible
+     * whitespace or thousands of characters stay readable in logs and failure messages.
+     */
+    @Override
+    public String toString() {
+        return "{firstName=" + escape(firstName) + ", lastName=" + escape(lastName)
+                + ", postalCode=" + escape(postalCode) + "}";
+    }
+
+    static String escape(String value) {
+        StringBuilder escaped = new StringBuilder("\"");
+        int[] codePoints = value.codePoints().toArray();
+        int shown = codePoints.length > 64 ? 48 : codePoints.length;
+        for (int i = 0; i < shown; i++) {
+            int codePoint = codePoints[i];
+            if (codePoint == '"' || codePoint == '\\') {
+                escaped.append('\\').appendCodePoint(codePoint);
+            } else if (codePoint >= 0x20 && codePoint < 0x7F) {
+                escaped.appendCodePoint(codePoint);
+            } else if (Character.isBmpCodePoint(codePoint)) {
+                escaped.append(String.format("\\u%04X", codePoint));
+            } else {
+                escaped.append(String.format("\\u%04X\\u%04X",
+                        (int) Character.highSurrogate(codePoint), (int) Character.lowSurrogate(codePoint)));
+            }
+        }
+        escaped.append('"');
+        if (shown < codePoints.length) {
+            escaped.append("...(").append(codePoints.length).append(" code points)");
+        }
+        return escaped.toString();
+    }
+}
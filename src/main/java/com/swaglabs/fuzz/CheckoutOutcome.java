@@ -0,0 +1,75 @@
+package com.swaglabs.fuzz;
+
+import com.swaglabs.utils.FormValidationHelper;
+import com.swaglabs.utils.ValidationError;
+
+/**
+ * What the checkout information form did with a submission.
+ */
+public enum CheckoutOutcome {
+    ACCEPTED,
+    FIRST_NAME_REQUIRED,
+    LAST_NAME_REQUIRED,
+    POSTAL_CODE_REQUIRED,
+    UNRECOGNIZED_ERROR,
+    NO_RESPONSE;
+
+    /**
+     * Classifies the result of CheckoutStepOnePage.submitInPlace: null is acceptance, "" no
+     * response, anything else an error message classified by {@link FormValidationHelper#classify}.
+     */
+    public static CheckoutOutcome classify(String error) {
+        if (error == null) {
+            return ACCEPTED;
+        }
+        if (error.isEmpty()) {
+            return NO_RESPONSE;
+        }
+        ValidationError validationError = FormValidationHelper.classify(error);
+        if (validationError == ValidationError.FIRST_NAME_REQUIRED) {
+            return FIRST_NAME_REQUIRED;
+        }
+        if (validationError == ValidationError.LAST_NAME_REQUIRED) {
+            return LAST_NAME_REQUIRED;
+        }
+        if (validationError == ValidationError.POSTAL_CODE_REQUIRED) {
+            return POSTAL_CODE_REQUIRED;
+        }
+        return UNRECOGNIZED_ERROR;
+    }
+
+    /**
+     * The outcome the form should have: the first blank field (in form order) is reported as
+     * required, otherwise the input is accepted. A field is blank when nothing is left of it once
+     * the browser has stripped its line breaks; with blankIsEmpty, also when only whitespace
+     * (including invisible and non-breaking spaces) is left.
+     */
+    public static CheckoutOutcome expected(CheckoutInput input, boolean blankIsEmpty) {
+        if (isBlank(input.getFirstName(), blankIsEmpty)) {
+            return FIRST_NAME_REQUIRED;
+        }
+        if (isBlank(input.getLastName(), blankIsEmpty)) {
+            return LAST_NAME_REQUIRED;
+        }
+        if (isBlank(input.getPostalCode(), blankIsEmpty)) {
+            return POSTAL_CODE_REQUIRED;
+        }
+        return ACCEPTED;
+    }
+
+    /**
+     * The value an &lt;input type="text"&gt; keeps: the browser drops carriage returns and line feeds.
+     */
+    public static String sanitized(String value) {
+        return value.replace("\r", "").replace("\n", "");
+    }
+
+    private static boolean isBlank(String value, boolean blankIsEmpty) {
+        String kept = sanitized(value);
+        if (!blankIsEmpty) {
+            return kept.isEmpty();
+        }
+        return kept.codePoints().allMatch(codePoint -> Character.isWhitespace(codePoint)
+                || Character.isSpaceChar(codePoint) || codePoint == 0x200B || codePoint == 0xFEFF);
+    }
+}
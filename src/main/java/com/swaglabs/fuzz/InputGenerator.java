@@ -0,0 +1,113 @@
+package com.swaglabs.fuzz;
+
+import com.swaglabs.utils.FormValidationHelper;
+
+import java.util.Random;
+
+/**
+ * Seeded checkout form inputs. Each field is independently empty, plausible (from
+ * {@link FormValidationHelper.TestData}) or drawn from one of the fuzz categories: whitespace
+ * (including non-breaking, ideographic and zero-width), digits, ASCII punctuation, markup and
+ * injection strings, non-Latin scripts, emoji and combining marks, line breaks, very long values
+ * and mixtures of those. The same seed always yields the same sequence.
+ */
+public class InputGenerator {
+    private static final String[] PLAUSIBLE_NAMES = {
+            FormValidationHelper.TestData.VALID_FIRST_NAME, FormValidationHelper.TestData.VALID_LAST_NAME,
+            FormValidationHelper.TestData.LETTERS_ONLY, "Ana", "O'Brien", "Jean-Luc"
+    };
+    private static final String[] PLAUSIBLE_POSTAL_CODES = {
+            FormValidationHelper.TestData.VALID_POSTAL_CODE_NUMERIC, FormValidationHelper.TestData.VALID_POSTAL_CODE_MIXED,
+            FormValidationHelper.TestData.VALID_POSTAL_CODE_WITH_DASH, "SW1A 1AA"
+    };
+    private static final String[] WHITESPACE = {" ", "\t", "\u00A0", "\u3000", "\u2009", "\u200B", "\uFEFF"};
+    private static final String[] LINE_BREAKS = {"\n", "\r\n", "\r", "\u2028"};
+    private static final String SPECIAL = "!@#$%^&*()_+-=[]{}|;:'\",.<>/?`~\\";
+    private static final String[] MARKUP = {
+            "<script>alert(1)</script>", "<b>", "&amp;", "' OR '1'='1", "\"; DROP TABLE users; --", "${7*7}",
+            "{{7*7}}", "%s%n", "../../etc/passwd", "null", "undefined", "NaN"
+    };
+    // Accented Latin, CJK, Hangul, Cyrillic, Greek, Arabic, Hebrew, Devanagari and Thai, then a
+    // combining accent, emoji (a ZWJ family among them), a math letter outside the BMP, a
+    // right-to-left override, the replacement character and NUL
+    private static final String[] UNICODE = {
+            "Zo\u00EB", "\u00C6r\u00F8sk\u00F8bing", "Stra\u00DFe", "\u0141\u00F3d\u017A", "\u00D1u\u00F1ez",
+            "\u5C71\u7530", "\uAE40", "\u0418\u0432\u0430\u043D", "\u0395\u03BB\u03AD\u03BD\u03B7",
+            "\u0645\u062D\u0645\u062F", "\u05E9\u05E8\u05D4", "\u0928\u092E\u0938\u094D\u0924\u0947",
+            "\u0E44\u0E17\u0E22", "e\u0301", "\uD83D\uDE00", "\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67",
+            "\uD835\uDD04", "\u202Eevil", "\uFFFD", "\u0000"
+    };
+
+    private final Random random;
+    private final int maxLength;
+
+    public InputGenerator(long seed, int maxLength) {
+        this.random = new Random(seed);
+        this.maxLength = maxLength;
+    }
+
+    public CheckoutInput next() {
+        return new CheckoutInput(value(PLAUSIBLE_NAMES), value(PLAUSIBLE_NAMES), value(PLAUSIBLE_POSTAL_CODES));
+    }
+
+    /**
+     * Plausible half the time, so most inputs get past the earlier fields' checks and exercise
+     * the later ones; empty one time in ten.
+     */
+    private String value(String[] plausible) {
+        int roll = random.nextInt(10);
+        if (roll == 0) {
+            return "";
+        }
+        if (roll <= 5) {
+            return pick(plausible);
+        }
+        return fuzz(random.nextInt(4) == 0 ? 3 : 1);
+    }
+
+    private String fuzz(int pieces) {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < pieces; i++) {
+            switch (random.nextInt(8)) {
+                case 0:
+                    for (int n = 1 + random.nextInt(4); n > 0; n--) {
+                        value.append(pick(WHITESPACE));
+                    }
+                    break;
+                case 1:
+                    for (int n = 1 + random.nextInt(12); n > 0; n--) {
+                        value.append((char) ('0' + random.nextInt(10)));
+                    }
+                    break;
+                case 2:
+                    for (int n = 1 + random.nextInt(8); n > 0; n--) {
+                        value.append(SPECIAL.charAt(random.nextInt(SPECIAL.length())));
+                    }
+                    break;
+                case 3:
+                    value.append(pick(MARKUP));
+                    break;
+                case 4:
+                    value.append(pick(UNICODE));
+                    break;
+                case 5:
+                    value.append(pick(PLAUSIBLE_NAMES)).append(pick(LINE_BREAKS));
+                    break;
+                case 6:
+                    String unit = random.nextBoolean() ? "a" : pick(UNICODE);
+                    int length = 256 + random.nextInt(Math.max(1, maxLength - 255));
+                    while (value.length() < length) {
+                        value.append(unit);
+                    }
+                    break;
+                default:
+                    value.append(pick(WHITESPACE)).append(pick(PLAUSIBLE_NAMES)).append(pick(WHITESPACE));
+            }
+        }
+        return value.toString();
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
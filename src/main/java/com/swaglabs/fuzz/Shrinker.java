@@ -0,0 +1,71 @@
+package com.swaglabs.fuzz;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Greedy shrinking of a failing {@link CheckoutInput}: field by field it tries the empty string,
+ * then removing ever smaller runs of code points (halves, quarters, ... single ones), then
+ * replacing each code point that is not a plain letter with 'a', and keeps the first candidate
+ * that still fails. Passes repeat until nothing shrinks or maxAttempts checks have been spent,
+ * so the result is small enough to read and still fails the same way.
+ */
+public class Shrinker {
+    private Shrinker() {
+    }
+
+    public static CheckoutInput shrink(CheckoutInput failing, Predicate<CheckoutInput> stillFails, int maxAttempts) {
+        CheckoutInput current = failing;
+        int attempts = 0;
+        boolean shrunk = true;
+        while (shrunk) {
+            shrunk = false;
+            for (int field = 0; field < 3 && !shrunk; field++) {
+                for (String candidate : candidates(current.get(field))) {
+                    if (attempts++ >= maxAttempts) {
+                        return current;
+                    }
+                    CheckoutInput next = current.with(field, candidate);
+                    if (stillFails.test(next)) {
+                        current = next;
+                        shrunk = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    static List<String> candidates(String value) {
+        List<String> candidates = new ArrayList<>();
+        int[] codePoints = value.codePoints().toArray();
+        int length = codePoints.length;
+        if (length == 0) {
+            return candidates;
+        }
+        candidates.add("");
+        for (int chunk = length / 2; chunk >= 1; chunk /= 2) {
+            for (int start = 0; start < length; start += chunk) {
+                int end = Math.min(length, start + chunk);
+                if (end - start == length) {
+                    continue;
+                }
+                int[] removed = new int[length - (end - start)];
+                System.arraycopy(codePoints, 0, removed, 0, start);
+                System.arraycopy(codePoints, end, removed, start, length - end);
+                candidates.add(new String(removed, 0, removed.length));
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            if (!(codePoints[i] >= 'a' && codePoints[i] <= 'z')) {
+                int[] simpler = Arrays.copyOf(codePoints, length);
+                simpler[i] = 'a';
+                candidates.add(new String(simpler, 0, length));
+            }
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,21 @@
+package com.swaglabs.instrumentation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of WebDriver commands and wall time a test method may use.
+ * Budgets can also be declared in the "budgets" section of testdata.json keyed by method name;
+ * the annotation takes precedence. A negative limit means "not checked".
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CommandBudget {
+    int maxCommands() default -1;
+
+    long maxWallTimeMs() default -1;
+
+    boolean failOnExceed() default true;
+}
@@ -0,0 +1,146 @@
+package com.swaglabs.instrumentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Suite-wide registry of WebDriver command latencies, grouped by command
+ * and by the page-object method that issued them.
+ */
+public class CommandMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(CommandMetrics.class);
+
+    private static final ConcurrentMap<String, LatencyHistogram> commandLatency = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LatencyHistogram> methodLatency = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongAdder> methodCommands = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongAdder> methodSelfCommands = new ConcurrentHashMap<>();
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Records one command and returns the page method it was attributed to.
+     */
+    public static String recordCommand(String command, long nanos) {
+        commandLatency.computeIfAbsent(command, key -> new LatencyHistogram()).recordNanos(nanos);
+        String method = StepTracker.attributeCommand();
+        methodSelfCommands.computeIfAbsent(method, key -> new LongAdder()).increment();
+        CommandTrace.record(command, method, nanos);
+        return method;
+    }
+
+    public static void recordMethod(String method, long nanos, int commands) {
+        methodLatency.computeIfAbsent(method, key -> new LatencyHistogram()).recordNanos(nanos);
+        methodCommands.computeIfAbsent(method, key -> new LongAdder()).add(commands);
+    }
+
+    public static void reset() {
+        commandLatency.clear();
+        methodLatency.clear();
+        methodCommands.clear();
+        methodSelfCommands.clear();
+    }
+
+    public static void writeReport(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            writeJson(directory.resolve("command-metrics.json"));
+            writeCsv(directory.resolve("command-metrics.csv"));
+            logger.info("Command metrics written to {}", directory.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to write command metrics to {}", directory, e);
+        }
+    }
+
+    private static void writeJson(Path file) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode();
+        root.put("generatedAt", Instant.now().toString());
+
+        ArrayNode commands = root.putArray("commands");
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(commandLatency).entrySet()) {
+            ObjectNode node = commands.addObject();
+            node.put("command", entry.getKey());
+            putLatency(node, entry.getValue());
+        }
+
+        ArrayNode methods = root.putArray("methods");
+        for (String method : methodNames()) {
+            LatencyHistogram histogram = methodLatency.get(method);
+            long invocations = histogram != null ? histogram.getCount() : 0;
+            long total = sum(methodCommands, method);
+            ObjectNode node = methods.addObject();
+            node.put("method", method);
+            node.put("invocations", invocations);
+            node.put("commands", total);
+            node.put("selfCommands", sum(methodSelfCommands, method));
+            node.put("commandsPerInvocation", invocations == 0 ? 0 : total / (double) invocations);
+            if (histogram != null) {
+                putLatency(node, histogram);
+            }
+        }
+
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+    }
+
+    private static void writeCsv(Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("type,name,count,commands,self_commands,mean_ms,p50_ms,p95_ms,p99_ms,max_ms\n");
+            for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(commandLatency).entrySet()) {
+                LatencyHistogram h = entry.getValue();
+                writer.write(String.format("command,%s,%d,%d,,%s%n",
+                        entry.getKey(), h.getCount(), h.getCount(), latencyColumns(h)));
+            }
+            for (String method : methodNames()) {
+                LatencyHistogram h = methodLatency.get(method);
+                writer.write(String.format("method,%s,%d,%d,%d,%s%n",
+                        method, h != null ? h.getCount() : 0, sum(methodCommands, method),
+                        sum(methodSelfCommands, method), h != null ? latencyColumns(h) : ",,,,"));
+            }
+        }
+    }
+
+    private static Set<String> methodNames() {
+        Set<String> names = new TreeSet<>(methodLatency.keySet());
+        names.addAll(methodSelfCommands.keySet());
+        return names;
+    }
+
+    private static long sum(ConcurrentMap<String, LongAdder> counters, String key) {
+        LongAdder adder = counters.get(key);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    private static void putLatency(ObjectNode node, LatencyHistogram histogram) {
+        node.put("count", histogram.getCount());
+        node.put("meanMs", histogram.getMeanMillis());
+        node.put("p50Ms", histogram.getPercentileMillis(50));
+        node.put("p95Ms", histogram.getPercentileMillis(95));
+        node.put("p99Ms", histogram.getPercentileMillis(99));
+        node.put("maxMs", histogram.getMaxMillis());
+    }
+
+    private static String latencyColumns(LatencyHistogram h) {
+        return String.format(Locale.ROOT, "%.3f,%.3f,%.3f,%.3f,%.3f",
+                h.getMeanMillis(), h.getPercentileMillis(50), h.getPercentileMillis(95),
+                h.getPercentileMillis(99), h.getMaxMillis());
+    }
+}
@@ -0,0 +1,77 @@
+package com.swaglabs.instrumentation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ordered record of the WebDriver commands issued by one test method on the current thread.
+ */
+public class CommandTrace {
+    private static final int MAX_ENTRIES = 10_000;
+    private static final ThreadLocal<CommandTrace> current = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final List<Entry> entries = new ArrayList<>();
+    private long endNanos;
+    private int commandCount;
+
+    public static void begin() {
+        current.set(new CommandTrace());
+    }
+
+    public static CommandTrace end() {
+        CommandTrace trace = current.get();
+        current.remove();
+        if (trace != null) {
+            trace.endNanos = System.nanoTime();
+        }
+        return trace;
+    }
+
+    static void record(String command, String method, long nanos) {
+        CommandTrace trace = current.get();
+        if (trace == null) {
+            return;
+        }
+        trace.commandCount++;
+        if (trace.entries.size() < MAX_ENTRIES) {
+            trace.entries.add(new Entry(System.nanoTime() - trace.startNanos, command, method, nanos));
+        }
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public long getWallTimeMillis() {
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        return (end - startNanos) / 1_000_000;
+    }
+
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder("offset_ms,command,method,latency_ms\n");
+        for (Entry entry : entries) {
+            csv.append(String.format(Locale.ROOT, "%.3f,%s,%s,%.3f%n",
+                    entry.offsetNanos / 1_000_000.0, entry.command, entry.method, entry.nanos / 1_000_000.0));
+        }
+        if (commandCount > entries.size()) {
+            csv.append("# ").append(commandCount - entries.size()).append(" further commands not recorded\n");
+        }
+        return csv.toString();
+    }
+
+    private static class Entry {
+        private final long offsetNanos;
+        private final String command;
+        private final String method;
+        private final long nanos;
+
+        private Entry(long offsetNanos, String command, String method, long nanos) {
+            this.offsetNanos = offsetNanos;
+            this.command = command;
+            this.method = method;
+            this.nanos = nanos;
+        }
+    }
+}
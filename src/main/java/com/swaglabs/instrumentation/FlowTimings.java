@@ -0,0 +1,95 @@
+package com.swaglabs.instrumentation;
+
+import com.swaglabs.network.NetworkConditions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Lap timer for multi-page flows. A test calls {@link #begin(String)} with a label
+ * (for example the user persona), then {@link #lap(String)} after each step; laps are
+ * aggregated per label and step so runs can be compared side by side. Laps are also
+ * aggregated per emulated network profile for the network condition matrix.
+ */
+public class FlowTimings {
+    private static final ThreadLocal<Flow> current = new ThreadLocal<>();
+    private static final ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> laps = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> profileLaps =
+            new ConcurrentHashMap<>();
+    private static final CopyOnWriteArrayList<String> stepOrder = new CopyOnWriteArrayList<>();
+
+    private FlowTimings() {
+    }
+
+    public static void begin(String label) {
+        current.set(new Flow(label, NetworkConditions.activeProfileName(), System.nanoTime()));
+    }
+
+    public static void lap(String step) {
+        Flow flow = current.get();
+        if (flow == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        record(laps, flow.label, step, now - flow.lastNanos);
+        record(profileLaps, flow.networkProfile, step, now - flow.lastNanos);
+        stepOrder.addIfAbsent(step);
+        flow.lastNanos = now;
+    }
+
+    /**
+     * Ends the thread's flow; BaseTest calls it after every test method, passed or not.
+     */
+    public static void end() {
+        current.remove();
+    }
+
+    public static List<String> getSteps() {
+        return new ArrayList<>(stepOrder);
+    }
+
+    public static Map<String, Map<String, LatencyHistogram>> getLaps() {
+        return snapshot(laps);
+    }
+
+    public static Map<String, Map<String, LatencyHistogram>> getLapsByNetworkProfile() {
+        return snapshot(profileLaps);
+    }
+
+    public static void reset() {
+        laps.clear();
+        profileLaps.clear();
+        stepOrder.clear();
+    }
+
+    private static void record(ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> target,
+                               String key, String step, long nanos) {
+        target.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(step, k -> new LatencyHistogram())
+                .recordNanos(nanos);
+    }
+
+    private static Map<String, Map<String, LatencyHistogram>> snapshot(
+            ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> source) {
+        Map<String, Map<String, LatencyHistogram>> snapshot = new LinkedHashMap<>();
+        source.forEach((key, steps) -> snapshot.put(key, new LinkedHashMap<>(steps)));
+        return snapshot;
+    }
+
+    private static class Flow {
+        private final String label;
+        private final String networkProfile;
+        private long lastNanos;
+
+        private Flow(String label, String networkProfile, long startNanos) {
+            this.label = label;
+            this.networkProfile = networkProfile;
+            this.lastNanos = startNanos;
+        }
+    }
+}
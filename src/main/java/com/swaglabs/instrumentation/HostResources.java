@@ -0,0 +1,173 @@
+package com.swaglabs.instrumentation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Samples host CPU, memory and Chrome process footprint from /proc (Linux only). CPU busy is
+ * the fraction of non-idle jiffies in /proc/stat since the previous sample, which reacts faster
+ * than the load average; available memory is capped by the cgroup v2 limit when the JVM runs
+ * in a memory-limited container, because /proc/meminfo reports the whole host there.
+ */
+public class HostResources {
+    private static final Path PROC = Paths.get("/proc");
+    private static final Path CGROUP_MEMORY_MAX = Paths.get("/sys/fs/cgroup/memory.max");
+    private static final Path CGROUP_MEMORY_CURRENT = Paths.get("/sys/fs/cgroup/memory.current");
+
+    private long previousBusyJiffies = -1;
+    private long previousTotalJiffies = -1;
+
+    public static boolean isSupported() {
+        return Files.isReadable(PROC.resolve("stat")) && Files.isReadable(PROC.resolve("meminfo"));
+    }
+
+    public synchronized Sample sample() throws IOException {
+        double cpuBusy = sampleCpuBusy();
+        double loadAverage = Double.parseDouble(
+                Files.readString(PROC.resolve("loadavg"), StandardCharsets.US_ASCII).trim().split("\\s+")[0]);
+
+        long memTotal = 0;
+        long memAvailable = 0;
+        for (String line : Files.readAllLines(PROC.resolve("meminfo"), StandardCharsets.US_ASCII)) {
+            if (line.startsWith("MemTotal:")) {
+                memTotal = kiloBytes(line);
+            } else if (line.startsWith("MemAvailable:")) {
+                memAvailable = kiloBytes(line);
+            }
+        }
+        long cgroupMax = readCgroupBytes(CGROUP_MEMORY_MAX);
+        if (cgroupMax > 0) {
+            memTotal = Math.min(memTotal, cgroupMax);
+            memAvailable = Math.min(memAvailable, Math.max(0, cgroupMax - readCgroupBytes(CGROUP_MEMORY_CURRENT)));
+        }
+
+        long chromeRss = 0;
+        int chromeProcesses = 0;
+        try (DirectoryStream<Path> processes = Files.newDirectoryStream(PROC, entry ->
+                Character.isDigit(entry.getFileName().toString().charAt(0)))) {
+            for (Path process : processes) {
+                long rss = chromeRss(process.resolve("status"));
+                if (rss >= 0) {
+                    chromeRss += rss;
+                    chromeProcesses++;
+                }
+            }
+        }
+        return new Sample(cpuBusy, loadAverage, memTotal, memAvailable, chromeRss, chromeProcesses);
+    }
+
+    private double sampleCpuBusy() throws IOException {
+        String[] fields = Files.readAllLines(PROC.resolve("stat"), StandardCharsets.US_ASCII).get(0).trim().split("\\s+");
+        long total = 0;
+        // Fields after "cpu": user nice system idle iowait irq softirq steal ...
+        for (int i = 1; i < Math.min(fields.length, 9); i++) {
+            total += Long.parseLong(fields[i]);
+        }
+        long idle = Long.parseLong(fields[4]) + Long.parseLong(fields[5]);
+        long busy = total - idle;
+
+        double fraction = 0;
+        if (previousTotalJiffies >= 0 && total > previousTotalJiffies) {
+            fraction = (double) (busy - previousBusyJiffies) / (total - previousTotalJiffies);
+        }
+        previousBusyJiffies = busy;
+        previousTotalJiffies = total;
+        return fraction;
+    }
+
+    /**
+     * VmRSS in bytes when the process is Chrome or chromedriver, otherwise -1. Processes that
+     * exit between listing and reading are skipped.
+     */
+    private static long chromeRss(Path status) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(status, StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            return -1;
+        }
+        if (lines.isEmpty()) {
+            return -1;
+        }
+        String name = lines.get(0).substring(lines.get(0).indexOf(':') + 1).trim();
+        if (!name.startsWith("chrome") && !name.equals("headless_shell")) {
+            return -1;
+        }
+        for (String line : lines) {
+            if (line.startsWith("VmRSS:")) {
+                return kiloBytes(line);
+            }
+        }
+        return 0;
+    }
+
+    private static long kiloBytes(String line) {
+        String[] parts = line.trim().split("\\s+");
+        return Long.parseLong(parts[1]) * 1024;
+    }
+
+    private static long readCgroupBytes(Path file) {
+        try {
+            String value = Files.readString(file, StandardCharsets.US_ASCII).trim();
+            return "max".equals(value) ? -1 : Long.parseLong(value);
+        } catch (IOException | NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public static class Sample {
+        private final double cpuBusy;
+        private final double loadAverage;
+        private final long memTotalBytes;
+        private final long memAvailableBytes;
+        private final long chromeRssBytes;
+        private final int chromeProcesses;
+
+        public Sample(double cpuBusy, double loadAverage, long memTotalBytes, long memAvailableBytes,
+                      long chromeRssBytes, int chromeProcesses) {
+            this.cpuBusy = cpuBusy;
+            this.loadAverage = loadAverage;
+            this.memTotalBytes = memTotalBytes;
+            this.memAvailableBytes = memAvailableBytes;
+            this.chromeRssBytes = chromeRssBytes;
+            this.chromeProcesses = chromeProcesses;
+        }
+
+        public double getCpuBusy() {
+            return cpuBusy;
+        }
+
+        public double getLoadAverage() {
+            return loadAverage;
+        }
+
+        public long getMemTotalBytes() {
+            return memTotalBytes;
+        }
+
+        public long getMemAvailableBytes() {
+            return memAvailableBytes;
+        }
+
+        public long getChromeRssBytes() {
+            return chromeRssBytes;
+        }
+
+        public int getChromeProcesses() {
+            return chromeProcesses;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "cpu %.0f%%, load %.2f, mem available %d/%d MB, chrome %d MB in %d processes",
+                    cpuBusy * 100, loadAverage, memAvailableBytes >> 20, memTotalBytes >> 20,
+                    chromeRssBytes >> 20, chromeProcesses);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.swaglabs.instrumentation;
+
+import com.swaglabs.instrumentation.jfr.WebDriverCommandEvent;
+import com.swaglabs.utils.ConfigReader;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Wraps a WebDriver session so that every wire-protocol call made through it
+ * (driver, elements, navigation, alerts, ...) is timed and recorded in {@link CommandMetrics}.
+ */
+public class InstrumentedDriverDecorator extends WebDriverDecorator<WebDriver> {
+    private static final Logger logger = LoggerFactory.getLogger(InstrumentedDriverDecorator.class);
+
+    // Accessors that are answered locally and never reach the driver
+    private static final Set<String> LOCAL_METHODS = Set.of(
+            "manage", "navigate", "switchTo", "window", "timeouts", "logs",
+            "getWrappedDriver", "getWrappedElement", "getDevTools", "maybeGetDevTools",
+            "getCapabilities", "getSessionId", "getCommandExecutor");
+
+    public static WebDriver instrument(WebDriver driver) {
+        if (!ConfigReader.settings().isInstrumentationEnabled()) {
+            return driver;
+        }
+        logger.debug("Instrumenting WebDriver session: {}", driver);
+        return new InstrumentedDriverDecorator().decorate(driver);
+    }
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class || LOCAL_METHODS.contains(method.getName())) {
+            return super.call(target, method, args);
+        }
+
+        String command = commandName(target.getOriginal(), method);
+        WebDriverCommandEvent event = new WebDriverCommandEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = super.call(target, method, args);
+            failed = false;
+            return result;
+        } finally {
+            String pageMethod = CommandMetrics.recordCommand(command, System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.command = command;
+                event.method = pageMethod;
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static String commandName(Object original, Method method) {
+        String scope;
+        if (original instanceof WebElement) {
+            scope = "element";
+        } else if (original instanceof WebDriver) {
+            scope = "driver";
+        } else if (original instanceof WebDriver.Navigation) {
+            scope = "navigate";
+        } else if (original instanceof WebDriver.TargetLocator) {
+            scope = "switchTo";
+        } else if (original instanceof Alert) {
+            scope = "alert";
+        } else {
+            scope = "manage";
+        }
+        return scope + "." + method.getName();
+    }
+}
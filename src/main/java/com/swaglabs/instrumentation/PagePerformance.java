@@ -0,0 +1,156 @@
+package com.swaglabs.instrumentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swaglabs.network.NetworkConditions;
+import com.swaglabs.network.NetworkPolicyInterceptor;
+import com.swaglabs.network.NetworkPolicyReport;
+import com.swaglabs.utils.ConfigReader;
+import io.qameta.allure.Attachment;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Browser-side performance capture for page objects, taken on request once a page has loaded
+ * (see BasePage.capturePerformance). One async script call returns Navigation Timing, paint and
+ * long-task data, which is attached to Allure as JSON and checked against the perf.budget.*
+ * entries in config.properties. Breaches are kept for the current thread's test, which
+ * PagePerformanceListener fails.
+ */
+public class PagePerformance {
+    private static final Logger logger = LoggerFactory.getLogger(PagePerformance.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final String SCRIPT = loadScript();
+
+    // Metrics that may carry a budget; values are milliseconds except where noted
+    private static final String[] BUDGETED_METRICS = {
+            "ttfbMs", "domContentLoadedMs", "loadEventMs", "firstPaintMs",
+            "firstContentfulPaintMs", "longTaskCount", "longTaskTotalMs"
+    };
+
+    private static final ThreadLocal<List<String>> breaches = ThreadLocal.withInitial(ArrayList::new);
+
+    private PagePerformance() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.settings().isPerfCaptureEnabled();
+    }
+
+    /**
+     * Captures performance data for the given page. A budget exceeded while perf.budget.enforce
+     * is true is recorded as a breach of the running test rather than thrown. The script runs on
+     * the undecorated session, so it does not count against the test's command budget.
+     */
+    public static Map<String, Object> capture(WebDriver driver, String pageName) {
+        WebDriver session = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+        if (!(session instanceof JavascriptExecutor)) {
+            return Map.of();
+        }
+
+        Map<String, Object> metrics;
+        try {
+            Object result = ((JavascriptExecutor) session).executeAsyncScript(SCRIPT);
+            if (!(result instanceof Map)) {
+                logger.debug("No performance data returned for {}", pageName);
+                return Map.of();
+            }
+            metrics = new LinkedHashMap<>();
+            metrics.put("page", pageName);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) result).entrySet()) {
+                metrics.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to capture page performance for {}: {}", pageName, e.getMessage());
+            return Map.of();
+        }
+
+        Object loadEventMs = metrics.get("loadEventMs");
+        Object totalTransferSize = metrics.get("totalTransferSize");
+        String networkPolicy = NetworkPolicyInterceptor.activePolicyName();
+        metrics.put("networkPolicy", networkPolicy);
+        if (loadEventMs instanceof Number && totalTransferSize instanceof Number) {
+            NetworkPolicyReport.recordPageLoad(networkPolicy, pageName,
+                    ((Number) loadEventMs).doubleValue(), ((Number) totalTransferSize).longValue());
+        }
+
+        List<String> violations = checkBudgets(pageName, metrics);
+        metrics.put("budgetViolations", violations);
+        attachPagePerformance(pageName, toJson(metrics));
+        logger.debug("Page performance for {}: {}", pageName, metrics);
+
+        if (!violations.isEmpty()) {
+            String message = pageName + " exceeded its performance budget: " + String.join(", ", violations);
+            // Budgets describe an unthrottled connection, so emulated network profiles only warn
+            if (ConfigReader.settings().isPerfBudgetEnforced()
+                    && NetworkConditions.NONE.equals(NetworkConditions.activeProfileName())) {
+                logger.error(message);
+                breaches.get().add(message);
+            } else {
+                logger.warn(message);
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns and forgets the budget breaches captured on this thread since the last call.
+     */
+    public static List<String> takeBreaches() {
+        List<String> taken = new ArrayList<>(breaches.get());
+        breaches.remove();
+        return taken;
+    }
+
+    private static List<String> checkBudgets(String pageName, Map<String, Object> metrics) {
+        List<String> violations = new ArrayList<>();
+        for (String metric : BUDGETED_METRICS) {
+            Double budget = ConfigReader.settings().getPerfBudget(pageName, metric);
+            Object value = metrics.get(metric);
+            if (budget == null || !(value instanceof Number)) {
+                continue;
+            }
+            double limit = budget;
+            double actual = ((Number) value).doubleValue();
+            if (actual > limit) {
+                violations.add(String.format("%s=%.0f (budget %.0f)", metric, actual, limit));
+            }
+        }
+        return violations;
+    }
+
+    private static byte[] toJson(Map<String, Object> metrics) {
+        try {
+            return mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(metrics);
+        } catch (IOException e) {
+            return metrics.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Attachment(value = "Page Performance - {pageName}", type = "application/json", fileExtension = ".json")
+    private static byte[] attachPagePerformance(String pageName, byte[] json) {
+        return json;
+    }
+
+    private static String loadScript() {
+        try (InputStream inputStream = PagePerformance.class.getClassLoader()
+                .getResourceAsStream("scripts/page-performance.js")) {
+            if (inputStream == null) {
+                throw new RuntimeException("scripts/page-performance.js not found in classpath");
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load page performance script", e);
+        }
+    }
+}
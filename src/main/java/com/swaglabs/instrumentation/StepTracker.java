@@ -0,0 +1,104 @@
+package com.swaglabs.instrumentation;
+
+import com.swaglabs.instrumentation.jfr.PageStepEvent;
+import com.swaglabs.pages.BasePage;
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.StepResult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Tracks the page-object method that is currently executing on each thread.
+ * Allure calls this listener around every {@code @Step} method (registered via
+ * META-INF/services), which gives us method boundaries for latency and
+ * round-trip counts. Without the AspectJ agent we fall back to a stack walk.
+ */
+public class StepTracker implements StepLifecycleListener {
+    static final String UNATTRIBUTED = "(unattributed)";
+
+    private static final ThreadLocal<Deque<StepFrame>> activeSteps = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final StackWalker walker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    @Override
+    public void beforeStepStart(StepResult result) {
+        StepFrame frame = new StepFrame(resolveCaller(), System.nanoTime());
+        frame.event.begin();
+        activeSteps.get().push(frame);
+    }
+
+    @Override
+    public void afterStepStop(StepResult result) {
+        StepFrame frame = activeSteps.get().poll();
+        if (frame != null) {
+            CommandMetrics.recordMethod(frame.method, System.nanoTime() - frame.startNanos, frame.commands);
+            frame.event.end();
+            if (frame.event.shouldCommit()) {
+                frame.event.method = frame.method;
+                frame.event.step = result.getName();
+                frame.event.commands = frame.commands;
+                frame.event.commit();
+            }
+        }
+    }
+
+    /**
+     * Charges one command to every active step and returns the innermost one.
+     */
+    static String attributeCommand() {
+        Deque<StepFrame> steps = activeSteps.get();
+        if (steps.isEmpty()) {
+            return resolveCaller();
+        }
+        for (StepFrame frame : steps) {
+            frame.commands++;
+        }
+        return steps.peek().method;
+    }
+
+    /**
+     * Returns the innermost page or test method on the current stack, e.g. {@code CartPage.areItemsInCart}.
+     */
+    public static String currentMethod() {
+        StepFrame frame = activeSteps.get().peek();
+        return frame != null ? frame.method : resolveCaller();
+    }
+
+    static String resolveCaller() {
+        return walker.walk(frames -> frames
+                .filter(StepTracker::isApplicationFrame)
+                .findFirst()
+                .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + normalize(frame.getMethodName()))
+                .orElse(UNATTRIBUTED));
+    }
+
+    private static boolean isApplicationFrame(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        return className.startsWith("com.swaglabs.")
+                && !className.startsWith(StepTracker.class.getPackageName())
+                && !className.contains("$AjcClosure")
+                && frame.getDeclaringClass() != BasePage.class;
+    }
+
+    private static String normalize(String methodName) {
+        // Lambdas compile to lambda$enclosingMethod$N, AspectJ bodies to method_aroundBodyN
+        if (methodName.startsWith("lambda$")) {
+            int end = methodName.indexOf('$', 7);
+            return end > 7 ? methodName.substring(7, end) : methodName;
+        }
+        int woven = methodName.indexOf("_aroundBody");
+        return woven > 0 ? methodName.substring(0, woven) : methodName;
+    }
+
+    private static class StepFrame {
+        private final String method;
+        private final long startNanos;
+        private final PageStepEvent event = new PageStepEvent();
+        private int commands;
+
+        private StepFrame(String method, long startNanos) {
+            this.method = method;
+            this.startNanos = startNanos;
+        }
+    }
+}
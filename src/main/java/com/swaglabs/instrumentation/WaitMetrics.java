@@ -0,0 +1,121 @@
+package com.swaglabs.instrumentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Suite-wide registry of explicit waits per page method: how long each wait took, how many
+ * times it polled, and its poll gap - the time from the end of the last unsatisfied poll to the
+ * start of the poll that succeeded. The poll gap is the polling granularity the wait achieved:
+ * an upper bound on how long the condition had been true before the wait noticed, not a
+ * measurement of it (the browser does not report when the condition became true).
+ */
+public class WaitMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(WaitMetrics.class);
+
+    private static final ConcurrentMap<String, LatencyHistogram> waitLatency = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LatencyHistogram> waitPollGap = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongAdder> waitPolls = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongAdder> waitTimeouts = new ConcurrentHashMap<>();
+
+    private WaitMetrics() {
+    }
+
+    public static void record(String method, long waitNanos, int polls, long pollGapNanos, boolean satisfied) {
+        waitLatency.computeIfAbsent(method, key -> new LatencyHistogram()).recordNanos(waitNanos);
+        waitPolls.computeIfAbsent(method, key -> new LongAdder()).add(polls);
+        if (satisfied) {
+            waitPollGap.computeIfAbsent(method, key -> new LatencyHistogram()).recordNanos(pollGapNanos);
+        } else {
+            waitTimeouts.computeIfAbsent(method, key -> new LongAdder()).increment();
+        }
+    }
+
+    public static double getMaxPollGapMillis(String method) {
+        LatencyHistogram histogram = waitPollGap.get(method);
+        return histogram != null ? histogram.getMaxMillis() : 0;
+    }
+
+    public static void reset() {
+        waitLatency.clear();
+        waitPollGap.clear();
+        waitPolls.clear();
+        waitTimeouts.clear();
+    }
+
+    public static void writeReport(Path directory) {
+        if (waitLatency.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            writeJson(directory.resolve("wait-metrics.json"));
+            writeCsv(directory.resolve("wait-metrics.csv"));
+            logger.info("Wait metrics written to {}", directory.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to write wait metrics to {}", directory, e);
+        }
+    }
+
+    private static void writeJson(Path file) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode();
+        root.put("generatedAt", Instant.now().toString());
+
+        ArrayNode methods = root.putArray("methods");
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(waitLatency).entrySet()) {
+            String method = entry.getKey();
+            LatencyHistogram latency = entry.getValue();
+            LatencyHistogram pollGap = waitPollGap.get(method);
+            ObjectNode node = methods.addObject();
+            node.put("method", method);
+            node.put("waits", latency.getCount());
+            node.put("polls", sum(waitPolls, method));
+            node.put("timeouts", sum(waitTimeouts, method));
+            node.put("p50Ms", latency.getPercentileMillis(50));
+            node.put("p95Ms", latency.getPercentileMillis(95));
+            node.put("maxMs", latency.getMaxMillis());
+            node.put("pollGapP95Ms", pollGap != null ? pollGap.getPercentileMillis(95) : 0);
+            node.put("pollGapMaxMs", pollGap != null ? pollGap.getMaxMillis() : 0);
+        }
+
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+    }
+
+    private static void writeCsv(Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("method,waits,polls,timeouts,p50_ms,p95_ms,max_ms,poll_gap_p95_ms,poll_gap_max_ms\n");
+            for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(waitLatency).entrySet()) {
+                String method = entry.getKey();
+                LatencyHistogram latency = entry.getValue();
+                LatencyHistogram pollGap = waitPollGap.get(method);
+                writer.write(String.format(Locale.ROOT, "%s,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                        method, latency.getCount(), sum(waitPolls, method), sum(waitTimeouts, method),
+                        latency.getPercentileMillis(50), latency.getPercentileMillis(95), latency.getMaxMillis(),
+                        pollGap != null ? pollGap.getPercentileMillis(95) : 0,
+                        pollGap != null ? pollGap.getMaxMillis() : 0));
+            }
+        }
+    }
+
+    private static long sum(ConcurrentMap<String, LongAdder> counters, String key) {
+        LongAdder adder = counters.get(key);
+        return adder != null ? adder.sum() : 0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.swaglabs.instrumentation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.swaglabs.PageStep")
+@Label("Page Step")
+@Category({"Swag Labs", "Page Objects"})
+@Description("Execution of a page-object @Step method")
+@StackTrace(false)
+public class PageStepEvent extends Event {
+    @Label("Method")
+    public String method;
+
+    @Label("Step")
+    public String step;
+
+    @Label("WebDriver Commands")
+    public int commands;
+}
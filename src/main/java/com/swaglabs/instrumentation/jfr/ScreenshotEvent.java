@@ -0,0 +1,20 @@
+package com.swaglabs.instrumentation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.swaglabs.Screenshot")
+@Label("Screenshot")
+@Category({"Swag Labs", "WebDriver"})
+@Description("Capture and transfer of a browser screenshot")
+@StackTrace(false)
+public class ScreenshotEvent extends Event {
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,21 @@
+package com.swaglabs.instrumentation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.swaglabs.WaitIteration")
+@Label("Wait Iteration")
+@Category({"Swag Labs", "WebDriver"})
+@Description("One evaluation of an ExpectedCondition while polling a WebDriverWait")
+@StackTrace(false)
+public class WaitIterationEvent extends Event {
+    @Label("Condition")
+    public String condition;
+
+    @Label("Satisfied")
+    public boolean satisfied;
+}
@@ -0,0 +1,24 @@
+package com.swaglabs.instrumentation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.swaglabs.WebDriverCommand")
+@Label("WebDriver Command")
+@Category({"Swag Labs", "WebDriver"})
+@Description("A single wire-protocol call made through an instrumented WebDriver session")
+@StackTrace(false)
+public class WebDriverCommandEvent extends Event {
+    @Label("Command")
+    public String command;
+
+    @Label("Page Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,72 @@
+package com.swaglabs.listeners;
+
+import com.swaglabs.base.AdaptiveParallelism;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Runs the {@link AdaptiveParallelism} controller for the suite when -Dparallelism.adaptive=true.
+ * The suite's thread-count is raised to the controller's upper bound so that browser slots, not
+ * TestNG threads, decide how many sessions run at once.
+ * <p>
+ * The controller only resizes browser slots, so it changes nothing in a sequential suite such as
+ * the default testng.xml: use it with a parallel suite (parallel="methods" or "tests") or
+ * TestRunner --virtual-threads.
+ */
+public class AdaptiveParallelismListener implements IAlterSuiteListener, ISuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveParallelismListener.class);
+    private static AdaptiveParallelism controller;
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!AdaptiveParallelism.isEnabled()) {
+            return;
+        }
+        int max = controller().getMax();
+        for (XmlSuite suite : suites) {
+            if (suite.getParallel() != XmlSuite.ParallelMode.NONE && suite.getThreadCount() < max) {
+                logger.info("Raising thread-count of suite '{}' from {} to {} for adaptive parallelism",
+                        suite.getName(), suite.getThreadCount(), max);
+                suite.setThreadCount(max);
+            }
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!AdaptiveParallelism.isEnabled()) {
+            return;
+        }
+        if (suite.getXmlSuite().getParallel() == XmlSuite.ParallelMode.NONE) {
+            logger.warn("Adaptive parallelism has no effect on suite '{}': it is not parallel; "
+                    + "set parallel=\"methods\" or run TestRunner --virtual-threads", suite.getName());
+            return;
+        }
+        controller().start();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        AdaptiveParallelism running;
+        synchronized (AdaptiveParallelismListener.class) {
+            running = controller;
+            controller = null;
+        }
+        if (running != null) {
+            running.stop();
+        }
+    }
+
+    private static synchronized AdaptiveParallelism controller() {
+        if (controller == null) {
+            controller = new AdaptiveParallelism();
+        }
+        return controller;
+    }
+}
@@ -0,0 +1,107 @@
+package com.swaglabs.listeners;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.swaglabs.instrumentation.CommandBudget;
+import com.swaglabs.instrumentation.CommandTrace;
+import com.swaglabs.utils.TestDataReader;
+import io.qameta.allure.Attachment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enforces per-test WebDriver command budgets declared with {@link CommandBudget}
+ * or in the "budgets" section of testdata.json.
+ */
+public class CommandBudgetListener implements IInvokedMethodListener {
+    private static final Logger logger = LoggerFactory.getLogger(CommandBudgetListener.class);
+    /** Result attribute holding the violation message when a test exceeds its budget. */
+    public static final String BUDGET_EXCEEDED_ATTRIBUTE = "commandBudgetExceeded";
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            CommandTrace.begin();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        CommandTrace trace = CommandTrace.end();
+        Budget budget = resolveBudget(testResult.getMethod().getConstructorOrMethod().getMethod());
+        if (trace == null || budget == null) {
+            return;
+        }
+
+        String testName = testResult.getMethod().getMethodName();
+        List<String> violations = new ArrayList<>();
+        if (budget.maxCommands >= 0 && trace.getCommandCount() > budget.maxCommands) {
+            violations.add(String.format("%d WebDriver commands (budget %d)",
+                    trace.getCommandCount(), budget.maxCommands));
+        }
+        if (budget.maxWallTimeMs >= 0 && trace.getWallTimeMillis() > budget.maxWallTimeMs) {
+            violations.add(String.format("%d ms wall time (budget %d ms)",
+                    trace.getWallTimeMillis(), budget.maxWallTimeMs));
+        }
+
+        if (violations.isEmpty()) {
+            logger.info("Test {} within budget: {} commands, {} ms", testName,
+                    trace.getCommandCount(), trace.getWallTimeMillis());
+            return;
+        }
+
+        String message = "Test " + testName + " exceeded its budget: " + String.join(", ", violations);
+        testResult.setAttribute(BUDGET_EXCEEDED_ATTRIBUTE, message);
+        attachCommandTrace(trace.toCsv().getBytes(StandardCharsets.UTF_8));
+        if (budget.failOnExceed && testResult.getStatus() == ITestResult.SUCCESS) {
+            logger.error(message);
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError(message));
+        } else {
+            logger.warn(message);
+        }
+    }
+
+    private Budget resolveBudget(Method testMethod) {
+        CommandBudget annotation = testMethod.getAnnotation(CommandBudget.class);
+        if (annotation != null) {
+            return new Budget(annotation.maxCommands(), annotation.maxWallTimeMs(), annotation.failOnExceed());
+        }
+
+        JsonNode budgets = TestDataReader.getTestData("budgets");
+        JsonNode node = budgets != null ? budgets.get(testMethod.getName()) : null;
+        if (node == null) {
+            return null;
+        }
+        return new Budget(node.path("maxCommands").asInt(-1),
+                node.path("maxWallTimeMs").asLong(-1),
+                !"warn".equalsIgnoreCase(node.path("mode").asText("fail")));
+    }
+
+    @Attachment(value = "WebDriver Command Trace", type = "text/csv", fileExtension = ".csv")
+    private byte[] attachCommandTrace(byte[] trace) {
+        return trace;
+    }
+
+    private static class Budget {
+        private final int maxCommands;
+        private final long maxWallTimeMs;
+        private final boolean failOnExceed;
+
+        private Budget(int maxCommands, long maxWallTimeMs, boolean failOnExceed) {
+            this.maxCommands = maxCommands;
+            this.maxWallTimeMs = maxWallTimeMs;
+            this.failOnExceed = failOnExceed;
+        }
+    }
+}
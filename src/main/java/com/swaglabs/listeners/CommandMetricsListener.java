@@ -0,0 +1,23 @@
+package com.swaglabs.listeners;
+
+import com.swaglabs.instrumentation.CommandMetrics;
+import com.swaglabs.instrumentation.WaitMetrics;
+import com.swaglabs.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.nio.file.Paths;
+
+public class CommandMetricsListener implements ISuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(CommandMetricsListener.class);
+
+    @Override
+    public void onFinish(ISuite suite) {
+        String reportDir = ConfigReader.getProperty("instrumentation.report.dir", "target/command-metrics");
+        logger.info("Writing WebDriver command metrics for suite: {}", suite.getName());
+        CommandMetrics.writeReport(Paths.get(reportDir));
+        WaitMetrics.writeReport(Paths.get(reportDir));
+    }
+}
@@ -0,0 +1,62 @@
+package com.swaglabs.listeners;
+
+import com.swaglabs.utils.ConfigReader;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+
+/**
+ * Records the whole suite with JDK Flight Recorder when -Djfr.enabled=true (or jfr.enabled in
+ * config.properties). The .jfr file is written next to allure-results and contains the
+ * com.swaglabs page step, WebDriver command, wait iteration and screenshot events alongside
+ * the JVM's GC, thread and I/O events.
+ */
+public class FlightRecorderListener implements ISuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderListener.class);
+    private static Recording recording;
+
+    @Override
+    public synchronized void onStart(ISuite suite) {
+        if (recording != null || !ConfigReader.settings().isJfrEnabled()) {
+            return;
+        }
+
+        Path resultsDir = Paths.get(System.getProperty("allure.results.directory", "target/allure-results"));
+        Path parent = resultsDir.toAbsolutePath().getParent();
+        Path destination = parent.resolve(ConfigReader.getProperty("jfr.file", "suite-recording.jfr"));
+        try {
+            Files.createDirectories(parent);
+            recording = new Recording(Configuration.getConfiguration(
+                    ConfigReader.getProperty("jfr.settings", "profile")));
+            recording.setName("Swag Labs suite");
+            recording.setToDisk(true);
+            recording.setDestination(destination);
+            recording.start();
+            logger.info("Flight recording started for suite {}, writing to {}", suite.getName(), destination);
+        } catch (IOException | ParseException e) {
+            logger.error("Failed to start flight recording", e);
+            recording = null;
+        }
+    }
+
+    @Override
+    public synchronized void onFinish(ISuite suite) {
+        if (recording == null) {
+            return;
+        }
+        // Stopping writes the recording to its destination
+        recording.stop();
+        logger.info("Flight recording saved to {}", recording.getDestination());
+        recording.close();
+        recording = null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.swaglabs.listeners;
+
+import com.swaglabs.network.HarRecorder;
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+/**
+ * Finishes the HAR recorded for each test (see {@link HarRecorder}) and attaches it to
+ * Allure when the test failed or exceeded its command or page performance budget. HARs of
+ * passing tests are deleted unless har.keep.all is true. Register after CommandBudgetListener
+ * and PagePerformanceListener so budget results are known.
+ */
+public class HarCaptureListener implements IInvokedMethodListener {
+    private static final Logger logger = LoggerFactory.getLogger(HarCaptureListener.class);
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        boolean failed = testResult.getStatus() == ITestResult.FAILURE;
+        boolean overBudget = testResult.getAttribute(CommandBudgetListener.BUDGET_EXCEEDED_ATTRIBUTE) != null
+                || testResult.getAttribute(PagePerformanceListener.BUDGET_EXCEEDED_ATTRIBUTE) != null;
+        HarRecorder recorder = HarRecorder.stopCurrent(failed || overBudget);
+        if (recorder == null) {
+            return;
+        }
+
+        if (failed || overBudget) {
+            // Streamed from disk so a large HAR is never held in memory
+            try (InputStream har = Files.newInputStream(recorder.getFile())) {
+                Allure.addAttachment("Network HAR", "application/json", har, ".har");
+                logger.info("Attached HAR for {} ({})", testResult.getName(), failed ? "failed" : "over budget");
+            } catch (IOException e) {
+                logger.warn("Failed to attach HAR {}: {}", recorder.getFile(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.swaglabs.listeners;
+
+import com.swaglabs.instrumentation.FlowTimings;
+import com.swaglabs.instrumentation.LatencyHistogram;
+import com.swaglabs.network.NetworkConditions;
+import com.swaglabs.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes a step-by-profile matrix of flow latency (p50 per FlowTimings lap) for the network
+ * profiles emulated in the suite. Steps that slow down by more than network.matrix.sensitive.ratio
+ * against the unthrottled baseline are marked latency-sensitive.
+ */
+public class NetworkMatrixListener implements ISuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkMatrixListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        // The matrix describes this suite's run only
+        FlowTimings.reset();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Map<String, Map<String, LatencyHistogram>> laps = FlowTimings.getLapsByNetworkProfile();
+        if (laps.isEmpty() || (laps.size() == 1 && laps.containsKey(NetworkConditions.NONE))) {
+            return;
+        }
+
+        String baseline = ConfigReader.getProperty("network.matrix.baseline", NetworkConditions.NONE);
+        double sensitiveRatio = ConfigReader.settings().getNetworkMatrixSensitiveRatio();
+
+        List<String> profiles = new ArrayList<>(laps.keySet());
+        profiles.sort((a, b) -> a.equals(baseline) ? -1 : b.equals(baseline) ? 1 : a.compareTo(b));
+
+        StringBuilder table = new StringBuilder("| Step |");
+        StringBuilder csv = new StringBuilder("step,profile,samples,p50_ms,p95_ms,ratio_vs_baseline,latency_sensitive\n");
+        profiles.forEach(profile -> table.append(' ').append(profile).append(" |"));
+        table.append('\n').append("|---|");
+        profiles.forEach(profile -> table.append("---|"));
+        table.append('\n');
+
+        for (String step : FlowTimings.getSteps()) {
+            LatencyHistogram baselineLap = laps.getOrDefault(baseline, Map.of()).get(step);
+            double baselineMs = baselineLap != null ? baselineLap.getPercentileMillis(50) : 0;
+            table.append("| ").append(step).append(" |");
+
+            for (String profile : profiles) {
+                LatencyHistogram lap = laps.get(profile).get(step);
+                if (lap == null) {
+                    table.append(" - |");
+                    continue;
+                }
+                double p50 = lap.getPercentileMillis(50);
+                double ratio = baselineMs > 0 ? p50 / baselineMs : 0;
+                boolean sensitive = !profile.equals(baseline) && ratio > sensitiveRatio;
+
+                table.append(String.format(Locale.ROOT, " %.0f ms", p50));
+                if (!profile.equals(baseline) && baselineMs > 0) {
+                    table.append(String.format(Locale.ROOT, " (%.2fx)", ratio));
+                }
+                table.append(sensitive ? " **SENSITIVE** |" : " |");
+                csv.append(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%b%n",
+                        step, profile, lap.getCount(), p50, lap.getPercentileMillis(95), ratio, sensitive));
+            }
+            table.append('\n');
+        }
+
+        Path reportDir = Paths.get(ConfigReader.getProperty("network.matrix.report.dir", "target/network-matrix"));
+        try {
+            Files.createDirectories(reportDir);
+            Files.writeString(reportDir.resolve("network-matrix.md"), table, StandardCharsets.UTF_8);
+            Files.writeString(reportDir.resolve("network-matrix.csv"), csv, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.error("Failed to write network matrix report to {}", reportDir, e);
+        }
+
+        logger.info("Network condition matrix (p50 per step, baseline {}):\n{}", baseline, table);
+    }
+}
@@ -0,0 +1,22 @@
+package com.swaglabs.listeners;
+
+import com.swaglabs.network.NetworkPolicyReport;
+import com.swaglabs.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.nio.file.Paths;
+
+public class NetworkPolicyListener implements ISuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkPolicyListener.class);
+
+    @Override
+    public void onFinish(ISuite suite) {
+        String reportFile = ConfigReader.getProperty("network.policy.report.file",
+                "target/network-policy/page-load-comparison.csv");
+        logger.info("Writing network policy page-load comparison for suite: {}", suite.getName());
+        NetworkPolicyReport.appendReport(Paths.get(reportFile));
+    }
+}
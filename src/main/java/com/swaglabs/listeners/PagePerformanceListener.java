@@ -0,0 +1,47 @@
+package com.swaglabs.listeners;
+
+import com.swaglabs.instrumentation.PagePerformance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.util.List;
+
+/**
+ * Fails a test whose page performance captures exceeded an enforced budget
+ * (perf.budget.* in config.properties).
+ */
+public class PagePerformanceListener implements IInvokedMethodListener {
+    private static final Logger logger = LoggerFactory.getLogger(PagePerformanceListener.class);
+    /** Result attribute holding the breach messages when a page exceeds its budget. */
+    public static final String BUDGET_EXCEEDED_ATTRIBUTE = "pagePerformanceBudgetExceeded";
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            // Captures from configuration methods or an earlier test on this thread are not this test's
+            PagePerformance.takeBreaches();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        List<String> breaches = PagePerformance.takeBreaches();
+        if (breaches.isEmpty()) {
+            return;
+        }
+
+        String message = String.join("; ", breaches);
+        testResult.setAttribute(BUDGET_EXCEEDED_ATTRIBUTE, message);
+        if (testResult.getStatus() == ITestResult.SUCCESS) {
+            logger.error("Test {} failed its page performance budget: {}", testResult.getMethod().getMethodName(), message);
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError(message));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.swaglabs.listeners;
+
+import com.swaglabs.instrumentation.FlowTimings;
+import com.swaglabs.instrumentation.LatencyHistogram;
+import com.swaglabs.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Writes a side-by-side comparison of per-step flow latency for each persona,
+ * flagging steps that are slower than the baseline persona beyond the configured thresholds.
+ */
+public class PersonaLatencyListener implements ISuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(PersonaLatencyListener.class);
+    private static final List<String> regressions = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onStart(ISuite suite) {
+        // Laps and regressions describe this suite's run only
+        FlowTimings.reset();
+        regressions.clear();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Map<String, Map<String, LatencyHistogram>> laps = FlowTimings.getLaps();
+        if (laps.isEmpty()) {
+            return;
+        }
+
+        String baseline = ConfigReader.getProperty("persona.baseline", "standard_user");
+        double maxRatio = ConfigReader.settings().getPersonaRegressionRatio();
+        double minDeltaMs = ConfigReader.settings().getPersonaRegressionMinDeltaMillis();
+
+        List<String> personas = new ArrayList<>(laps.keySet());
+        personas.sort((a, b) -> a.equals(baseline) ? -1 : b.equals(baseline) ? 1 : a.compareTo(b));
+        List<String> steps = FlowTimings.getSteps();
+
+        StringBuilder table = new StringBuilder("| Step |");
+        StringBuilder csv = new StringBuilder("step,persona,samples,p50_ms,p95_ms,ratio_vs_baseline,regression\n");
+        personas.forEach(persona -> table.append(' ').append(persona).append(" |"));
+        table.append('\n').append("|---|");
+        personas.forEach(persona -> table.append("---|"));
+        table.append('\n');
+
+        for (String step : steps) {
+            LatencyHistogram baselineLap = laps.getOrDefault(baseline, Map.of()).get(step);
+            double baselineMs = baselineLap != null ? baselineLap.getPercentileMillis(50) : 0;
+            table.append("| ").append(step).append(" |");
+
+            for (String persona : personas) {
+                LatencyHistogram lap = laps.get(persona).get(step);
+                if (lap == null) {
+                    table.append(" - |");
+                    continue;
+                }
+                double p50 = lap.getPercentileMillis(50);
+                double ratio = baselineMs > 0 ? p50 / baselineMs : 0;
+                boolean regression = !persona.equals(baseline) && baselineMs > 0
+                        && ratio > maxRatio && p50 - baselineMs > minDeltaMs;
+                if (regression) {
+                    regressions.add(String.format(Locale.ROOT, "%s/%s: %.0f ms vs %.0f ms (%.2fx)",
+                            persona, step, p50, baselineMs, ratio));
+                }
+
+                table.append(String.format(Locale.ROOT, " %.0f ms", p50));
+                if (!persona.equals(baseline) && baselineMs > 0) {
+                    table.append(String.format(Locale.ROOT, " (%.2fx)", ratio));
+                }
+                table.append(regression ? " **REGRESSION** |" : " |");
+                csv.append(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%b%n",
+                        step, persona, lap.getCount(), p50, lap.getPercentileMillis(95), ratio, regression));
+            }
+            table.append('\n');
+        }
+
+        Path reportDir = Paths.get(ConfigReader.getProperty("persona.report.dir", "target/persona-latency"));
+        try {
+            Files.createDirectories(reportDir);
+            Files.writeString(reportDir.resolve("persona-comparison.md"), table, StandardCharsets.UTF_8);
+            Files.writeString(reportDir.resolve("persona-comparison.csv"), csv, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.error("Failed to write persona latency report to {}", reportDir, e);
+        }
+
+        logger.info("Persona latency comparison (p50 per step, baseline {}):\n{}", baseline, table);
+        regressions.forEach(regression -> logger.warn("Latency regression: {}", regression));
+    }
+
+    public static List<String> getRegressions() {
+        return new ArrayList<>(regressions);
+    }
+}
@@ -0,0 +1,127 @@
+package com.swaglabs.listeners;
+
+import com.swaglabs.sharding.DurationHistory;
+import com.swaglabs.sharding.LptPartitioner;
+import com.swaglabs.sharding.Shard;
+import com.swaglabs.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Splits the suite across JVMs or containers with -Dshard=i/n. Every method in the suite is
+ * packed into n shards by {@link LptPartitioner} using its historical duration from
+ * shard.durations.file, and this JVM keeps only the methods of shard i. Whether sharded or not,
+ * the wall time of every method that ran is merged back into the history when the suite ends.
+ */
+public class ShardListener implements IMethodInterceptor, ITestListener, ISuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(ShardListener.class);
+
+    private final ConcurrentMap<String, LptPartitioner.Plan> plans = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> measuredMillis = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Shard shard = Shard.configured();
+        if (shard == null || shard.getTotal() == 1) {
+            return methods;
+        }
+        ISuite suite = context.getSuite();
+        LptPartitioner.Plan plan = plans.computeIfAbsent(suite.getName(), name -> plan(suite, shard));
+
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            int assigned = plan.shardOf(key(method.getMethod()));
+            // Methods missing from the plan would otherwise run nowhere; shard 1 picks them up
+            if (assigned == shard.getIndex() - 1 || (assigned < 0 && shard.getIndex() == 1)) {
+                selected.add(method);
+            }
+        }
+        logger.info("Shard {} runs {} of {} methods in test '{}'", shard, selected.size(), methods.size(),
+                context.getName());
+        return selected;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailedWithTimeout(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Map<String, Long> measured = new LinkedHashMap<>(measuredMillis);
+        measuredMillis.clear();
+        try {
+            DurationHistory.merge(historyFile(), measured, ConfigReader.settings().getShardDurationsAlpha());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to update test duration history {}: {}", historyFile(), e.getMessage());
+        }
+    }
+
+    private LptPartitioner.Plan plan(ISuite suite, Shard shard) {
+        DurationHistory history = DurationHistory.load(historyFile());
+        double unknownEstimate = history.getMedianMillis(ConfigReader.settings().getShardDefaultDurationMillis());
+
+        Map<String, Double> estimates = new LinkedHashMap<>();
+        int unknown = 0;
+        for (ITestNGMethod method : suite.getAllMethods()) {
+            String key = key(method);
+            double duration = history.getDurationMillis(key);
+            if (duration < 0) {
+                duration = unknownEstimate;
+                unknown++;
+            }
+            estimates.put(key, duration);
+        }
+
+        LptPartitioner.Plan plan = LptPartitioner.partition(estimates, shard.getTotal());
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < plan.getShardCount(); i++) {
+            summary.append(String.format(Locale.ROOT, "%n  shard %d/%d: %.1f s, %s", i + 1, shard.getTotal(),
+                    plan.getLoadMillis(i) / 1000, plan.methodsOf(i)));
+        }
+        logger.info("Shard plan for suite '{}' from {} ({} methods without history, estimated at {} ms):{}",
+                suite.getName(), historyFile(), unknown, Math.round(unknownEstimate), summary);
+        return plan;
+    }
+
+    private void record(ITestResult result) {
+        measuredMillis.merge(key(result.getMethod()), result.getEndMillis() - result.getStartMillis(), Long::sum);
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+
+    private static Path historyFile() {
+        return Paths.get(ConfigReader.getProperty("shard.durations.file", "target/test-durations.csv"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.swaglabs.listeners;
+
+import com.swaglabs.standin.RouteFault;
+import com.swaglabs.standin.StandInServer;
+import com.swaglabs.utils.ConfigReader;
+import com.swaglabs.utils.Settings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Starts the local Swag Labs stand-in server when -Dstandin.enabled=true (or standin.enabled in
+ * config.properties) and points base.url at it until the suite finishes. Every suite's wall time is appended to
+ * suite-durations.csv with its target so stand-in runs can be compared with public-site runs.
+ * Route faults from standin.faults are applied at start; tests can add their own through
+ * {@link #getServer()}.
+ */
+public class StandInServerListener implements ISuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(StandInServerListener.class);
+    private static StandInServer server;
+    private static String previousBaseUrl;
+    private long suiteStartNanos;
+
+    @Override
+    public void onStart(ISuite suite) {
+        suiteStartNanos = System.nanoTime();
+        Settings settings = ConfigReader.settings();
+        if (!settings.isStandInEnabled()) {
+            return;
+        }
+
+        synchronized (StandInServerListener.class) {
+            if (server == null) {
+                try {
+                    server = StandInServer.start(settings.getStandInPort(), settings.getStandInGlitchDelay().toMillis());
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to start Swag Labs stand-in server", e);
+                }
+                server.setJitterSeed(settings.getStandInFaultsSeed());
+                String faults = settings.get("standin.faults", "");
+                for (Map.Entry<String, RouteFault> fault : RouteFault.parse(faults).entrySet()) {
+                    server.injectFault(fault.getKey(), fault.getValue());
+                }
+                previousBaseUrl = ConfigReader.setProperty("base.url", server.getBaseUrl());
+            }
+        }
+    }
+
+    /**
+     * The running stand-in server, or null when the suite targets the public site.
+     */
+    public static synchronized StandInServer getServer() {
+        return server;
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        long durationMs = (System.nanoTime() - suiteStartNanos) / 1_000_000;
+        String baseUrl = ConfigReader.getProperty("base.url");
+        String target = server != null ? "stand-in" : "public";
+        logger.info("Suite '{}' finished in {} ms against {} ({})", suite.getName(), durationMs, target, baseUrl);
+        recordDuration(suite.getName(), target, baseUrl, durationMs);
+
+        synchronized (StandInServerListener.class) {
+            if (server != null) {
+                server.stop();
+                server = null;
+                if (previousBaseUrl != null) {
+                    ConfigReader.setProperty("base.url", previousBaseUrl);
+                } else {
+                    ConfigReader.clearProperty("base.url");
+                }
+                previousBaseUrl = null;
+            }
+        }
+    }
+
+    private static void recordDuration(String suiteName, String target, String baseUrl, long durationMs) {
+        Path file = Paths.get(ConfigReader.getProperty("suite.durations.file", "target/suite-durations.csv"));
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            if (Files.notExists(file)) {
+                Files.writeString(file, "timestamp,suite,target,base_url,duration_ms\n", StandardCharsets.UTF_8);
+            }
+            String row = String.format("%s,%s,%s,%s,%d%n", Instant.now(), suiteName, target, baseUrl, durationMs);
+            Files.writeString(file, row, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warn("Failed to record suite duration in {}: {}", file, e.getMessage());
+        }
+    }
+}
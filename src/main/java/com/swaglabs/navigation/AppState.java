@@ -0,0 +1,96 @@
+package com.swaglabs.navigation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * What a test can observe about the app: the screen, the logged-in user (null when logged out)
+ * and the cart as the set of item ids the app keeps in localStorage "cart-contents"
+ * (4 = Sauce Labs Backpack, 0 = Sauce Labs Bike Light).
+ */
+public final class AppState {
+    private final Screen screen;
+    private final String user;
+    private final SortedSet<Integer> cart;
+
+    private AppState(Screen screen, String user, Collection<Integer> cart) {
+        this.screen = Objects.requireNonNull(screen, "screen");
+        this.user = user;
+        this.cart = Collections.unmodifiableSortedSet(new TreeSet<>(cart));
+    }
+
+    public static AppState of(Screen screen, String user, Collection<Integer> cart) {
+        return new AppState(screen, user, cart);
+    }
+
+    public static AppState of(Screen screen, String user, int... cart) {
+        return new AppState(screen, user, Arrays.stream(cart).boxed().collect(Collectors.toList()));
+    }
+
+    public Screen getScreen() {
+        return screen;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public SortedSet<Integer> getCart() {
+        return cart;
+    }
+
+    public boolean isLoggedIn() {
+        return user != null;
+    }
+
+    public AppState withScreen(Screen screen) {
+        return new AppState(screen, user, cart);
+    }
+
+    public AppState withUser(String user) {
+        return new AppState(screen, user, cart);
+    }
+
+    public AppState withCart(Collection<Integer> cart) {
+        return new AppState(screen, user, cart);
+    }
+
+    public AppState withItem(int itemId) {
+        SortedSet<Integer> items = new TreeSet<>(cart);
+        items.add(itemId);
+        return new AppState(screen, user, items);
+    }
+
+    public AppState withoutItem(int itemId) {
+        SortedSet<Integer> items = new TreeSet<>(cart);
+        items.remove(itemId);
+        return new AppState(screen, user, items);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof AppState)) {
+            return false;
+        }
+        AppState that = (AppState) other;
+        return screen == that.screen && Objects.equals(user, that.user) && cart.equals(that.cart);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(screen, user, cart);
+    }
+
+    @Override
+    public String toString() {
+        return screen + "[" + (user != null ? user : "logged out") + ", cart=" + cart + "]";
+    }
+}
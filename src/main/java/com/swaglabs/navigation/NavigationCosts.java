@@ -0,0 +1,92 @@
+package com.swaglabs.navigation;
+
+import com.swaglabs.instrumentation.LatencyHistogram;
+import com.swaglabs.sharding.DurationHistory;
+import com.swaglabs.utils.ConfigReader;
+import com.swaglabs.utils.Settings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measured latency per navigation edge. Estimates start from navigation.costs.file (the
+ * {@link DurationHistory} CSV format, keyed by edge) and follow this run's measurements with
+ * the same moving average; the run's means are merged back into the file when the JVM exits.
+ * Edges without history are estimated from the WebDriver commands and page loads they take.
+ */
+public class NavigationCosts {
+    private static final Logger logger = LoggerFactory.getLogger(NavigationCosts.class);
+    private static final ConcurrentMap<String, Double> estimates = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LatencyHistogram> measured = new ConcurrentHashMap<>();
+    private static final AtomicBoolean flushRegistered = new AtomicBoolean();
+    private static volatile DurationHistory history;
+
+    private NavigationCosts() {
+    }
+
+    public static double estimateMillis(String edge, double priorMillis) {
+        Double estimate = estimates.computeIfAbsent(edge, key -> {
+            double known = history().getDurationMillis(key);
+            return known >= 0 ? known : null;
+        });
+        return estimate != null ? estimate : priorMillis;
+    }
+
+    public static void record(String edge, long nanos) {
+        double millis = nanos / 1_000_000.0;
+        double alpha = alpha();
+        estimateMillis(edge, millis);
+        estimates.merge(edge, millis, (old, fresh) -> old + alpha * (fresh - old));
+        measured.computeIfAbsent(edge, key -> new LatencyHistogram()).recordNanos(nanos);
+        if (flushRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(NavigationCosts::flush, "navigation-costs-flush"));
+        }
+    }
+
+    /**
+     * Prior for an edge that takes the given number of WebDriver commands and page loads.
+     */
+    public static double priorMillis(int commands, int pageLoads) {
+        Settings settings = ConfigReader.settings();
+        return commands * settings.getNavigationPriorCommandMillis()
+                + pageLoads * settings.getNavigationPriorPageLoadMillis();
+    }
+
+    public static void flush() {
+        Map<String, Long> means = new TreeMap<>();
+        measured.forEach((edge, histogram) -> means.put(edge, Math.round(histogram.getMeanMillis())));
+        measured.clear();
+        try {
+            DurationHistory.merge(file(), means, alpha());
+        } catch (IOException e) {
+            logger.warn("Failed to save navigation costs to {}: {}", file(), e.getMessage());
+        }
+    }
+
+    private static DurationHistory history() {
+        if (history == null) {
+            synchronized (NavigationCosts.class) {
+                if (history == null) {
+                    history = DurationHistory.load(file());
+                }
+            }
+        }
+        return history;
+    }
+
+    private static Path file() {
+        return Paths.get(ConfigReader.getProperty("navigation.costs.file", "target/navigation-costs.csv"));
+    }
+
+    private static double alpha() {
+        return ConfigReader.settings().getNavigationCostsAlpha();
+    }
+}
@@ -0,0 +1,207 @@
+package com.swaglabs.navigation;
+
+import com.swaglabs.pages.BasePage;
+import com.swaglabs.pages.LoginPage;
+import com.swaglabs.utils.ConfigReader;
+import com.swaglabs.utils.TestDataReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Brings a session to a target {@link AppState} along the cheapest path through the
+ * {@link Transitions} graph, where an edge costs its measured latency ({@link NavigationCosts}).
+ * The current state is read from the browser, so the engine picks up wherever a test left
+ * off: from a fresh session it usually teleports, from the inventory with the wanted cart it
+ * clicks through. Each edge's latency is measured as it runs and feeds later plans.
+ */
+public class Navigator {
+    private static final Logger logger = LoggerFactory.getLogger(Navigator.class);
+    private static final int MAX_EXPANDED_STATES = 10_000;
+
+    private static final String READ_STATE = "var user = null, cart = [];"
+            + " try { var match = document.cookie.match(/(?:^|;\\s*)" + Transitions.SESSION_COOKIE + "=([^;]*)/);"
+            + " user = match ? decodeURIComponent(match[1]) : null;"
+            + " cart = JSON.parse(localStorage.getItem('" + Transitions.CART_KEY + "')) || []; } catch (e) {}"
+            + " return {url: location.href, user: user, cart: cart};";
+
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final List<Transition> transitions;
+
+    public Navigator(WebDriver driver, WebDriverWait wait) {
+        this(driver, wait, Transitions.standard());
+    }
+
+    public Navigator(WebDriver driver, WebDriverWait wait, List<Transition> transitions) {
+        this.driver = driver;
+        this.wait = wait;
+        this.transitions = transitions;
+    }
+
+    /**
+     * Opens page with the given cart (item ids) as the test data user, or logged out for
+     * {@link LoginPage}, and returns its page object.
+     */
+    public <P extends BasePage> P goTo(Class<P> page, int... cartItemIds) {
+        Screen screen = Screen.of(page);
+        String user = screen == Screen.LOGIN ? null : TestDataReader.getCredentials().getUsername();
+        goTo(AppState.of(screen, user, cartItemIds));
+        try {
+            return page.getConstructor(WebDriver.class, WebDriverWait.class).newInstance(driver, wait);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create page object " + page.getSimpleName(), e);
+        }
+    }
+
+    public AppState goTo(AppState goal) {
+        AppState current = currentState();
+        List<Step> path = plan(current, goal);
+        if (path.isEmpty()) {
+            logger.info("Already at {}", goal);
+            return current;
+        }
+        double estimated = path.stream().mapToDouble(Step::getEstimatedMillis).sum();
+        logger.info("Navigating {} -> {} via {} (estimated {} ms)", current, goal,
+                path.stream().map(step -> step.getTransition().getName()).collect(Collectors.joining(", ")),
+                Math.round(estimated));
+
+        long start = System.nanoTime();
+        for (Step step : path) {
+            long stepStart = System.nanoTime();
+            step.getTransition().perform(driver, wait, step.getFrom(), step.getTo());
+            if (step.getFrom().getScreen() != step.getTo().getScreen()) {
+                Screen target = step.getTo().getScreen();
+                wait.until(webDriver -> Screen.fromUrl(webDriver.getCurrentUrl(), baseUrl()) == target);
+            }
+            NavigationCosts.record(step.getCostKey(), System.nanoTime() - stepStart);
+        }
+        logger.info("Reached {} in {} ms", goal, (System.nanoTime() - start) / 1_000_000);
+        return goal;
+    }
+
+    /**
+     * The state the browser is in: screen from the URL, user from the session cookie and cart
+     * from localStorage, read with one script.
+     */
+    public AppState currentState() {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> state = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(READ_STATE);
+        Screen screen = Screen.fromUrl((String) state.get("url"), baseUrl());
+        if (screen == Screen.BLANK) {
+            return AppState.of(screen, null);
+        }
+        List<Integer> cart = new ArrayList<>();
+        Object items = state.get("cart");
+        if (items instanceof List) {
+            for (Object item : (List<?>) items) {
+                cart.add(((Number) item).intValue());
+            }
+        }
+        return AppState.of(screen, (String) state.get("user"), cart);
+    }
+
+    /**
+     * Cheapest path from from to goal (Dijkstra over the states the transitions reach), empty
+     * when from already is the goal.
+     */
+    public List<Step> plan(AppState from, AppState goal) {
+        Map<AppState, Double> costs = new HashMap<>();
+        Map<AppState, Step> arrivedBy = new HashMap<>();
+        PriorityQueue<Map.Entry<AppState, Double>> queue = new PriorityQueue<>(Map.Entry.comparingByValue());
+        costs.put(from, 0.0);
+        queue.add(Map.entry(from, 0.0));
+        int expanded = 0;
+        while (!queue.isEmpty()) {
+            Map.Entry<AppState, Double> head = queue.poll();
+            AppState state = head.getKey();
+            if (head.getValue() > costs.get(state)) {
+                continue;
+            }
+            if (state.equals(goal)) {
+                return pathTo(goal, arrivedBy);
+            }
+            if (++expanded > MAX_EXPANDED_STATES) {
+                break;
+            }
+            for (Transition transition : transitions) {
+                AppState next = transition.next(state, goal);
+                if (next == null) {
+                    continue;
+                }
+                Step step = new Step(transition, state, next);
+                double cost = head.getValue() + step.getEstimatedMillis();
+                if (cost < costs.getOrDefault(next, Double.MAX_VALUE)) {
+                    costs.put(next, cost);
+                    arrivedBy.put(next, step);
+                    queue.add(Map.entry(next, cost));
+                }
+            }
+        }
+        throw new IllegalStateException("No navigation path from " + from + " to " + goal);
+    }
+
+    private static List<Step> pathTo(AppState goal, Map<AppState, Step> arrivedBy) {
+        List<Step> path = new ArrayList<>();
+        for (Step step = arrivedBy.get(goal); step != null; step = arrivedBy.get(step.getFrom())) {
+            path.add(step);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static String baseUrl() {
+        return ConfigReader.getProperty("base.url");
+    }
+
+    public static final class Step {
+        private final Transition transition;
+        private final AppState from;
+        private final AppState to;
+        private final String costKey;
+        private final double estimatedMillis;
+
+        private Step(Transition transition, AppState from, AppState to) {
+            this.transition = transition;
+            this.from = from;
+            this.to = to;
+            this.costKey = transition.costKey(from, to);
+            this.estimatedMillis = NavigationCosts.estimateMillis(costKey, transition.priorMillis(from, to));
+        }
+
+        public Transition getTransition() {
+            return transition;
+        }
+
+        public AppState getFrom() {
+            return from;
+        }
+
+        public AppState getTo() {
+            return to;
+        }
+
+        public String getCostKey() {
+            return costKey;
+        }
+
+        public double getEstimatedMillis() {
+            return estimatedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return transition.getName() + ": " + from + " -> " + to;
+        }
+    }
+}
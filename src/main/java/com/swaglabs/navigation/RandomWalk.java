@@ -0,0 +1,192 @@
+package com.swaglabs.navigation;
+
+import com.swaglabs.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/**
+ * A seeded random walk over the UI edges of the {@link Transitions} graph: from the logged-out
+ * login page it repeatedly takes one of the edges that apply to the model state (add and
+ * remove items, open the cart, check out, cancel, continue, finish), then checks the browser
+ * against the model. The choice of edge depends only on the seed and the model, so a failing
+ * walk replays step for step with -Dwalk.replay=&lt;seed&gt;.
+ * <p>
+ * Invariants checked after every step: the screen, session and cart match the model; the cart
+ * badge shows the number of items in the cart; the cart and overview list one row per item;
+ * on the overview the item total is the sum of the listed prices and total = item total + tax.
+ */
+public class RandomWalk {
+    private static final Logger logger = LoggerFactory.getLogger(RandomWalk.class);
+
+    private static final String OBSERVE = "var user = null, cart = [];"
+            + " try { var match = document.cookie.match(/(?:^|;\\s*)" + Transitions.SESSION_COOKIE + "=([^;]*)/);"
+            + " user = match ? decodeURIComponent(match[1]) : null;"
+            + " cart = JSON.parse(localStorage.getItem('" + Transitions.CART_KEY + "')) || []; } catch (e) {}"
+            + " var text = function (selector) { var element = document.querySelector(selector);"
+            + " return element ? element.textContent : null; };"
+            + " return {url: location.href, user: user, cart: cart, badge: text('.shopping_cart_badge'),"
+            + " rows: document.querySelectorAll('.cart_item').length,"
+            + " prices: Array.prototype.map.call(document.querySelectorAll('.cart_item .inventory_item_price'),"
+            + " function (element) { return element.textContent; }),"
+            + " subtotal: text('[data-test=\"subtotal-label\"]'), tax: text('[data-test=\"tax-label\"]'),"
+            + " total: text('[data-test=\"total-label\"]')};";
+
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final long seed;
+    private final int steps;
+    private final List<Transition> transitions;
+
+    public RandomWalk(WebDriver driver, WebDriverWait wait, long seed, int steps) {
+        this.driver = driver;
+        this.wait = wait;
+        this.seed = seed;
+        this.steps = steps;
+        this.transitions = Transitions.standard();
+    }
+
+    /**
+     * Seeds of the walks to run: -Dwalk.replay (comma-separated) when set, otherwise walk.count
+     * seeds derived from walk.seed, or from the clock when no seed is configured.
+     */
+    public static List<Long> seeds() {
+        List<Long> replay = ConfigReader.settings().getWalkReplay();
+        if (!replay.isEmpty()) {
+            return new ArrayList<>(replay);
+        }
+        long master = ConfigReader.settings().getSeed("walk.seed");
+        int count = ConfigReader.settings().getWalkCount();
+        logger.info("Generating {} random walks from seed {} (-Dwalk.seed={} to regenerate)", count, master, master);
+        SplittableRandom random = new SplittableRandom(master);
+        List<Long> seeds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            seeds.add(random.nextLong());
+        }
+        return seeds;
+    }
+
+    public static int configuredSteps() {
+        return ConfigReader.settings().getWalkSteps();
+    }
+
+    /**
+     * Runs the walk, returning the edges taken. Throws AssertionError naming the seed, the path
+     * and the violated invariants as soon as the browser disagrees with the model.
+     */
+    public List<String> run() {
+        long start = System.nanoTime();
+        RandomWalkReport.walkStarted();
+        List<String> path = new ArrayList<>();
+        boolean passed = false;
+        try {
+            Navigator navigator = new Navigator(driver, wait, transitions);
+            AppState state = navigator.goTo(AppState.of(Screen.LOGIN, null));
+            Random random = new Random(seed);
+            for (int step = 1; step <= steps; step++) {
+                AppState from = state;
+                List<Transition> enabled = transitions.stream()
+                        .filter(transition -> transition.effect(from) != null)
+                        .collect(Collectors.toList());
+                if (enabled.isEmpty()) {
+                    throw new IllegalStateException("Walk " + seed + " reached a state without UI edges: " + state);
+                }
+                Transition transition = enabled.get(random.nextInt(enabled.size()));
+                AppState next = transition.effect(state);
+                path.add(transition.getName());
+
+                long stepStart = System.nanoTime();
+                transition.perform(driver, wait, state, next);
+                if (state.getScreen() != next.getScreen()) {
+                    Screen target = next.getScreen();
+                    wait.until(webDriver -> Screen.fromUrl(webDriver.getCurrentUrl(), baseUrl()) == target);
+                }
+                NavigationCosts.record(transition.costKey(state, next), System.nanoTime() - stepStart);
+                RandomWalkReport.recordStep(transition.getName());
+
+                List<String> violations = violations(next);
+                if (!violations.isEmpty()) {
+                    throw new AssertionError(String.format("Walk %d broke %s after step %d (%s)%n  path: %s%n"
+                                    + "  replay with -Dwalk.replay=%d", seed, violations, step, transition.getName(),
+                            String.join(" -> ", path), seed));
+                }
+                state = next;
+            }
+            passed = true;
+            logger.info("Walk {} passed {} steps in {} ms: {}", seed, steps, (System.nanoTime() - start) / 1_000_000,
+                    String.join(" -> ", path));
+            return path;
+        } finally {
+            RandomWalkReport.recordWalk(seed, path.size(), passed);
+        }
+    }
+
+    private List<String> violations(AppState expected) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> observed = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(OBSERVE);
+        List<String> violations = new ArrayList<>();
+
+        List<Integer> cart = new ArrayList<>();
+        for (Object item : (List<?>) observed.get("cart")) {
+            cart.add(((Number) item).intValue());
+        }
+        AppState actual = AppState.of(Screen.fromUrl((String) observed.get("url"), baseUrl()),
+                (String) observed.get("user"), cart);
+        if (!actual.equals(expected)) {
+            violations.add("state: expected " + expected + " but was " + actual);
+        }
+
+        int items = expected.getCart().size();
+        if (expected.isLoggedIn()) {
+            String badge = (String) observed.get("badge");
+            int badgeCount = badge == null ? 0 : Integer.parseInt(badge.trim());
+            if (badgeCount != items) {
+                violations.add("badge: shows " + badgeCount + " with " + items + " items in the cart");
+            }
+        }
+
+        Screen screen = expected.getScreen();
+        if (screen == Screen.CART || screen == Screen.CHECKOUT_STEP_TWO) {
+            int rows = ((Number) observed.get("rows")).intValue();
+            if (rows != items) {
+                violations.add("rows: " + rows + " cart rows for " + items + " items");
+            }
+        }
+
+        if (screen == Screen.CHECKOUT_STEP_TWO) {
+            BigDecimal listed = BigDecimal.ZERO;
+            for (Object price : (List<?>) observed.get("prices")) {
+                listed = listed.add(amount((String) price));
+            }
+            BigDecimal subtotal = amount((String) observed.get("subtotal"));
+            BigDecimal tax = amount((String) observed.get("tax"));
+            BigDecimal total = amount((String) observed.get("total"));
+            if (subtotal.compareTo(listed) != 0) {
+                violations.add("subtotal: " + subtotal + " but the listed prices add up to " + listed);
+            }
+            if (total.compareTo(subtotal.add(tax)) != 0) {
+                violations.add("total: " + total + " is not item total " + subtotal + " + tax " + tax);
+            }
+        }
+        return violations;
+    }
+
+    private static BigDecimal amount(String label) {
+        String digits = label == null ? "" : label.replaceAll("[^0-9.]", "");
+        return digits.isEmpty() ? BigDecimal.ZERO : new BigDecimal(digits);
+    }
+
+    private static String baseUrl() {
+        return ConfigReader.getProperty("base.url");
+    }
+}
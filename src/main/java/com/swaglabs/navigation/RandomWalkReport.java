@@ -0,0 +1,101 @@
+package com.swaglabs.navigation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Throughput and coverage of the {@link RandomWalk}s run in this JVM: walks per minute over the
+ * wall time from the first walk's start to the last one's end, and how often each UI edge of
+ * the {@link Transitions} graph was taken.
+ */
+public class RandomWalkReport {
+    private static final ConcurrentMap<String, LongAdder> taken = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Long, Boolean> failedSeeds = new ConcurrentHashMap<>();
+    private static final AtomicInteger walks = new AtomicInteger();
+    private static final LongAdder steps = new LongAdder();
+    private static final AtomicLong firstStartNanos = new AtomicLong();
+    private static final AtomicLong lastEndNanos = new AtomicLong();
+
+    private RandomWalkReport() {
+    }
+
+    static void walkStarted() {
+        firstStartNanos.compareAndSet(0, System.nanoTime());
+    }
+
+    static void recordStep(String transition) {
+        taken.computeIfAbsent(transition, key -> new LongAdder()).increment();
+    }
+
+    static void recordWalk(long seed, int walkSteps, boolean passed) {
+        walks.incrementAndGet();
+        steps.add(walkSteps);
+        lastEndNanos.accumulateAndGet(System.nanoTime(), Math::max);
+        if (!passed) {
+            failedSeeds.put(seed, true);
+        }
+    }
+
+    public static int getWalks() {
+        return walks.get();
+    }
+
+    public static List<Long> getFailedSeeds() {
+        return new ArrayList<>(failedSeeds.keySet());
+    }
+
+    public static double getWalksPerMinute() {
+        long wallNanos = lastEndNanos.get() - firstStartNanos.get();
+        return wallNanos > 0 ? walks.get() * 60_000_000_000.0 / wallNanos : 0;
+    }
+
+    /**
+     * Times each UI edge was taken, including the edges never taken (0).
+     */
+    public static Map<String, Long> getCoverage() {
+        Map<String, Long> coverage = new TreeMap<>();
+        for (Transition transition : Transitions.standard()) {
+            if (transition.getKind() == Transition.Kind.UI) {
+                LongAdder count = taken.get(transition.getName());
+                coverage.put(transition.getName(), count != null ? count.sum() : 0L);
+            }
+        }
+        return coverage;
+    }
+
+    public static String summary() {
+        Map<String, Long> coverage = getCoverage();
+        long covered = coverage.values().stream().filter(count -> count > 0).count();
+        StringBuilder summary = new StringBuilder(String.format(
+                "%d walks (%d failed), %d steps, %.1f walks/min; %d of %d transitions covered",
+                walks.get(), failedSeeds.size(), steps.sum(), getWalksPerMinute(), covered, coverage.size()));
+        coverage.forEach((transition, count) -> summary.append(String.format("%n  %-28s %6d", transition, count)));
+        if (!failedSeeds.isEmpty()) {
+            summary.append(String.format("%nReplay failures with -Dwalk.replay=%s", getFailedSeeds().stream()
+                    .map(String::valueOf).collect(Collectors.joining(","))));
+        }
+        return summary.toString();
+    }
+
+    public static void write(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("transition,taken");
+        getCoverage().forEach((transition, count) -> lines.add(transition + "," + count));
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+}
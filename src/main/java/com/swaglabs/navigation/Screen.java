@@ -0,0 +1,70 @@
+package com.swaglabs.navigation;
+
+import com.swaglabs.pages.BasePage;
+import com.swaglabs.pages.CartPage;
+import com.swaglabs.pages.CheckoutCompletePage;
+import com.swaglabs.pages.CheckoutStepOnePage;
+import com.swaglabs.pages.CheckoutStepTwoPage;
+import com.swaglabs.pages.InventoryPage;
+import com.swaglabs.pages.LoginPage;
+
+/**
+ * The app's pages as navigation states, with the path each one is served from. BLANK is any
+ * document outside the app, such as the about:blank a fresh session starts on.
+ */
+public enum Screen {
+    BLANK(null, null),
+    LOGIN("", LoginPage.class),
+    INVENTORY("inventory.html", InventoryPage.class),
+    CART("cart.html", CartPage.class),
+    CHECKOUT_STEP_ONE("checkout-step-one.html", CheckoutStepOnePage.class),
+    CHECKOUT_STEP_TWO("checkout-step-two.html", CheckoutStepTwoPage.class),
+    CHECKOUT_COMPLETE("checkout-complete.html", CheckoutCompletePage.class);
+
+    private final String path;
+    private final Class<? extends BasePage> pageClass;
+
+    Screen(String path, Class<? extends BasePage> pageClass) {
+        this.path = path;
+        this.pageClass = pageClass;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Class<? extends BasePage> getPageClass() {
+        return pageClass;
+    }
+
+    public String urlFor(String baseUrl) {
+        return baseUrl.replaceAll("/+$", "") + "/" + path;
+    }
+
+    public static Screen of(Class<? extends BasePage> pageClass) {
+        for (Screen screen : values()) {
+            if (pageClass.equals(screen.pageClass)) {
+                return screen;
+            }
+        }
+        throw new IllegalArgumentException("No screen for page object " + pageClass.getSimpleName());
+    }
+
+    /**
+     * The screen serving url, or BLANK when url is not under baseUrl.
+     */
+    public static Screen fromUrl(String url, String baseUrl) {
+        String base = baseUrl.replaceAll("/+$", "") + "/";
+        if (url == null || !(url + "/").startsWith(base)) {
+            return BLANK;
+        }
+        String path = url.length() > base.length() ? url.substring(base.length()) : "";
+        path = path.replaceAll("[?#].*$", "");
+        for (Screen screen : values()) {
+            if (screen != BLANK && screen.path.equals(path)) {
+                return screen;
+            }
+        }
+        return path.equals("index.html") ? LOGIN : BLANK;
+    }
+}
@@ -0,0 +1,65 @@
+package com.swaglabs.navigation;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * An edge of the navigation graph. UI transitions drive page objects the way a user would;
+ * teleports load a URL directly, injecting the session cookie and cart first when needed.
+ * Its cost is the measured latency under {@link #costKey}, or {@link #priorMillis} until the
+ * edge has been measured.
+ */
+public abstract class Transition {
+    public enum Kind { UI, TELEPORT }
+
+    private final String name;
+    private final Kind kind;
+
+    protected Transition(String name, Kind kind) {
+        this.name = name;
+        this.kind = kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * The state this transition leads to from from, or null when it does not apply there or
+     * does not bring the app closer to goal.
+     */
+    public abstract AppState next(AppState from, AppState goal);
+
+    /**
+     * The state this transition leads to from from regardless of any goal, or null when it
+     * cannot be taken there. Edges that only make sense toward a goal, like teleports, never
+     * apply; random walks ({@link RandomWalk}) follow the edges that do.
+     */
+    public AppState effect(AppState from) {
+        return null;
+    }
+
+    public abstract void perform(WebDriver driver, WebDriverWait wait, AppState from, AppState to);
+
+    /**
+     * Estimate used until the edge has a measured latency.
+     */
+    public abstract double priorMillis(AppState from, AppState to);
+
+    /**
+     * Key the edge's measured latency is kept under; edges whose cost depends on the states
+     * they connect include that in the key.
+     */
+    public String costKey(AppState from, AppState to) {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
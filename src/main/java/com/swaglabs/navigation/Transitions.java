@@ -0,0 +1,301 @@
+package com.swaglabs.navigation;
+
+import com.swaglabs.data.CheckoutInfo;
+import com.swaglabs.pages.CartPage;
+import com.swaglabs.pages.CheckoutCompletePage;
+import com.swaglabs.pages.CheckoutStepOnePage;
+import com.swaglabs.pages.CheckoutStepTwoPage;
+import com.swaglabs.pages.InventoryPage;
+import com.swaglabs.pages.LoginPage;
+import com.swaglabs.utils.ConfigReader;
+import com.swaglabs.utils.TestDataReader;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+
+/**
+ * The Swag Labs navigation graph: the page-object flows a user takes, plus a teleport to every
+ * screen. The app keeps its session in the "session-username" cookie and the cart in
+ * localStorage "cart-contents", on saucedemo.com and on the stand-in alike, so a teleport can
+ * reach any logged-in state with one page load (two from outside the app).
+ */
+public final class Transitions {
+    static final String SESSION_COOKIE = "session-username";
+    static final String CART_KEY = "cart-contents";
+
+    private Transitions() {
+    }
+
+    public static List<Transition> standard() {
+        List<Transition> transitions = new ArrayList<>();
+        transitions.add(new Login());
+        transitions.add(new AddToCart(4, (driver, wait) -> new InventoryPage(driver, wait).addBackpackToCart()));
+        transitions.add(new AddToCart(0, (driver, wait) -> new InventoryPage(driver, wait).addBikeLightToCart()));
+        transitions.add(new RemoveFromCart(4, Screen.INVENTORY,
+                (driver, wait) -> new InventoryPage(driver, wait).removeBackpackFromCart()));
+        transitions.add(new RemoveFromCart(0, Screen.INVENTORY,
+                (driver, wait) -> new InventoryPage(driver, wait).removeBikeLightFromCart()));
+        transitions.add(new RemoveFromCart(4, Screen.CART,
+                (driver, wait) -> new CartPage(driver, wait).removeBackpackFromCart()));
+        transitions.add(new RemoveFromCart(0, Screen.CART,
+                (driver, wait) -> new CartPage(driver, wait).removeBikeLightFromCart()));
+        transitions.add(new PageLink("openCart", Screen.INVENTORY, Screen.CART, 2, false,
+                (driver, wait) -> new InventoryPage(driver, wait).clickShoppingCartLink()));
+        transitions.add(new PageLink("checkout", Screen.CART, Screen.CHECKOUT_STEP_ONE, 2, false,
+                (driver, wait) -> new CartPage(driver, wait).clickCheckoutButton()));
+        transitions.add(new PageLink("continueShopping", Screen.CART, Screen.INVENTORY, 2, false,
+                (driver, wait) -> new CartPage(driver, wait).clickContinueShoppingButton()));
+        transitions.add(new PageLink("continueCheckout", Screen.CHECKOUT_STEP_ONE, Screen.CHECKOUT_STEP_TWO, 9, false,
+                (driver, wait) -> {
+                    CheckoutInfo details = TestDataReader.getCheckoutInfo("continueCheckout");
+                    new CheckoutStepOnePage(driver, wait)
+                            .fillCheckoutInformation(details.getFirstName(), details.getLastName(),
+                                    details.getPostalCode())
+                            .clickContinueButton();
+                }));
+        transitions.add(new PageLink("cancelCheckout", Screen.CHECKOUT_STEP_ONE, Screen.CART, 2, false,
+                (driver, wait) -> new CheckoutStepOnePage(driver, wait).clickCancelButton()));
+        transitions.add(new PageLink("finish", Screen.CHECKOUT_STEP_TWO, Screen.CHECKOUT_COMPLETE, 2, true,
+                (driver, wait) -> new CheckoutStepTwoPage(driver, wait).clickFinishButton()));
+        transitions.add(new PageLink("cancelOverview", Screen.CHECKOUT_STEP_TWO, Screen.INVENTORY, 2, false,
+                (driver, wait) -> new CheckoutStepTwoPage(driver, wait).clickCancelButton()));
+        transitions.add(new PageLink("backHome", Screen.CHECKOUT_COMPLETE, Screen.INVENTORY, 2, false,
+                (driver, wait) -> new CheckoutCompletePage(driver, wait).clickBackToProductsButton()));
+        for (Screen screen : Screen.values()) {
+            if (screen != Screen.BLANK) {
+                transitions.add(new Teleport(screen));
+            }
+        }
+        return Collections.unmodifiableList(transitions);
+    }
+
+    private static class Login extends Transition {
+        private Login() {
+            super("login", Kind.UI);
+        }
+
+        @Override
+        public AppState next(AppState from, AppState goal) {
+            if (from.getScreen() != Screen.LOGIN || from.isLoggedIn() || !goal.isLoggedIn()) {
+                return null;
+            }
+            return from.withScreen(Screen.INVENTORY).withUser(goal.getUser());
+        }
+
+        /**
+         * Logs in as the test data user.
+         */
+        @Override
+        public AppState effect(AppState from) {
+            if (from.getScreen() != Screen.LOGIN || from.isLoggedIn()) {
+                return null;
+            }
+            return from.withScreen(Screen.INVENTORY).withUser(TestDataReader.getCredentials().getUsername());
+        }
+
+        @Override
+        public void perform(WebDriver driver, WebDriverWait wait, AppState from, AppState to) {
+            new LoginPage(driver, wait).login(to.getUser(), TestDataReader.getCredentials().getPassword());
+        }
+
+        @Override
+        public double priorMillis(AppState from, AppState to) {
+            return NavigationCosts.priorMillis(5, 1);
+        }
+    }
+
+    private static class AddToCart extends Transition {
+        private final int itemId;
+        private final BiConsumer<WebDriver, WebDriverWait> action;
+
+        private AddToCart(int itemId, BiConsumer<WebDriver, WebDriverWait> action) {
+            super("addToCart:" + itemId, Kind.UI);
+            this.itemId = itemId;
+            this.action = action;
+        }
+
+        @Override
+        public AppState next(AppState from, AppState goal) {
+            return goal.getCart().contains(itemId) ? effect(from) : null;
+        }
+
+        @Override
+        public AppState effect(AppState from) {
+            if (from.getScreen() != Screen.INVENTORY || !from.isLoggedIn() || from.getCart().contains(itemId)) {
+                return null;
+            }
+            return from.withItem(itemId);
+        }
+
+        @Override
+        public void perform(WebDriver driver, WebDriverWait wait, AppState from, AppState to) {
+            action.accept(driver, wait);
+        }
+
+        @Override
+        public double priorMillis(AppState from, AppState to) {
+            return NavigationCosts.priorMillis(2, 0);
+        }
+    }
+
+    private static class RemoveFromCart extends Transition {
+        private final int itemId;
+        private final Screen screen;
+        private final BiConsumer<WebDriver, WebDriverWait> action;
+
+        private RemoveFromCart(int itemId, Screen screen, BiConsumer<WebDriver, WebDriverWait> action) {
+            super("removeFromCart:" + itemId + (screen == Screen.INVENTORY ? "" : "@" + screen.name().toLowerCase()),
+                    Kind.UI);
+            this.itemId = itemId;
+            this.screen = screen;
+            this.action = action;
+        }
+
+        @Override
+        public AppState next(AppState from, AppState goal) {
+            return goal.getCart().contains(itemId) ? null : effect(from);
+        }
+
+        @Override
+        public AppState effect(AppState from) {
+            if (from.getScreen() != screen || !from.isLoggedIn() || !from.getCart().contains(itemId)) {
+                return null;
+            }
+            return from.withoutItem(itemId);
+        }
+
+        @Override
+        public void perform(WebDriver driver, WebDriverWait wait, AppState from, AppState to) {
+            action.accept(driver, wait);
+        }
+
+        @Override
+        public double priorMillis(AppState from, AppState to) {
+            return NavigationCosts.priorMillis(2, 0);
+        }
+    }
+
+    private static class PageLink extends Transition {
+        private final Screen source;
+        private final Screen target;
+        private final int commands;
+        private final boolean clearsCart;
+        private final BiConsumer<WebDriver, WebDriverWait> action;
+
+        private PageLink(String name, Screen source, Screen target, int commands, boolean clearsCart,
+                         BiConsumer<WebDriver, WebDriverWait> action) {
+            super(name, Kind.UI);
+            this.source = source;
+            this.target = target;
+            this.commands = commands;
+            this.clearsCart = clearsCart;
+            this.action = action;
+        }
+
+        @Override
+        public AppState next(AppState from, AppState goal) {
+            return effect(from);
+        }
+
+        @Override
+        public AppState effect(AppState from) {
+            if (from.getScreen() != source || !from.isLoggedIn()) {
+                return null;
+            }
+            AppState to = from.withScreen(target);
+            return clearsCart ? to.withCart(Collections.emptySet()) : to;
+        }
+
+        @Override
+        public void perform(WebDriver driver, WebDriverWait wait, AppState from, AppState to) {
+            action.accept(driver, wait);
+        }
+
+        @Override
+        public double priorMillis(AppState from, AppState to) {
+            return NavigationCosts.priorMillis(commands, 1);
+        }
+    }
+
+    /**
+     * Loads a screen by URL with the goal's session and cart. Outside the app it loads the
+     * login page first, since cookies and localStorage can only be set on the app's origin.
+     */
+    private static class Teleport extends Transition {
+        private final Screen target;
+
+        private Teleport(Screen target) {
+            super("teleport:" + target.name().toLowerCase(), Kind.TELEPORT);
+            this.target = target;
+        }
+
+        @Override
+        public AppState next(AppState from, AppState goal) {
+            String user = target == Screen.LOGIN ? null : goal.getUser();
+            if (target != Screen.LOGIN && user == null) {
+                return null;
+            }
+            AppState to = AppState.of(target, user, goal.getCart());
+            return to.equals(from) ? null : to;
+        }
+
+        @Override
+        public void perform(WebDriver driver, WebDriverWait wait, AppState from, AppState to) {
+            String baseUrl = ConfigReader.getProperty("base.url");
+            boolean outside = from.getScreen() == Screen.BLANK;
+            if (outside) {
+                driver.get(Screen.LOGIN.urlFor(baseUrl));
+            }
+            if (outside || !Objects.equals(from.getUser(), to.getUser())) {
+                if (to.getUser() == null) {
+                    driver.manage().deleteCookieNamed(SESSION_COOKIE);
+                } else {
+                    driver.manage().addCookie(new Cookie(SESSION_COOKIE, to.getUser(), "/"));
+                }
+            }
+            if (outside || !from.getCart().equals(to.getCart())) {
+                ((JavascriptExecutor) driver).executeScript(to.getCart().isEmpty()
+                                ? "localStorage.removeItem(arguments[0]);"
+                                : "localStorage.setItem(arguments[0], arguments[1]);",
+                        CART_KEY, to.getCart().toString().replace(" ", ""));
+            }
+            driver.get(target.urlFor(baseUrl));
+        }
+
+        @Override
+        public double priorMillis(AppState from, AppState to) {
+            boolean outside = from.getScreen() == Screen.BLANK;
+            int injections = (outside || !Objects.equals(from.getUser(), to.getUser()) ? 1 : 0)
+                    + (outside || !from.getCart().equals(to.getCart()) ? 1 : 0);
+            return NavigationCosts.priorMillis(injections + 1, outside ? 2 : 1);
+        }
+
+        /**
+         * Teleports from outside the app and those that inject state cost more than a plain
+         * load, so each variant is measured on its own.
+         */
+        @Override
+        public String costKey(AppState from, AppState to) {
+            StringJoiner variant = new StringJoiner("+", "[", "]").setEmptyValue("");
+            boolean outside = from.getScreen() == Screen.BLANK;
+            if (outside) {
+                variant.add("origin");
+            }
+            if (outside || !Objects.equals(from.getUser(), to.getUser())) {
+                variant.add("session");
+            }
+            if (outside || !from.getCart().equals(to.getCart())) {
+                variant.add("cart");
+            }
+            return getName() + variant;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.swaglabs.network;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets resources through the active network policy for a test method or class, e.g.
+ * {@code @AllowResources(types = "Image")} for tests that assert on product images.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface AllowResources {
+    /**
+     * CDP resource types, e.g. "Image", "Font", "Stylesheet".
+     */
+    String[] types() default {};
+
+    /**
+     * URL globs, e.g. "*pony-express*".
+     */
+    String[] urls() default {};
+}
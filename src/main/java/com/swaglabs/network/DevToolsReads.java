@@ -0,0 +1,212 @@
+package com.swaglabs.network;
+
+import com.swaglabs.instrumentation.CommandMetrics;
+import com.swaglabs.utils.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Answers read-only page queries (element text and visibility, storage) with a single
+ * Runtime.evaluate over the browser's DevTools websocket, skipping the chromedriver hop that
+ * every WebDriver command takes. Elements must be PageFactory proxies located by css, id,
+ * name, class name, tag name or xpath; the query runs against the top-level document.
+ * <p>
+ * Runtime.evaluate does not wait for a pending navigation the way chromedriver does, so it
+ * may still see the previous document; callers issue a WebDriver command after anything that
+ * can navigate before reading here (see BasePage).
+ * <p>
+ * Every method returns empty when it cannot answer (fast path disabled, no DevTools, an
+ * unsupported locator, or a failed evaluation) and the caller falls back to WebDriver. After
+ * a failed evaluation the fast path stays off for the rest of the session, for every page
+ * object on it. Each answered query is recorded in {@link CommandMetrics} as
+ * devtools.&lt;query&gt;, next to the element.* and driver.* commands it replaces.
+ */
+public class DevToolsReads {
+    private static final Logger logger = LoggerFactory.getLogger(DevToolsReads.class);
+    private static final Json json = new Json();
+    private static final Field HANDLER_LOCATOR = field(LocatingElementHandler.class, "locator");
+    private static final Field LOCATOR_BY = field(DefaultElementLocator.class, "by");
+
+    // Visibility mirrors WebDriver's isDisplayed for the cases the app has: display, visibility,
+    // opacity and a non-empty box. Text is innerText trimmed like getText.
+    private static final String ELEMENT_STATE = "(() => { const el = %s; if (!el) return {visible: false};"
+            + " const r = el.getBoundingClientRect(); const s = getComputedStyle(el);"
+            + " const shown = el.checkVisibility ? el.checkVisibility({checkOpacity: true, checkVisibilityCSS: true})"
+            + " : s.display !== 'none' && s.visibility !== 'hidden' && s.opacity !== '0';"
+            + " const visible = shown && r.width > 0 && r.height > 0;"
+            + " return {visible: visible, text: visible ? el.innerText.trim() : ''}; })()";
+
+    // Sessions whose fast path failed, by undecorated driver; weak so quit sessions drop out
+    private static final Map<WebDriver, Boolean> disabledSessions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WebDriver driver;
+    private final WebDriver session;
+    private final boolean configured;
+    private DevTools devTools;
+
+    public DevToolsReads(WebDriver driver) {
+        this.driver = driver;
+        this.session = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+        this.configured = isEnabled();
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.settings().isDevToolsReadsEnabled();
+    }
+
+    /**
+     * Whether element can be answered here, so callers can pick a path before waiting.
+     */
+    public boolean canRead(WebElement element) {
+        return enabled() && finderFor(element).isPresent();
+    }
+
+    public Optional<ElementState> elementState(WebElement element) {
+        Optional<String> finder = enabled() ? finderFor(element) : Optional.empty();
+        if (!finder.isPresent()) {
+            return Optional.empty();
+        }
+        return evaluate("elementState", String.format(ELEMENT_STATE, finder.get())).map(value -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> state = (Map<String, Object>) value;
+            return new ElementState(Boolean.TRUE.equals(state.get("visible")), (String) state.getOrDefault("text", ""));
+        });
+    }
+
+    /**
+     * Empty when the item is absent as well as when the fast path cannot answer; WebDriver then
+     * gives the definitive answer.
+     */
+    public Optional<String> localStorageItem(String key) {
+        return evaluate("localStorage", "localStorage.getItem(" + json.toJson(key) + ")").map(String::valueOf);
+    }
+
+    private boolean enabled() {
+        return configured && !disabledSessions.containsKey(session);
+    }
+
+    private Optional<Object> evaluate(String query, String expression) {
+        if (!enabled()) {
+            return Optional.empty();
+        }
+        if (devTools == null) {
+            Optional<DevTools> opened = DevToolsSupport.open(driver);
+            if (!opened.isPresent()) {
+                disabledSessions.put(session, Boolean.TRUE);
+                return Optional.empty();
+            }
+            devTools = opened.get();
+        }
+        long start = System.nanoTime();
+        try {
+            Map<String, Object> response = DevToolsSupport.call(devTools, "Runtime.evaluate",
+                    Map.of("expression", expression, "returnByValue", true));
+            if (response.containsKey("exceptionDetails")) {
+                throw new IllegalStateException(String.valueOf(response.get("exceptionDetails")));
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> result = (Map<String, Object>) response.get("result");
+            Object value = result == null ? null : result.get("value");
+            CommandMetrics.recordCommand("devtools." + query, System.nanoTime() - start);
+            return Optional.ofNullable(value);
+        } catch (RuntimeException e) {
+            logger.warn("DevTools read failed, using WebDriver for the rest of the session: {}", e.getMessage());
+            disabledSessions.put(session, Boolean.TRUE);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * JavaScript expression finding the element a PageFactory proxy would locate, or empty when
+     * the element is not a proxy or its locator has no DOM equivalent.
+     */
+    static Optional<String> finderFor(WebElement element) {
+        if (HANDLER_LOCATOR == null || LOCATOR_BY == null || !Proxy.isProxyClass(element.getClass())) {
+            return Optional.empty();
+        }
+        try {
+            InvocationHandler handler = Proxy.getInvocationHandler(element);
+            if (!(handler instanceof LocatingElementHandler)) {
+                return Optional.empty();
+            }
+            ElementLocator locator = (ElementLocator) HANDLER_LOCATOR.get(handler);
+            if (!(locator instanceof DefaultElementLocator)) {
+                return Optional.empty();
+            }
+            Object by = LOCATOR_BY.get(locator);
+            return by instanceof By.Remotable ? finderFor(((By.Remotable) by).getRemoteParameters()) : Optional.empty();
+        } catch (IllegalAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> finderFor(By.Remotable.Parameters parameters) {
+        if (!(parameters.value() instanceof String)) {
+            return Optional.empty();
+        }
+        String value = json.toJson(parameters.value());
+        switch (parameters.using()) {
+            case "css selector":
+                return Optional.of("document.querySelector(" + value + ")");
+            case "id":
+                return Optional.of("document.getElementById(" + value + ")");
+            case "name":
+                return Optional.of("document.getElementsByName(" + value + ")[0]");
+            case "class name":
+                return Optional.of("document.getElementsByClassName(" + value + ")[0]");
+            case "tag name":
+                return Optional.of("document.getElementsByTagName(" + value + ")[0]");
+            case "xpath":
+                return Optional.of("document.evaluate(" + value
+                        + ", document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue");
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static Field field(Class<?> type, String name) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("PageFactory internals changed, DevTools reads disabled: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public static final class ElementState {
+        private final boolean visible;
+        private final String text;
+
+        private ElementState(boolean visible, String text) {
+            this.visible = visible;
+            this.text = text;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.swaglabs.network;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Version-agnostic access to the Chrome DevTools Protocol. Commands and events are sent
+ * by their raw CDP names with map payloads, so we don't depend on a devtools-vNNN module
+ * matching the installed browser.
+ */
+public class DevToolsSupport {
+    private static final Logger logger = LoggerFactory.getLogger(DevToolsSupport.class);
+
+    private DevToolsSupport() {
+    }
+
+    /**
+     * Returns the driver's DevTools connection with a session attached, or empty for
+     * browsers without CDP support (Firefox).
+     */
+    public static Optional<DevTools> open(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            logger.debug("Driver {} does not support DevTools", driver.getClass().getSimpleName());
+            return Optional.empty();
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            return Optional.of(devTools);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to open a DevTools session: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static void send(DevTools devTools, String method, Map<String, Object> params) {
+        devTools.send(new Command<Void>(method, params));
+    }
+
+    public static Map<String, Object> call(DevTools devTools, String method, Map<String, Object> params) {
+        return devTools.send(new Command<Map<String, Object>>(method, params, input -> input.read(Json.MAP_TYPE)));
+    }
+
+    public static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
@@ -0,0 +1,300 @@
+package com.swaglabs.network;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.swaglabs.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Records a Chrome session's network traffic as a streaming HAR file. DevTools Network
+ * events are folded into one entry per request and handed to a {@link HarWriter} when the
+ * request finishes or fails. In-flight requests are capped at har.inflight.max (oldest
+ * evicted) so a page that never finishes its requests cannot grow the heap.
+ */
+public class HarRecorder {
+    private static final Logger logger = LoggerFactory.getLogger(HarRecorder.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ThreadLocal<HarRecorder> current = new ThreadLocal<>();
+
+    private final HarWriter writer;
+    private final Map<String, PendingRequest> inFlight;
+    private volatile boolean active = true;
+
+    private HarRecorder(HarWriter writer, int maxInFlight) {
+        this.writer = writer;
+        this.inFlight = new LinkedHashMap<String, PendingRequest>(64, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PendingRequest> eldest) {
+                return size() > maxInFlight;
+            }
+        };
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.settings().isHarCaptureEnabled();
+    }
+
+    /**
+     * Starts recording the driver's traffic to har.dir/&lt;name&gt;.har and makes it the
+     * current thread's recorder. Returns null when capture is disabled or unsupported.
+     */
+    public static HarRecorder start(WebDriver driver, String name) {
+        stopCurrent();
+        if (!isEnabled()) {
+            return null;
+        }
+        Optional<DevTools> devTools = DevToolsSupport.open(driver);
+        if (devTools.isEmpty()) {
+            logger.warn("HAR capture skipped for {}: browser has no DevTools support", name);
+            return null;
+        }
+
+        Path file = Paths.get(ConfigReader.getProperty("har.dir", "target/har"), name + ".har");
+        HarRecorder recorder;
+        try {
+            recorder = new HarRecorder(
+                    new HarWriter(file, ConfigReader.settings().getHarQueueCapacity()),
+                    ConfigReader.settings().getHarInflightMax());
+        } catch (IOException e) {
+            logger.error("Failed to create HAR file {}", file, e);
+            return null;
+        }
+
+        DevTools session = devTools.get();
+        session.addListener(DevToolsSupport.event("Network.requestWillBeSent"), recorder::onRequest);
+        session.addListener(DevToolsSupport.event("Network.responseReceived"), recorder::onResponse);
+        session.addListener(DevToolsSupport.event("Network.loadingFinished"), recorder::onFinished);
+        session.addListener(DevToolsSupport.event("Network.loadingFailed"), recorder::onFailed);
+        DevToolsSupport.send(session, "Network.enable", Map.of());
+        current.set(recorder);
+        logger.info("Recording HAR to {}", file);
+        return recorder;
+    }
+
+    public static HarRecorder current() {
+        return current.get();
+    }
+
+    /**
+     * Stops the current thread's recorder, if any, and deletes its file unless har.keep.all is
+     * true. Returns the recorder, or null when the thread had none.
+     */
+    public static HarRecorder stopCurrent() {
+        return stopCurrent(false);
+    }
+
+    /**
+     * Stops the current thread's recorder, if any, and returns it. The file is kept complete when
+     * keep or har.keep.all is true and deleted otherwise, so only HARs worth reading pile up.
+     */
+    public static HarRecorder stopCurrent(boolean keep) {
+        HarRecorder recorder = current.get();
+        current.remove();
+        if (recorder != null) {
+            if (keep || ConfigReader.settings().isHarKeepAll()) {
+                recorder.stop();
+            } else {
+                recorder.discard();
+            }
+        }
+        return recorder;
+    }
+
+    public Path getFile() {
+        return writer.getFile();
+    }
+
+    public void stop() {
+        if (!active) {
+            return;
+        }
+        active = false;
+        synchronized (inFlight) {
+            inFlight.clear();
+        }
+        writer.close();
+        logger.info("HAR saved to {} ({} entries, {} dropped)", writer.getFile(),
+                writer.getWritten(), writer.getDropped());
+    }
+
+    /**
+     * Stops recording and deletes the HAR file, for tests that passed within budget.
+     */
+    public void discard() {
+        stop();
+        try {
+            Files.deleteIfExists(writer.getFile());
+        } catch (IOException e) {
+            logger.debug("Failed to delete HAR file {}: {}", writer.getFile(), e.getMessage());
+        }
+    }
+
+    private void onRequest(Map<String, Object> params) {
+        if (!active) {
+            return;
+        }
+        String requestId = String.valueOf(params.get("requestId"));
+        Map<String, Object> redirect = asMap(params.get("redirectResponse"));
+        PendingRequest previous;
+        PendingRequest request = new PendingRequest(asMap(params.get("request")),
+                number(params.get("wallTime")), number(params.get("timestamp")));
+        synchronized (inFlight) {
+            previous = redirect != null ? inFlight.remove(requestId) : null;
+            inFlight.put(requestId, request);
+        }
+        if (previous != null) {
+            previous.response = redirect;
+            emit(previous, number(params.get("timestamp")), number(redirect.get("encodedDataLength")), null);
+        }
+    }
+
+    private void onResponse(Map<String, Object> params) {
+        if (!active) {
+            return;
+        }
+        synchronized (inFlight) {
+            PendingRequest request = inFlight.get(String.valueOf(params.get("requestId")));
+            if (request != null) {
+                request.response = asMap(params.get("response"));
+            }
+        }
+    }
+
+    private void onFinished(Map<String, Object> params) {
+        PendingRequest request = take(params);
+        if (request != null) {
+            emit(request, number(params.get("timestamp")), number(params.get("encodedDataLength")), null);
+        }
+    }
+
+    private void onFailed(Map<String, Object> params) {
+        PendingRequest request = take(params);
+        if (request != null) {
+            emit(request, number(params.get("timestamp")), 0, String.valueOf(params.get("errorText")));
+        }
+    }
+
+    private PendingRequest take(Map<String, Object> params) {
+        if (!active) {
+            return null;
+        }
+        synchronized (inFlight) {
+            return inFlight.remove(String.valueOf(params.get("requestId")));
+        }
+    }
+
+    private void emit(PendingRequest request, double endTimestamp, double transferSize, String error) {
+        Map<String, Object> response = request.response != null ? request.response : Map.of();
+        double totalMs = Math.max(0, (endTimestamp - request.timestamp) * 1000);
+
+        ObjectNode entry = mapper.createObjectNode();
+        entry.put("startedDateTime", Instant.ofEpochMilli((long) (request.wallTime * 1000)).toString());
+        entry.put("time", totalMs);
+
+        ObjectNode req = entry.putObject("request");
+        req.put("method", String.valueOf(request.request.getOrDefault("method", "GET")));
+        req.put("url", String.valueOf(request.request.getOrDefault("url", "")));
+        req.put("httpVersion", String.valueOf(response.getOrDefault("protocol", "")));
+        putHeaders(req.putArray("headers"), asMap(request.request.get("headers")));
+        req.putArray("queryString");
+        req.putArray("cookies");
+        req.put("headersSize", -1);
+        req.put("bodySize", -1);
+
+        ObjectNode res = entry.putObject("response");
+        res.put("status", (int) number(response.get("status")));
+        res.put("statusText", error != null ? error : String.valueOf(response.getOrDefault("statusText", "")));
+        res.put("httpVersion", String.valueOf(response.getOrDefault("protocol", "")));
+        putHeaders(res.putArray("headers"), asMap(response.get("headers")));
+        res.putArray("cookies");
+        ObjectNode content = res.putObject("content");
+        content.put("size", (long) transferSize);
+        content.put("mimeType", String.valueOf(response.getOrDefault("mimeType", "")));
+        res.put("redirectURL", "");
+        res.put("headersSize", -1);
+        res.put("bodySize", (long) transferSize);
+        res.put("_transferSize", (long) transferSize);
+        if (error != null) {
+            res.put("_error", error);
+        }
+
+        entry.putObject("cache");
+        putTimings(entry.putObject("timings"), asMap(response.get("timing")), totalMs);
+        writer.offer(entry);
+    }
+
+    /**
+     * Maps CDP ResourceTiming (offsets from requestTime, -1 when absent) onto HAR phases.
+     */
+    private static void putTimings(ObjectNode timings, Map<String, Object> timing, double totalMs) {
+        if (timing == null) {
+            timings.put("send", 0);
+            timings.put("wait", totalMs);
+            timings.put("receive", 0);
+            return;
+        }
+        double dns = span(timing, "dnsStart", "dnsEnd");
+        double connect = span(timing, "connectStart", "connectEnd");
+        double ssl = span(timing, "sslStart", "sslEnd");
+        double send = span(timing, "sendStart", "sendEnd");
+        double headersEnd = number(timing.get("receiveHeadersEnd"));
+        double wait = Math.max(0, headersEnd - number(timing.get("sendEnd")));
+        timings.put("blocked", Math.max(0, number(timing.get("dnsStart"))));
+        timings.put("dns", dns);
+        timings.put("connect", connect);
+        timings.put("ssl", ssl);
+        timings.put("send", send);
+        timings.put("wait", wait);
+        timings.put("receive", Math.max(0, totalMs - headersEnd));
+    }
+
+    private static double span(Map<String, Object> timing, String start, String end) {
+        double from = number(timing.get(start));
+        double to = number(timing.get(end));
+        return from < 0 || to < 0 ? -1 : to - from;
+    }
+
+    private static void putHeaders(ArrayNode array, Map<String, Object> headers) {
+        if (headers == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> header : headers.entrySet()) {
+            array.addObject().put("name", header.getKey()).put("value", String.valueOf(header.getValue()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : null;
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    private static final class PendingRequest {
+        private final Map<String, Object> request;
+        private final double wallTime;
+        private final double timestamp;
+        private Map<String, Object> response;
+
+        private PendingRequest(Map<String, Object> request, double wallTime, double timestamp) {
+            this.request = request != null ? request : Map.of();
+            this.wallTime = wallTime;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.swaglabs.network;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams HAR entries to disk from a background thread. {@link #offer(ObjectNode)} never
+ * blocks: when the bounded queue is full the entry is dropped and counted, so neither the
+ * test thread nor the DevTools event thread waits on disk I/O and memory stays flat
+ * however long the session runs.
+ */
+public class HarWriter implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(HarWriter.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ObjectNode END = mapper.createObjectNode();
+
+    private final Path file;
+    private final BlockingQueue<ObjectNode> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread thread;
+    private volatile long written;
+    private volatile boolean closed;
+
+    public HarWriter(Path file, int capacity) throws IOException {
+        this.file = file;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        JsonGenerator generator = mapper.getFactory().createGenerator(file.toFile(), JsonEncoding.UTF8);
+        this.thread = new Thread(() -> drain(generator), "har-writer-" + file.getFileName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public boolean offer(ObjectNode entry) {
+        if (closed || !queue.offer(entry)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    /**
+     * Flushes queued entries, closes the HAR document and waits for the writer thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!queue.offer(END, 5, TimeUnit.SECONDS)) {
+                logger.warn("HAR writer for {} did not accept the end marker", file);
+                thread.interrupt();
+            }
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain(JsonGenerator generator) {
+        try (JsonGenerator json = generator) {
+            json.writeStartObject();
+            json.writeObjectFieldStart("log");
+            json.writeStringField("version", "1.2");
+            json.writeObjectFieldStart("creator");
+            json.writeStringField("name", "swaglabs-har-recorder");
+            json.writeStringField("version", "1.0");
+            json.writeEndObject();
+            json.writeArrayFieldStart("pages");
+            json.writeEndArray();
+            json.writeArrayFieldStart("entries");
+            while (true) {
+                ObjectNode entry = queue.take();
+                if (entry == END) {
+                    break;
+                }
+                mapper.writeTree(json, entry);
+                written++;
+                if (queue.isEmpty()) {
+                    json.flush();
+                }
+            }
+            json.writeEndArray();
+            json.writeNumberField("_droppedEntries", dropped.get());
+            json.writeEndObject();
+            json.writeEndObject();
+        } catch (IOException e) {
+            logger.error("Failed to write HAR file {}", file, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("HAR writer for {} interrupted; file is incomplete", file);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.swaglabs.network;
+
+import com.swaglabs.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Emulates network profiles on a Chrome session through DevTools
+ * Network.emulateNetworkConditions. Profiles are defined in config.properties as
+ * {@code network.profile.<name>=latency:<ms>,download:<bytes/s>,upload:<bytes/s>}
+ * and selected per suite or per test with the networkProfile testng.xml parameter.
+ */
+public class NetworkConditions {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkConditions.class);
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> activeProfile = ThreadLocal.withInitial(() -> NONE);
+    private static final ThreadLocal<Map<String, Object>> activeConditions = new ThreadLocal<>();
+
+    private NetworkConditions() {
+    }
+
+    /**
+     * Name of the profile applied to the current thread's driver, for reports.
+     */
+    public static String activeProfileName() {
+        return activeProfile.get();
+    }
+
+    /**
+     * The suite parameter if set, otherwise -Dnetwork.profile or network.profile in config.properties.
+     */
+    public static String resolveProfile(String parameter) {
+        if (parameter != null && !parameter.trim().isEmpty()) {
+            return parameter.trim();
+        }
+        return ConfigReader.getProperty("network.profile", NONE).trim();
+    }
+
+    public static void apply(WebDriver driver, String profile) {
+        activeProfile.set(NONE);
+        activeConditions.remove();
+        if (profile == null || profile.isEmpty() || NONE.equals(profile)) {
+            return;
+        }
+        Map<String, Object> conditions = parseProfile(profile);
+        Optional<DevTools> devTools = DevToolsSupport.open(driver);
+        if (devTools.isEmpty()) {
+            logger.warn("Network profile '{}' skipped: browser has no DevTools support", profile);
+            return;
+        }
+        DevToolsSupport.send(devTools.get(), "Network.enable", Map.of());
+        DevToolsSupport.send(devTools.get(), "Network.emulateNetworkConditions", conditions);
+        activeProfile.set(profile);
+        activeConditions.set(conditions);
+        logger.info("Emulating network profile '{}': {}", profile, conditions);
+    }
+
+    /**
+     * Toggles the connection offline and back while keeping the active profile's latency and
+     * throughput, for tests that exercise the app losing connectivity mid-flow.
+     */
+    public static void setOffline(WebDriver driver, boolean offline) {
+        Optional<DevTools> devTools = DevToolsSupport.open(driver);
+        if (devTools.isEmpty()) {
+            logger.warn("Offline toggle skipped: browser has no DevTools support");
+            return;
+        }
+        Map<String, Object> conditions = new LinkedHashMap<>(
+                activeConditions.get() != null ? activeConditions.get() : unthrottled());
+        conditions.put("offline", offline);
+        DevToolsSupport.send(devTools.get(), "Network.enable", Map.of());
+        DevToolsSupport.send(devTools.get(), "Network.emulateNetworkConditions", conditions);
+        logger.info("Network {} (profile '{}')", offline ? "offline" : "online", activeProfileName());
+    }
+
+    static Map<String, Object> parseProfile(String profile) {
+        String spec = ConfigReader.getProperty("network.profile." + profile, null);
+        if (spec == null) {
+            throw new IllegalArgumentException("Unknown network profile: " + profile);
+        }
+        Map<String, Object> conditions = unthrottled();
+        for (String setting : spec.split(",")) {
+            String[] parts = setting.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid network profile setting '" + setting + "' in " + profile);
+            }
+            long value = Long.parseLong(parts[1].trim());
+            switch (parts[0].trim()) {
+                case "latency":
+                    conditions.put("latency", value);
+                    break;
+                case "download":
+                    conditions.put("downloadThroughput", value);
+                    break;
+                case "upload":
+                    conditions.put("uploadThroughput", value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown network profile setting: " + parts[0]);
+            }
+        }
+        return conditions;
+    }
+
+    private static Map<String, Object> unthrottled() {
+        Map<String, Object> conditions = new LinkedHashMap<>();
+        conditions.put("offline", false);
+        conditions.put("latency", 0);
+        conditions.put("downloadThroughput", -1);
+        conditions.put("uploadThroughput", -1);
+        return conditions;
+    }
+}
@@ -0,0 +1,164 @@
+package com.swaglabs.network;
+
+import com.swaglabs.utils.ConfigReader;
+import com.swaglabs.utils.GlobMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Named set of block and stub rules for browser requests, read from config.properties:
+ * <pre>
+ * network.policy.lean.block=type:Font,*://*.google-analytics.com/*
+ * network.policy.lean.stub=type:Image
+ * </pre>
+ * Entries prefixed with "type:" match a CDP resource type; anything else is a URL glob.
+ * Allow-list entries from {@link AllowResources} win over both.
+ */
+public final class NetworkPolicy {
+    public static final String NONE = "none";
+
+    public enum Action { BLOCK, STUB }
+
+    private final String name;
+    private final List<Rule> rules;
+    private final Set<String> allowedTypes;
+    private final List<Pattern> allowedUrls;
+
+    private NetworkPolicy(String name, List<Rule> rules, Set<String> allowedTypes, List<Pattern> allowedUrls) {
+        this.name = name;
+        this.rules = rules;
+        this.allowedTypes = allowedTypes;
+        this.allowedUrls = allowedUrls;
+    }
+
+    public static NetworkPolicy none() {
+        return new NetworkPolicy(NONE, List.of(), Set.of(), List.of());
+    }
+
+    /**
+     * The policy selected by -Dnetwork.policy (or network.policy in config.properties).
+     */
+    public static NetworkPolicy configured() {
+        return fromConfig(ConfigReader.getProperty("network.policy", NONE));
+    }
+
+    public static NetworkPolicy fromConfig(String name) {
+        if (name == null || name.trim().isEmpty() || NONE.equals(name.trim())) {
+            return none();
+        }
+        String policyName = name.trim();
+        List<Rule> rules = new ArrayList<>();
+        addRules(rules, Action.BLOCK, ConfigReader.getProperty("network.policy." + policyName + ".block", ""));
+        addRules(rules, Action.STUB, ConfigReader.getProperty("network.policy." + policyName + ".stub", ""));
+        if (rules.isEmpty()) {
+            throw new IllegalArgumentException("Network policy '" + policyName + "' has no block or stub rules");
+        }
+        return new NetworkPolicy(policyName, Collections.unmodifiableList(rules), Set.of(), List.of());
+    }
+
+    /**
+     * Returns a copy of this policy that lets the annotated resource types and URLs through.
+     */
+    public NetworkPolicy allowing(AllowResources allow) {
+        if (allow == null || rules.isEmpty()) {
+            return this;
+        }
+        Set<String> types = new HashSet<>(allowedTypes);
+        types.addAll(Arrays.asList(allow.types()));
+        List<Pattern> urls = new ArrayList<>(allowedUrls);
+        for (String glob : allow.urls()) {
+            urls.add(GlobMatcher.compile(glob));
+        }
+        return new NetworkPolicy(name, rules, Collections.unmodifiableSet(types), Collections.unmodifiableList(urls));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    /**
+     * Returns the action for a paused request, or null to let it continue.
+     */
+    public Action decide(String url, String resourceType) {
+        if (allowedTypes.contains(resourceType)) {
+            return null;
+        }
+        for (Pattern allowed : allowedUrls) {
+            if (allowed.matcher(url).matches()) {
+                return null;
+            }
+        }
+        for (Rule rule : rules) {
+            if (rule.matches(url, resourceType)) {
+                return rule.action;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fetch.enable patterns, so only requests a rule could match are paused.
+     */
+    List<Map<String, Object>> fetchPatterns() {
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (Rule rule : rules) {
+            Map<String, Object> pattern = new LinkedHashMap<>();
+            pattern.put("urlPattern", rule.urlGlob != null ? rule.urlGlob : "*");
+            if (rule.resourceType != null) {
+                pattern.put("resourceType", rule.resourceType);
+            }
+            pattern.put("requestStage", "Request");
+            patterns.add(pattern);
+        }
+        return patterns;
+    }
+
+    private static void addRules(List<Rule> rules, Action action, String spec) {
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            rules.add(trimmed.startsWith("type:")
+                    ? new Rule(action, null, trimmed.substring("type:".length()).trim())
+                    : new Rule(action, trimmed, null));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NetworkPolicy{" + name + ", rules=" + rules.size()
+                + ", allowedTypes=" + allowedTypes + ", allowedUrls=" + allowedUrls.size() + "}";
+    }
+
+    private static final class Rule {
+        private final Action action;
+        private final String urlGlob;
+        private final Pattern urlPattern;
+        private final String resourceType;
+
+        private Rule(Action action, String urlGlob, String resourceType) {
+            this.action = action;
+            this.urlGlob = urlGlob;
+            this.urlPattern = urlGlob != null ? GlobMatcher.compile(urlGlob) : null;
+            this.resourceType = resourceType;
+        }
+
+        private boolean matches(String url, String type) {
+            return (resourceType == null || resourceType.equals(type))
+                    && (urlPattern == null || urlPattern.matcher(url).matches());
+        }
+    }
+}
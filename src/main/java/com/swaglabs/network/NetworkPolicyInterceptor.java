@@ -0,0 +1,94 @@
+package com.swaglabs.network;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Applies a {@link NetworkPolicy} to a Chrome session through DevTools Fetch interception.
+ * Only requests matching a rule's pattern are paused; blocked requests fail with
+ * BlockedByClient and stubbed requests are fulfilled locally with an empty body of the
+ * right type (a 1x1 GIF for images) so layout and scripts keep working.
+ */
+public class NetworkPolicyInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkPolicyInterceptor.class);
+    private static final ThreadLocal<String> activePolicy = ThreadLocal.withInitial(() -> NetworkPolicy.NONE);
+    private static final String TRANSPARENT_GIF = "R0lGODlhAQABAIAAAAAAAP///yH5BAEAAAAALAAAAAABAAEAAAIBRAA7";
+
+    private NetworkPolicyInterceptor() {
+    }
+
+    /**
+     * Name of the policy installed on the current thread's driver, for reports.
+     */
+    public static String activePolicyName() {
+        return activePolicy.get();
+    }
+
+    public static void install(WebDriver driver, NetworkPolicy policy) {
+        activePolicy.set(NetworkPolicy.NONE);
+        if (policy.isEmpty()) {
+            return;
+        }
+        Optional<DevTools> devTools = DevToolsSupport.open(driver);
+        if (devTools.isEmpty()) {
+            logger.warn("Network policy '{}' skipped: browser has no DevTools support", policy.getName());
+            return;
+        }
+
+        DevTools session = devTools.get();
+        session.addListener(DevToolsSupport.event("Fetch.requestPaused"), params -> handle(session, policy, params));
+        DevToolsSupport.send(session, "Fetch.enable", Map.of("patterns", policy.fetchPatterns()));
+        activePolicy.set(policy.getName());
+        logger.info("Installed {}", policy);
+    }
+
+    private static void handle(DevTools devTools, NetworkPolicy policy, Map<String, Object> params) {
+        String requestId = String.valueOf(params.get("requestId"));
+        Object request = params.get("request");
+        String url = request instanceof Map ? String.valueOf(((Map<?, ?>) request).get("url")) : "";
+        String resourceType = String.valueOf(params.get("resourceType"));
+        try {
+            NetworkPolicy.Action action = policy.decide(url, resourceType);
+            if (action == NetworkPolicy.Action.BLOCK) {
+                DevToolsSupport.send(devTools, "Fetch.failRequest",
+                        Map.of("requestId", requestId, "errorReason", "BlockedByClient"));
+            } else if (action == NetworkPolicy.Action.STUB) {
+                DevToolsSupport.send(devTools, "Fetch.fulfillRequest", stubResponse(requestId, resourceType));
+            } else {
+                DevToolsSupport.send(devTools, "Fetch.continueRequest", Map.of("requestId", requestId));
+            }
+            NetworkPolicyReport.recordIntercept(policy.getName(), action);
+            logger.debug("{} {} ({})", action != null ? action : "ALLOW", url, resourceType);
+        } catch (RuntimeException e) {
+            // The page may have navigated away or the session closed while the request was paused
+            logger.debug("Failed to resolve paused request {}: {}", url, e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> stubResponse(String requestId, String resourceType) {
+        switch (resourceType) {
+            case "Image":
+                return fulfill(requestId, 200, "image/gif", TRANSPARENT_GIF);
+            case "Script":
+                return fulfill(requestId, 200, "application/javascript", "");
+            case "Stylesheet":
+                return fulfill(requestId, 200, "text/css", "");
+            default:
+                return Map.of("requestId", requestId, "responseCode", 204);
+        }
+    }
+
+    private static Map<String, Object> fulfill(String requestId, int status, String contentType, String base64Body) {
+        return Map.of(
+                "requestId", requestId,
+                "responseCode", status,
+                "responseHeaders", List.of(Map.of("name", "Content-Type", "value", contentType)),
+                "body", base64Body);
+    }
+}
@@ -0,0 +1,91 @@
+package com.swaglabs.network;
+
+import com.swaglabs.instrumentation.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Page-load time and bytes transferred per page object, grouped by the network policy that
+ * was active. Rows are appended to one CSV so a run with -Dnetwork.policy=lean can be
+ * compared against a run without a policy.
+ */
+public class NetworkPolicyReport {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkPolicyReport.class);
+    private static final String HEADER = "timestamp,policy,page,samples,load_p50_ms,load_p95_ms,"
+            + "mean_transfer_bytes,blocked_requests,stubbed_requests\n";
+
+    private static final ConcurrentMap<String, LatencyHistogram> loadTimes = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongAdder> transferBytes = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongAdder> blocked = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongAdder> stubbed = new ConcurrentHashMap<>();
+
+    private NetworkPolicyReport() {
+    }
+
+    public static void recordPageLoad(String policy, String page, double loadEventMs, long bytes) {
+        String key = policy + "," + page;
+        loadTimes.computeIfAbsent(key, k -> new LatencyHistogram()).recordNanos((long) (loadEventMs * 1_000_000));
+        transferBytes.computeIfAbsent(key, k -> new LongAdder()).add(bytes);
+    }
+
+    static void recordIntercept(String policy, NetworkPolicy.Action action) {
+        if (action == NetworkPolicy.Action.BLOCK) {
+            blocked.computeIfAbsent(policy, k -> new LongAdder()).increment();
+        } else if (action == NetworkPolicy.Action.STUB) {
+            stubbed.computeIfAbsent(policy, k -> new LongAdder()).increment();
+        }
+    }
+
+    public static void reset() {
+        loadTimes.clear();
+        transferBytes.clear();
+        blocked.clear();
+        stubbed.clear();
+    }
+
+    public static void appendReport(Path file) {
+        if (loadTimes.isEmpty()) {
+            return;
+        }
+        StringBuilder rows = new StringBuilder();
+        String timestamp = Instant.now().toString();
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(loadTimes).entrySet()) {
+            String policy = entry.getKey().substring(0, entry.getKey().indexOf(','));
+            LatencyHistogram histogram = entry.getValue();
+            long samples = histogram.getCount();
+            rows.append(String.format(Locale.ROOT, "%s,%s,%d,%.1f,%.1f,%d,%d,%d%n",
+                    timestamp, entry.getKey(), samples,
+                    histogram.getPercentileMillis(50), histogram.getPercentileMillis(95),
+                    samples == 0 ? 0 : sum(transferBytes, entry.getKey()) / samples,
+                    sum(blocked, policy), sum(stubbed, policy)));
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            if (Files.notExists(file)) {
+                Files.writeString(file, HEADER, StandardCharsets.UTF_8);
+            }
+            Files.writeString(file, rows.toString(), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            logger.info("Network policy page-load comparison appended to {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to write network policy report to {}", file, e);
+        }
+    }
+
+    private static long sum(ConcurrentMap<String, LongAdder> counters, String key) {
+        LongAdder adder = counters.get(key);
+        return adder != null ? adder.sum() : 0;
+    }
+}
@@ -1,26 +1,54 @@
 package com.swaglabs.pages;
 
+import com.swaglabs.instrumentation.PagePerformance;
+import com.swaglabs.instrumentation.StepTracker;
+import com.swaglabs.instrumentation.WaitMetrics;
+import com.swaglabs.instrumentation.jfr.WaitIterationEvent;
+import com.swaglabs.network.DevToolsReads;
+import com.swaglabs.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
 public class BasePage {
     private static final Logger logger = LoggerFactory.getLogger(BasePage.class);
     protected WebDriver driver;
     protected WebDriverWait wait;
+    private final DevToolsReads devToolsReads;
+    // False until a WebDriver command has waited out navigation since the last click
+    private boolean documentSettled;
 
     public BasePage(WebDriver driver, WebDriverWait wait) {
         this.driver = driver;
         this.wait = wait;
+        this.devToolsReads = new DevToolsReads(driver);
+    }
+
+    /**
+     * Captures this page's performance metrics and checks them against its budgets; call once
+     * the page is known to have loaded. Returns no metrics when perf.capture.enabled is false.
+     */
+    public Map<String, Object> capturePerformance() {
+        if (!PagePerformance.isEnabled()) {
+            return Map.of();
+        }
+        return PagePerformance.capture(driver, getClass().getSimpleName());
     }
 
     protected void clickElement(WebElement element) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(element));
+            waitUntil(ExpectedConditions.elementToBeClickable(element));
             element.click();
+            documentSettled = false;
             logger.debug("Clicked element: {}", element);
         } catch (Exception e) {
             logger.error("Failed to click element: {}", element, e);
@@ -30,7 +58,7 @@ public class BasePage {
 
     protected void clearAndType(WebElement element, String text) {
         try {
-            wait.until(ExpectedConditions.visibilityOf(element));
+            waitUntil(ExpectedConditions.visibilityOf(element));
             element.clear();
             element.sendKeys(text);
             logger.debug("Typed '{}' into element: {}", text, element);
@@ -42,8 +70,14 @@ public class BasePage {
 
     protected String getElementText(WebElement element) {
         try {
-            wait.until(ExpectedConditions.visibilityOf(element));
-            String text = element.getText();
+            String text;
+            if (devToolsReads.canRead(element)) {
+                settleDocument();
+                text = waitUntil(visibleText(element, true));
+            } else {
+                waitUntil(ExpectedConditions.visibilityOf(element));
+                text = element.getText();
+            }
             logger.debug("Got text '{}' from element: {}", text, element);
             return text;
         } catch (Exception e) {
@@ -54,8 +88,14 @@ public class BasePage {
 
     protected boolean isElementDisplayed(WebElement element) {
         try {
-            wait.until(ExpectedConditions.visibilityOf(element));
-            boolean isDisplayed = element.isDisplayed();
+            boolean isDisplayed;
+            if (devToolsReads.canRead(element)) {
+                settleDocument();
+                isDisplayed = waitUntil(visibleText(element, false)) != null;
+            } else {
+                waitUntil(ExpectedConditions.visibilityOf(element));
+                isDisplayed = element.isDisplayed();
+            }
             logger.debug("Element displayed: {} - {}", isDisplayed, element);
             return isDisplayed;
         } catch (Exception e) {
@@ -64,9 +104,47 @@ public class BasePage {
         }
     }
 
+    /**
+     * DevTools reads do not wait for a pending navigation, so before the first one on a new page
+     * object, and after each click, one WebDriver command lets chromedriver wait it out; otherwise
+     * a title shared by two pages could be read from the document being left.
+     */
+    private void settleDocument() {
+        if (!documentSettled) {
+            driver.getCurrentUrl();
+            documentSettled = true;
+        }
+    }
+
+    /**
+     * Waits until element is visible and returns its text, or "" when readText is false. Each
+     * poll is one DevTools evaluation; if the fast path drops out mid-wait the poll falls back
+     * to WebDriver's visibility check.
+     */
+    private ExpectedCondition<String> visibleText(WebElement element, boolean readText) {
+        return new ExpectedCondition<String>() {
+            @Override
+            public String apply(WebDriver webDriver) {
+                Optional<DevToolsReads.ElementState> state = devToolsReads.elementState(element);
+                if (state.isPresent()) {
+                    return state.get().isVisible() ? (readText ? state.get().getText() : "") : null;
+                }
+                if (ExpectedConditions.visibilityOf(element).apply(webDriver) == null) {
+                    return null;
+                }
+                return readText ? element.getText() : "";
+            }
+
+            @Override
+            public String toString() {
+                return "visibility of " + element;
+            }
+        };
+    }
+
     protected void waitForElementToBeVisible(WebElement element) {
         try {
-            wait.until(ExpectedConditions.visibilityOf(element));
+            waitUntil(ExpectedConditions.visibilityOf(element));
             logger.debug("Element is now visible: {}", element);
         } catch (Exception e) {
             logger.error("Element did not become visible: {}", element, e);
@@ -76,7 +154,7 @@ public class BasePage {
 
     protected void waitForElementToBeClickable(WebElement element) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(element));
+            waitUntil(ExpectedConditions.elementToBeClickable(element));
             logger.debug("Element is now clickable: {}", element);
         } catch (Exception e) {
             logger.error("Element did not become clickable: {}", element, e);
@@ -84,12 +162,88 @@ public class BasePage {
         }
     }
 
+    protected <T> T waitUntil(ExpectedCondition<T> condition) {
+        return waitUntil(wait, condition);
+    }
+
+    /**
+     * Waits with its own timeout but the suite's polling interval, for checks that should give
+     * up sooner than the default explicit wait.
+     */
+    protected <T> T waitUntil(ExpectedCondition<T> condition, Duration timeout) {
+        return waitUntil(new WebDriverWait(driver, timeout, pollingInterval()), condition);
+    }
+
+    /**
+     * Polling interval for explicit waits (timeout.polling.ms). WebDriverWait's default of
+     * 500 ms is up to half a second of sleeping after a condition has already passed.
+     */
+    public static Duration pollingInterval() {
+        return ConfigReader.settings().getPollingInterval();
+    }
+
+    private <T> T waitUntil(WebDriverWait webDriverWait, ExpectedCondition<T> condition) {
+        long startNanos = System.nanoTime();
+        long[] lastMissNanos = {startNanos};
+        long[] hitStartNanos = {-1};
+        int[] polls = {0};
+        boolean satisfied = false;
+        try {
+            T value = webDriverWait.until(new ExpectedCondition<T>() {
+                @Override
+                public T apply(WebDriver webDriver) {
+                    WaitIterationEvent event = new WaitIterationEvent();
+                    event.begin();
+                    long probeStart = System.nanoTime();
+                    T result = null;
+                    try {
+                        result = condition.apply(webDriver);
+                        return result;
+                    } finally {
+                        event.end();
+                        polls[0]++;
+                        boolean passed = result != null && !Boolean.FALSE.equals(result);
+                        if (passed) {
+                            hitStartNanos[0] = probeStart;
+                        } else {
+                            lastMissNanos[0] = System.nanoTime();
+                        }
+                        if (event.shouldCommit()) {
+                            event.condition = condition.toString();
+                            event.satisfied = passed;
+                            event.commit();
+                        }
+                    }
+                }
+
+                @Override
+                public String toString() {
+                    return condition.toString();
+                }
+            });
+            satisfied = true;
+            return value;
+        } finally {
+            long pollGapNanos = polls[0] > 1 && hitStartNanos[0] > 0 ? hitStartNanos[0] - lastMissNanos[0] : 0;
+            WaitMetrics.record(StepTracker.currentMethod(), System.nanoTime() - startNanos,
+                    polls[0], pollGapNanos, satisfied);
+        }
+    }
+
     public String getCurrentUrl() {
+        // Through WebDriver, which waits for a pending navigation to finish
         String url = driver.getCurrentUrl();
         logger.debug("Current URL: {}", url);
         return url;
     }
 
+    public String getLocalStorageItem(String key) {
+        String value = devToolsReads.localStorageItem(key).orElseGet(() -> (String) ((JavascriptExecutor) driver)
+                .executeScript("return localStorage.getItem(arguments[0]);", key));
+        logger.debug("localStorage {}: {}", key, value);
+        return value;
+    }
+
     public String getPageTitle() {
         String title = driver.getTitle();
         logger.debug("Page title: {}", title);
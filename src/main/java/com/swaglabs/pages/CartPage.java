@@ -24,6 +24,12 @@ public class CartPage extends BasePage {
     @FindBy(css = "[data-test='continue-shopping']")
     private WebElement continueShoppingButton;
 
+    @FindBy(css = "[data-test='remove-sauce-labs-backpack']")
+    private WebElement removeBackpackButton;
+
+    @FindBy(css = "[data-test='remove-sauce-labs-bike-light']")
+    private WebElement removeBikeLightButton;
+
     @FindBy(css = "[data-test='cart-quantity-label']")
     private WebElement quantityLabel;
 
@@ -89,6 +95,20 @@ public class CartPage extends BasePage {
         return true;
     }
 
+    @Step("Remove Sauce Labs Backpack from cart")
+    public CartPage removeBackpackFromCart() {
+        logger.info("Removing Sauce Labs Backpack from cart");
+        clickElement(removeBackpackButton);
+        return this;
+    }
+
+    @Step("Remove Sauce Labs Bike Light from cart")
+    public CartPage removeBikeLightFromCart() {
+        logger.info("Removing Sauce Labs Bike Light from cart");
+        clickElement(removeBikeLightButton);
+        return this;
+    }
+
     @Step("Click checkout button")
     public CheckoutStepOnePage clickCheckoutButton() {
         logger.info("Clicking checkout button");
@@ -1,19 +1,41 @@
 package com.swaglabs.pages;
 
+import com.swaglabs.utils.ConfigReader;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.List;
 
 public class CheckoutStepOnePage extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(CheckoutStepOnePage.class);
+    // Checked with a script rather than findElement so the implicit wait never blocks a poll
+    private static final String ERROR_VISIBLE_SCRIPT =
+            "var e = document.querySelector(\"[data-test='error'], .error-message-container .error\");"
+                    + " return e !== null && e.offsetParent !== null;";
+    // Dismisses the last error with the app's own close button, so continueSettled cannot see a
+    // stale one, then sets the fields through the native value setter (React tracks that) and submits
+    private static final String SUBMIT_IN_PLACE_SCRIPT =
+            "var close = document.querySelector(\"[data-test='error-button']\"); if (close) { close.click(); }"
+                    + " var values = arguments;"
+                    + " var setValue = Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set;"
+                    + " ['firstName', 'lastName', 'postalCode'].forEach(function (name, i) {"
+                    + " var input = document.querySelector(\"[data-test='\" + name + \"']\");"
+                    + " setValue.call(input, values[i]); input.dispatchEvent(new Event('input', {bubbles: true})); });"
+                    + " document.querySelector(\"[data-test='continue']\").click();";
+    private static final String ERROR_TEXT_SCRIPT =
+            "var e = document.querySelector(\"[data-test='error'], .error-message-container .error\");"
+                    + " return e !== null && e.offsetParent !== null ? e.textContent.trim() : '';";
 
     @FindBy(css = "[data-test='title']")
     private WebElement pageTitle;
@@ -96,16 +118,39 @@ public class CheckoutStepOnePage extends BasePage {
         logger.info("Clicking continue button");
         clickElement(continueButton);
 
-        // Wait a moment for potential error messages or navigation
+        // Return as soon as the app either navigates to step two or shows a validation error
         try {
-            Thread.sleep(1500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            waitUntil(continueSettled(), continueTimeout());
+        } catch (TimeoutException e) {
+            logger.warn("Neither checkout step two nor a validation error appeared after continue");
         }
 
         return new CheckoutStepTwoPage(driver, wait);
     }
 
+    /**
+     * Fills the form and submits it without typing or re-finding anything, so rejected input can
+     * be resubmitted in place many times a second. Values go in through the native setter, which
+     * also gets characters ChromeDriver cannot type (outside the BMP) into the fields. Returns the
+     * validation error shown, null when the app moved on to step two, or "" when it did neither
+     * within checkout.continue.timeout.ms. No Allure step, since fuzzing calls it thousands of
+     * times per test.
+     */
+    public String submitInPlace(String firstName, String lastName, String postalCode) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        js.executeScript(SUBMIT_IN_PLACE_SCRIPT, firstName, lastName, postalCode);
+        try {
+            waitUntil(continueSettled(), continueTimeout());
+        } catch (TimeoutException e) {
+            logger.warn("Neither checkout step two nor a validation error appeared after continue");
+            return "";
+        }
+        if (driver.getCurrentUrl().contains("checkout-step-two.html")) {
+            return null;
+        }
+        return (String) js.executeScript(ERROR_TEXT_SCRIPT);
+    }
+
     @Step("Click cancel button")
     public CartPage clickCancelButton() {
         logger.info("Clicking cancel button");
@@ -124,13 +169,16 @@ public class CheckoutStepOnePage extends BasePage {
 
     @Step("Verify error message is displayed")
     public boolean isErrorMessageDisplayed() {
+        // Give a pending error up to checkout.error.wait.ms to render, returning as soon as it does
         try {
-            // Wait a moment for error to appear
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            waitUntil(errorVisible(), ConfigReader.settings().getCheckoutErrorWait());
+        } catch (TimeoutException e) {
+            logger.debug("No checkout error rendered within the error wait");
         }
+        return isErrorMessageDisplayedNow();
+    }
 
+    private boolean isErrorMessageDisplayedNow() {
         // Check multiple possible error message locations
         boolean standardErrorDisplayed = false;
         boolean containerErrorDisplayed = false;
@@ -397,19 +445,46 @@ public class CheckoutStepOnePage extends BasePage {
 
     @Step("Wait for error message to appear")
     public boolean waitForErrorMessage() {
+        // Wait up to 5 seconds for error message to appear
         try {
-            // Wait up to 5 seconds for error message to appear
-            for (int i = 0; i < 10; i++) {
-                if (isErrorMessageDisplayed()) {
-                    return true;
-                }
-                Thread.sleep(500);
-            }
-            return false;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.error("Thread interrupted while waiting for error message");
-            return false;
+            return waitUntil(errorVisible(), Duration.ofSeconds(5));
+        } catch (TimeoutException e) {
+            logger.debug("Error message did not appear within 5 seconds");
         }
+        // The wait only sees the standard locations; look once more without waiting again
+        return isErrorMessageDisplayedNow();
+    }
+
+    private static ExpectedCondition<Boolean> errorVisible() {
+        return new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver webDriver) {
+                return Boolean.TRUE.equals(((JavascriptExecutor) webDriver).executeScript(ERROR_VISIBLE_SCRIPT));
+            }
+
+            @Override
+            public String toString() {
+                return "checkout error to be visible";
+            }
+        };
+    }
+
+    private static ExpectedCondition<Boolean> continueSettled() {
+        ExpectedCondition<Boolean> errorVisible = errorVisible();
+        return new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver webDriver) {
+                return webDriver.getCurrentUrl().contains("checkout-step-two.html") || errorVisible.apply(webDriver);
+            }
+
+            @Override
+            public String toString() {
+                return "checkout step two or a checkout error";
+            }
+        };
+    }
+
+    private static Duration continueTimeout() {
+        return ConfigReader.settings().getCheckoutContinueTimeout();
     }
 }
\ No newline at end of file
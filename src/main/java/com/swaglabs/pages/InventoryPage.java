@@ -78,6 +78,20 @@ public class InventoryPage extends BasePage {
         return this;
     }
 
+    @Step("Remove Sauce Labs Backpack from cart")
+    public InventoryPage removeBackpackFromCart() {
+        logger.info("Removing Sauce Labs Backpack from cart");
+        clickElement(removeBackpackButton);
+        return this;
+    }
+
+    @Step("Remove Sauce Labs Bike Light from cart")
+    public InventoryPage removeBikeLightFromCart() {
+        logger.info("Removing Sauce Labs Bike Light from cart");
+        clickElement(removeBikeLightButton);
+        return this;
+    }
+
     @Step("Verify backpack is added to cart")
     public boolean isBackpackAddedToCart() {
         boolean isAdded = isElementDisplayed(removeBackpackButton);
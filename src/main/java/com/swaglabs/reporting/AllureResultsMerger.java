@@ -0,0 +1,436 @@
+package com.swaglabs.reporting;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.swaglabs.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Merges allure-results directories written by parallel shards into one directory for
+ * {@code allure generate}. Every file is streamed: attachments are copied byte for byte and
+ * result/container JSON is rewritten token by token, so memory depends on the number of id
+ * collisions, not on the number or size of results.
+ * <ul>
+ *   <li>result, container and attachment files whose name already exists in the output get a
+ *   fresh UUID, and the uuid, children and source references to them are rewritten</li>
+ *   <li>history/history.json is the union of all sources keyed by historyId (the previous
+ *   report's history first), the trend files are taken from the first source that has them</li>
+ *   <li>environment.properties keeps the first value of every key; other files are copied once</li>
+ * </ul>
+ * Usage: AllureResultsMerger [--history previousReport/history] [--clean] output shardDir...
+ */
+public class AllureResultsMerger {
+    private static final Logger logger = LoggerFactory.getLogger(AllureResultsMerger.class);
+    private static final JsonFactory json = new JsonFactory();
+    private static final String RESULT_SUFFIX = "-result.json";
+    private static final String CONTAINER_SUFFIX = "-container.json";
+    private static final String ATTACHMENT_MARKER = "-attachment";
+    private static final String HISTORY_DIR = "history";
+    private static final String HISTORY_FILE = "history.json";
+    private static final String ENVIRONMENT_FILE = "environment.properties";
+    private static final int IN_FLIGHT_FILES = 256;
+
+    private final Path output;
+    private final int threads;
+
+    public AllureResultsMerger(Path output, int threads) {
+        this.output = output;
+        this.threads = Math.max(1, threads);
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<Path> history = new ArrayList<>();
+        List<Path> shards = new ArrayList<>();
+        boolean clean = false;
+        Path output = null;
+        for (int i = 0; i < args.length; i++) {
+            if ("--history".equals(args[i]) && i + 1 < args.length) {
+                history.add(Paths.get(args[++i]));
+            } else if ("--clean".equals(args[i])) {
+                clean = true;
+            } else if (output == null) {
+                output = Paths.get(args[i]);
+            } else {
+                shards.add(Paths.get(args[i]));
+            }
+        }
+        if (output == null || shards.isEmpty()) {
+            System.err.println("Usage: AllureResultsMerger [--history dir] [--clean] output shardDir...");
+            System.exit(2);
+        }
+
+        int threads = ConfigReader.settings().getAllureMergeThreads();
+        AllureResultsMerger merger = new AllureResultsMerger(output,
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+        if (clean) {
+            merger.clean();
+        }
+        Stats stats = merger.merge(shards, history);
+        System.out.println(stats);
+    }
+
+    /**
+     * Deletes the result, container and attachment files, history and environment.properties left
+     * in the output by an earlier run. Anything else there (categories.json, executor.json, files
+     * of other tools) is kept.
+     */
+    public void clean() throws IOException {
+        if (Files.notExists(output)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(output)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (Files.isDirectory(file)) {
+                    if (HISTORY_DIR.equals(name)) {
+                        deleteDirectory(file);
+                    }
+                } else if (name.endsWith(RESULT_SUFFIX) || name.endsWith(CONTAINER_SUFFIX)
+                        || (name.contains(ATTACHMENT_MARKER) && idOf(name) != null) || ENVIRONMENT_FILE.equals(name)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    public Stats merge(List<Path> shards, List<Path> historySources) throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(output);
+        Stats total = new Stats("total");
+
+        List<Path> histories = new ArrayList<>(historySources);
+        for (Path shard : shards) {
+            if (!Files.isDirectory(shard)) {
+                logger.warn("Skipping missing allure-results directory {}", shard);
+                continue;
+            }
+            Stats stats = mergeShard(shard);
+            logger.info("{}", stats);
+            total.add(stats);
+            histories.add(shard.resolve(HISTORY_DIR));
+        }
+        mergeHistory(histories);
+
+        total.nanos = System.nanoTime() - start;
+        logger.info("{}", total);
+        return total;
+    }
+
+    private Stats mergeShard(Path shard) throws IOException {
+        long start = System.nanoTime();
+        Stats stats = new Stats(shard.toString());
+
+        // Decide renames up front from names alone; shards are merged one at a time so nothing
+        // else writes to the output between this check and the copy below
+        Map<String, String> renamedIds = new HashMap<>();
+        Map<String, String> renamedSources = new HashMap<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(shard)) {
+            for (Path file : entries) {
+                if (Files.isDirectory(file)) {
+                    continue;
+                }
+                String name = file.getFileName().toString();
+                if (Files.notExists(output.resolve(name))) {
+                    continue;
+                }
+                String id = idOf(name);
+                if (id == null) {
+                    continue;
+                }
+                String fresh = UUID.randomUUID().toString();
+                if (name.contains(ATTACHMENT_MARKER)) {
+                    renamedSources.put(name, fresh + name.substring(id.length()));
+                } else {
+                    renamedIds.put(id, fresh);
+                }
+            }
+        }
+
+        // At most IN_FLIGHT_FILES files are queued at once, however many the shard holds
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        Semaphore inFlight = new Semaphore(IN_FLIGHT_FILES);
+        AtomicReference<IOException> failure = new AtomicReference<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(shard, file -> !Files.isDirectory(file))) {
+            for (Path file : entries) {
+                if (failure.get() != null) {
+                    break;
+                }
+                inFlight.acquireUninterruptibly();
+                pool.execute(() -> {
+                    try {
+                        mergeFile(file, renamedIds, renamedSources, stats);
+                    } catch (IOException e) {
+                        failure.compareAndSet(null, new IOException("Failed to merge " + file, e));
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+            try {
+                pool.awaitTermination(1, TimeUnit.HOURS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pool.shutdownNow();
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        stats.renamed.addAndGet(renamedIds.size() + renamedSources.size());
+        stats.nanos = System.nanoTime() - start;
+        return stats;
+    }
+
+    private void mergeFile(Path file, Map<String, String> renamedIds, Map<String, String> renamedSources,
+                           Stats stats) throws IOException {
+        String name = file.getFileName().toString();
+        long size = Files.size(file);
+        if (name.endsWith(RESULT_SUFFIX) || name.endsWith(CONTAINER_SUFFIX)) {
+            String id = idOf(name);
+            String target = renamedIds.containsKey(id) ? renamedIds.get(id) + name.substring(id.length()) : name;
+            rewriteJson(file, output.resolve(target), renamedIds, renamedSources);
+            (name.endsWith(RESULT_SUFFIX) ? stats.results : stats.containers).incrementAndGet();
+        } else if (name.contains(ATTACHMENT_MARKER) && idOf(name) != null) {
+            Files.copy(file, output.resolve(renamedSources.getOrDefault(name, name)));
+            stats.attachments.incrementAndGet();
+        } else if (ENVIRONMENT_FILE.equals(name)) {
+            synchronized (this) {
+                mergeEnvironment(file);
+            }
+        } else {
+            try {
+                Files.copy(file, output.resolve(name));
+            } catch (FileAlreadyExistsException e) {
+                logger.debug("Keeping existing {} from an earlier shard", name);
+            }
+        }
+        stats.bytes.addAndGet(size);
+    }
+
+    /**
+     * Copies a result or container token by token, replacing its own uuid, the children it
+     * lists and the attachment sources it references when they were renamed.
+     */
+    private static void rewriteJson(Path source, Path target, Map<String, String> renamedIds,
+                                    Map<String, String> renamedSources) throws IOException {
+        try (JsonParser parser = json.createParser(source.toFile());
+             OutputStream out = Files.newOutputStream(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+             JsonGenerator generator = json.createGenerator(out, JsonEncoding.UTF8)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.VALUE_STRING && !(renamedIds.isEmpty() && renamedSources.isEmpty())) {
+                    String replacement = replacement(parser, renamedIds, renamedSources);
+                    if (replacement != null) {
+                        generator.writeString(replacement);
+                        continue;
+                    }
+                }
+                generator.copyCurrentEvent(parser);
+            }
+        }
+    }
+
+    private static String replacement(JsonParser parser, Map<String, String> renamedIds,
+                                      Map<String, String> renamedSources) throws IOException {
+        JsonStreamContext context = parser.getParsingContext();
+        String field = context.getCurrentName();
+        if (context.inObject() && "uuid".equals(field) && context.getParent().inRoot()) {
+            return renamedIds.get(parser.getText());
+        }
+        if (context.inObject() && "source".equals(field)) {
+            return renamedSources.get(parser.getText());
+        }
+        if (context.inArray() && "children".equals(context.getParent().getCurrentName())) {
+            return renamedIds.get(parser.getText());
+        }
+        return null;
+    }
+
+    private void mergeEnvironment(Path file) throws IOException {
+        Path target = output.resolve(ENVIRONMENT_FILE);
+        Set<String> keys = new HashSet<>();
+        if (Files.exists(target)) {
+            try (BufferedReader reader = Files.newBufferedReader(target, StandardCharsets.UTF_8)) {
+                reader.lines().map(AllureResultsMerger::propertyKey).forEach(keys::add);
+            }
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String key = propertyKey(line);
+                if (key != null && keys.add(key)) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private static String propertyKey(String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+            return null;
+        }
+        int separator = trimmed.indexOf('=');
+        return separator < 0 ? trimmed : trimmed.substring(0, separator).trim();
+    }
+
+    private void mergeHistory(List<Path> sources) throws IOException {
+        Path target = output.resolve(HISTORY_DIR);
+        List<Path> historyFiles = new ArrayList<>();
+        for (Path source : sources) {
+            if (!Files.isDirectory(source)) {
+                continue;
+            }
+            Files.createDirectories(target);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(source)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    if (HISTORY_FILE.equals(name)) {
+                        historyFiles.add(file);
+                    } else if (Files.notExists(target.resolve(name))) {
+                        Files.copy(file, target.resolve(name));
+                    }
+                }
+            }
+        }
+        if (historyFiles.isEmpty()) {
+            return;
+        }
+
+        // Union keyed by historyId; earlier sources win, so the previous report's entries are kept
+        Set<String> historyIds = new HashSet<>();
+        try (JsonGenerator generator = json.createGenerator(target.resolve(HISTORY_FILE).toFile(), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            for (Path file : historyFiles) {
+                try (JsonParser parser = json.createParser(file.toFile())) {
+                    if (parser.nextToken() != JsonToken.START_OBJECT) {
+                        logger.warn("Ignoring {}: not a history object", file);
+                        continue;
+                    }
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String historyId = parser.getCurrentName();
+                        parser.nextToken();
+                        if (historyIds.add(historyId)) {
+                            generator.writeFieldName(historyId);
+                            generator.copyCurrentStructure(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            }
+            generator.writeEndObject();
+        }
+        logger.info("Merged history for {} tests from {} sources", historyIds.size(), historyFiles.size());
+    }
+
+    /**
+     * UUID prefix of an allure results file name, or null when the name does not start with one.
+     */
+    static String idOf(String name) {
+        if (name.length() < 36) {
+            return null;
+        }
+        String candidate = name.substring(0, 36);
+        try {
+            UUID.fromString(candidate);
+            return candidate;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (Files.isDirectory(file)) {
+                    deleteDirectory(file);
+                } else {
+                    Files.delete(file);
+                }
+            }
+        }
+        Files.delete(directory);
+    }
+
+    public static class Stats {
+        private final String source;
+        private final AtomicLong results = new AtomicLong();
+        private final AtomicLong containers = new AtomicLong();
+        private final AtomicLong attachments = new AtomicLong();
+        private final AtomicLong renamed = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private volatile long nanos;
+
+        private Stats(String source) {
+            this.source = source;
+        }
+
+        private void add(Stats other) {
+            results.addAndGet(other.results.get());
+            containers.addAndGet(other.containers.get());
+            attachments.addAndGet(other.attachments.get());
+            renamed.addAndGet(other.renamed.get());
+            bytes.addAndGet(other.bytes.get());
+        }
+
+        public long getResults() {
+            return results.get();
+        }
+
+        public long getRenamed() {
+            return renamed.get();
+        }
+
+        public long getMillis() {
+            return nanos / 1_000_000;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = Math.max(nanos, 1) / 1e9;
+            return String.format(Locale.ROOT,
+                    "Merged %s: %d results, %d containers, %d attachments, %d renamed, %.1f MB in %d ms (%.0f files/s)",
+                    source, results.get(), containers.get(), attachments.get(), renamed.get(),
+                    bytes.get() / 1048576.0, getMillis(),
+                    (results.get() + containers.get() + attachments.get()) / seconds);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.swaglabs.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Historical wall time per test method ("com.swaglabs.tests.Class#method"), kept as a CSV file.
+ * A run's measurements are folded in with an exponentially weighted moving average so one slow
+ * run does not reshuffle every shard. Shards finishing at the same time merge under a file
+ * lock and replace the file atomically, so concurrent containers sharing a volume do not lose
+ * each other's updates.
+ */
+public class DurationHistory {
+    private static final Logger logger = LoggerFactory.getLogger(DurationHistory.class);
+    private static final String HEADER = "method,duration_ms,runs";
+
+    private final Map<String, Entry> entries;
+
+    private DurationHistory(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Reads the history, or returns an empty one when the file does not exist yet.
+     */
+    public static DurationHistory load(Path file) {
+        Map<String, Entry> entries = new TreeMap<>();
+        if (Files.exists(file)) {
+            try {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    if (line.isEmpty() || line.equals(HEADER)) {
+                        continue;
+                    }
+                    String[] fields = line.split(",");
+                    if (fields.length != 3) {
+                        logger.warn("Skipping malformed duration history line in {}: {}", file, line);
+                        continue;
+                    }
+                    entries.put(fields[0], new Entry(Double.parseDouble(fields[1]), Integer.parseInt(fields[2])));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read duration history " + file, e);
+            }
+        }
+        return new DurationHistory(entries);
+    }
+
+    /**
+     * Historical duration of the method in milliseconds, or -1 when it has never run.
+     */
+    public double getDurationMillis(String method) {
+        Entry entry = entries.get(method);
+        return entry != null ? entry.durationMs : -1;
+    }
+
+    /**
+     * Median of all known durations, used as the estimate for methods without history.
+     */
+    public double getMedianMillis(double fallback) {
+        if (entries.isEmpty()) {
+            return fallback;
+        }
+        List<Double> durations = new ArrayList<>();
+        entries.values().forEach(entry -> durations.add(entry.durationMs));
+        Collections.sort(durations);
+        return durations.get(durations.size() / 2);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Folds this run's durations into the file: each known method moves by alpha towards the
+     * new measurement, new methods take it as is.
+     */
+    public static void merge(Path file, Map<String, Long> measuredMillis, double alpha) throws IOException {
+        if (measuredMillis.isEmpty()) {
+            return;
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path lockFile = parent.resolve(file.getFileName() + ".lock");
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            DurationHistory history = load(file);
+            measuredMillis.forEach((method, measured) -> history.entries.merge(method, new Entry(measured, 1),
+                    (old, fresh) -> new Entry(old.durationMs + alpha * (fresh.durationMs - old.durationMs), old.runs + 1)));
+
+            StringBuilder csv = new StringBuilder(HEADER).append('\n');
+            history.entries.forEach((method, entry) -> csv.append(String.format(Locale.ROOT, "%s,%.1f,%d%n",
+                    method, entry.durationMs, entry.runs)));
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.writeString(temp, csv, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        logger.info("Merged {} method durations into {}", measuredMillis.size(), file);
+    }
+
+    private static class Entry {
+        private final double durationMs;
+        private final int runs;
+
+        private Entry(double durationMs, int runs) {
+            this.durationMs = durationMs;
+            this.runs = runs;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.swaglabs.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Longest-processing-time-first bin packing: methods are taken in descending estimated
+ * duration and each goes to the shard with the least load so far. The result is within 4/3 of
+ * the optimal makespan. Ties are broken by method name and then by the lowest shard, so every
+ * JVM given the same history computes the same plan without coordinating.
+ */
+public class LptPartitioner {
+
+    private LptPartitioner() {
+    }
+
+    /**
+     * Assigns each method to a shard (0-based) from its estimated duration in milliseconds.
+     */
+    public static Plan partition(Map<String, Double> estimatesMillis, int shards) {
+        List<Map.Entry<String, Double>> methods = new ArrayList<>(estimatesMillis.entrySet());
+        methods.sort(Map.Entry.<String, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        double[] loads = new double[shards];
+        Map<String, Integer> assignment = new LinkedHashMap<>();
+        for (Map.Entry<String, Double> method : methods) {
+            int lightest = 0;
+            for (int shard = 1; shard < shards; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+            loads[lightest] += method.getValue();
+            assignment.put(method.getKey(), lightest);
+        }
+        return new Plan(assignment, loads);
+    }
+
+    public static class Plan {
+        private final Map<String, Integer> assignment;
+        private final double[] loadsMillis;
+
+        private Plan(Map<String, Integer> assignment, double[] loadsMillis) {
+            this.assignment = assignment;
+            this.loadsMillis = loadsMillis;
+        }
+
+        /**
+         * 0-based shard of the method, or -1 when it was not part of the plan.
+         */
+        public int shardOf(String method) {
+            return assignment.getOrDefault(method, -1);
+        }
+
+        public List<String> methodsOf(int shard) {
+            List<String> methods = new ArrayList<>();
+            assignment.forEach((method, assigned) -> {
+                if (assigned == shard) {
+                    methods.add(method);
+                }
+            });
+            methods.sort(Comparator.naturalOrder());
+            return methods;
+        }
+
+        public double getLoadMillis(int shard) {
+            return loadsMillis[shard];
+        }
+
+        public int getShardCount() {
+            return loadsMillis.length;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.swaglabs.sharding;
+
+import com.swaglabs.utils.ConfigReader;
+
+/**
+ * One slice of the suite, written "i/n" with 1 &lt;= i &lt;= n (the --shard argument of
+ * TestRunner or -Dshard for mvn test).
+ */
+public final class Shard {
+    private final int index;
+    private final int total;
+
+    public Shard(int index, int total) {
+        if (total < 1 || index < 1 || index > total) {
+            throw new IllegalArgumentException("Shard must be i/n with 1 <= i <= n: " + index + "/" + total);
+        }
+        this.index = index;
+        this.total = total;
+    }
+
+    public static Shard parse(String spec) {
+        String[] parts = spec.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Shard must be written i/n: " + spec);
+        }
+        try {
+            return new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Shard must be written i/n: " + spec, e);
+        }
+    }
+
+    /**
+     * The shard selected with -Dshard or shard in config.properties, or null to run everything.
+     */
+    public static Shard configured() {
+        String spec = ConfigReader.getProperty("shard", "");
+        return spec == null || spec.trim().isEmpty() ? null : parse(spec);
+    }
+
+    /**
+     * 1-based shard number.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + total;
+    }
+}
@@ -0,0 +1,101 @@
+package com.swaglabs.standin;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latency injected into stand-in responses whose path matches a glob such as
+ * "/checkout-step-two.html" or "/static/media/*".
+ * <ul>
+ *   <li>delay - held before the response headers are sent</li>
+ *   <li>jitter - random extra delay in [0, jitter], drawn from the server's seeded generator</li>
+ *   <li>stall - pause after the headers and the first half of the body, like a stalled transfer</li>
+ * </ul>
+ */
+public final class RouteFault {
+    private final long delayMs;
+    private final long jitterMs;
+    private final long stallMs;
+
+    public RouteFault(long delayMs, long jitterMs, long stallMs) {
+        if (delayMs < 0 || jitterMs < 0 || stallMs < 0) {
+            throw new IllegalArgumentException("Route fault timings must not be negative");
+        }
+        this.delayMs = delayMs;
+        this.jitterMs = jitterMs;
+        this.stallMs = stallMs;
+    }
+
+    public static RouteFault delay(long delayMs) {
+        return new RouteFault(delayMs, 0, 0);
+    }
+
+    public static RouteFault stall(long stallMs) {
+        return new RouteFault(0, 0, stallMs);
+    }
+
+    public RouteFault withJitter(long jitterMs) {
+        return new RouteFault(delayMs, jitterMs, stallMs);
+    }
+
+    public long getDelayMs() {
+        return delayMs;
+    }
+
+    public long getJitterMs() {
+        return jitterMs;
+    }
+
+    public long getStallMs() {
+        return stallMs;
+    }
+
+    /**
+     * Parses "glob=delay:2000,jitter:200;glob2=stall:1500" (the standin.faults property).
+     */
+    public static Map<String, RouteFault> parse(String spec) {
+        Map<String, RouteFault> faults = new LinkedHashMap<>();
+        if (spec == null || spec.trim().isEmpty()) {
+            return faults;
+        }
+        for (String rule : spec.split(";")) {
+            if (rule.trim().isEmpty()) {
+                continue;
+            }
+            int equals = rule.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Invalid stand-in fault rule: " + rule);
+            }
+            long delay = 0;
+            long jitter = 0;
+            long stall = 0;
+            for (String setting : rule.substring(equals + 1).split(",")) {
+                String[] parts = setting.trim().split(":");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Invalid stand-in fault setting: " + setting);
+                }
+                long value = Long.parseLong(parts[1].trim());
+                switch (parts[0].trim()) {
+                    case "delay":
+                        delay = value;
+                        break;
+                    case "jitter":
+                        jitter = value;
+                        break;
+                    case "stall":
+                        stall = value;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown stand-in fault setting: " + parts[0]);
+                }
+            }
+            faults.put(rule.substring(0, equals).trim(), new RouteFault(delay, jitter, stall));
+        }
+        return faults;
+    }
+
+    @Override
+    public String toString() {
+        return "RouteFault{delayMs=" + delayMs + ", jitterMs=" + jitterMs + ", stallMs=" + stallMs + "}";
+    }
+}
@@ -0,0 +1,239 @@
+package com.swaglabs.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.swaglabs.utils.GlobMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * In-JVM HTTP server that serves a pinned snapshot of the Swag Labs app from the
+ * classpath (src/main/resources/standin) on a loopback ephemeral port. Login, cart
+ * and checkout logic run client-side, so the page objects work unchanged against it.
+ * Latency can be injected per route with {@link #injectFault(String, RouteFault)}.
+ */
+public class StandInServer {
+    private static final Logger logger = LoggerFactory.getLogger(StandInServer.class);
+    private static final String RESOURCE_ROOT = "standin";
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "svg", "image/svg+xml",
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "ico", "image/x-icon");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, byte[]> resourceCache = new ConcurrentHashMap<>();
+    private final long glitchDelayMs;
+    private final List<FaultRule> faults = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> lastServedNanos = new ConcurrentHashMap<>();
+    private final Random jitterRandom = new Random(0);
+
+    private StandInServer(HttpServer server, ExecutorService executor, long glitchDelayMs) {
+        this.server = server;
+        this.executor = executor;
+        this.glitchDelayMs = glitchDelayMs;
+    }
+
+    /**
+     * Starts a server on the given port (0 for an ephemeral port).
+     *
+     * @param glitchDelayMs main-thread stall applied to inventory loads for performance_glitch_user
+     */
+    public static StandInServer start(int port, long glitchDelayMs) throws IOException {
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "standin-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        StandInServer standIn = new StandInServer(httpServer, executor, glitchDelayMs);
+        httpServer.createContext("/", standIn::handle);
+        httpServer.setExecutor(executor);
+        httpServer.start();
+        logger.info("Swag Labs stand-in server started at {}", standIn.getBaseUrl());
+        return standIn;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * Adds latency to every response whose path matches the glob. Rules are checked in the
+     * order they were added and the first match wins.
+     */
+    public void injectFault(String pathGlob, RouteFault fault) {
+        faults.add(new FaultRule(pathGlob, fault));
+        logger.info("Stand-in fault injected for {}: {}", pathGlob, fault);
+    }
+
+    public void clearFaults() {
+        faults.clear();
+        logger.info("Stand-in faults cleared");
+    }
+
+    /**
+     * Reseeds the jitter generator so a run's injected delays can be reproduced.
+     */
+    public void setJitterSeed(long seed) {
+        synchronized (jitterRandom) {
+            jitterRandom.setSeed(seed);
+        }
+    }
+
+    /**
+     * System.nanoTime() at which the last response for the path finished sending, or -1.
+     * Tests compare it with the time a wait returned to measure how long they overslept.
+     */
+    public long getLastServedNanos(String path) {
+        return lastServedNanos.getOrDefault(path, -1L);
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Swag Labs stand-in server stopped");
+    }
+
+    private void handle(HttpExchange exchange) {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                send(exchange, 405, "text/plain", new byte[0], null);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals("/") || path.isEmpty()) {
+                path = "/index.html";
+            }
+            RouteFault fault = faultFor(path);
+            if (fault != null) {
+                sleep(fault.getDelayMs() + jitter(fault.getJitterMs()));
+            }
+
+            if (path.equals("/standin-config.js")) {
+                String script = "window.STANDIN_CONFIG = {\"glitchDelayMs\": " + glitchDelayMs + "};\n";
+                send(exchange, 200, CONTENT_TYPES.get("js"), script.getBytes(StandardCharsets.UTF_8), fault);
+            } else {
+                Optional<byte[]> body = path.contains("..") ? Optional.empty() : resource(path);
+                if (body.isEmpty()) {
+                    send(exchange, 404, "text/plain", ("Not found: " + path).getBytes(StandardCharsets.UTF_8), fault);
+                } else {
+                    send(exchange, 200, contentType(path), body.get(), fault);
+                }
+            }
+            lastServedNanos.put(path, System.nanoTime());
+        } catch (IOException e) {
+            logger.debug("Stand-in request failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private RouteFault faultFor(String path) {
+        for (FaultRule rule : faults) {
+            if (rule.pattern.matcher(path).matches()) {
+                return rule.fault;
+            }
+        }
+        return null;
+    }
+
+    private long jitter(long jitterMs) {
+        if (jitterMs <= 0) {
+            return 0;
+        }
+        synchronized (jitterRandom) {
+            return (long) (jitterRandom.nextDouble() * (jitterMs + 1));
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    /**
+     * Only resources that exist are cached, so requests for arbitrary missing paths cannot grow the cache.
+     */
+    private Optional<byte[]> resource(String path) {
+        return Optional.ofNullable(resourceCache.computeIfAbsent(path, key -> {
+            try (InputStream inputStream = StandInServer.class.getClassLoader()
+                    .getResourceAsStream(RESOURCE_ROOT + key)) {
+                return inputStream != null ? inputStream.readAllBytes() : null;
+            } catch (IOException e) {
+                logger.warn("Failed to read stand-in resource {}", key, e);
+                return null;
+            }
+        }));
+    }
+
+    private static String contentType(String path) {
+        int dot = path.lastIndexOf('.');
+        String extension = dot >= 0 ? path.substring(dot + 1) : "";
+        return CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body, RouteFault fault)
+            throws IOException, InterruptedException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        boolean head = "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, head ? -1 : body.length == 0 ? -1 : body.length);
+        if (!head && body.length > 0) {
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                if (fault != null && fault.getStallMs() > 0) {
+                    int half = body.length / 2;
+                    outputStream.write(body, 0, half);
+                    outputStream.flush();
+                    sleep(fault.getStallMs());
+                    outputStream.write(body, half, body.length - half);
+                } else {
+                    outputStream.write(body);
+                }
+            }
+        } else if (fault != null) {
+            sleep(fault.getStallMs());
+        }
+    }
+
+    private static final class FaultRule {
+        private final Pattern pattern;
+        private final RouteFault fault;
+
+        private FaultRule(String pathGlob, RouteFault fault) {
+            this.pattern = GlobMatcher.compile(pathGlob);
+            this.fault = fault;
+        }
+    }
+}
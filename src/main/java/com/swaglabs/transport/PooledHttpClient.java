@@ -0,0 +1,527 @@
+package com.swaglabs.transport;
+
+import com.swaglabs.utils.ConfigReader;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpClientName;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.openqa.selenium.remote.http.jdk.JdkHttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.net.Proxy;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * Blocking HTTP/1.1 client for a local chromedriver that keeps up to webdriver.transport.pool.size
+ * idle keep-alive connections (TCP_NODELAY) and writes each command straight to the socket on the
+ * calling thread. The default JDK client hands every command to its selector thread and back,
+ * which is what shows up in profiles when many sessions issue small commands in parallel.
+ * <p>
+ * When webdriver.transport.uds names an existing socket file ({port} is replaced with the
+ * chromedriver port) and the runtime supports Unix domain sockets (Java 16+), connections go
+ * through that socket instead of loopback TCP. WebSockets and non-http endpoints are delegated
+ * to the default JDK client.
+ */
+public class PooledHttpClient implements HttpClient {
+    public static final String NAME = "swaglabs-pooled";
+    private static final Logger logger = LoggerFactory.getLogger(PooledHttpClient.class);
+
+    private final ClientConfig config;
+    private final String host;
+    private final int port;
+    private final String basePath;
+    private final Path unixSocket;
+    private final int poolSize;
+    private final long keepAliveNanos;
+    private final HttpHandler handler;
+    private final BlockingDeque<Connection> idle = new LinkedBlockingDeque<>();
+    private HttpClient webSockets;
+    private volatile boolean closed;
+
+    public PooledHttpClient(ClientConfig config, int poolSize, long keepAliveMillis, Path unixSocket) {
+        URI base = config.baseUri();
+        this.config = config;
+        this.host = base.getHost();
+        this.port = base.getPort() == -1 ? 80 : base.getPort();
+        this.basePath = base.getRawPath() == null ? "" : base.getRawPath().replaceAll("/$", "");
+        this.unixSocket = unixSocket;
+        this.poolSize = Math.max(1, poolSize);
+        this.keepAliveNanos = keepAliveMillis * 1_000_000L;
+        this.handler = config.filter().andFinally(this::send);
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) {
+        return handler.execute(request);
+    }
+
+    @Override
+    public synchronized WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+        if (webSockets == null) {
+            webSockets = new JdkHttpClient.Factory().createClient(config);
+        }
+        return webSockets.openSocket(request, listener);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Connection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            connection.close();
+        }
+        synchronized (this) {
+            if (webSockets != null) {
+                webSockets.close();
+                webSockets = null;
+            }
+        }
+    }
+
+    public boolean usesUnixSocket() {
+        return unixSocket != null;
+    }
+
+    private HttpResponse send(HttpRequest request) {
+        byte[] head = encodeHead(request);
+        byte[] body = Contents.bytes(request.getContent());
+        Connection connection = borrow();
+        try {
+            return exchange(connection, request, head, body);
+        } catch (StaleConnectionException e) {
+            // The server closed an idle connection before the request could run (see exchange),
+            // so resend on a new one
+            connection.close();
+            connection = open();
+            try {
+                return exchange(connection, request, head, body);
+            } catch (IOException retryFailure) {
+                connection.close();
+                throw new UncheckedIOException(retryFailure);
+            } catch (RuntimeException retryFailure) {
+                connection.close();
+                throw retryFailure;
+            }
+        } catch (IOException e) {
+            connection.close();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            // A half-read response leaves the connection unusable, so it is never returned to the pool
+            connection.close();
+            throw e;
+        }
+    }
+
+    private HttpResponse exchange(Connection connection, HttpRequest request, byte[] head, byte[] body)
+            throws IOException {
+        try {
+            connection.out.write(head);
+            connection.out.write(("Content-Length: " + body.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            connection.out.write(body);
+            connection.out.flush();
+        } catch (IOException e) {
+            if (connection.reused) {
+                throw new StaleConnectionException(e);
+            }
+            throw e;
+        }
+
+        String statusLine = readLine(connection.in);
+        if (statusLine == null) {
+            // Only a GET is safe to resend here: a POST may have been executed before the close
+            if (connection.reused && request.getMethod() == HttpMethod.GET) {
+                throw new StaleConnectionException(new EOFException("Connection closed before response"));
+            }
+            throw new EOFException("Connection closed before response");
+        }
+        String[] status = statusLine.split(" ", 3);
+        if (status.length < 2) {
+            throw new IOException("Malformed status line: " + statusLine);
+        }
+        HttpResponse response = new HttpResponse();
+        try {
+            response.setStatus(Integer.parseInt(status[1]));
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed status line: " + statusLine, e);
+        }
+
+        long contentLength = -1;
+        boolean chunked = false;
+        boolean keepAlive = !status[0].equals("HTTP/1.0");
+        String line;
+        while ((line = readLine(connection.in)) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            String name = line.substring(0, colon).trim();
+            String value = line.substring(colon + 1).trim();
+            response.addHeader(name, value);
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (lower.equals("content-length")) {
+                try {
+                    contentLength = Long.parseLong(value);
+                } catch (NumberFormatException e) {
+                    throw new IOException("Malformed Content-Length: " + value, e);
+                }
+            } else if (lower.equals("transfer-encoding")) {
+                chunked = value.toLowerCase(Locale.ROOT).contains("chunked");
+            } else if (lower.equals("connection")) {
+                keepAlive = !value.equalsIgnoreCase("close");
+            }
+        }
+
+        byte[] content;
+        int statusCode = response.getStatus();
+        if (statusCode == 204 || statusCode == 304
+                || (statusCode >= 100 && statusCode < 200)) {
+            content = new byte[0];
+        } else if (chunked) {
+            content = readChunked(connection.in);
+        } else if (contentLength >= 0) {
+            content = readFully(connection.in, contentLength);
+        } else {
+            content = connection.in.readAllBytes();
+            keepAlive = false;
+        }
+        response.setContent(Contents.bytes(content));
+
+        if (keepAlive) {
+            giveBack(connection);
+        } else {
+            connection.close();
+        }
+        return response;
+    }
+
+    private byte[] encodeHead(HttpRequest request) {
+        StringBuilder target = new StringBuilder(basePath).append(request.getUri());
+        char separator = request.getUri().contains("?") ? '&' : '?';
+        for (String name : request.getQueryParameterNames()) {
+            for (String value : request.getQueryParameters(name)) {
+                target.append(separator).append(URLEncoder.encode(name, StandardCharsets.UTF_8))
+                        .append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+        StringBuilder head = new StringBuilder(256)
+                .append(request.getMethod()).append(' ').append(target).append(" HTTP/1.1\r\n")
+                .append("Host: ").append(host).append(':').append(port).append("\r\n");
+        request.forEachHeader((name, value) -> {
+            if (!name.equalsIgnoreCase("Content-Length") && !name.equalsIgnoreCase("Host")) {
+                head.append(name).append(": ").append(value).append("\r\n");
+            }
+        });
+        return head.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Connection borrow() {
+        long now = System.nanoTime();
+        Connection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            if (now - connection.lastUsedNanos < keepAliveNanos) {
+                connection.reused = true;
+                return connection;
+            }
+            connection.close();
+        }
+        return open();
+    }
+
+    private void giveBack(Connection connection) {
+        connection.lastUsedNanos = System.nanoTime();
+        if (closed || idle.size() >= poolSize || !idle.offerFirst(connection)) {
+            connection.close();
+        }
+    }
+
+    private Connection open() {
+        try {
+            if (unixSocket != null) {
+                return UnixSockets.connect(unixSocket, config.readTimeout());
+            }
+            Socket socket = new Socket(Proxy.NO_PROXY);
+            socket.setTcpNoDelay(true);
+            socket.setKeepAlive(true);
+            socket.connect(new InetSocketAddress(host, port), (int) config.connectionTimeout().toMillis());
+            socket.setSoTimeout((int) Math.min(Integer.MAX_VALUE, config.readTimeout().toMillis()));
+            return new Connection(socket, socket.getInputStream(), socket.getOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to connect to " + (unixSocket != null ? unixSocket
+                    : host + ":" + port), e);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                byte[] bytes = line.toByteArray();
+                int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+                return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+            }
+            line.write(b);
+        }
+        return line.size() == 0 ? null : line.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] readFully(InputStream in, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Response too large: " + length + " bytes");
+        }
+        byte[] bytes = in.readNBytes((int) length);
+        if (bytes.length != length) {
+            throw new EOFException("Expected " + length + " bytes, got " + bytes.length);
+        }
+        return bytes;
+    }
+
+    private static byte[] readChunked(InputStream in) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        while (true) {
+            String sizeLine = readLine(in);
+            if (sizeLine == null) {
+                throw new EOFException("Connection closed inside chunked body");
+            }
+            int extension = sizeLine.indexOf(';');
+            long size = Long.parseLong((extension >= 0 ? sizeLine.substring(0, extension) : sizeLine).trim(), 16);
+            if (size == 0) {
+                String trailer;
+                while ((trailer = readLine(in)) != null && !trailer.isEmpty()) {
+                    // Trailers are not used by chromedriver
+                }
+                return body.toByteArray();
+            }
+            body.write(readFully(in, size));
+            readLine(in);
+        }
+    }
+
+    private static class Connection {
+        private final AutoCloseable channel;
+        private final InputStream in;
+        private final OutputStream out;
+        private long lastUsedNanos;
+        private boolean reused;
+
+        private Connection(AutoCloseable channel, InputStream in, OutputStream out) {
+            this.channel = channel;
+            this.in = new BufferedInputStream(in, 16 * 1024);
+            this.out = new BufferedOutputStream(out, 16 * 1024);
+        }
+
+        private void close() {
+            try {
+                channel.close();
+            } catch (Exception e) {
+                logger.debug("Failed to close pooled connection: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static class StaleConnectionException extends IOException {
+        private StaleConnectionException(IOException cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Reflective access to Unix domain socket channels so the project still compiles for Java 11.
+     */
+    private static final class UnixSockets {
+        private static final ProtocolFamily UNIX = family();
+
+        private UnixSockets() {
+        }
+
+        static boolean isAvailable() {
+            return UNIX != null;
+        }
+
+        /**
+         * Unix domain socket channels ignore SO_TIMEOUT, so the channel is non-blocking and reads
+         * wait on a selector for at most readTimeout, as a TCP socket's reads do.
+         */
+        static Connection connect(Path path, Duration readTimeout) throws IOException {
+            SocketChannel channel;
+            try {
+                channel = (SocketChannel) SocketChannel.class
+                        .getMethod("open", ProtocolFamily.class).invoke(null, UNIX);
+                Object address = Class.forName("java.net.UnixDomainSocketAddress")
+                        .getMethod("of", Path.class).invoke(null, path);
+                channel.connect((SocketAddress) address);
+            } catch (ReflectiveOperationException e) {
+                throw new IOException("Unix domain sockets unavailable", e);
+            }
+            try {
+                TimedChannel timed = new TimedChannel(channel, readTimeout.toMillis());
+                return new Connection(timed, timed.input(), timed.output());
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        private static ProtocolFamily family() {
+            try {
+                return StandardProtocolFamily.valueOf("UNIX");
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Blocking streams over a non-blocking channel whose reads and writes give up with a
+     * SocketTimeoutException when the channel makes no progress for timeoutMillis.
+     */
+    private static final class TimedChannel implements AutoCloseable {
+        private final SocketChannel channel;
+        private final Selector selector;
+        private final SelectionKey key;
+        private final long timeoutMillis;
+
+        private TimedChannel(SocketChannel channel, long timeoutMillis) throws IOException {
+            this.channel = channel;
+            this.timeoutMillis = timeoutMillis;
+            this.selector = Selector.open();
+            channel.configureBlocking(false);
+            this.key = channel.register(selector, SelectionKey.OP_READ);
+        }
+
+        private void await(int operation) throws IOException {
+            key.interestOps(operation);
+            int ready = timeoutMillis > 0 ? selector.select(timeoutMillis) : selector.select();
+            selector.selectedKeys().clear();
+            if (ready == 0) {
+                throw new SocketTimeoutException("No response on Unix domain socket within " + timeoutMillis + " ms");
+            }
+        }
+
+        private InputStream input() {
+            return new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    byte[] one = new byte[1];
+                    return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+                }
+
+                @Override
+                public int read(byte[] bytes, int offset, int length) throws IOException {
+                    if (length == 0) {
+                        return 0;
+                    }
+                    ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+                    int read;
+                    while ((read = channel.read(buffer)) == 0) {
+                        await(SelectionKey.OP_READ);
+                    }
+                    return read;
+                }
+            };
+        }
+
+        private OutputStream output() {
+            return new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    write(new byte[]{(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+                    while (buffer.hasRemaining()) {
+                        if (channel.write(buffer) == 0) {
+                            await(SelectionKey.OP_WRITE);
+                        }
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                selector.close();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Selected with -Dwebdriver.http.factory=swaglabs-pooled, which {@link WebDriverTransport}
+     * sets from the webdriver.transport setting.
+     */
+    @HttpClientName(NAME)
+    public static class Factory implements HttpClient.Factory {
+        private final HttpClient.Factory fallback = new JdkHttpClient.Factory();
+
+        @Override
+        public HttpClient createClient(ClientConfig config) {
+            URI base = config.baseUri();
+            if (!"http".equals(base.getScheme()) || config.proxy() != null) {
+                return fallback.createClient(config);
+            }
+            int port = base.getPort() == -1 ? 80 : base.getPort();
+            PooledHttpClient client = new PooledHttpClient(config,
+                    ConfigReader.settings().getTransportPoolSize(),
+                    ConfigReader.settings().getTransportKeepAlive().toMillis(),
+                    unixSocketFor(port));
+            logger.debug("Pooled transport for {} over {}", base, client.usesUnixSocket() ? "unix socket" : "tcp");
+            return client;
+        }
+
+        private static Path unixSocketFor(int port) {
+            String template = ConfigReader.getProperty("webdriver.transport.uds", "");
+            if (template.isEmpty()) {
+                return null;
+            }
+            Path path = Paths.get(template.replace("{port}", String.valueOf(port)));
+            if (!Files.exists(path)) {
+                logger.debug("No unix socket at {}, using tcp", path);
+                return null;
+            }
+            if (!UnixSockets.isAvailable()) {
+                logger.warn("Unix domain sockets need Java 16+, using tcp for {}", path);
+                return null;
+            }
+            return path;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.swaglabs.transport;
+
+import com.swaglabs.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Chooses the HTTP transport Selenium uses to talk to the driver: "default" keeps Selenium's
+ * JDK client, "pooled" selects {@link PooledHttpClient}. Selenium resolves its client factory
+ * from webdriver.http.factory whenever a driver is created, so this only has to run before the
+ * first session; an explicit -Dwebdriver.http.factory always wins.
+ */
+public class WebDriverTransport {
+    private static final Logger logger = LoggerFactory.getLogger(WebDriverTransport.class);
+    private static final String FACTORY_PROPERTY = "webdriver.http.factory";
+    private static final AtomicBoolean configured = new AtomicBoolean();
+
+    private WebDriverTransport() {
+    }
+
+    public static void configure() {
+        if (!configured.compareAndSet(false, true)) {
+            return;
+        }
+        String explicit = System.getProperty(FACTORY_PROPERTY);
+        if (explicit != null) {
+            logger.info("WebDriver transport: {} (webdriver.http.factory)", explicit);
+            return;
+        }
+        String transport = ConfigReader.getProperty("webdriver.transport", "default").toLowerCase();
+        switch (transport) {
+            case "pooled":
+                System.setProperty(FACTORY_PROPERTY, PooledHttpClient.NAME);
+                break;
+            case "default":
+                break;
+            default:
+                logger.warn("Unknown webdriver.transport '{}', using default", transport);
+                transport = "default";
+                break;
+        }
+        logger.info("WebDriver transport: {}", transport);
+    }
+}
@@ -12,17 +12,20 @@ import java.time.Duration;
 
 public class AlertHandler {
     private static final Logger logger = LoggerFactory.getLogger(AlertHandler.class);
-    private static final int DEFAULT_TIMEOUT = 10;
 
     public static boolean handlePasswordChangeAlert(WebDriver driver) {
-        return handlePasswordChangeAlert(driver, DEFAULT_TIMEOUT);
+        return handlePasswordChangeAlert(driver, ConfigReader.settings().getExplicitWait());
     }
 
     public static boolean handlePasswordChangeAlert(WebDriver driver, int timeoutSeconds) {
+        return handlePasswordChangeAlert(driver, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    public static boolean handlePasswordChangeAlert(WebDriver driver, Duration timeout) {
         logger.info("Checking for password change alert/notification");
 
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+            WebDriverWait wait = new WebDriverWait(driver, timeout);
 
             // First, try to handle browser alert if present
             if (handleBrowserAlert(driver, wait)) {
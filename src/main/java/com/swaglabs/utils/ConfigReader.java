@@ -5,14 +5,26 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 
+/**
+ * Reads configuration through an immutable {@link Settings} snapshot of config.properties,
+ * environment variables, system properties and setProperty overrides (later layers win). The
+ * snapshot is taken once and republished whole on setProperty or reload, so a reader never sees
+ * a half-applied change and typed values are never re-parsed.
+ */
 public class ConfigReader {
     private static final Logger logger = LoggerFactory.getLogger(ConfigReader.class);
+    private static final Map<String, String> overrides = new HashMap<>();
     private static Properties properties;
+    private static volatile Settings settings;
 
     static {
         loadProperties();
+        reload();
     }
 
     private static void loadProperties() {
@@ -32,8 +44,44 @@ public class ConfigReader {
         }
     }
 
+    /**
+     * The current snapshot.
+     */
+    public static Settings settings() {
+        return settings;
+    }
+
+    /**
+     * Takes a new snapshot, picking up system properties set since the last one. Environment
+     * variables are looked up for the keys config.properties defines (and headless), named in
+     * upper case with underscores: TIMEOUT_EXPLICIT for timeout.explicit.
+     */
+    public static synchronized void reload() {
+        Map<String, String> values = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+        for (String key : values.keySet().toArray(new String[0])) {
+            putEnvironment(values, key);
+        }
+        putEnvironment(values, "headless");
+        for (String key : System.getProperties().stringPropertyNames()) {
+            values.put(key, System.getProperty(key));
+        }
+        values.putAll(overrides);
+        settings = new Settings(values);
+        logger.debug("Configuration snapshot taken: {}", settings);
+    }
+
+    private static void putEnvironment(Map<String, String> values, String key) {
+        String value = System.getenv(key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_'));
+        if (value != null) {
+            values.put(key, value);
+        }
+    }
+
     public static String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = settings.get(key);
         if (value == null) {
             logger.warn("Property '{}' not found in configuration", key);
         }
@@ -41,6 +89,28 @@ public class ConfigReader {
     }
 
     public static String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return settings.get(key, defaultValue);
+    }
+
+    /**
+     * Overrides the key until it is overridden again or cleared, returning the override it
+     * replaced (null when there was none) so callers can put it back.
+     */
+    public static synchronized String setProperty(String key, String value) {
+        logger.info("Overriding property '{}' with '{}'", key, value);
+        String previous = overrides.put(key, value);
+        reload();
+        return previous;
+    }
+
+    /**
+     * Drops the override of the key, so it falls back to system properties, the environment and
+     * config.properties again.
+     */
+    public static synchronized void clearProperty(String key) {
+        if (overrides.remove(key) != null) {
+            logger.info("Cleared override of property '{}'", key);
+            reload();
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.swaglabs.utils;
 
+import com.swaglabs.daemon.BrowserDaemonClient;
+import com.swaglabs.instrumentation.InstrumentedDriverDecorator;
+import com.swaglabs.instrumentation.jfr.ScreenshotEvent;
+import com.swaglabs.transport.WebDriverTransport;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -11,18 +15,26 @@ import org.openqa.selenium.firefox.FirefoxOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Optional;
+
 public class DriverManager {
     private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
-    private static final String BROWSER_PROPERTY = "browser";
-    private static final String HEADLESS_PROPERTY = "headless";
 
     public static WebDriver getDriver() {
         if (driverThreadLocal.get() == null) {
-            String browser = System.getProperty(BROWSER_PROPERTY, "chrome").toLowerCase();
-            boolean headless = Boolean.parseBoolean(System.getProperty(HEADLESS_PROPERTY, "false"));
+            Settings settings = ConfigReader.settings();
+            String browser = settings.getBrowser();
+            boolean headless = settings.isHeadless();
 
             logger.info("Initializing {} driver (headless: {})", browser, headless);
+            WebDriverTransport.configure();
+
+            Optional<WebDriver> leased = leaseFromDaemon(browser, headless);
+            if (leased.isPresent()) {
+                driverThreadLocal.set(leased.get());
+                return leased.get();
+            }
 
             switch (browser) {
                 case "firefox":
@@ -37,6 +49,19 @@ public class DriverManager {
         return driverThreadLocal.get();
     }
 
+    /**
+     * A warm Chrome session leased from a running BrowserDaemon, instrumented like a local one,
+     * or empty when no daemon is available or its sessions run in another headless mode, so the
+     * caller launches the browser itself.
+     */
+    public static Optional<WebDriver> leaseFromDaemon(String browser, boolean headless) {
+        if (!"chrome".equalsIgnoreCase(browser)) {
+            return Optional.empty();
+        }
+        WebDriverTransport.configure();
+        return BrowserDaemonClient.lease(headless).map(InstrumentedDriverDecorator::instrument);
+    }
+
     private static void setupSimpleChromeDriver(boolean headless) {
         try {
             // Use automatic WebDriverManager setup
@@ -55,7 +80,7 @@ public class DriverManager {
                 options.addArguments("--window-size=1920,1080");
             }
 
-            driverThreadLocal.set(new ChromeDriver(options));
+            driverThreadLocal.set(InstrumentedDriverDecorator.instrument(new ChromeDriver(options)));
             logger.info("Simple Chrome driver initialized successfully");
         } catch (Exception e) {
             logger.error("Failed to initialize simple Chrome driver: {}", e.getMessage());
@@ -74,7 +99,7 @@ public class DriverManager {
                 options.addArguments("--headless");
             }
 
-            driverThreadLocal.set(new FirefoxDriver(options));
+            driverThreadLocal.set(InstrumentedDriverDecorator.instrument(new FirefoxDriver(options)));
             logger.info("Simple Firefox driver initialized successfully");
         } catch (Exception e) {
             logger.error("Failed to initialize Firefox driver: {}", e.getMessage());
@@ -100,7 +125,12 @@ public class DriverManager {
         try {
             WebDriver driver = driverThreadLocal.get();
             if (driver != null) {
-                return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+                ScreenshotEvent event = new ScreenshotEvent();
+                event.begin();
+                byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+                event.bytes = screenshot.length;
+                event.commit();
+                return screenshot;
             }
         } catch (Exception e) {
             logger.error("Failed to take screenshot: {}", e.getMessage());
@@ -41,7 +41,8 @@ public class FormValidationHelper {
     };
 
     /**
-     * Check if error message contains any of the expected patterns
+     * Check if error message contains any of the expected patterns. For the patterns above, use
+     * classify or the isValid...Error methods, which match all of them in one compiled pass.
      */
     public static boolean containsAnyPattern(String actualMessage, String[] patterns) {
         if (actualMessage == null || actualMessage.trim().isEmpty()) {
@@ -62,25 +63,62 @@ public class FormValidationHelper {
         return false;
     }
 
+    /**
+     * The three pattern groups above, compiled once; bit 0 first name, 1 last name, 2 postal code
+     */
+    private static final MultiPatternMatcher ERROR_PATTERNS = new MultiPatternMatcher(
+            FIRST_NAME_ERROR_PATTERNS, LAST_NAME_ERROR_PATTERNS, POSTAL_CODE_ERROR_PATTERNS);
+    private static final int FIRST_NAME = 1;
+    private static final int LAST_NAME = 1 << 1;
+    private static final int POSTAL_CODE = 1 << 2;
+
+    /**
+     * Classify an error message in one pass over it: null for no message, otherwise the field it
+     * reports as required (first name, then last name, then postal code when it matches several)
+     * or UNRECOGNIZED. Logs nothing, so fuzzing can classify millions of messages.
+     */
+    public static ValidationError classify(String errorMessage) {
+        if (errorMessage == null || errorMessage.trim().isEmpty()) {
+            return null;
+        }
+        int matched = ERROR_PATTERNS.match(errorMessage);
+        if ((matched & FIRST_NAME) != 0) {
+            return ValidationError.FIRST_NAME_REQUIRED;
+        }
+        if ((matched & LAST_NAME) != 0) {
+            return ValidationError.LAST_NAME_REQUIRED;
+        }
+        if ((matched & POSTAL_CODE) != 0) {
+            return ValidationError.POSTAL_CODE_REQUIRED;
+        }
+        return ValidationError.UNRECOGNIZED;
+    }
+
     /**
      * Validate that First Name error message is correct
      */
     public static boolean isValidFirstNameError(String errorMessage) {
-        return containsAnyPattern(errorMessage, FIRST_NAME_ERROR_PATTERNS);
+        return matches(errorMessage, FIRST_NAME, "First Name");
     }
 
     /**
      * Validate that Last Name error message is correct
      */
     public static boolean isValidLastNameError(String errorMessage) {
-        return containsAnyPattern(errorMessage, LAST_NAME_ERROR_PATTERNS);
+        return matches(errorMessage, LAST_NAME, "Last Name");
     }
 
     /**
      * Validate that Postal Code error message is correct
      */
     public static boolean isValidPostalCodeError(String errorMessage) {
-        return containsAnyPattern(errorMessage, POSTAL_CODE_ERROR_PATTERNS);
+        return matches(errorMessage, POSTAL_CODE, "Postal Code");
+    }
+
+    private static boolean matches(String errorMessage, int group, String field) {
+        boolean matched = (ERROR_PATTERNS.match(errorMessage) & group) != 0;
+        logger.debug("{} error pattern {} in message: '{}'", field, matched ? "found" : "not found", errorMessage);
+        return matched;
     }
 
     /**
@@ -172,7 +210,9 @@ public class FormValidationHelper {
     }
 
     /**
-     * Generate test data for different validation scenarios
+     * Generate test data for different validation scenarios. These are fixed so failures
+     * reproduce and fuzz replays regenerate the same inputs; generated data lives in
+     * CheckoutValidationTest's data-driven test.
      */
     public static class TestData {
         public static final String EMPTY_STRING = "";
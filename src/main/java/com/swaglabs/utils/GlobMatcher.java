@@ -0,0 +1,25 @@
+package com.swaglabs.utils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Compiles simple globs where '*' matches any run of characters, e.g. "/static/media/*"
+ * or "*://*.google-analytics.com/*". Everything else is matched literally.
+ */
+public class GlobMatcher {
+
+    private GlobMatcher() {
+    }
+
+    public static Pattern compile(String glob) {
+        StringBuilder regex = new StringBuilder();
+        int start = 0;
+        int star;
+        while ((star = glob.indexOf('*', start)) >= 0) {
+            regex.append(Pattern.quote(glob.substring(start, star))).append(".*");
+            start = star + 1;
+        }
+        regex.append(Pattern.quote(glob.substring(start)));
+        return Pattern.compile(regex.toString());
+    }
+}
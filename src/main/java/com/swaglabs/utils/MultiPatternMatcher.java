@@ -0,0 +1,159 @@
+package com.swaglabs.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Finds which of several groups of substrings occur in a text, ignoring case, in one pass.
+ * The patterns are compiled once into an Aho-Corasick automaton flattened to a dense
+ * transition table, so matching costs one table step per character whatever the number of
+ * patterns, and allocates nothing. Characters are compared after Character.toLowerCase.
+ */
+public final class MultiPatternMatcher {
+    private final char[] alphabet;
+    private final int[] asciiSymbols = new int[128];
+    private final int symbols;
+    private final int[] table;
+    private final int[] tableOutputs;
+    private final int allGroups;
+
+    /**
+     * Group i's patterns set bit i of {@link #match}; at most 32 groups.
+     */
+    public MultiPatternMatcher(String[]... groups) {
+        if (groups.length > 32) {
+            throw new IllegalArgumentException("At most 32 pattern groups, got " + groups.length);
+        }
+        alphabet = alphabet(groups);
+        symbols = alphabet.length + 1;
+        for (int i = 0; i < alphabet.length; i++) {
+            if (alphabet[i] < 128) {
+                asciiSymbols[alphabet[i]] = i + 1;
+            }
+        }
+
+        // Trie of the lowercased patterns, with -1 for missing edges
+        List<int[]> trie = new ArrayList<>();
+        List<Integer> output = new ArrayList<>();
+        trie.add(newState());
+        output.add(0);
+        for (int group = 0; group < groups.length; group++) {
+            for (String pattern : groups[group]) {
+                int state = 0;
+                for (int i = 0; i < pattern.length(); i++) {
+                    int symbol = symbol(Character.toLowerCase(pattern.charAt(i)));
+                    if (trie.get(state)[symbol] < 0) {
+                        trie.get(state)[symbol] = trie.size();
+                        trie.add(newState());
+                        output.add(0);
+                    }
+                    state = trie.get(state)[symbol];
+                }
+                output.set(state, output.get(state) | 1 << group);
+            }
+        }
+
+        // Breadth-first, fill missing edges from each state's failure state, which is already complete
+        int[] transitions = new int[trie.size() * symbols];
+        int[] outputs = new int[trie.size()];
+        int[] failure = new int[trie.size()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < symbols; symbol++) {
+            int next = trie.get(0)[symbol];
+            transitions[symbol] = Math.max(next, 0);
+            if (next > 0) {
+                queue.add(next);
+            }
+        }
+        outputs[0] = output.get(0);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = output.get(state) | outputs[failure[state]];
+            for (int symbol = 0; symbol < symbols; symbol++) {
+                int next = trie.get(state)[symbol];
+                int fallback = transitions[failure[state] * symbols + symbol];
+                if (next < 0) {
+                    transitions[state * symbols + symbol] = fallback;
+                } else {
+                    transitions[state * symbols + symbol] = next;
+                    failure[next] = fallback;
+                    queue.add(next);
+                }
+            }
+        }
+        allGroups = groups.length == 32 ? -1 : (1 << groups.length) - 1;
+
+        // Address states by their row offset, which takes the multiply off the matching loop
+        table = new int[transitions.length];
+        tableOutputs = new int[transitions.length];
+        for (int state = 0; state < outputs.length; state++) {
+            tableOutputs[state * symbols] = outputs[state];
+            for (int symbol = 0; symbol < symbols; symbol++) {
+                table[state * symbols + symbol] = transitions[state * symbols + symbol] * symbols;
+            }
+        }
+    }
+
+    private int[] newState() {
+        int[] edges = new int[symbols];
+        Arrays.fill(edges, -1);
+        return edges;
+    }
+
+    private static char[] alphabet(String[][] groups) {
+        StringBuilder chars = new StringBuilder();
+        for (String[] group : groups) {
+            for (String pattern : group) {
+                for (int i = 0; i < pattern.length(); i++) {
+                    char c = Character.toLowerCase(pattern.charAt(i));
+                    if (chars.indexOf(String.valueOf(c)) < 0) {
+                        chars.append(c);
+                    }
+                }
+            }
+        }
+        char[] alphabet = chars.toString().toCharArray();
+        Arrays.sort(alphabet);
+        return alphabet;
+    }
+
+    /**
+     * Symbol 0 stands for every character no pattern contains.
+     */
+    private int symbol(char lowerCase) {
+        if (lowerCase < 128) {
+            return asciiSymbols[lowerCase];
+        }
+        int index = Arrays.binarySearch(alphabet, lowerCase);
+        return index < 0 ? 0 : index + 1;
+    }
+
+    /**
+     * Bit set of the groups with a pattern occurring in text (0 for null).
+     */
+    public int match(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        int[] table = this.table;
+        int[] tableOutputs = this.tableOutputs;
+        int[] asciiSymbols = this.asciiSymbols;
+        int state = 0;
+        int matched = 0;
+        for (int i = 0, length = text.length(); i < length && matched != allGroups; i++) {
+            char c = text.charAt(i);
+            int symbol;
+            if (c < 128) {
+                symbol = asciiSymbols[c >= 'A' && c <= 'Z' ? c + 32 : c];
+            } else {
+                symbol = symbol(Character.toLowerCase(c));
+            }
+            state = table[state + symbol];
+            matched |= tableOutputs[state];
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,612 @@
+package com.swaglabs.utils;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable snapshot of the configuration, published by {@link ConfigReader}: config.properties,
+ * overlaid with environment variables (TIMEOUT_EXPLICIT for timeout.explicit), system properties
+ * and runtime overrides, in that order. The timeouts, switches and pool sizes tests consult on every
+ * session or wait are parsed once when the snapshot is taken, and a malformed value fails there,
+ * naming its key, rather than on first use.
+ * <p>
+ * Durations are whole numbers in the unit their key names (timeout.explicit in seconds,
+ * timeout.polling.ms in milliseconds) or carry their own unit: 1500ms, 15s, 2m.
+ */
+public final class Settings {
+    private static final Pattern DURATION = Pattern.compile("(\\d+)\\s*(ms|s|m)?");
+    private static final List<String> SEED_KEYS = Arrays.asList("walk.seed", "fuzz.seed", "data.seed");
+    private static final String PERF_BUDGET_PREFIX = "perf.budget.";
+
+    private final Map<String, String> values;
+    private final Duration implicitWait;
+    private final Duration explicitWait;
+    private final Duration pollingInterval;
+    private final Duration checkoutContinueTimeout;
+    private final Duration checkoutErrorWait;
+    private final boolean headless;
+    private final boolean devToolsReadsEnabled;
+    private final int browserSlots;
+    private final int daemonPoolSize;
+    private final Duration daemonLeaseMax;
+    private final int walkParallel;
+    private final int datasetShards;
+    private final boolean daemonEnabled;
+    private final int daemonPort;
+    private final Duration daemonConnectTimeout;
+    private final int transportPoolSize;
+    private final Duration transportKeepAlive;
+    private final boolean adaptiveParallelism;
+    private final int parallelismMin;
+    private final int parallelismMax;
+    private final int parallelismInitial;
+    private final double parallelismCpuGrow;
+    private final double parallelismCpuShrink;
+    private final long parallelismMemoryReserveMb;
+    private final long parallelismSessionRssMb;
+    private final int parallelismCooldownSamples;
+    private final Duration parallelismSampleInterval;
+    private final boolean harCaptureEnabled;
+    private final int harQueueCapacity;
+    private final int harInflightMax;
+    private final boolean harKeepAll;
+    private final int allureMergeThreads;
+    private final int fuzzSessions;
+    private final int fuzzCount;
+    private final int fuzzMaxLength;
+    private final int fuzzShrinkMaxAttempts;
+    private final boolean fuzzBlankIsEmpty;
+    private final int walkCount;
+    private final int walkSteps;
+    private final double navigationCostsAlpha;
+    private final double navigationPriorCommandMillis;
+    private final double navigationPriorPageLoadMillis;
+    private final boolean perfCaptureEnabled;
+    private final boolean perfBudgetEnforced;
+    private final Map<String, Double> perfBudgets = new HashMap<>();
+    private final String browser;
+    private final boolean instrumentationEnabled;
+    private final boolean jfrEnabled;
+    private final boolean standInEnabled;
+    private final int standInPort;
+    private final Duration standInGlitchDelay;
+    private final long standInFaultsSeed;
+    private final double shardDurationsAlpha;
+    private final double shardDefaultDurationMillis;
+    private final double networkMatrixSensitiveRatio;
+    private final double personaRegressionRatio;
+    private final double personaRegressionMinDeltaMillis;
+    private final int personaIterations;
+    private final int schedulerMaxConcurrency;
+    private final int checkoutDataRows;
+    private final Map<String, Long> seeds = new HashMap<>();
+    private final List<Long> walkReplay;
+    private final List<Long> fuzzReplay;
+
+    Settings(Map<String, String> values) {
+        this.values = Collections.unmodifiableMap(new HashMap<>(values));
+        implicitWait = duration("timeout.implicit", "10", ChronoUnit.SECONDS);
+        explicitWait = duration("timeout.explicit", "10", ChronoUnit.SECONDS);
+        pollingInterval = duration("timeout.polling.ms", "100", ChronoUnit.MILLIS);
+        checkoutContinueTimeout = duration("checkout.continue.timeout.ms", "10000", ChronoUnit.MILLIS);
+        checkoutErrorWait = duration("checkout.error.wait.ms", "1000", ChronoUnit.MILLIS);
+        // -Dheadless / HEADLESS predate headless.mode and still win over it
+        headless = bool(values.containsKey("headless") ? "headless" : "headless.mode", "false");
+        devToolsReadsEnabled = bool("devtools.reads.enabled", "true");
+        browserSlots = count("browser.slots", "0");
+        daemonPoolSize = count("daemon.pool.size", "2");
+        daemonLeaseMax = duration("daemon.lease.max.ms", "600000", ChronoUnit.MILLIS);
+        walkParallel = count("walk.parallel", "4");
+        datasetShards = count("data.checkout.shards", "4");
+        daemonEnabled = bool("daemon.enabled", "true");
+        daemonPort = port("daemon.port", "4455");
+        daemonConnectTimeout = duration("daemon.connect.timeout.ms", "200", ChronoUnit.MILLIS);
+        transportPoolSize = count("webdriver.transport.pool.size", "4");
+        transportKeepAlive = duration("webdriver.transport.keepalive.ms", "30000", ChronoUnit.MILLIS);
+        adaptiveParallelism = bool("parallelism.adaptive", "false");
+        parallelismMin = count("parallelism.min", "1");
+        parallelismMax = count("parallelism.max", "0");
+        parallelismInitial = count("parallelism.initial", "0");
+        parallelismCpuGrow = fraction("parallelism.cpu.grow", "0.60");
+        parallelismCpuShrink = fraction("parallelism.cpu.shrink", "0.90");
+        parallelismMemoryReserveMb = count("parallelism.memory.reserve.mb", "768");
+        parallelismSessionRssMb = count("parallelism.session.rss.mb", "350");
+        parallelismCooldownSamples = count("parallelism.cooldown.samples", "2");
+        parallelismSampleInterval = duration("parallelism.sample.ms", "2000", ChronoUnit.MILLIS);
+        harCaptureEnabled = bool("har.capture.enabled", "false");
+        harQueueCapacity = count("har.queue.capacity", "512");
+        harInflightMax = count("har.inflight.max", "1000");
+        harKeepAll = bool("har.keep.all", "false");
+        allureMergeThreads = count("allure.merge.threads", "0");
+        fuzzSessions = count("fuzz.sessions", "4");
+        fuzzCount = count("fuzz.count", "2000");
+        fuzzMaxLength = count("fuzz.max.length", "1000");
+        fuzzShrinkMaxAttempts = count("fuzz.shrink.max.attempts", "200");
+        fuzzBlankIsEmpty = bool("fuzz.blank.is.empty", "false");
+        walkCount = count("walk.count", "20");
+        walkSteps = count("walk.steps", "30");
+        navigationCostsAlpha = fraction("navigation.costs.alpha", "0.3");
+        navigationPriorCommandMillis = number("navigation.prior.command.ms", "40");
+        navigationPriorPageLoadMillis = number("navigation.prior.page.load.ms", "600");
+        perfCaptureEnabled = bool("perf.capture.enabled", "true");
+        perfBudgetEnforced = bool("perf.budget.enforce", "true");
+        for (String key : this.values.keySet()) {
+            if (key.startsWith(PERF_BUDGET_PREFIX) && !key.equals("perf.budget.enforce")
+                    && !value(key, "").isEmpty()) {
+                perfBudgets.put(key.substring(PERF_BUDGET_PREFIX.length()), number(key, "0"));
+            }
+        }
+        browser = value("browser", "chrome").toLowerCase(Locale.ROOT);
+        instrumentationEnabled = bool("instrumentation.enabled", "true");
+        jfrEnabled = bool("jfr.enabled", "false");
+        standInEnabled = bool("standin.enabled", "false");
+        standInPort = port("standin.port", "0");
+        standInGlitchDelay = duration("standin.glitch.delay.ms", "5000", ChronoUnit.MILLIS);
+        standInFaultsSeed = seed("standin.faults.seed", "42");
+        shardDurationsAlpha = fraction("shard.durations.alpha", "0.5");
+        shardDefaultDurationMillis = number("shard.default.duration.ms", "30000");
+        networkMatrixSensitiveRatio = number("network.matrix.sensitive.ratio", "2.0");
+        personaRegressionRatio = number("persona.regression.ratio", "1.5");
+        personaRegressionMinDeltaMillis = number("persona.regression.minDeltaMs", "500");
+        personaIterations = count("persona.iterations", "1");
+        schedulerMaxConcurrency = count("scheduler.max.concurrency", "64");
+        checkoutDataRows = count("data.checkout.rows", "3");
+        for (String key : SEED_KEYS) {
+            if (!value(key, "").isEmpty()) {
+                seeds.put(key, seed(key, ""));
+            }
+        }
+        walkReplay = seedList("walk.replay");
+        fuzzReplay = seedList("fuzz.replay");
+    }
+
+    /**
+     * The raw value of key in this snapshot, or null.
+     */
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * Implicit wait applied to every session (timeout.implicit).
+     */
+    public Duration getImplicitWait() {
+        return implicitWait;
+    }
+
+    /**
+     * Timeout of each session's WebDriverWait (timeout.explicit).
+     */
+    public Duration getExplicitWait() {
+        return explicitWait;
+    }
+
+    /**
+     * Polling interval of explicit waits (timeout.polling.ms).
+     */
+    public Duration getPollingInterval() {
+        return pollingInterval;
+    }
+
+    public Duration getCheckoutContinueTimeout() {
+        return checkoutContinueTimeout;
+    }
+
+    public Duration getCheckoutErrorWait() {
+        return checkoutErrorWait;
+    }
+
+    /**
+     * headless, or headless.mode when headless is not set.
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public boolean isDevToolsReadsEnabled() {
+        return devToolsReadsEnabled;
+    }
+
+    /**
+     * Maximum concurrent browser sessions, 0 for unlimited (browser.slots).
+     */
+    public int getBrowserSlots() {
+        return browserSlots;
+    }
+
+    public int getDaemonPoolSize() {
+        return daemonPoolSize;
+    }
+
+    public Duration getDaemonLeaseMax() {
+        return daemonLeaseMax;
+    }
+
+    public int getWalkParallel() {
+        return walkParallel;
+    }
+
+    public int getDatasetShards() {
+        return datasetShards;
+    }
+
+    public boolean isDaemonEnabled() {
+        return daemonEnabled;
+    }
+
+    public int getDaemonPort() {
+        return daemonPort;
+    }
+
+    public Duration getDaemonConnectTimeout() {
+        return daemonConnectTimeout;
+    }
+
+    /**
+     * Idle connections kept per chromedriver by the pooled transport (webdriver.transport.pool.size).
+     */
+    public int getTransportPoolSize() {
+        return transportPoolSize;
+    }
+
+    public Duration getTransportKeepAlive() {
+        return transportKeepAlive;
+    }
+
+    public boolean isAdaptiveParallelism() {
+        return adaptiveParallelism;
+    }
+
+    public int getParallelismMin() {
+        return parallelismMin;
+    }
+
+    /**
+     * Most browser slots the controller grants, 0 for one per available processor (parallelism.max).
+     */
+    public int getParallelismMax() {
+        return parallelismMax;
+    }
+
+    /**
+     * Slots to start with, 0 for parallelism.min (parallelism.initial).
+     */
+    public int getParallelismInitial() {
+        return parallelismInitial;
+    }
+
+    public double getParallelismCpuGrow() {
+        return parallelismCpuGrow;
+    }
+
+    public double getParallelismCpuShrink() {
+        return parallelismCpuShrink;
+    }
+
+    public long getParallelismMemoryReserveMb() {
+        return parallelismMemoryReserveMb;
+    }
+
+    public long getParallelismSessionRssMb() {
+        return parallelismSessionRssMb;
+    }
+
+    public int getParallelismCooldownSamples() {
+        return parallelismCooldownSamples;
+    }
+
+    public Duration getParallelismSampleInterval() {
+        return parallelismSampleInterval;
+    }
+
+    public boolean isHarCaptureEnabled() {
+        return harCaptureEnabled;
+    }
+
+    public int getHarQueueCapacity() {
+        return harQueueCapacity;
+    }
+
+    public int getHarInflightMax() {
+        return harInflightMax;
+    }
+
+    public boolean isHarKeepAll() {
+        return harKeepAll;
+    }
+
+    /**
+     * Threads AllureResultsMerger copies with, 0 for one per available processor (allure.merge.threads).
+     */
+    public int getAllureMergeThreads() {
+        return allureMergeThreads;
+    }
+
+    public int getFuzzSessions() {
+        return fuzzSessions;
+    }
+
+    public int getFuzzCount() {
+        return fuzzCount;
+    }
+
+    public int getFuzzMaxLength() {
+        return fuzzMaxLength;
+    }
+
+    public int getFuzzShrinkMaxAttempts() {
+        return fuzzShrinkMaxAttempts;
+    }
+
+    public boolean isFuzzBlankIsEmpty() {
+        return fuzzBlankIsEmpty;
+    }
+
+    public int getWalkCount() {
+        return walkCount;
+    }
+
+    public int getWalkSteps() {
+        return walkSteps;
+    }
+
+    public double getNavigationCostsAlpha() {
+        return navigationCostsAlpha;
+    }
+
+    public double getNavigationPriorCommandMillis() {
+        return navigationPriorCommandMillis;
+    }
+
+    public double getNavigationPriorPageLoadMillis() {
+        return navigationPriorPageLoadMillis;
+    }
+
+    public boolean isPerfCaptureEnabled() {
+        return perfCaptureEnabled;
+    }
+
+    public boolean isPerfBudgetEnforced() {
+        return perfBudgetEnforced;
+    }
+
+    /**
+     * Budget of metric on page: perf.budget.&lt;page&gt;.&lt;metric&gt;, else perf.budget.default.&lt;metric&gt;,
+     * else null.
+     */
+    public Double getPerfBudget(String page, String metric) {
+        Double budget = perfBudgets.get(page + "." + metric);
+        return budget != null ? budget : perfBudgets.get("default." + metric);
+    }
+
+    /**
+     * Browser to launch, lower case (browser, default chrome).
+     */
+    public String getBrowser() {
+        return browser;
+    }
+
+    public boolean isInstrumentationEnabled() {
+        return instrumentationEnabled;
+    }
+
+    public boolean isJfrEnabled() {
+        return jfrEnabled;
+    }
+
+    public boolean isStandInEnabled() {
+        return standInEnabled;
+    }
+
+    /**
+     * Port of the stand-in server, 0 for any free port (standin.port).
+     */
+    public int getStandInPort() {
+        return standInPort;
+    }
+
+    public Duration getStandInGlitchDelay() {
+        return standInGlitchDelay;
+    }
+
+    public long getStandInFaultsSeed() {
+        return standInFaultsSeed;
+    }
+
+    public double getShardDurationsAlpha() {
+        return shardDurationsAlpha;
+    }
+
+    public double getShardDefaultDurationMillis() {
+        return shardDefaultDurationMillis;
+    }
+
+    public double getNetworkMatrixSensitiveRatio() {
+        return networkMatrixSensitiveRatio;
+    }
+
+    public double getPersonaRegressionRatio() {
+        return personaRegressionRatio;
+    }
+
+    public double getPersonaRegressionMinDeltaMillis() {
+        return personaRegressionMinDeltaMillis;
+    }
+
+    public int getPersonaIterations() {
+        return personaIterations;
+    }
+
+    public int getSchedulerMaxConcurrency() {
+        return schedulerMaxConcurrency;
+    }
+
+    public int getCheckoutDataRows() {
+        return checkoutDataRows;
+    }
+
+    /**
+     * The seed configured under key (walk.seed, fuzz.seed or data.seed), or the current time when
+     * it is empty. Callers log the seed they got so a run can be regenerated.
+     */
+    public long getSeed(String key) {
+        if (!SEED_KEYS.contains(key)) {
+            throw new IllegalArgumentException("Not a seed key: " + key);
+        }
+        Long seed = seeds.get(key);
+        return seed != null ? seed : System.currentTimeMillis();
+    }
+
+    /**
+     * Walk seeds to replay (walk.replay, comma-separated), empty when not replaying.
+     */
+    public List<Long> getWalkReplay() {
+        return walkReplay;
+    }
+
+    /**
+     * Fuzzing session seeds to replay (fuzz.replay, comma-separated), empty when not replaying.
+     */
+    public List<Long> getFuzzReplay() {
+        return fuzzReplay;
+    }
+
+    private String value(String key, String defaultValue) {
+        String value = values.get(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    private Duration duration(String key, String defaultValue, ChronoUnit defaultUnit) {
+        String value = value(key, defaultValue);
+        Matcher matcher = DURATION.matcher(value.toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            throw invalid(key, value, "a duration such as 500, 500ms, 10s or 2m");
+        }
+        try {
+            long amount = Long.parseLong(matcher.group(1));
+            String unit = matcher.group(2);
+            if (unit == null) {
+                return Duration.of(amount, defaultUnit);
+            }
+            switch (unit) {
+                case "ms":
+                    return Duration.ofMillis(amount);
+                case "s":
+                    return Duration.ofSeconds(amount);
+                default:
+                    return Duration.ofMinutes(amount);
+            }
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw invalid(key, value, "a duration that fits in a long");
+        }
+    }
+
+    private boolean bool(String key, String defaultValue) {
+        String value = value(key, defaultValue);
+        switch (value.toLowerCase(Locale.ROOT)) {
+            case "true":
+            case "yes":
+            case "on":
+            case "1":
+                return true;
+            case "false":
+            case "no":
+            case "off":
+            case "0":
+                return false;
+            default:
+                throw invalid(key, value, "true or false");
+        }
+    }
+
+    private int count(String key, String defaultValue) {
+        String value = value(key, defaultValue);
+        try {
+            int count = Integer.parseInt(value);
+            if (count >= 0) {
+                return count;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw invalid(key, value, "a whole number of at least 0");
+    }
+
+    private int port(String key, String defaultValue) {
+        int port = count(key, defaultValue);
+        if (port > 65535) {
+            throw invalid(key, String.valueOf(port), "a port from 0 to 65535");
+        }
+        return port;
+    }
+
+    private double number(String key, String defaultValue) {
+        String value = value(key, defaultValue);
+        try {
+            double number = Double.parseDouble(value);
+            if (number >= 0 && !Double.isInfinite(number)) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw invalid(key, value, "a number of at least 0");
+    }
+
+    private double fraction(String key, String defaultValue) {
+        double fraction = number(key, defaultValue);
+        if (fraction > 1) {
+            throw invalid(key, value(key, defaultValue), "a fraction from 0 to 1");
+        }
+        return fraction;
+    }
+
+    private long seed(String key, String defaultValue) {
+        String value = value(key, defaultValue);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw invalid(key, value, "a whole number that fits in a long");
+        }
+    }
+
+    private List<Long> seedList(String key) {
+        String value = value(key, "");
+        if (value.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> seeds = new ArrayList<>();
+        for (String seed : value.split(",")) {
+            try {
+                seeds.add(Long.parseLong(seed.trim()));
+            } catch (NumberFormatException e) {
+                throw invalid(key, value, "comma-separated whole numbers");
+            }
+        }
+        return Collections.unmodifiableList(seeds);
+    }
+
+    private static IllegalArgumentException invalid(String key, String value, String expected) {
+        return new IllegalArgumentException("Invalid configuration " + key + "='" + value + "', expected " + expected);
+    }
+
+    @Override
+    public String toString() {
+        return "Settings[implicitWait=" + implicitWait + ", explicitWait=" + explicitWait
+                + ", pollingInterval=" + pollingInterval + ", headless=" + headless
+                + ", browserSlots=" + browserSlots + ", daemonPoolSize=" + daemonPoolSize + "]";
+    }
+}
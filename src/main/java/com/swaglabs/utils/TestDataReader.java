@@ -2,15 +2,38 @@ package com.swaglabs.utils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.swaglabs.data.CheckoutDataGenerator;
+import com.swaglabs.data.CheckoutInfo;
+import com.swaglabs.data.Credentials;
+import com.swaglabs.data.Pricing;
+import com.swaglabs.data.Product;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+/**
+ * Test data from testdata.json, overlaid with testdata-&lt;env&gt;.json for each environment in
+ * testdata.env (comma-separated, later files win, objects are merged key by key). The merged
+ * tree is flattened once into an immutable path index ("products.backpack.name"; array elements
+ * by position, "personas.0"), so a lookup is one hash probe, and the common sections are bound
+ * to typed objects at load.
+ */
 public class TestDataReader {
     private static final Logger logger = LoggerFactory.getLogger(TestDataReader.class);
-    private static JsonNode testData;
+    private static Map<String, JsonNode> index;
+    private static Map<String, String> text;
+    private static Credentials credentials;
+    private static CheckoutInfo checkoutInfo;
+    private static Pricing pricing;
+    private static Map<String, Product> products;
 
     static {
         loadTestData();
@@ -18,37 +41,126 @@ public class TestDataReader {
 
     private static void loadTestData() {
         ObjectMapper mapper = new ObjectMapper();
-        try (InputStream inputStream = TestDataReader.class.getClassLoader()
-                .getResourceAsStream("testdata.json")) {
-            if (inputStream != null) {
-                testData = mapper.readTree(inputStream);
-                logger.info("Test data loaded successfully");
-            } else {
-                logger.error("testdata.json file not found in classpath");
-                throw new RuntimeException("testdata.json file not found");
+        JsonNode testData = readFile(mapper, "testdata.json");
+        String environments = ConfigReader.getProperty("testdata.env", "");
+        for (String environment : environments.split(",")) {
+            if (!environment.trim().isEmpty()) {
+                merge(testData, readFile(mapper, "testdata-" + environment.trim() + ".json"));
             }
+        }
+
+        Map<String, JsonNode> nodes = new HashMap<>();
+        flatten("", testData, nodes);
+        Map<String, String> values = new HashMap<>();
+        nodes.forEach((path, node) -> values.put(path, node.asText()));
+        index = Collections.unmodifiableMap(nodes);
+        text = Collections.unmodifiableMap(values);
+        bindSections(testData);
+        logger.info("Test data loaded successfully ({} paths)", index.size());
+    }
+
+    private static JsonNode readFile(ObjectMapper mapper, String file) {
+        try (InputStream inputStream = TestDataReader.class.getClassLoader().getResourceAsStream(file)) {
+            if (inputStream == null) {
+                logger.error("{} file not found in classpath", file);
+                throw new RuntimeException(file + " file not found");
+            }
+            return mapper.readTree(inputStream);
         } catch (IOException e) {
-            logger.error("Error loading test data", e);
-            throw new RuntimeException("Failed to load test data", e);
+            logger.error("Error loading test data from {}", file, e);
+            throw new RuntimeException("Failed to load test data from " + file, e);
         }
     }
 
-    public static JsonNode getTestData(String path) {
-        String[] keys = path.split("\\.");
-        JsonNode node = testData;
-
-        for (String key : keys) {
-            node = node.get(key);
-            if (node == null) {
-                logger.warn("Test data not found for path: {}", path);
-                return null;
+    private static void merge(JsonNode base, JsonNode overlay) {
+        Iterator<Map.Entry<String, JsonNode>> fields = overlay.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode existing = base.get(field.getKey());
+            if (existing != null && existing.isObject() && field.getValue().isObject()) {
+                merge(existing, field.getValue());
+            } else {
+                ((ObjectNode) base).set(field.getKey(), field.getValue());
+            }
+        }
+    }
+
+    private static void flatten(String path, JsonNode node, Map<String, JsonNode> nodes) {
+        if (!path.isEmpty()) {
+            nodes.put(path, node);
+        }
+        String prefix = path.isEmpty() ? "" : path + ".";
+        if (node.isObject()) {
+            node.fields().forEachRemaining(field -> flatten(prefix + field.getKey(), field.getValue(), nodes));
+        } else if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                flatten(prefix + i, node.get(i), nodes);
             }
         }
+    }
+
+    private static void bindSections(JsonNode testData) {
+        credentials = new Credentials(text.get("credentials.username"), text.get("credentials.password"));
+        if (index.containsKey("checkout")) {
+            checkoutInfo = new CheckoutInfo(text.get("checkout.firstName"), text.get("checkout.lastName"),
+                    text.get("checkout.postalCode"));
+        }
+        if (index.containsKey("pricing")) {
+            pricing = new Pricing(text.get("pricing.subtotal"), text.get("pricing.tax"), text.get("pricing.total"));
+        }
+        Map<String, Product> bound = new LinkedHashMap<>();
+        JsonNode productNodes = testData.get("products");
+        if (productNodes != null) {
+            productNodes.fieldNames().forEachRemaining(key -> bound.put(key, new Product(key,
+                    text.get("products." + key + ".name"), text.get("products." + key + ".price"))));
+        }
+        products = Collections.unmodifiableMap(bound);
+    }
+
+    public static JsonNode getTestData(String path) {
+        JsonNode node = index.get(path);
+        if (node == null) {
+            logger.warn("Test data not found for path: {}", path);
+        }
         return node;
     }
 
     public static String getTestDataAsString(String path) {
-        JsonNode node = getTestData(path);
-        return node != null ? node.asText() : null;
+        String value = text.get(path);
+        if (value == null) {
+            logger.warn("Test data not found for path: {}", path);
+        }
+        return value;
+    }
+
+    public static Credentials getCredentials() {
+        return credentials;
+    }
+
+    /**
+     * The "checkout" section when a data file pins one, otherwise details generated for testName
+     * (see CheckoutDataGenerator.forTest).
+     */
+    public static CheckoutInfo getCheckoutInfo(String testName) {
+        if (checkoutInfo != null) {
+            return checkoutInfo;
+        }
+        return CheckoutInfo.of(CheckoutDataGenerator.forTest(testName).next());
+    }
+
+    public static Pricing getPricing() {
+        return pricing;
+    }
+
+    public static Product getProduct(String key) {
+        Product product = products.get(key);
+        if (product == null) {
+            logger.warn("Test data not found for product: {}", key);
+        }
+        return product;
+    }
+
+    public static Map<String, Product> getProducts() {
+        return products;
     }
-}
\ No newline at end of file
+}
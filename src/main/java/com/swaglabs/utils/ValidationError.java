@@ -0,0 +1,48 @@
+package com.swaglabs.utils;
+
+/**
+ * A checkout form error message, classified by {@link FormValidationHelper#classify}: the field
+ * it is about and what is wrong with it. Messages matching none of the known patterns are
+ * {@link #UNRECOGNIZED}, with no field.
+ */
+public final class ValidationError {
+    public enum Field {
+        FIRST_NAME,
+        LAST_NAME,
+        POSTAL_CODE
+    }
+
+    public enum Kind {
+        REQUIRED,
+        UNRECOGNIZED
+    }
+
+    public static final ValidationError FIRST_NAME_REQUIRED = new ValidationError(Field.FIRST_NAME, Kind.REQUIRED);
+    public static final ValidationError LAST_NAME_REQUIRED = new ValidationError(Field.LAST_NAME, Kind.REQUIRED);
+    public static final ValidationError POSTAL_CODE_REQUIRED = new ValidationError(Field.POSTAL_CODE, Kind.REQUIRED);
+    public static final ValidationError UNRECOGNIZED = new ValidationError(null, Kind.UNRECOGNIZED);
+
+    private final Field field;
+    private final Kind kind;
+
+    private ValidationError(Field field, Kind kind) {
+        this.field = field;
+        this.kind = kind;
+    }
+
+    /**
+     * The field, or null when the message was not recognized.
+     */
+    public Field getField() {
+        return field;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    @Override
+    public String toString() {
+        return field == null ? kind.toString() : field + "_" + kind;
+    }
+}
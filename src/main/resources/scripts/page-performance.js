@@ -0,0 +1,51 @@
+// Collects Navigation Timing, paint and long-task data for the current page in one round trip.
+// Long tasks are buffered by a PerformanceObserver installed on the first call and drained on each call,
+// so every capture reports the long tasks that happened since the previous page object was created.
+var done = arguments[arguments.length - 1];
+var perf = window.__swagPerf;
+if (!perf) {
+    perf = window.__swagPerf = {longTasks: [], observer: null};
+    try {
+        if (PerformanceObserver.supportedEntryTypes.indexOf('longtask') >= 0) {
+            perf.observer = new PerformanceObserver(function (list) {
+                list.getEntries().forEach(function (entry) { perf.longTasks.push(entry.duration); });
+            });
+            perf.observer.observe({type: 'longtask', buffered: true});
+        }
+    } catch (e) {
+        perf.observer = null;
+    }
+}
+
+function collect() {
+    if (perf.observer) {
+        perf.observer.takeRecords().forEach(function (entry) { perf.longTasks.push(entry.duration); });
+    }
+    var nav = performance.getEntriesByType('navigation')[0] || {};
+    var paints = {};
+    performance.getEntriesByType('paint').forEach(function (entry) { paints[entry.name] = entry.startTime; });
+    var tasks = perf.longTasks.splice(0);
+    var resources = performance.getEntriesByType('resource');
+    var resourceTransferSize = resources.reduce(function (sum, entry) { return sum + (entry.transferSize || 0); }, 0);
+    done({
+        url: location.href,
+        timeOrigin: performance.timeOrigin,
+        ttfbMs: nav.responseStart ? nav.responseStart - nav.requestStart : null,
+        domContentLoadedMs: nav.domContentLoadedEventEnd || null,
+        loadEventMs: nav.loadEventEnd || null,
+        transferSize: nav.transferSize || 0,
+        firstPaintMs: paints['first-paint'] || null,
+        firstContentfulPaintMs: paints['first-contentful-paint'] || null,
+        longTaskCount: tasks.length,
+        longTaskTotalMs: tasks.reduce(function (sum, duration) { return sum + duration; }, 0),
+        resourceCount: resources.length,
+        resourceTransferSize: resourceTransferSize,
+        totalTransferSize: (nav.transferSize || 0) + resourceTransferSize
+    });
+}
+
+if (document.readyState === 'complete') {
+    setTimeout(collect, 0);
+} else {
+    window.addEventListener('load', function () { setTimeout(collect, 0); });
+}
@@ -0,0 +1,354 @@
+// Client-side logic for the local Swag Labs stand-in. Mirrors the public app's state model:
+// the session lives in the "session-username" cookie and the cart in localStorage "cart-contents"
+// as a JSON array of item ids, so state can be injected the same way on both targets.
+(function () {
+    'use strict';
+
+    var PASSWORD = 'secret_sauce';
+    var USERS = ['standard_user', 'locked_out_user', 'problem_user',
+        'performance_glitch_user', 'error_user', 'visual_user'];
+    var TAX_RATE = 0.08;
+    var PRODUCTS = [
+        {id: 4, name: 'Sauce Labs Backpack', price: 29.99, image: 'sauce-backpack.svg',
+            desc: 'carry.allTheThings() with the sleek, streamlined Sly Pack that melds uncompromising style with unequaled laptop and tablet protection.'},
+        {id: 0, name: 'Sauce Labs Bike Light', price: 9.99, image: 'bike-light.svg',
+            desc: "A red light isn't the desired state in testing but it sure helps when riding your bike at night. Water-resistant with 3 lighting modes, 1 AAA battery included."},
+        {id: 1, name: 'Sauce Labs Bolt T-Shirt', price: 15.99, image: 'bolt-shirt.svg',
+            desc: 'Get your testing superhero on with the Sauce Labs bolt T-shirt. From American Apparel, 100% ringspun combed cotton, heather gray with red bolt.'},
+        {id: 5, name: 'Sauce Labs Fleece Jacket', price: 49.99, image: 'fleece-jacket.svg',
+            desc: "It's not every day that you come across a midweight quarter-zip fleece jacket capable of handling everything from a relaxing day outdoors to a busy day at the office."},
+        {id: 2, name: 'Sauce Labs Onesie', price: 7.99, image: 'onesie.svg',
+            desc: "Rib snap infant onesie for the junior automation engineer in development. Reinforced 3-snap bottom closure, two-needle hemmed sleeved and bottom won't unravel."},
+        {id: 3, name: 'Test.allTheThings() T-Shirt (Red)', price: 15.99, image: 'red-tatt.svg',
+            desc: 'This classic Sauce Labs t-shirt is perfect to wear when cozying up to your keyboard to automate a few tests. Super-soft and comfy ringspun combed cotton.'}
+    ];
+    var config = window.STANDIN_CONFIG || {};
+
+    function $(selector) {
+        return document.querySelector(selector);
+    }
+
+    function slug(product) {
+        return product.name.toLowerCase().replace(/ /g, '-');
+    }
+
+    function product(id) {
+        for (var i = 0; i < PRODUCTS.length; i++) {
+            if (PRODUCTS[i].id === id) {
+                return PRODUCTS[i];
+            }
+        }
+        return null;
+    }
+
+    function currentUser() {
+        var match = document.cookie.match(/(?:^|;\s*)session-username=([^;]*)/);
+        return match ? decodeURIComponent(match[1]) : null;
+    }
+
+    function setUser(username) {
+        document.cookie = 'session-username=' + encodeURIComponent(username) + '; path=/';
+    }
+
+    function clearUser() {
+        document.cookie = 'session-username=; path=/; expires=Thu, 01 Jan 1970 00:00:00 GMT';
+    }
+
+    function cart() {
+        try {
+            return JSON.parse(localStorage.getItem('cart-contents')) || [];
+        } catch (e) {
+            return [];
+        }
+    }
+
+    function saveCart(items) {
+        localStorage.setItem('cart-contents', JSON.stringify(items));
+        updateBadge();
+    }
+
+    function money(value) {
+        return '$' + value.toFixed(2);
+    }
+
+    function element(tag, attributes, text) {
+        var node = document.createElement(tag);
+        Object.keys(attributes || {}).forEach(function (name) {
+            node.setAttribute(name, attributes[name]);
+        });
+        if (text !== undefined) {
+            node.textContent = text;
+        }
+        return node;
+    }
+
+    function showError(container, message) {
+        container.className = 'error-message-container error';
+        container.innerHTML = '';
+        var heading = element('h3', {'data-test': 'error'}, message);
+        var close = element('button', {'class': 'error-button', 'data-test': 'error-button'}, 'x');
+        close.addEventListener('click', function (event) {
+            event.preventDefault();
+            container.className = 'error-message-container';
+            container.innerHTML = '';
+            document.querySelectorAll('.form_input').forEach(function (input) {
+                input.classList.remove('error');
+            });
+        });
+        heading.appendChild(close);
+        container.appendChild(heading);
+        document.querySelectorAll('.form_input').forEach(function (input) {
+            input.classList.add('error');
+        });
+    }
+
+    // performance_glitch_user blocks the main thread like the public app does
+    function glitch() {
+        if (currentUser() === 'performance_glitch_user' && config.glitchDelayMs > 0) {
+            var end = Date.now() + config.glitchDelayMs;
+            while (Date.now() < end) {
+                // busy wait
+            }
+        }
+    }
+
+    function requireLogin(page) {
+        if (currentUser()) {
+            return true;
+        }
+        sessionStorage.setItem('login-error',
+            "Epic sadface: You can only access '/" + page + "' when you are logged in.");
+        location.replace('./');
+        return false;
+    }
+
+    function updateBadge() {
+        var link = $('[data-test="shopping-cart-link"]');
+        if (!link) {
+            return;
+        }
+        link.innerHTML = '';
+        var count = cart().length;
+        if (count > 0) {
+            link.appendChild(element('span', {'class': 'shopping_cart_badge', 'data-test': 'shopping-cart-badge'},
+                String(count)));
+        }
+    }
+
+    function initHeader() {
+        var menuButton = $('#react-burger-menu-btn');
+        var menu = $('.bm-menu');
+        if (menuButton && menu) {
+            menuButton.addEventListener('click', function () {
+                menu.hidden = !menu.hidden;
+            });
+            $('#logout_sidebar_link').addEventListener('click', function (event) {
+                event.preventDefault();
+                clearUser();
+                location.href = './';
+            });
+            $('#reset_sidebar_link').addEventListener('click', function (event) {
+                event.preventDefault();
+                localStorage.removeItem('cart-contents');
+                location.reload();
+            });
+        }
+        updateBadge();
+    }
+
+    function cartButton(item) {
+        var inCart = cart().indexOf(item.id) >= 0;
+        var button = element('button', {
+            'class': inCart ? 'btn btn_secondary btn_small btn_inventory' : 'btn btn_primary btn_small btn_inventory',
+            'data-test': (inCart ? 'remove-' : 'add-to-cart-') + slug(item),
+            'id': (inCart ? 'remove-' : 'add-to-cart-') + slug(item),
+            'name': (inCart ? 'remove-' : 'add-to-cart-') + slug(item)
+        }, inCart ? 'Remove' : 'Add to cart');
+        button.addEventListener('click', function () {
+            var items = cart();
+            var index = items.indexOf(item.id);
+            if (index >= 0) {
+                items.splice(index, 1);
+            } else {
+                items.push(item.id);
+            }
+            saveCart(items);
+            button.parentNode.replaceChild(cartButton(item), button);
+        });
+        return button;
+    }
+
+    function itemLabel(item, container) {
+        var link = element('a', {
+            'href': '#', 'id': 'item_' + item.id + '_title_link', 'data-test': 'item-' + item.id + '-title-link'
+        });
+        link.appendChild(element('div', {'class': 'inventory_item_name', 'data-test': 'inventory-item-name'},
+            item.name));
+        container.appendChild(link);
+        container.appendChild(element('div', {'class': 'inventory_item_desc', 'data-test': 'inventory-item-desc'},
+            item.desc));
+    }
+
+    function renderCartItems(list, withButtons) {
+        cart().forEach(function (id) {
+            var item = product(id);
+            if (!item) {
+                return;
+            }
+            var row = element('div', {'class': 'cart_item', 'data-test': 'inventory-item'});
+            row.appendChild(element('div', {'class': 'cart_quantity', 'data-test': 'item-quantity'}, '1'));
+            var label = element('div', {'class': 'cart_item_label'});
+            itemLabel(item, label);
+            var priceBar = element('div', {'class': 'item_pricebar'});
+            priceBar.appendChild(element('div', {'class': 'inventory_item_price', 'data-test': 'inventory-item-price'},
+                money(item.price)));
+            if (withButtons) {
+                var remove = element('button', {
+                    'class': 'btn btn_secondary btn_small cart_button',
+                    'data-test': 'remove-' + slug(item), 'id': 'remove-' + slug(item)
+                }, 'Remove');
+                remove.addEventListener('click', function () {
+                    saveCart(cart().filter(function (other) { return other !== item.id; }));
+                    row.parentNode.removeChild(row);
+                });
+                priceBar.appendChild(remove);
+            }
+            label.appendChild(priceBar);
+            row.appendChild(label);
+            list.appendChild(row);
+        });
+    }
+
+    var pages = {
+        'login': function () {
+            var error = sessionStorage.getItem('login-error');
+            sessionStorage.removeItem('login-error');
+            var container = $('.error-message-container');
+            if (error) {
+                showError(container, error);
+            }
+            $('#login_form').addEventListener('submit', function (event) {
+                event.preventDefault();
+                var username = $('[data-test="username"]').value;
+                var password = $('[data-test="password"]').value;
+                if (!username) {
+                    showError(container, 'Epic sadface: Username is required');
+                } else if (!password) {
+                    showError(container, 'Epic sadface: Password is required');
+                } else if (USERS.indexOf(username) < 0 || password !== PASSWORD) {
+                    showError(container, 'Epic sadface: Username and password do not match any user in this service');
+                } else if (username === 'locked_out_user') {
+                    showError(container, 'Epic sadface: Sorry, this user has been locked out.');
+                } else {
+                    setUser(username);
+                    location.href = 'inventory.html';
+                }
+            });
+        },
+
+        'inventory': function () {
+            if (!requireLogin('inventory.html')) {
+                return;
+            }
+            glitch();
+            var list = $('.inventory_list');
+            PRODUCTS.forEach(function (item) {
+                var card = element('div', {'class': 'inventory_item', 'data-test': 'inventory-item'});
+                var imageBox = element('div', {'class': 'inventory_item_img'});
+                var imageLink = element('a', {'href': '#', 'id': 'item_' + item.id + '_img_link',
+                    'data-test': 'item-' + item.id + '-img-link'});
+                imageLink.appendChild(element('img', {'alt': item.name, 'class': 'inventory_item_img',
+                    'src': 'static/media/' + item.image, 'data-test': 'inventory-item-' + slug(item) + '-img'}));
+                imageBox.appendChild(imageLink);
+                card.appendChild(imageBox);
+
+                var description = element('div', {'class': 'inventory_item_description',
+                    'data-test': 'inventory-item-description'});
+                var label = element('div', {'class': 'inventory_item_label'});
+                itemLabel(item, label);
+                description.appendChild(label);
+                var priceBar = element('div', {'class': 'pricebar'});
+                priceBar.appendChild(element('div', {'class': 'inventory_item_price',
+                    'data-test': 'inventory-item-price'}, money(item.price)));
+                priceBar.appendChild(cartButton(item));
+                description.appendChild(priceBar);
+                card.appendChild(description);
+                list.appendChild(card);
+            });
+        },
+
+        'cart': function () {
+            if (!requireLogin('cart.html')) {
+                return;
+            }
+            renderCartItems($('.cart_list'), true);
+            $('[data-test="continue-shopping"]').addEventListener('click', function () {
+                location.href = 'inventory.html';
+            });
+            $('[data-test="checkout"]').addEventListener('click', function () {
+                location.href = 'checkout-step-one.html';
+            });
+        },
+
+        'checkout-step-one': function () {
+            if (!requireLogin('checkout-step-one.html')) {
+                return;
+            }
+            var container = $('.error-message-container');
+            $('[data-test="cancel"]').addEventListener('click', function () {
+                location.href = 'cart.html';
+            });
+            $('#checkout_info_form').addEventListener('submit', function (event) {
+                event.preventDefault();
+                if (!$('[data-test="firstName"]').value) {
+                    showError(container, 'Error: First Name is required');
+                } else if (!$('[data-test="lastName"]').value) {
+                    showError(container, 'Error: Last Name is required');
+                } else if (!$('[data-test="postalCode"]').value) {
+                    showError(container, 'Error: Postal Code is required');
+                } else {
+                    location.href = 'checkout-step-two.html';
+                }
+            });
+        },
+
+        'checkout-step-two': function () {
+            if (!requireLogin('checkout-step-two.html')) {
+                return;
+            }
+            renderCartItems($('.cart_list'), false);
+            var subtotal = cart().reduce(function (sum, id) {
+                var item = product(id);
+                return item ? sum + item.price : sum;
+            }, 0);
+            var tax = Math.round(subtotal * TAX_RATE * 100) / 100;
+            $('[data-test="subtotal-label"]').textContent = 'Item total: ' + money(subtotal);
+            $('[data-test="tax-label"]').textContent = 'Tax: ' + money(tax);
+            $('[data-test="total-label"]').textContent = 'Total: ' + money(subtotal + tax);
+            $('[data-test="cancel"]').addEventListener('click', function () {
+                location.href = 'inventory.html';
+            });
+            $('[data-test="finish"]').addEventListener('click', function () {
+                localStorage.removeItem('cart-contents');
+                location.href = 'checkout-complete.html';
+            });
+        },
+
+        'checkout-complete': function () {
+            if (!requireLogin('checkout-complete.html')) {
+                return;
+            }
+            $('[data-test="back-to-products"]').addEventListener('click', function () {
+                location.href = 'inventory.html';
+            });
+        }
+    };
+
+    var page = document.body.getAttribute('data-page');
+    if (page !== 'login') {
+        initHeader();
+    }
+    if (pages[page]) {
+        pages[page]();
+    }
+})();
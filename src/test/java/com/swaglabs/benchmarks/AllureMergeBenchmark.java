@@ -0,0 +1,117 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.reporting.AllureResultsMerger;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Measures {@link AllureResultsMerger} on synthetic shards: each result has a container and a
+ * screenshot-sized attachment, and a fraction of ids are reused across shards to exercise the
+ * rename path. Prints merge time, throughput and the peak heap seen by the JVM.
+ *
+ * Usage: AllureMergeBenchmark [shards] [resultsPerShard] [attachmentKb] [collisionPercent]
+ */
+public class AllureMergeBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int shards = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int resultsPerShard = args.length > 1 ? Integer.parseInt(args[1]) : 2_500;
+        int attachmentKb = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        int collisionPercent = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+
+        Path root = Files.createTempDirectory("allure-merge-benchmark");
+        try {
+            List<Path> shardDirs = generate(root, shards, resultsPerShard, attachmentKb, collisionPercent);
+            Path output = root.resolve("merged");
+
+            ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+            AllureResultsMerger.Stats stats = new AllureResultsMerger(output,
+                    Runtime.getRuntime().availableProcessors()).merge(shardDirs, Collections.emptyList());
+
+            long peakHeap = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    peakHeap += pool.getPeakUsage().getUsed();
+                }
+            }
+            long merged;
+            try (Stream<Path> files = Files.list(output)) {
+                merged = files.filter(file -> file.getFileName().toString().endsWith("-result.json")).count();
+            }
+
+            System.out.println(stats);
+            System.out.printf(Locale.ROOT, "%d shards x %d results, %d KB attachments: %d results in output, "
+                            + "%d renamed, %d ms, peak heap %d MB%n",
+                    shards, resultsPerShard, attachmentKb, merged, stats.getRenamed(), stats.getMillis(),
+                    peakHeap >> 20);
+            if (merged != (long) shards * resultsPerShard) {
+                throw new IllegalStateException("Expected " + shards * resultsPerShard + " results, merged " + merged);
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(root)) {
+                files.sorted(Collections.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    private static List<Path> generate(Path root, int shards, int resultsPerShard, int attachmentKb,
+                                       int collisionPercent) throws IOException {
+        Random random = new Random(42);
+        byte[] attachment = new byte[attachmentKb * 1024];
+        random.nextBytes(attachment);
+        List<String> sharedIds = new ArrayList<>();
+        for (int i = 0; i < resultsPerShard * collisionPercent / 100; i++) {
+            sharedIds.add(UUID.randomUUID().toString());
+        }
+
+        List<Path> shardDirs = new ArrayList<>();
+        for (int shard = 1; shard <= shards; shard++) {
+            Path dir = Files.createDirectories(root.resolve("shard-" + shard).resolve("allure-results"));
+            List<String> children = new ArrayList<>();
+            for (int i = 0; i < resultsPerShard; i++) {
+                String id = i < sharedIds.size() ? sharedIds.get(i) : UUID.randomUUID().toString();
+                String source = id + "-attachment.png";
+                Files.write(dir.resolve(source), attachment);
+                Files.writeString(dir.resolve(id + "-result.json"), String.format(Locale.ROOT,
+                        "{\"uuid\":\"%s\",\"historyId\":\"h%d\",\"fullName\":\"com.swaglabs.tests.Generated.test%d\","
+                                + "\"name\":\"test%d\",\"status\":\"passed\",\"stage\":\"finished\",\"steps\":[{\"name\":\"step\","
+                                + "\"status\":\"passed\",\"attachments\":[{\"name\":\"Screenshot\",\"source\":\"%s\","
+                                + "\"type\":\"image/png\"}]}],\"attachments\":[],\"labels\":[{\"name\":\"host\","
+                                + "\"value\":\"shard-%d\"}],\"start\":%d,\"stop\":%d}",
+                        id, i, i, i, source, shard, 1_700_000_000_000L + i, 1_700_000_000_500L + i),
+                        StandardCharsets.UTF_8);
+                children.add("\"" + id + "\"");
+            }
+            String container = containerId(sharedIds);
+            Files.writeString(dir.resolve(container + "-container.json"), String.format(Locale.ROOT,
+                    "{\"uuid\":\"%s\",\"name\":\"Generated\",\"children\":[%s],\"befores\":[],\"afters\":[]}",
+                    container, String.join(",", children)), StandardCharsets.UTF_8);
+            Files.writeString(dir.resolve("environment.properties"), "Browser=chrome\nShard=" + shard + "\n",
+                    StandardCharsets.UTF_8);
+            shardDirs.add(dir);
+        }
+        return shardDirs;
+    }
+
+    /**
+     * Container id: the same for every shard when collisions are requested, like a class
+     * container rebuilt with a fixed seed.
+     */
+    private static String containerId(List<String> sharedIds) {
+        return sharedIds.isEmpty() ? UUID.randomUUID().toString()
+                : UUID.nameUUIDFromBytes("container".getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -0,0 +1,105 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.data.CheckoutDataGenerator;
+import com.swaglabs.data.CheckoutRecord;
+
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generation throughput and allocation of {@link CheckoutDataGenerator}: refilling one record
+ * (what bulk consumers use), materialized data provider rows (what tests see), and a
+ * String.format-based generator of the kind it replaces. Allocation is read from the thread's
+ * allocated-bytes counter, so it is exact rather than sampled; each mode is warmed up first.
+ *
+ * Usage: CheckoutDataBenchmark [records] [rounds]
+ */
+public class CheckoutDataBenchmark {
+    private static final String[] FIRST_NAMES = {"Emmanuel", "Kwame", "Akua", "Olivia", "James", "Priya", "Wei"};
+    private static final String[] LAST_NAMES = {"Arhu", "Mensah", "Smith", "Garcia", "Patel", "Chen", "O'Brien"};
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        System.out.printf(Locale.ROOT, "%d records per round, best of %d rounds%n", records, rounds);
+        System.out.printf(Locale.ROOT, "%-12s %16s %16s%n", "mode", "records/sec", "bytes/record");
+        run("fill", records, rounds, CheckoutDataBenchmark::fill);
+        run("rows", records, rounds, CheckoutDataBenchmark::rows);
+        run("formatted", records, rounds, CheckoutDataBenchmark::formatted);
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    private interface Mode {
+        long generate(int records, long seed);
+    }
+
+    private static void run(String name, int records, int rounds, Mode mode) {
+        mode.generate(records, 1);
+        double bestPerSecond = 0;
+        double bytesPerRecord = 0;
+        for (int round = 0; round < rounds; round++) {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            sink += mode.generate(records, round + 2);
+            long nanos = System.nanoTime() - start;
+            long allocated = allocatedBytes() - allocatedBefore;
+            double perSecond = records * 1_000_000_000.0 / nanos;
+            if (perSecond > bestPerSecond) {
+                bestPerSecond = perSecond;
+                bytesPerRecord = (double) allocated / records;
+            }
+        }
+        System.out.printf(Locale.ROOT, "%-12s %16.0f %16.2f%n", name, bestPerSecond, bytesPerRecord);
+    }
+
+    private static long fill(int records, long seed) {
+        CheckoutDataGenerator generator = new CheckoutDataGenerator(seed);
+        CheckoutRecord record = new CheckoutRecord();
+        long checksum = 0;
+        for (int i = 0; i < records; i++) {
+            generator.fill(record);
+            checksum += record.getFirstName().length() + record.getPostalCode().charAt(0);
+        }
+        return checksum;
+    }
+
+    private static long rows(int records, long seed) {
+        Iterator<Object[]> rows = new CheckoutDataGenerator(seed).rows(records);
+        long checksum = 0;
+        while (rows.hasNext()) {
+            checksum += ((String) rows.next()[2]).length();
+        }
+        return checksum;
+    }
+
+    private static long formatted(int records, long seed) {
+        Random random = new Random(seed);
+        long checksum = 0;
+        for (int i = 0; i < records; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String postalCode = random.nextBoolean()
+                    ? String.format("%05d", random.nextInt(100_000))
+                    : String.format("%c%d%c %d%c%d", letter(random), random.nextInt(10), letter(random),
+                    random.nextInt(10), letter(random), random.nextInt(10));
+            checksum += firstName.length() + lastName.length() + postalCode.charAt(0);
+        }
+        return checksum;
+    }
+
+    private static char letter(Random random) {
+        return (char) ('A' + random.nextInt(26));
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
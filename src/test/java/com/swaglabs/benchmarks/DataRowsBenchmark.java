@@ -0,0 +1,143 @@
+package com.swaglabs.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swaglabs.data.CheckoutDataGenerator;
+import com.swaglabs.data.CheckoutRecord;
+import com.swaglabs.data.DataRows;
+import com.swaglabs.sharding.Shard;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Throughput and heap of {@link DataRows} on generated checkout datasets of growing size, against
+ * reading the same rows as one JSON tree (what TestDataReader does with testdata.json). Heap is
+ * the used heap after a full GC, sampled every 10,000 rows while streaming and once the tree is
+ * loaded; streaming stays flat while the tree grows with the file.
+ *
+ * Usage: DataRowsBenchmark [largest row count] [shards]
+ */
+public class DataRowsBenchmark {
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private static long sink;
+
+    public static void main(String[] args) throws IOException {
+        int largest = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int shards = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+        Path directory = Files.createTempDirectory("data-rows");
+        try {
+            System.out.printf(Locale.ROOT, "%-8s %10s %14s %14s %16s%n",
+                    "format", "rows", "rows/sec", "heap MB", "tree heap MB");
+            for (int rows = largest / 100; rows <= largest; rows *= 10) {
+                Path csv = directory.resolve("checkout-" + rows + ".csv");
+                Path jsonl = directory.resolve("checkout-" + rows + ".jsonl");
+                Path json = directory.resolve("checkout-" + rows + ".json");
+                write(csv, jsonl, json, rows);
+                double treeHeap = treeHeapMb(json);
+                run("csv", csv, rows, treeHeap);
+                run("jsonl", jsonl, rows, treeHeap);
+            }
+
+            Path jsonl = directory.resolve("checkout-" + largest + ".jsonl");
+            long start = System.nanoTime();
+            long[] counts = new long[shards];
+            Thread[] threads = new Thread[shards];
+            for (int i = 0; i < shards; i++) {
+                int shard = i;
+                threads[i] = new Thread(() -> {
+                    try (DataRows rows = DataRows.open(jsonl.toString(), new Shard(shard + 1, shards))) {
+                        while (rows.hasNext()) {
+                            rows.next();
+                            counts[shard]++;
+                        }
+                    }
+                });
+                threads[i].start();
+            }
+            long total = 0;
+            for (int i = 0; i < shards; i++) {
+                try {
+                    threads[i].join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                total += counts[i];
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf(Locale.ROOT, "%d shards read %d of %d rows (%.0f rows/sec per shard)%n",
+                    shards, total, largest, total / seconds / shards);
+        } finally {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    private static void run(String format, Path file, int rows, double treeHeap) {
+        double baseline = usedHeapMb();
+        double peak = 0;
+        long start = System.nanoTime();
+        long count = 0;
+        try (DataRows data = DataRows.open(file.toString(), "firstName", "lastName", "postalCode")) {
+            while (data.hasNext()) {
+                sink += ((String) data.next()[2]).length();
+                if (++count % 10_000 == 0) {
+                    peak = Math.max(peak, usedHeapMb() - baseline);
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "%-8s %10d %14.0f %14.1f %16.1f%n",
+                format, count, count / seconds, peak, treeHeap);
+    }
+
+    private static double treeHeapMb(Path json) throws IOException {
+        double baseline = usedHeapMb();
+        JsonNode tree = new ObjectMapper().readTree(json.toFile());
+        double used = usedHeapMb() - baseline;
+        sink += tree.size();
+        return used;
+    }
+
+    private static void write(Path csv, Path jsonl, Path json, int rows) throws IOException {
+        CheckoutDataGenerator generator = new CheckoutDataGenerator(rows);
+        CheckoutRecord record = new CheckoutRecord();
+        try (BufferedWriter csvOut = Files.newBufferedWriter(csv, StandardCharsets.UTF_8);
+             BufferedWriter jsonlOut = Files.newBufferedWriter(jsonl, StandardCharsets.UTF_8);
+             BufferedWriter jsonOut = Files.newBufferedWriter(json, StandardCharsets.UTF_8)) {
+            csvOut.write("firstName,lastName,postalCode\n");
+            jsonOut.write("[");
+            for (int i = 0; i < rows; i++) {
+                generator.fill(record);
+                csvOut.write(record.getFirstName() + "," + record.getLastName() + "," + record.getPostalCode() + "\n");
+                String object = "{\"firstName\":\"" + record.getFirstName() + "\",\"lastName\":\""
+                        + record.getLastName() + "\",\"postalCode\":\"" + record.getPostalCode() + "\"}";
+                jsonlOut.write(object + "\n");
+                jsonOut.write((i == 0 ? "" : ",") + object);
+            }
+            jsonOut.write("]");
+        }
+    }
+
+    private static double usedHeapMb() {
+        System.gc();
+        return MEMORY.getHeapMemoryUsage().getUsed() / (1024.0 * 1024.0);
+    }
+}
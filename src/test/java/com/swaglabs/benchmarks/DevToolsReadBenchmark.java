@@ -0,0 +1,94 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.instrumentation.LatencyHistogram;
+import com.swaglabs.network.DevToolsReads;
+import com.swaglabs.standin.StandInServer;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Per-query latency of the read-only BasePage queries over WebDriver (test to chromedriver to
+ * browser) and over {@link DevToolsReads} (test to browser), against the stand-in login page in
+ * headless Chrome. Element queries go through PageFactory proxies on both paths, so the
+ * WebDriver side includes the findElement a page object pays on every call.
+ *
+ * Usage: DevToolsReadBenchmark [iterations] [warmupIterations]
+ */
+public class DevToolsReadBenchmark {
+
+    @FindBy(css = ".login_logo")
+    private WebElement logo;
+
+    @FindBy(css = "[data-test='login-button']")
+    private WebElement loginButton;
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int warmup = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+        StandInServer server = StandInServer.start(0, 0);
+        WebDriverManager.chromedriver().setup();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--no-sandbox", "--disable-dev-shm-usage", "--remote-allow-origins=*");
+        ChromeDriver driver = new ChromeDriver(options);
+        try {
+            driver.get(server.getBaseUrl());
+            driver.executeScript("localStorage.setItem('cart-contents', '[4,0]');");
+            DevToolsReadBenchmark page = new DevToolsReadBenchmark();
+            PageFactory.initElements(driver, page);
+            DevToolsReads reads = new DevToolsReads(driver);
+
+            Map<String, Supplier<Object>> webDriver = new LinkedHashMap<>();
+            webDriver.put("text", () -> page.logo.isDisplayed() ? page.logo.getText() : null);
+            webDriver.put("displayed", page.loginButton::isDisplayed);
+            webDriver.put("localStorage", () -> driver.executeScript("return localStorage.getItem('cart-contents');"));
+
+            Map<String, Supplier<Object>> devTools = new LinkedHashMap<>();
+            devTools.put("text", () -> reads.elementState(page.logo).orElseThrow().getText());
+            devTools.put("displayed", () -> reads.elementState(page.loginButton).orElseThrow().isVisible());
+            devTools.put("localStorage", () -> reads.localStorageItem("cart-contents").orElseThrow());
+
+            System.out.printf(Locale.ROOT, "%-14s %-10s %9s %9s %9s%n", "query", "path", "p50 us", "p99 us", "mean us");
+            for (String query : webDriver.keySet()) {
+                Object expected = webDriver.get(query).get();
+                Object actual = devTools.get(query).get();
+                if (!String.valueOf(expected).equals(String.valueOf(actual))) {
+                    throw new IllegalStateException(query + ": WebDriver answered " + expected + ", DevTools " + actual);
+                }
+                report(query, "webdriver", measure(webDriver.get(query), warmup, iterations));
+                report(query, "devtools", measure(devTools.get(query), warmup, iterations));
+            }
+        } finally {
+            driver.quit();
+            server.stop();
+        }
+    }
+
+    private static LatencyHistogram measure(Supplier<Object> query, int warmup, int iterations) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < warmup + iterations; i++) {
+            long start = System.nanoTime();
+            query.get();
+            if (i >= warmup) {
+                histogram.recordNanos(System.nanoTime() - start);
+            }
+        }
+        return histogram;
+    }
+
+    private static void report(String query, String path, LatencyHistogram histogram) {
+        System.out.printf(Locale.ROOT, "%-14s %-10s %9.0f %9.0f %9.0f%n", query, path,
+                histogram.getPercentileMillis(50) * 1_000, histogram.getPercentileMillis(99) * 1_000,
+                histogram.getMeanMillis() * 1_000);
+    }
+}
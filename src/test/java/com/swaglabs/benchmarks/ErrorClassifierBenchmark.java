@@ -0,0 +1,118 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.utils.FormValidationHelper;
+import com.swaglabs.utils.ValidationError;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Cost of classifying a checkout error message: the per-pattern scan of
+ * FormValidationHelper.containsAnyPattern (lowercasing the message and every pattern on each
+ * call, once per field as CheckoutOutcome.classify did) against the compiled
+ * {@link FormValidationHelper#classify}. The scan is copied here without its INFO/WARN logging,
+ * which would otherwise dominate, so the comparison is of the matching alone. Messages are the
+ * app's real errors plus random text; both modes must agree on every one before timing.
+ *
+ * Usage: ErrorClassifierBenchmark [classifications] [rounds]
+ */
+public class ErrorClassifierBenchmark {
+    private static final String[] APP_MESSAGES = {
+            "Error: First Name is required",
+            "Error: Last Name is required",
+            "Error: Postal Code is required",
+            "Epic sadface: Username is required",
+            "Epic sadface: Username and password do not match any user in this service"
+    };
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int classifications = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        String[] messages = messages(1024, new Random(42));
+        for (String message : messages) {
+            if (scan(message) != FormValidationHelper.classify(message)) {
+                throw new IllegalStateException("Modes disagree on '" + message + "': " + scan(message)
+                        + " vs " + FormValidationHelper.classify(message));
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "%d classifications per round, best of %d rounds%n", classifications, rounds);
+        System.out.printf(Locale.ROOT, "%-12s %16s %14s%n", "mode", "messages/sec", "ns/message");
+        run("scan", classifications, rounds, messages, ErrorClassifierBenchmark::scan);
+        run("compiled", classifications, rounds, messages, FormValidationHelper::classify);
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    private interface Classifier {
+        ValidationError classify(String message);
+    }
+
+    private static void run(String name, int classifications, int rounds, String[] messages, Classifier classifier) {
+        int mask = messages.length - 1;
+        for (int i = 0; i < classifications; i++) {
+            sink += classifier.classify(messages[i & mask]).hashCode();
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < classifications; i++) {
+                sink += classifier.classify(messages[i & mask]).hashCode();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf(Locale.ROOT, "%-12s %16.0f %14.1f%n", name,
+                classifications * 1e9 / best, (double) best / classifications);
+    }
+
+    /**
+     * Half the app's messages in varying case, half random printable text of up to 81 characters
+     * (never blank, which classify leaves unclassified).
+     */
+    private static String[] messages(int count, Random random) {
+        String[] messages = new String[count];
+        for (int i = 0; i < count; i++) {
+            if (random.nextBoolean()) {
+                String message = APP_MESSAGES[random.nextInt(APP_MESSAGES.length)];
+                messages[i] = random.nextBoolean() ? message : message.toUpperCase(Locale.ROOT);
+            } else {
+                StringBuilder text = new StringBuilder().append((char) ('!' + random.nextInt(94)));
+                for (int length = 1 + random.nextInt(80); length > 0; length--) {
+                    text.append((char) (' ' + random.nextInt(95)));
+                }
+                messages[i] = text.toString();
+            }
+        }
+        return messages;
+    }
+
+    private static ValidationError scan(String message) {
+        if (containsAnyPattern(message, FormValidationHelper.FIRST_NAME_ERROR_PATTERNS)) {
+            return ValidationError.FIRST_NAME_REQUIRED;
+        }
+        if (containsAnyPattern(message, FormValidationHelper.LAST_NAME_ERROR_PATTERNS)) {
+            return ValidationError.LAST_NAME_REQUIRED;
+        }
+        if (containsAnyPattern(message, FormValidationHelper.POSTAL_CODE_ERROR_PATTERNS)) {
+            return ValidationError.POSTAL_CODE_REQUIRED;
+        }
+        return ValidationError.UNRECOGNIZED;
+    }
+
+    /**
+     * FormValidationHelper.containsAnyPattern without its logging.
+     */
+    private static boolean containsAnyPattern(String actualMessage, String[] patterns) {
+        String normalizedMessage = actualMessage.toLowerCase().trim();
+        for (String pattern : patterns) {
+            if (normalizedMessage.contains(pattern.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.runner.VirtualThreads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares test throughput when methods are scheduled on virtual threads versus fixed
+ * platform-thread pools. Each simulated test loads data, holds one of a limited number of
+ * browser slots while it blocks on WebDriver I/O, then writes its report; only the browser
+ * phase is throttled, which is how {@link com.swaglabs.base.BrowserSlots} gates real runs.
+ *
+ * Usage: SchedulerBenchmark [tests] [browserSlots] [setupMs] [browserMs] [reportMs]
+ */
+public class SchedulerBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int tests = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int browserSlots = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        long setupMs = args.length > 2 ? Long.parseLong(args[2]) : 20;
+        long browserMs = args.length > 3 ? Long.parseLong(args[3]) : 5;
+        long reportMs = args.length > 4 ? Long.parseLong(args[4]) : 20;
+
+        System.out.printf(Locale.ROOT, "%d tests, %d browser slots, phases %d/%d/%d ms (setup/browser/report)%n",
+                tests, browserSlots, setupMs, browserMs, reportMs);
+        System.out.printf(Locale.ROOT, "%-24s %10s %12s%n", "scheduler", "wall ms", "tests/sec");
+
+        int[] platformPools = {browserSlots, browserSlots * 4, 512};
+        for (int threads : platformPools) {
+            run("platform(" + threads + ")", Executors.newFixedThreadPool(threads),
+                    tests, browserSlots, setupMs, browserMs, reportMs);
+        }
+        if (VirtualThreads.isAvailable()) {
+            run("virtual", Executors.newCachedThreadPool(VirtualThreads.factory()),
+                    tests, browserSlots, setupMs, browserMs, reportMs);
+        } else {
+            System.out.println("virtual threads unavailable on Java " + Runtime.version().feature());
+        }
+    }
+
+    private static void run(String name, ExecutorService executor, int tests, int browserSlots,
+                            long setupMs, long browserMs, long reportMs) throws Exception {
+        Semaphore slots = new Semaphore(browserSlots, true);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>(tests);
+        for (int i = 0; i < tests; i++) {
+            futures.add(executor.submit(() -> {
+                sleep(setupMs);
+                slots.acquireUninterruptibly();
+                try {
+                    sleep(browserMs);
+                } finally {
+                    slots.release();
+                }
+                sleep(reportMs);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long wallMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        System.out.printf(Locale.ROOT, "%-24s %10d %12.1f%n", name, wallMs, tests * 1000.0 / Math.max(1, wallMs));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
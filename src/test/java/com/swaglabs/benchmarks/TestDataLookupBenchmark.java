@@ -0,0 +1,79 @@
+package com.swaglabs.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swaglabs.utils.TestDataReader;
+
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * Cost of a test data lookup: the former split-and-walk over the Jackson tree, the flattened
+ * path index behind {@link TestDataReader#getTestDataAsString}, and the typed binding
+ * ({@link TestDataReader#getCredentials}). Each mode looks up the paths a shopping flow reads,
+ * best of several rounds after a warm-up.
+ *
+ * Usage: TestDataLookupBenchmark [lookups] [rounds]
+ */
+public class TestDataLookupBenchmark {
+    private static final String[] PATHS = {
+            "credentials.username", "credentials.password", "pricing.subtotal", "pricing.tax", "pricing.total",
+            "products.backpack.name", "products.bikeLight.price", "messages.orderComplete.header"
+    };
+
+    private static long sink;
+
+    public static void main(String[] args) throws Exception {
+        int lookups = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        JsonNode tree;
+        try (InputStream inputStream = TestDataLookupBenchmark.class.getClassLoader()
+                .getResourceAsStream("testdata.json")) {
+            tree = new ObjectMapper().readTree(inputStream);
+        }
+
+        System.out.printf(Locale.ROOT, "%d lookups per round, best of %d rounds%n", lookups, rounds);
+        System.out.printf(Locale.ROOT, "%-12s %12s%n", "mode", "ns/lookup");
+        run("split-walk", lookups, rounds, i -> walk(tree, PATHS[i % PATHS.length]).asText());
+        run("index", lookups, rounds, i -> TestDataReader.getTestDataAsString(PATHS[i % PATHS.length]));
+        run("typed", lookups, rounds, i -> (i & 1) == 0
+                ? TestDataReader.getCredentials().getUsername() : TestDataReader.getPricing().getTotal());
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    private interface Lookup {
+        String get(int i);
+    }
+
+    private static void run(String name, int lookups, int rounds, Lookup lookup) {
+        for (int i = 0; i < lookups; i++) {
+            sink += lookup.get(i).length();
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                sink += lookup.get(i).length();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf(Locale.ROOT, "%-12s %12.1f%n", name, (double) best / lookups);
+    }
+
+    /**
+     * The lookup TestDataReader did before the index.
+     */
+    private static JsonNode walk(JsonNode root, String path) {
+        JsonNode node = root;
+        for (String key : path.split("\\.")) {
+            node = node.get(key);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+}
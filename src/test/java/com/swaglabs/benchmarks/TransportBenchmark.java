@@ -0,0 +1,173 @@
+package com.swaglabs.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.swaglabs.instrumentation.LatencyHistogram;
+import com.swaglabs.transport.PooledHttpClient;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpCommandCodec;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpResponseCodec;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.jdk.JdkHttpClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Per-command latency of the WebDriver HTTP transports against a stub chromedriver that answers
+ * immediately, so the numbers are client and loopback overhead only. Each simulated session has
+ * its own client, as a RemoteWebDriver does, and encodes/decodes commands with the W3C codecs.
+ * Runs one session and then the given number of parallel sessions per transport.
+ *
+ * Usage: TransportBenchmark [sessions] [iterationsPerCommand] [warmupIterations]
+ */
+public class TransportBenchmark {
+    private static final String SESSION = "bench-session";
+    private static final String ELEMENT = "element-6066-11e4-a52e-4f735466cecf";
+
+    public static void main(String[] args) throws Exception {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+        int warmup = args.length > 2 ? Integer.parseInt(args[2]) : 2_000;
+
+        HttpServer stub = startStub(sessions);
+        URI base = URI.create("http://127.0.0.1:" + stub.getAddress().getPort());
+        Map<String, HttpClient.Factory> transports = new LinkedHashMap<>();
+        transports.put("default", new JdkHttpClient.Factory());
+        transports.put("pooled", new PooledHttpClient.Factory());
+        try {
+            System.out.printf(Locale.ROOT, "%-8s %9s %-18s %9s %9s %9s %9s%n",
+                    "transport", "sessions", "command", "p50 us", "p99 us", "mean us", "cmd/sec");
+            for (int parallel : new int[]{1, sessions}) {
+                for (Map.Entry<String, HttpClient.Factory> transport : transports.entrySet()) {
+                    run(transport.getKey(), transport.getValue(), base, parallel, warmup, iterations);
+                }
+            }
+        } finally {
+            stub.stop(0);
+        }
+    }
+
+    private static void run(String name, HttpClient.Factory factory, URI base, int sessions, int warmup,
+                            int iterations) throws Exception {
+        List<Command> commands = commands();
+        Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+        for (Command command : commands) {
+            histograms.put(command.getName(), new LatencyHistogram());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(sessions);
+        CountDownLatch done = new CountDownLatch(sessions);
+        List<Throwable> failures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int s = 0; s < sessions; s++) {
+            executor.execute(() -> {
+                W3CHttpCommandCodec commandCodec = new W3CHttpCommandCodec();
+                W3CHttpResponseCodec responseCodec = new W3CHttpResponseCodec();
+                HttpClient client = factory.createClient(ClientConfig.defaultConfig().baseUri(base));
+                try {
+                    for (int i = 0; i < warmup + iterations; i++) {
+                        for (Command command : commands) {
+                            long commandStart = System.nanoTime();
+                            Response response = responseCodec.decode(client.execute(commandCodec.encode(command)));
+                            long elapsed = System.nanoTime() - commandStart;
+                            if (!"success".equals(response.getState())) {
+                                throw new IllegalStateException(command.getName() + " failed: " + response);
+                            }
+                            if (i >= warmup) {
+                                histograms.get(command.getName()).recordNanos(elapsed);
+                            }
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                } finally {
+                    client.close();
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executor.shutdown();
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException(name + " transport failed", failures.get(0));
+        }
+
+        // Warm-up commands are included in the wall time, so cmd/sec is a lower bound
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double commandsPerSecond = (double) sessions * (warmup + iterations) * commands.size() / seconds;
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            System.out.printf(Locale.ROOT, "%-8s %9d %-18s %9.0f %9.0f %9.0f %9.0f%n", name, sessions,
+                    entry.getKey(), histogram.getPercentileMillis(50) * 1_000, histogram.getPercentileMillis(99) * 1_000,
+                    histogram.getMeanMillis() * 1_000, commandsPerSecond);
+        }
+    }
+
+    /**
+     * The commands behind BasePage helpers: find, read text, click and read the URL.
+     */
+    private static List<Command> commands() {
+        SessionId session = new SessionId(SESSION);
+        List<Command> commands = new ArrayList<>();
+        commands.add(new Command(session, DriverCommand.FIND_ELEMENT,
+                Map.of("using", "css selector", "value", "[data-test='title']")));
+        commands.add(new Command(session, DriverCommand.GET_ELEMENT_TEXT, Map.of("id", "e1")));
+        commands.add(new Command(session, DriverCommand.CLICK_ELEMENT, Map.of("id", "e1")));
+        commands.add(new Command(session, DriverCommand.GET_CURRENT_URL));
+        return commands;
+    }
+
+    private static HttpServer startStub(int threads) throws IOException {
+        // chromedriver disables Nagle; without this the stub adds a 40 ms delayed-ACK stall per command
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/session/" + SESSION, TransportBenchmark::answer);
+        server.setExecutor(Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "stub-chromedriver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+        return server;
+    }
+
+    private static void answer(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        String path = exchange.getRequestURI().getPath();
+        String value;
+        if (path.endsWith("/element")) {
+            value = "{\"" + ELEMENT + "\":\"e1\"}";
+        } else if (path.endsWith("/text")) {
+            value = "\"Products\"";
+        } else if (path.endsWith("/url")) {
+            value = "\"https://www.saucedemo.com/inventory.html\"";
+        } else {
+            value = "null";
+        }
+        byte[] body = ("{\"value\":" + value + "}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
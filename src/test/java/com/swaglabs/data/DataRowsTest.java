@@ -0,0 +1,163 @@
+package com.swaglabs.data;
+
+import com.swaglabs.sharding.Shard;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * DataRows' RFC 4180 reader, its JSON Lines reader and the shard filter, on small files written
+ * per test.
+ */
+public class DataRowsTest {
+    private Path directory;
+
+    @BeforeClass
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("data-rows-test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private String write(String name, String content) throws IOException {
+        Path file = directory.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toString();
+    }
+
+    private static List<List<Object>> readAll(DataRows rows) {
+        List<List<Object>> all = new ArrayList<>();
+        try (DataRows data = rows) {
+            while (data.hasNext()) {
+                all.add(Arrays.asList(data.next()));
+            }
+        }
+        return all;
+    }
+
+    private static List<Object> row(Object... values) {
+        return Arrays.asList(values);
+    }
+
+    @Test
+    public void testQuotedFieldsMayHoldCommas() throws IOException {
+        String file = write("commas.csv", "first,last\n\"Smith, Jr.\",Jones\nAna,\"a,b,c\"\n");
+
+        Assert.assertEquals(readAll(DataRows.open(file)),
+                Arrays.asList(row("Smith, Jr.", "Jones"), row("Ana", "a,b,c")));
+    }
+
+    @Test
+    public void testDoubledQuotesAreEscapedQuotes() throws IOException {
+        String file = write("quotes.csv", "first,last\n\"Dwayne \"\"The Rock\"\"\",Johnson\n\"\"\"\",\"\"\n");
+
+        Assert.assertEquals(readAll(DataRows.open(file)),
+                Arrays.asList(row("Dwayne \"The Rock\"", "Johnson"), row("\"", "")));
+    }
+
+    @Test
+    public void testLineBreaksInsideQuotesAreKept() throws IOException {
+        String file = write("breaks.csv", "first,last\r\n\"Line\r\nbreak\",Jones\r\n\"Lone\ncarriage\rreturn\",Doe\r\n");
+
+        Assert.assertEquals(readAll(DataRows.open(file)),
+                Arrays.asList(row("Line\r\nbreak", "Jones"), row("Lone\ncarriage\rreturn", "Doe")));
+    }
+
+    @Test
+    public void testBlankLinesAreSkipped() throws IOException {
+        String file = write("blank.csv", "\r\nfirst,last\n\nAna,Lee\r\n\r\n\nBo,Kim\n\n");
+
+        Assert.assertEquals(readAll(DataRows.open(file)), Arrays.asList(row("Ana", "Lee"), row("Bo", "Kim")));
+    }
+
+    @Test
+    public void testEmptyFieldsAreNotBlankLines() throws IOException {
+        String file = write("empty.csv", "first,last\n,\n\"\"\nAna,\n");
+
+        Assert.assertEquals(readAll(DataRows.open(file)),
+                Arrays.asList(row("", ""), row("", null), row("Ana", "")));
+    }
+
+    @Test
+    public void testLastRecordWithoutLineBreak() throws IOException {
+        String file = write("unterminated.csv", "first,last\nAna,Lee");
+
+        Assert.assertEquals(readAll(DataRows.open(file)), Arrays.asList(row("Ana", "Lee")));
+    }
+
+    @Test
+    public void testColumnsAreSelectedByHeaderName() throws IOException {
+        String file = write("columns.csv", "\uFEFFfirst,last,postal\nAna,Lee,12345\n");
+
+        DataRows rows = DataRows.open(file, "postal", "first");
+        Assert.assertEquals(rows.getColumns(), Arrays.asList("postal", "first"));
+        Assert.assertEquals(readAll(rows), Arrays.asList(row("12345", "Ana")));
+        Assert.assertEquals(DataRows.open(file).getColumns(), Arrays.asList("first", "last", "postal"),
+                "The byte order mark should not be part of the first column");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*no column postal.*")
+    public void testMissingColumnFails() throws IOException {
+        DataRows.open(write("missing.csv", "first,last\nAna,Lee\n"), "postal");
+    }
+
+    @Test
+    public void testShardsSplitRowsDisjointly() throws IOException {
+        StringBuilder content = new StringBuilder("n\n");
+        for (int i = 0; i < 10; i++) {
+            content.append(i).append('\n');
+        }
+        String file = write("shards.csv", content.toString());
+
+        Assert.assertEquals(readAll(DataRows.open(file, new Shard(1, 3))), Arrays.asList(row("0"), row("3"), row("6"), row("9")));
+        Assert.assertEquals(readAll(DataRows.open(file, new Shard(2, 3))), Arrays.asList(row("1"), row("4"), row("7")));
+        Assert.assertEquals(readAll(DataRows.open(file, new Shard(3, 3))), Arrays.asList(row("2"), row("5"), row("8")));
+        Assert.assertEquals(readAll(DataRows.open(file, Shard.parse("1/1"))).size(), 10);
+    }
+
+    @Test
+    public void testShardsCountRecordsNotLines() throws IOException {
+        // The quoted line break and the blank line must not shift which shard a record lands in
+        String file = write("shard-records.csv", "n\n\"a\nb\"\n\nc\nd\n");
+
+        Assert.assertEquals(readAll(DataRows.open(file, new Shard(1, 2))), Arrays.asList(row("a\nb"), row("d")));
+        Assert.assertEquals(readAll(DataRows.open(file, new Shard(2, 2))), Arrays.asList(row("c")));
+    }
+
+    @Test
+    public void testJsonLinesRows() throws IOException {
+        String file = write("rows.jsonl", "{\"first\":\"Ana\",\"last\":\"Lee\",\"age\":30}\n"
+                + "{\"last\":\"Kim\",\"tags\":[1,2]}\n\n{\"first\":null,\"last\":\"Doe\"}\n");
+
+        Assert.assertEquals(readAll(DataRows.open(file, "first", "last")),
+                Arrays.asList(row("Ana", "Lee"), row(null, "Kim"), row(null, "Doe")));
+        Assert.assertEquals(DataRows.open(file).getColumns(), Arrays.asList("first", "last", "age"));
+        Assert.assertEquals(readAll(DataRows.open(file, new Shard(2, 2), "last")), Arrays.asList(row("Kim")));
+    }
+
+    @Test
+    public void testClassPathResource() {
+        DataRows rows = DataRows.open("datasets/checkout-validation.csv");
+        Assert.assertEquals(rows.getColumns(), Arrays.asList("firstName", "lastName", "postalCode", "expected"));
+        Assert.assertTrue(rows.hasNext(), "The bundled dataset should have rows");
+        rows.close();
+    }
+}
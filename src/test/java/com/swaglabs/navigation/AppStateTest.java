@@ -0,0 +1,133 @@
+package com.swaglabs.navigation;
+
+import com.swaglabs.utils.TestDataReader;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * AppState's value semantics and the state changes of the standard {@link Transitions}, which
+ * the Navigator plans over and random walks follow.
+ */
+public class AppStateTest {
+    private static final String USER = "standard_user";
+
+    private final List<Transition> transitions = Transitions.standard();
+
+    private Transition transition(String name) {
+        for (Transition transition : transitions) {
+            if (transition.getName().equals(name)) {
+                return transition;
+            }
+        }
+        throw new AssertionError("No transition " + name);
+    }
+
+    @Test
+    public void testEqualityIgnoresCartOrder() {
+        AppState state = AppState.of(Screen.CART, USER, 4, 0);
+        Assert.assertEquals(state, AppState.of(Screen.CART, USER, Arrays.asList(0, 4)));
+        Assert.assertEquals(state.hashCode(), AppState.of(Screen.CART, USER, 0, 4).hashCode());
+        Assert.assertEquals(state.getCart().first(), Integer.valueOf(0));
+        Assert.assertNotEquals(state, AppState.of(Screen.CART, null, 4, 0));
+        Assert.assertNotEquals(state, AppState.of(Screen.INVENTORY, USER, 4, 0));
+    }
+
+    @Test
+    public void testWithersLeaveTheOriginalUnchanged() {
+        AppState state = AppState.of(Screen.INVENTORY, USER, 4);
+        AppState changed = state.withItem(0).withoutItem(4).withScreen(Screen.CART).withUser(null);
+
+        Assert.assertEquals(changed, AppState.of(Screen.CART, null, 0));
+        Assert.assertFalse(changed.isLoggedIn());
+        Assert.assertEquals(state, AppState.of(Screen.INVENTORY, USER, 4));
+        Assert.assertEquals(state.withItem(4), state, "Adding an item already in the cart changes nothing");
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testCartIsReadOnly() {
+        AppState.of(Screen.CART, USER, 4).getCart().add(0);
+    }
+
+    @Test
+    public void testLoginOnlyAppliesLoggedOutOnTheLoginScreen() {
+        Transition login = transition("login");
+        AppState loggedOut = AppState.of(Screen.LOGIN, null);
+
+        Assert.assertEquals(login.next(loggedOut, AppState.of(Screen.CART, USER, 4)),
+                AppState.of(Screen.INVENTORY, USER));
+        Assert.assertNull(login.next(loggedOut, AppState.of(Screen.LOGIN, null)));
+        Assert.assertNull(login.next(AppState.of(Screen.INVENTORY, null), AppState.of(Screen.CART, USER)));
+        Assert.assertEquals(login.effect(loggedOut),
+                AppState.of(Screen.INVENTORY, TestDataReader.getCredentials().getUsername()));
+        Assert.assertNull(login.effect(AppState.of(Screen.LOGIN, USER)));
+    }
+
+    @Test
+    public void testAddToCartOnlyTowardsAGoalHoldingTheItem() {
+        Transition addBackpack = transition("addToCart:4");
+        AppState inventory = AppState.of(Screen.INVENTORY, USER);
+
+        Assert.assertEquals(addBackpack.next(inventory, AppState.of(Screen.CART, USER, 4)), inventory.withItem(4));
+        Assert.assertNull(addBackpack.next(inventory, AppState.of(Screen.CART, USER, 0)));
+        Assert.assertNull(addBackpack.effect(inventory.withItem(4)));
+        Assert.assertNull(addBackpack.effect(AppState.of(Screen.CART, USER)));
+        Assert.assertNull(addBackpack.effect(AppState.of(Screen.INVENTORY, null)));
+    }
+
+    @Test
+    public void testRemoveFromCartOnItsOwnScreen() {
+        AppState cart = AppState.of(Screen.CART, USER, 4, 0);
+
+        Assert.assertEquals(transition("removeFromCart:4@cart").effect(cart), AppState.of(Screen.CART, USER, 0));
+        Assert.assertNull(transition("removeFromCart:4").effect(cart));
+        Assert.assertNull(transition("removeFromCart:4@cart").next(cart, AppState.of(Screen.CART, USER, 4)));
+        Assert.assertEquals(transition("removeFromCart:0").effect(cart.withScreen(Screen.INVENTORY)),
+                AppState.of(Screen.INVENTORY, USER, 4));
+    }
+
+    @Test
+    public void testPageLinksMoveBetweenScreensAndFinishEmptiesTheCart() {
+        AppState overview = AppState.of(Screen.CHECKOUT_STEP_TWO, USER, 4, 0);
+
+        Assert.assertEquals(transition("finish").effect(overview), AppState.of(Screen.CHECKOUT_COMPLETE, USER));
+        Assert.assertEquals(transition("cancelOverview").effect(overview), overview.withScreen(Screen.INVENTORY));
+        Assert.assertEquals(transition("checkout").effect(AppState.of(Screen.CART, USER, 4)),
+                AppState.of(Screen.CHECKOUT_STEP_ONE, USER, 4));
+        Assert.assertNull(transition("checkout").effect(AppState.of(Screen.INVENTORY, USER, 4)));
+        Assert.assertNull(transition("openCart").effect(AppState.of(Screen.INVENTORY, null)));
+    }
+
+    @Test
+    public void testTeleportTakesTheGoalsSessionAndCart() {
+        Transition teleport = transition("teleport:checkout_step_one");
+        AppState blank = AppState.of(Screen.BLANK, null);
+        AppState goal = AppState.of(Screen.CHECKOUT_STEP_ONE, USER, 4);
+
+        Assert.assertEquals(teleport.next(blank, goal), goal);
+        Assert.assertEquals(teleport.next(blank, AppState.of(Screen.CART, USER, 0)),
+                AppState.of(Screen.CHECKOUT_STEP_ONE, USER, 0));
+        Assert.assertNull(teleport.next(goal, goal), "A teleport to where the app already is goes nowhere");
+        Assert.assertNull(teleport.next(blank, AppState.of(Screen.LOGIN, null)),
+                "Only the login screen can be reached logged out");
+        Assert.assertNull(teleport.effect(blank), "Teleports only apply towards a goal");
+
+        Assert.assertEquals(transition("teleport:login").next(AppState.of(Screen.CART, USER, 4),
+                AppState.of(Screen.LOGIN, null, 4)), AppState.of(Screen.LOGIN, null, 4));
+    }
+
+    @Test
+    public void testTeleportCostKeyNamesTheInjections() {
+        Transition teleport = transition("teleport:cart");
+        AppState cart = AppState.of(Screen.CART, USER, 4);
+
+        Assert.assertEquals(teleport.costKey(AppState.of(Screen.BLANK, null), cart), "teleport:cart[origin+session+cart]");
+        Assert.assertEquals(teleport.costKey(AppState.of(Screen.INVENTORY, USER, 4), cart), "teleport:cart");
+        Assert.assertEquals(teleport.costKey(AppState.of(Screen.INVENTORY, USER), cart), "teleport:cart[cart]");
+        Assert.assertEquals(teleport.costKey(AppState.of(Screen.INVENTORY, "other_user", 4), cart),
+                "teleport:cart[session]");
+        Assert.assertEquals(transition("openCart").costKey(AppState.of(Screen.INVENTORY, USER), cart), "openCart");
+    }
+}
@@ -0,0 +1,141 @@
+package com.swaglabs.navigation;
+
+import com.swaglabs.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Navigator.plan on small graphs of fixed-cost edges, and on the standard graph with its priors.
+ * Planning reads no browser state, so the navigator gets no driver.
+ */
+public class NavigatorTest {
+    private static final String USER = "standard_user";
+
+    @BeforeClass
+    public void isolateCostHistory() {
+        // Plans must follow the priors, not latencies learned by earlier browser runs
+        ConfigReader.setProperty("navigation.costs.file", "target/unit/navigation-costs-none.csv");
+    }
+
+    private static Navigator navigator(Transition... transitions) {
+        return new Navigator(null, null, Arrays.asList(transitions));
+    }
+
+    private static List<String> names(List<Navigator.Step> path) {
+        return path.stream().map(step -> step.getTransition().getName()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testPlanIsEmptyAtTheGoal() {
+        AppState state = AppState.of(Screen.CART, USER, 4);
+        Assert.assertTrue(navigator(new Edge("a", Screen.CART, Screen.INVENTORY, 1)).plan(state, state).isEmpty());
+    }
+
+    @Test
+    public void testPlanPrefersTheCheaperLongerPath() {
+        Navigator navigator = navigator(
+                new Edge("unit:direct", Screen.LOGIN, Screen.CART, 100),
+                new Edge("unit:first", Screen.LOGIN, Screen.INVENTORY, 30),
+                new Edge("unit:second", Screen.INVENTORY, Screen.CART, 30));
+
+        List<Navigator.Step> path = navigator.plan(AppState.of(Screen.LOGIN, USER), AppState.of(Screen.CART, USER));
+
+        Assert.assertEquals(names(path), Arrays.asList("unit:first", "unit:second"));
+        Assert.assertEquals(path.get(0).getTo(), path.get(1).getFrom(), "Steps should chain");
+        Assert.assertEquals(path.stream().mapToDouble(Navigator.Step::getEstimatedMillis).sum(), 60.0);
+    }
+
+    @Test
+    public void testPlanTakesTheDirectEdgeWhenItIsCheapest() {
+        Navigator navigator = navigator(
+                new Edge("unit:direct-cheap", Screen.LOGIN, Screen.CART, 50),
+                new Edge("unit:first-dear", Screen.LOGIN, Screen.INVENTORY, 30),
+                new Edge("unit:second-dear", Screen.INVENTORY, Screen.CART, 30));
+
+        List<Navigator.Step> path = navigator.plan(AppState.of(Screen.LOGIN, USER), AppState.of(Screen.CART, USER));
+
+        Assert.assertEquals(names(path), Arrays.asList("unit:direct-cheap"));
+    }
+
+    @Test
+    public void testPlanRevisitsAStateReachedCheaperLater() {
+        // CART is first reached at 10 + 100, then improved to 10 + 20 + 20 via INVENTORY
+        Navigator navigator = navigator(
+                new Edge("unit:start", Screen.LOGIN, Screen.CHECKOUT_STEP_ONE, 10),
+                new Edge("unit:slow", Screen.CHECKOUT_STEP_ONE, Screen.CART, 100),
+                new Edge("unit:detour", Screen.CHECKOUT_STEP_ONE, Screen.INVENTORY, 20),
+                new Edge("unit:back", Screen.INVENTORY, Screen.CART, 20),
+                new Edge("unit:last", Screen.CART, Screen.CHECKOUT_COMPLETE, 5));
+
+        List<Navigator.Step> path = navigator.plan(AppState.of(Screen.LOGIN, USER),
+                AppState.of(Screen.CHECKOUT_COMPLETE, USER));
+
+        Assert.assertEquals(names(path), Arrays.asList("unit:start", "unit:detour", "unit:back", "unit:last"));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "No navigation path.*")
+    public void testPlanFailsWithoutAPath() {
+        navigator(new Edge("unit:only", Screen.LOGIN, Screen.INVENTORY, 1))
+                .plan(AppState.of(Screen.LOGIN, USER), AppState.of(Screen.CART, USER));
+    }
+
+    @Test
+    public void testStandardGraphTeleportsFromAFreshSession() {
+        Navigator navigator = new Navigator(null, null);
+        AppState goal = AppState.of(Screen.CHECKOUT_STEP_ONE, USER, 4, 0);
+
+        List<Navigator.Step> path = navigator.plan(AppState.of(Screen.BLANK, null), goal);
+
+        Assert.assertEquals(names(path), Arrays.asList("teleport:checkout_step_one"));
+        Assert.assertEquals(path.get(0).getCostKey(), "teleport:checkout_step_one[origin+session+cart]");
+        Assert.assertEquals(path.get(0).getTo(), goal);
+    }
+
+    @Test
+    public void testStandardGraphClicksWhenTheUiIsCheaper() {
+        Navigator navigator = new Navigator(null, null);
+
+        List<Navigator.Step> path = navigator.plan(AppState.of(Screen.INVENTORY, USER),
+                AppState.of(Screen.INVENTORY, USER, 4));
+
+        Assert.assertEquals(names(path), Arrays.asList("addToCart:4"));
+    }
+
+    /**
+     * Moves between two screens at a fixed cost, keeping session and cart.
+     */
+    private static final class Edge extends Transition {
+        private final Screen source;
+        private final Screen target;
+        private final double millis;
+
+        private Edge(String name, Screen source, Screen target, double millis) {
+            super(name, Kind.UI);
+            this.source = source;
+            this.target = target;
+            this.millis = millis;
+        }
+
+        @Override
+        public AppState next(AppState from, AppState goal) {
+            return from.getScreen() == source ? from.withScreen(target) : null;
+        }
+
+        @Override
+        public void perform(WebDriver driver, WebDriverWait wait, AppState from, AppState to) {
+            throw new UnsupportedOperationException("Planning only");
+        }
+
+        @Override
+        public double priorMillis(AppState from, AppState to) {
+            return millis;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.swaglabs.navigation;
+
+import com.swaglabs.pages.CheckoutStepOnePage;
+import com.swaglabs.pages.LoginPage;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class ScreenTest {
+    private static final String BASE_URL = "https://www.saucedemo.com";
+
+    @DataProvider(name = "urls")
+    public Object[][] urls() {
+        return new Object[][]{
+                {"https://www.saucedemo.com", Screen.LOGIN},
+                {"https://www.saucedemo.com/", Screen.LOGIN},
+                {"https://www.saucedemo.com/index.html", Screen.LOGIN},
+                {"https://www.saucedemo.com/inventory.html", Screen.INVENTORY},
+                {"https://www.saucedemo.com/cart.html", Screen.CART},
+                {"https://www.saucedemo.com/checkout-step-one.html", Screen.CHECKOUT_STEP_ONE},
+                {"https://www.saucedemo.com/checkout-step-two.html", Screen.CHECKOUT_STEP_TWO},
+                {"https://www.saucedemo.com/checkout-complete.html", Screen.CHECKOUT_COMPLETE},
+                {"https://www.saucedemo.com/inventory.html?sort=az", Screen.INVENTORY},
+                {"https://www.saucedemo.com/cart.html#top", Screen.CART},
+                {"https://www.saucedemo.com/?utm=1", Screen.LOGIN},
+                {"https://www.saucedemo.com/inventory-item.html?id=4", Screen.BLANK},
+                {"https://www.saucedemo.com.example.org/inventory.html", Screen.BLANK},
+                {"https://example.org/inventory.html", Screen.BLANK},
+                {"about:blank", Screen.BLANK},
+                {"data:,", Screen.BLANK},
+                {null, Screen.BLANK}
+        };
+    }
+
+    @Test(dataProvider = "urls")
+    public void testFromUrl(String url, Screen expected) {
+        Assert.assertEquals(Screen.fromUrl(url, BASE_URL), expected, "Screen for " + url);
+    }
+
+    @Test
+    public void testFromUrlIgnoresTrailingSlashesOnBaseUrl() {
+        Assert.assertEquals(Screen.fromUrl("http://localhost:8080/cart.html", "http://localhost:8080//"), Screen.CART);
+        Assert.assertEquals(Screen.fromUrl("http://localhost:8080", "http://localhost:8080/"), Screen.LOGIN);
+    }
+
+    @Test
+    public void testUrlForRoundTripsThroughFromUrl() {
+        for (Screen screen : Screen.values()) {
+            if (screen != Screen.BLANK) {
+                Assert.assertEquals(Screen.fromUrl(screen.urlFor(BASE_URL + "/"), BASE_URL), screen,
+                        "Round trip of " + screen);
+            }
+        }
+    }
+
+    @Test
+    public void testOfPageClass() {
+        Assert.assertEquals(Screen.of(LoginPage.class), Screen.LOGIN);
+        Assert.assertEquals(Screen.of(CheckoutStepOnePage.class), Screen.CHECKOUT_STEP_ONE);
+    }
+}
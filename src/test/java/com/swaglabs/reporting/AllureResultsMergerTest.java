@@ -0,0 +1,166 @@
+package com.swaglabs.reporting;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * AllureResultsMerger on two hand-written shards that reuse the same result, container and
+ * attachment ids, as shards of one suite do when their UUIDs collide or a shard is rerun.
+ */
+public class AllureResultsMergerTest {
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final String RESULT_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String CONTAINER_ID = "22222222-2222-2222-2222-222222222222";
+    private static final String ATTACHMENT_ID = "33333333-3333-3333-3333-333333333333";
+
+    private Path directory;
+    private Path output;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("allure-merger-test");
+        output = directory.resolve("merged");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private Path shard(String name, String testName, String historyId) throws IOException {
+        Path shard = Files.createDirectories(directory.resolve(name));
+        Files.writeString(shard.resolve(RESULT_ID + "-result.json"), "{\"uuid\":\"" + RESULT_ID + "\","
+                + "\"name\":\"" + testName + "\",\"historyId\":\"" + historyId + "\",\"status\":\"passed\","
+                + "\"steps\":[{\"name\":\"step\",\"attachments\":[{\"name\":\"HAR\",\"source\":\""
+                + ATTACHMENT_ID + "-attachment.har\"}]}],"
+                + "\"attachments\":[{\"name\":\"Screenshot\",\"source\":\"" + ATTACHMENT_ID + "-attachment.har\"}]}",
+                StandardCharsets.UTF_8);
+        Files.writeString(shard.resolve(CONTAINER_ID + "-container.json"), "{\"uuid\":\"" + CONTAINER_ID + "\","
+                + "\"name\":\"" + testName + " container\",\"children\":[\"" + RESULT_ID + "\"]}",
+                StandardCharsets.UTF_8);
+        Files.writeString(shard.resolve(ATTACHMENT_ID + "-attachment.har"), testName + " traffic",
+                StandardCharsets.UTF_8);
+        Files.writeString(shard.resolve("environment.properties"), "Browser=chrome\nShard=" + name + "\n",
+                StandardCharsets.UTF_8);
+        Path history = Files.createDirectories(shard.resolve("history"));
+        Files.writeString(history.resolve("history.json"), "{\"" + historyId + "\":{\"items\":[]}}",
+                StandardCharsets.UTF_8);
+        return shard;
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(output)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(suffix))
+                    .sorted().collect(Collectors.toList());
+        }
+    }
+
+    private JsonNode resultNamed(String testName) throws IOException {
+        for (Path file : files("-result.json")) {
+            JsonNode result = mapper.readTree(file.toFile());
+            if (testName.equals(result.get("name").asText())) {
+                return result;
+            }
+        }
+        throw new AssertionError("No merged result named " + testName);
+    }
+
+    @Test
+    public void testCollidingIdsAreRenamedAndReferencesFollow() throws IOException {
+        AllureResultsMerger.Stats stats = new AllureResultsMerger(output, 2).merge(
+                Arrays.asList(shard("shard-1", "first", "h1"), shard("shard-2", "second", "h2")),
+                Collections.emptyList());
+
+        Assert.assertEquals(stats.getResults(), 2);
+        Assert.assertEquals(stats.getRenamed(), 3, "The second shard's result, container and attachment collide");
+        Assert.assertEquals(files("-result.json").size(), 2);
+        Assert.assertEquals(files("-container.json").size(), 2);
+        Assert.assertEquals(files("-attachment.har").size(), 2);
+
+        JsonNode first = resultNamed("first");
+        JsonNode second = resultNamed("second");
+        Assert.assertEquals(first.get("uuid").asText(), RESULT_ID, "The first shard keeps its ids");
+        String renamedId = second.get("uuid").asText();
+        Assert.assertNotEquals(renamedId, RESULT_ID);
+        Assert.assertTrue(Files.exists(output.resolve(renamedId + "-result.json")),
+                "The renamed result's file name should start with its new uuid");
+
+        // Every source of the renamed result, nested in steps or not, points at its own attachment
+        String source = second.get("attachments").get(0).get("source").asText();
+        Assert.assertEquals(second.get("steps").get(0).get("attachments").get(0).get("source").asText(), source);
+        Assert.assertNotEquals(source, ATTACHMENT_ID + "-attachment.har");
+        Assert.assertEquals(Files.readString(output.resolve(source), StandardCharsets.UTF_8), "second traffic");
+        Assert.assertEquals(Files.readString(output.resolve(ATTACHMENT_ID + "-attachment.har"),
+                StandardCharsets.UTF_8), "first traffic");
+
+        List<String> children = new ArrayList<>();
+        for (Path file : files("-container.json")) {
+            mapper.readTree(file.toFile()).get("children").forEach(child -> children.add(child.asText()));
+        }
+        Collections.sort(children);
+        List<String> expected = new ArrayList<>(Arrays.asList(RESULT_ID, renamedId));
+        Collections.sort(expected);
+        Assert.assertEquals(children, expected, "Each container should list its own shard's result");
+    }
+
+    @Test
+    public void testHistoryAndEnvironmentAreUnioned() throws IOException {
+        Path previous = Files.createDirectories(directory.resolve("previous-history"));
+        Files.writeString(previous.resolve("history.json"), "{\"h1\":{\"items\":[{\"status\":\"failed\"}]}}",
+                StandardCharsets.UTF_8);
+
+        new AllureResultsMerger(output, 1).merge(
+                Arrays.asList(shard("shard-1", "first", "h1"), shard("shard-2", "second", "h2")),
+                Collections.singletonList(previous));
+
+        JsonNode history = mapper.readTree(output.resolve("history").resolve("history.json").toFile());
+        Assert.assertEquals(history.size(), 2);
+        Assert.assertEquals(history.get("h1").get("items").size(), 1, "The previous report's entry should win");
+        Assert.assertTrue(history.has("h2"));
+
+        List<String> environment = Files.readAllLines(output.resolve("environment.properties"), StandardCharsets.UTF_8);
+        Assert.assertEquals(environment, Arrays.asList("Browser=chrome", "Shard=shard-1"),
+                "Each key should keep its first value");
+    }
+
+    @Test
+    public void testCleanKeepsFilesOfOtherTools() throws IOException {
+        AllureResultsMerger merger = new AllureResultsMerger(output, 1);
+        merger.merge(Collections.singletonList(shard("shard-1", "first", "h1")), Collections.emptyList());
+        Files.writeString(output.resolve("categories.json"), "[]", StandardCharsets.UTF_8);
+
+        merger.clean();
+
+        try (Stream<Path> files = Files.list(output)) {
+            Assert.assertEquals(files.map(file -> file.getFileName().toString()).collect(Collectors.toList()),
+                    Collections.singletonList("categories.json"));
+        }
+    }
+
+    @Test
+    public void testIdOfNeedsALeadingUuid() {
+        Assert.assertEquals(AllureResultsMerger.idOf(RESULT_ID + "-result.json"), RESULT_ID);
+        Assert.assertNull(AllureResultsMerger.idOf("environment.properties"));
+        Assert.assertNull(AllureResultsMerger.idOf("not-a-uuid-but-long-enough-to-check-result.json"));
+    }
+}
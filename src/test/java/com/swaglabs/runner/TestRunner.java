@@ -1,27 +1,82 @@
 package com.swaglabs.runner;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.swaglabs.base.AdaptiveParallelism;
+import com.swaglabs.base.BrowserSlots;
+import com.swaglabs.fuzz.CheckoutFuzzer;
+import com.swaglabs.listeners.AdaptiveParallelismListener;
+import com.swaglabs.listeners.CommandBudgetListener;
+import com.swaglabs.listeners.CommandMetricsListener;
+import com.swaglabs.listeners.FlightRecorderListener;
+import com.swaglabs.listeners.HarCaptureListener;
+import com.swaglabs.listeners.NetworkPolicyListener;
+import com.swaglabs.listeners.PagePerformanceListener;
+import com.swaglabs.listeners.PersonaLatencyListener;
+import com.swaglabs.listeners.ShardListener;
+import com.swaglabs.listeners.StandInServerListener;
+import com.swaglabs.listeners.TestListener;
+import com.swaglabs.navigation.RandomWalkReport;
+import com.swaglabs.sharding.Shard;
+import com.swaglabs.utils.ConfigReader;
+import com.swaglabs.utils.TestDataReader;
+import org.testng.ITestNGListener;
 import org.testng.TestNG;
 import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
 import org.testng.xml.XmlSuite;
 import org.testng.xml.XmlTest;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 public class TestRunner {
 
     public static void main(String[] args) {
-        // Create suite
-        XmlSuite suite = new XmlSuite();
-        suite.setName("SauceDemo Test Suite");
-        suite.setVerbose(1);
+        int shardArg = Arrays.asList(args).indexOf("--shard");
+        if (shardArg >= 0) {
+            if (shardArg + 1 >= args.length) {
+                throw new IllegalArgumentException("--shard needs i/n, e.g. --shard 1/3");
+            }
+            runShard(Shard.parse(args[shardArg + 1]));
+            return;
+        }
+        if (Arrays.asList(args).contains("--profile-personas")) {
+            runPersonaProfile();
+            return;
+        }
+        if (Arrays.asList(args).contains("--compare-parallelism")) {
+            compareParallelism();
+            return;
+        }
+        if (Arrays.asList(args).contains("--random-walks")) {
+            runRandomWalks();
+            return;
+        }
+        if (Arrays.asList(args).contains("--fuzz-checkout")) {
+            runCheckoutFuzz();
+            return;
+        }
+        if (Arrays.asList(args).contains("--checkout-dataset")) {
+            runCheckoutDataset();
+            return;
+        }
+        if (Arrays.asList(args).contains("--virtual-threads")) {
+            runOnVirtualThreads();
+            return;
+        }
 
-        // Set suite parameters
-        Map<String, String> suiteParameters = new HashMap<>();
-        suiteParameters.put("browser", System.getProperty("browser", "chrome"));
-        suite.setParameters(suiteParameters);
+        // Create suite
+        XmlSuite suite = newSuite("SauceDemo Test Suite");
 
         // Create test
         XmlTest test = new XmlTest(suite);
@@ -30,19 +85,287 @@ public class TestRunner {
 
         // Add test classes
         List<XmlClass> classes = new ArrayList<>();
-        classes.add(new XmlClass("com.saucedemo.tests.SwagLabsTest"));
+        classes.add(new XmlClass("com.swaglabs.tests.SwagLabsTest"));
         test.setXmlClasses(classes);
 
-        // Create TestNG instance and run
+        // Create TestNG instance with the standard listeners and run
+        TestNG testng = newTestNG(suite);
+
+        System.out.println("Running SauceDemo Test Suite...");
+        testng.run();
+    }
+
+    /**
+     * Runs testCompleteShoppingFlow once per persona listed in testdata.json (times
+     * -Dpersona.iterations) and prints a per-step latency comparison against the baseline persona.
+     * Add -Dstandin.enabled=true to profile against the local stand-in, which emulates the glitch delay.
+     */
+    private static void runPersonaProfile() {
+        int iterations = ConfigReader.settings().getPersonaIterations();
+
+        XmlSuite suite = newSuite("Persona Latency Profile");
+
+        for (String persona : configuredPersonas()) {
+            for (int i = 1; i <= iterations; i++) {
+                XmlTest test = new XmlTest(suite);
+                test.setName(persona + " #" + i);
+                test.addParameter("persona", persona);
+
+                XmlClass flowClass = new XmlClass("com.swaglabs.tests.SwagLabsTest");
+                flowClass.getIncludedMethods().add(new XmlInclude("testCompleteShoppingFlow"));
+                test.getXmlClasses().add(flowClass);
+            }
+        }
+
+        TestNG testng = newTestNG(suite, new PersonaLatencyListener());
+
+        System.out.println("Running persona latency profile...");
+        testng.run();
+
+        List<String> regressions = PersonaLatencyListener.getRegressions();
+        if (!regressions.isEmpty()) {
+            System.out.println("Latency regressions detected:");
+            regressions.forEach(regression -> System.out.println("  " + regression));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the seeded random walks of RandomWalkTest, -Dwalk.parallel at a time (each on its own
+     * session, leased from a running BrowserDaemon when there is one), then prints walks per
+     * minute and transition coverage and writes the coverage to target/random-walk-coverage.csv.
+     * Exits with 1 when a walk broke an invariant; its seed replays it with -Dwalk.replay.
+     */
+    private static void runRandomWalks() {
+        int parallel = ConfigReader.settings().getWalkParallel();
+
+        XmlSuite suite = newSuite("SauceDemo Random Walks");
+        suite.setDataProviderThreadCount(parallel);
+
+        XmlTest test = new XmlTest(suite);
+        test.setName("Random Walks");
+        test.getXmlClasses().add(new XmlClass("com.swaglabs.tests.RandomWalkTest"));
+
+        TestNG testng = newTestNG(suite);
+
+        System.out.println("Running random walks, " + parallel + " at a time...");
+        testng.run();
+
+        System.out.println(RandomWalkReport.summary());
+        Path report = Paths.get("target", "random-walk-coverage.csv");
+        try {
+            RandomWalkReport.write(report);
+        } catch (IOException e) {
+            System.out.println("Failed to write " + report + ": " + e.getMessage());
+        }
+        if (!RandomWalkReport.getFailedSeeds().isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Fuzzes the checkout form on -Dfuzz.sessions sessions at once (see CheckoutFuzzTest), then
+     * prints submissions per second, the outcome mix and every violation with its shrunk input.
+     * Exits with 1 when a property was violated.
+     */
+    private static void runCheckoutFuzz() {
+        int sessions = CheckoutFuzzer.seeds().size();
+
+        XmlSuite suite = newSuite("SauceDemo Checkout Fuzzing");
+        suite.setDataProviderThreadCount(sessions);
+
+        XmlTest test = new XmlTest(suite);
+        test.setName("Checkout Fuzzing");
+        test.getXmlClasses().add(new XmlClass("com.swaglabs.tests.CheckoutFuzzTest"));
+
+        TestNG testng = newTestNG(suite);
+
+        System.out.println("Fuzzing the checkout form on " + sessions + " sessions...");
+        testng.run();
+
+        System.out.println(CheckoutFuzzer.summary());
+        CheckoutFuzzer.getFailures().forEach(System.out::println);
+        if (!CheckoutFuzzer.getFailures().isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Drives CheckoutDatasetTest through -Ddata.checkout.file in -Ddata.checkout.shards parallel
+     * tests, each streaming every n-th row of the file, so the dataset is never held in memory.
+     */
+    private static void runCheckoutDataset() {
+        int shards = ConfigReader.settings().getDatasetShards();
+
+        XmlSuite suite = newSuite("SauceDemo Checkout Dataset");
+        suite.setParallel(XmlSuite.ParallelMode.TESTS);
+        suite.setThreadCount(shards);
+
+        for (int i = 1; i <= shards; i++) {
+            XmlTest test = new XmlTest(suite);
+            test.setName("Checkout Dataset " + i + "/" + shards);
+            test.addParameter("data.shard", new Shard(i, shards).toString());
+            XmlClass datasetClass = new XmlClass("com.swaglabs.tests.CheckoutDatasetTest");
+            datasetClass.getIncludedMethods().add(new XmlInclude("testCheckoutDataset"));
+            test.getXmlClasses().add(datasetClass);
+        }
+
+        TestNG testng = newTestNG(suite);
+
+        System.out.println("Running checkout dataset in " + shards + " shards...");
+        testng.run();
+        if (testng.hasFailure()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs all test classes with parallel="methods" on virtual threads. Up to
+     * -Dscheduler.max.concurrency methods are in flight; -Dbrowser.slots caps how many of
+     * them hold a browser session (default: half the available processors).
+     */
+    private static void runOnVirtualThreads() {
+        int maxConcurrency = ConfigReader.settings().getSchedulerMaxConcurrency();
+        if (ConfigReader.settings().getBrowserSlots() == 0) {
+            ConfigReader.setProperty("browser.slots",
+                    String.valueOf(Math.max(1, Runtime.getRuntime().availableProcessors() / 2)));
+        }
+
+        XmlSuite suite = parallelSuite("SauceDemo Test Suite (virtual threads)", maxConcurrency);
+
+        TestNG testng = newTestNG(suite, new AdaptiveParallelismListener());
+        testng.setExecutorFactory(new VirtualThreadExecutorFactory());
+
+        System.out.println("Running SauceDemo Test Suite on " + (VirtualThreads.isAvailable() ? "virtual" : "platform")
+                + " threads with " + ConfigReader.settings().getBrowserSlots() + " browser slots...");
+        testng.run();
+    }
+
+    /**
+     * Runs shard i of n of the full suite. Methods are packed into shards by their historical
+     * duration (see ShardListener), so every shard started with the same history file gets a
+     * disjoint, balanced slice.
+     */
+    private static void runShard(Shard shard) {
+        ConfigReader.setProperty("shard", shard.toString());
+
+        XmlSuite suite = newSuite("SauceDemo Test Suite");
+
+        XmlTest test = new XmlTest(suite);
+        test.setName("SauceDemo E2E Tests");
+        test.setPreserveOrder(true);
+        test.getXmlClasses().add(new XmlClass("com.swaglabs.tests.SwagLabsTest"));
+        test.getXmlClasses().add(new XmlClass("com.swaglabs.tests.CheckoutValidationTest"));
+
+        TestNG testng = newTestNG(suite, new ShardListener());
+
+        System.out.println("Running SauceDemo Test Suite shard " + shard + "...");
+        testng.run();
+    }
+
+    /**
+     * Runs the full suite with parallel="methods" once per fixed browser slot count in
+     * -Dparallelism.compare.counts and once under the adaptive controller, then prints the
+     * suite wall time of each and writes them to target/parallelism-comparison.csv.
+     */
+    private static void compareParallelism() {
+        List<Integer> counts = new ArrayList<>();
+        for (String count : ConfigReader.getProperty("parallelism.compare.counts", "1,2,4").split(",")) {
+            counts.add(Integer.parseInt(count.trim()));
+        }
+        int threadCount = Math.max(Collections.max(counts), new AdaptiveParallelism().getMax());
+
+        Map<String, Long> wallTimes = new LinkedHashMap<>();
+        ConfigReader.setProperty("parallelism.adaptive", "false");
+        for (int count : counts) {
+            BrowserSlots.resize(count);
+            wallTimes.put("fixed-" + count, runTimed(parallelSuite("SauceDemo Test Suite (" + count + " slots)",
+                    threadCount)));
+        }
+        ConfigReader.setProperty("parallelism.adaptive", "true");
+        wallTimes.put("adaptive", runTimed(parallelSuite("SauceDemo Test Suite (adaptive)", threadCount)));
+
+        StringBuilder csv = new StringBuilder("mode,wall_ms\n");
+        System.out.println("Suite wall time by parallelism:");
+        wallTimes.forEach((mode, wallMs) -> {
+            System.out.printf("  %-10s %8d ms%n", mode, wallMs);
+            csv.append(mode).append(',').append(wallMs).append('\n');
+        });
+        Path report = Paths.get("target", "parallelism-comparison.csv");
+        try {
+            Files.createDirectories(report.getParent());
+            Files.writeString(report, csv, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.out.println("Failed to write " + report + ": " + e.getMessage());
+        }
+    }
+
+    private static long runTimed(XmlSuite suite) {
+        TestNG testng = newTestNG(suite, new AdaptiveParallelismListener());
+
+        System.out.println("Running " + suite.getName() + "...");
+        long start = System.nanoTime();
+        testng.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static XmlSuite parallelSuite(String name, int threadCount) {
+        XmlSuite suite = newSuite(name);
+        suite.setParallel(XmlSuite.ParallelMode.METHODS);
+        suite.setThreadCount(threadCount);
+
+        XmlTest test = new XmlTest(suite);
+        test.setName("SauceDemo E2E Tests");
+        test.getXmlClasses().add(new XmlClass("com.swaglabs.tests.SwagLabsTest"));
+        test.getXmlClasses().add(new XmlClass("com.swaglabs.tests.CheckoutValidationTest"));
+        return suite;
+    }
+
+    private static XmlSuite newSuite(String name) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName(name);
+        suite.setVerbose(1);
+
+        Map<String, String> suiteParameters = new HashMap<>();
+        suiteParameters.put("browser", ConfigReader.settings().getBrowser());
+        suite.setParameters(suiteParameters);
+        return suite;
+    }
+
+    /**
+     * Creates a TestNG run of the suite with the listeners testng.xml registers, so every mode
+     * gets the stand-in, budgets, HAR capture, network policy and flight recording. Mode-specific
+     * listeners go right after the stand-in, where testng.xml lists the shard and parallelism ones.
+     */
+    private static TestNG newTestNG(XmlSuite suite, ITestNGListener... modeListeners) {
         TestNG testng = new TestNG();
         List<XmlSuite> suites = new ArrayList<>();
         suites.add(suite);
         testng.setXmlSuites(suites);
 
-        // Add listeners
-        testng.addListener("com.saucedemo.listeners.TestListener");
+        testng.addListener(new StandInServerListener());
+        for (ITestNGListener listener : modeListeners) {
+            testng.addListener(listener);
+        }
+        testng.addListener(new TestListener());
+        testng.addListener(new CommandMetricsListener());
+        testng.addListener(new NetworkPolicyListener());
+        testng.addListener(new CommandBudgetListener());
+        testng.addListener(new PagePerformanceListener());
+        testng.addListener(new HarCaptureListener());
+        testng.addListener(new FlightRecorderListener());
+        return testng;
+    }
 
-        System.out.println("Running SauceDemo Test Suite...");
-        testng.run();
+    private static List<String> configuredPersonas() {
+        List<String> personas = new ArrayList<>();
+        JsonNode node = TestDataReader.getTestData("personas");
+        if (node != null) {
+            node.forEach(persona -> personas.add(persona.asText()));
+        }
+        if (personas.isEmpty()) {
+            personas.add(TestDataReader.getCredentials().getUsername());
+        }
+        return personas;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package com.swaglabs.runner;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IDynamicGraph;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.internal.thread.DefaultThreadPoolExecutorFactory;
+import org.testng.thread.IExecutorFactory;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs TestNG's parallel test methods on virtual threads. TestNG's graph executor (which
+ * honours dependencies and priorities) is kept; only its thread factory is swapped, so the
+ * pool size can be large while {@link com.swaglabs.base.BrowserSlots} caps browser sessions.
+ */
+public class VirtualThreadExecutorFactory implements IExecutorFactory {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadExecutorFactory.class);
+    private final IExecutorFactory delegate = new DefaultThreadPoolExecutorFactory();
+
+    @Override
+    public ITestNGThreadPoolExecutor newSuiteExecutor(String name, IDynamicGraph<ISuite> graph,
+                                                      IThreadWorkerFactory<ISuite> factory, int corePoolSize,
+                                                      int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                                      BlockingQueue<Runnable> workQueue,
+                                                      Comparator<ISuite> comparator) {
+        return delegate.newSuiteExecutor(name, graph, factory, corePoolSize, maximumPoolSize, keepAliveTime,
+                unit, workQueue, comparator);
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+                                                           IThreadWorkerFactory<ITestNGMethod> factory,
+                                                           int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                                                           TimeUnit unit, BlockingQueue<Runnable> workQueue,
+                                                           Comparator<ITestNGMethod> comparator) {
+        ITestNGThreadPoolExecutor executor = delegate.newTestMethodExecutor(name, graph, factory, corePoolSize,
+                maximumPoolSize, keepAliveTime, unit, workQueue, comparator);
+        if (VirtualThreads.isAvailable() && executor instanceof ThreadPoolExecutor) {
+            ((ThreadPoolExecutor) executor).setThreadFactory(VirtualThreads.factory());
+            logger.info("Scheduling test methods of {} on virtual threads (pool size {})", name, maximumPoolSize);
+        } else {
+            logger.warn("Virtual threads unavailable on this runtime; using platform threads for {}", name);
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,36 @@
+package com.swaglabs.runner;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Reflective access to virtual threads so the project still compiles for Java 11 and
+ * falls back to platform threads on runtimes older than 21.
+ */
+public class VirtualThreads {
+    private static final ThreadFactory FACTORY = createFactory();
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isAvailable() {
+        return FACTORY != null;
+    }
+
+    /**
+     * Factory creating virtual threads, or null when the runtime does not support them.
+     */
+    public static ThreadFactory factory() {
+        return FACTORY;
+    }
+
+    private static ThreadFactory createFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "swaglabs-vt-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.swaglabs.sharding;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * DurationHistory's CSV round trip and its moving-average merge, on a history file per test.
+ */
+public class DurationHistoryTest {
+    private Path directory;
+    private Path file;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("duration-history-test");
+        file = directory.resolve("durations.csv");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private static Map<String, Long> measured(Object... methodsAndMillis) {
+        Map<String, Long> measured = new LinkedHashMap<>();
+        for (int i = 0; i < methodsAndMillis.length; i += 2) {
+            measured.put((String) methodsAndMillis[i], ((Number) methodsAndMillis[i + 1]).longValue());
+        }
+        return measured;
+    }
+
+    @Test
+    public void testMissingFileIsAnEmptyHistory() {
+        DurationHistory history = DurationHistory.load(file);
+
+        Assert.assertEquals(history.size(), 0);
+        Assert.assertEquals(history.getDurationMillis("A#a"), -1.0);
+        Assert.assertEquals(history.getMedianMillis(30000), 30000.0);
+    }
+
+    @Test
+    public void testNewMethodsTakeTheMeasurementAsIs() throws IOException {
+        DurationHistory.merge(file, measured("A#a", 1200, "A#b", 800), 0.5);
+
+        DurationHistory history = DurationHistory.load(file);
+        Assert.assertEquals(history.size(), 2);
+        Assert.assertEquals(history.getDurationMillis("A#a"), 1200.0);
+        Assert.assertEquals(history.getDurationMillis("A#b"), 800.0);
+    }
+
+    @Test
+    public void testKnownMethodsMoveByAlphaTowardsTheMeasurement() throws IOException {
+        DurationHistory.merge(file, measured("A#a", 1000), 0.25);
+        DurationHistory.merge(file, measured("A#a", 2000, "A#c", 500), 0.25);
+
+        DurationHistory history = DurationHistory.load(file);
+        Assert.assertEquals(history.getDurationMillis("A#a"), 1250.0);
+        Assert.assertEquals(history.getDurationMillis("A#c"), 500.0);
+        Assert.assertTrue(Files.readString(file, StandardCharsets.UTF_8).contains("A#a,1250.0,2"),
+                "The run count should be kept with the duration");
+    }
+
+    @Test
+    public void testEmptyRunLeavesTheFileAlone() throws IOException {
+        DurationHistory.merge(file, measured(), 0.5);
+
+        Assert.assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testMalformedLinesAreSkipped() throws IOException {
+        Files.writeString(file, "method,duration_ms,runs\nA#a,100.0,1\nbroken line\n\nA#b,300.0,2\nA#c,500.0,1\n",
+                StandardCharsets.UTF_8);
+
+        DurationHistory history = DurationHistory.load(file);
+        Assert.assertEquals(history.size(), 3);
+        Assert.assertEquals(history.getMedianMillis(0), 300.0);
+    }
+}
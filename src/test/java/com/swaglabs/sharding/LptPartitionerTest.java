@@ -0,0 +1,84 @@
+package com.swaglabs.sharding;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LptPartitioner's packing on small hand-made estimates, and that the plan does not depend on
+ * the order the estimates come in.
+ */
+public class LptPartitionerTest {
+
+    private static Map<String, Double> estimates(Object... methodsAndMillis) {
+        Map<String, Double> estimates = new LinkedHashMap<>();
+        for (int i = 0; i < methodsAndMillis.length; i += 2) {
+            estimates.put((String) methodsAndMillis[i], ((Number) methodsAndMillis[i + 1]).doubleValue());
+        }
+        return estimates;
+    }
+
+    @Test
+    public void testLongestMethodsGoToTheLightestShard() {
+        LptPartitioner.Plan plan = LptPartitioner.partition(
+                estimates("a", 70, "b", 50, "c", 40, "d", 30, "e", 10), 2);
+
+        // a -> 0; b -> 1; c -> 1 (50 < 70); d -> 0 (70 < 90); e -> 1 (90 < 100)
+        Assert.assertEquals(plan.methodsOf(0), Arrays.asList("a", "d"));
+        Assert.assertEquals(plan.methodsOf(1), Arrays.asList("b", "c", "e"));
+        Assert.assertEquals(plan.getLoadMillis(0), 100.0);
+        Assert.assertEquals(plan.getLoadMillis(1), 100.0);
+        Assert.assertEquals(plan.getShardCount(), 2);
+    }
+
+    @Test
+    public void testEveryMethodIsAssignedExactlyOnce() {
+        Map<String, Double> estimates = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            estimates.put("m" + i, (double) (i * 37 % 11 + 1));
+        }
+        LptPartitioner.Plan plan = LptPartitioner.partition(estimates, 3);
+
+        int assigned = 0;
+        double total = 0;
+        for (int shard = 0; shard < 3; shard++) {
+            assigned += plan.methodsOf(shard).size();
+            total += plan.getLoadMillis(shard);
+        }
+        Assert.assertEquals(assigned, estimates.size());
+        Assert.assertEquals(total, estimates.values().stream().mapToDouble(Double::doubleValue).sum(), 1e-9);
+        Assert.assertEquals(plan.shardOf("not-in-the-plan"), -1);
+    }
+
+    @Test
+    public void testTiesAreBrokenByNameWhateverTheInputOrder() {
+        Map<String, Double> forward = estimates("x", 10, "y", 10, "z", 10, "w", 10);
+        Map<String, Double> backward = new LinkedHashMap<>();
+        String[] names = forward.keySet().toArray(new String[0]);
+        for (int i = names.length - 1; i >= 0; i--) {
+            backward.put(names[i], forward.get(names[i]));
+        }
+
+        LptPartitioner.Plan first = LptPartitioner.partition(forward, 3);
+        LptPartitioner.Plan second = LptPartitioner.partition(backward, 3);
+        for (String name : names) {
+            Assert.assertEquals(second.shardOf(name), first.shardOf(name), name);
+        }
+        // w, x, y fill shards 0, 1, 2 in name order; z goes to the lowest of the equal shards
+        Assert.assertEquals(first.methodsOf(0), Arrays.asList("w", "z"));
+    }
+
+    @Test
+    public void testMoreShardsThanMethodsLeavesSomeEmpty() {
+        LptPartitioner.Plan plan = LptPartitioner.partition(estimates("only", 5), 3);
+
+        Assert.assertEquals(plan.shardOf("only"), 0);
+        Assert.assertEquals(plan.methodsOf(2), Collections.emptyList());
+        Assert.assertEquals(plan.getLoadMillis(2), 0.0);
+    }
+}
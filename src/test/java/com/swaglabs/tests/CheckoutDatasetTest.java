@@ -0,0 +1,143 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.base.BaseTest;
+import com.swaglabs.data.DataRows;
+import com.swaglabs.fuzz.CheckoutOutcome;
+import com.swaglabs.pages.CheckoutStepOnePage;
+import com.swaglabs.sharding.Shard;
+import com.swaglabs.utils.ConfigReader;
+import io.qameta.allure.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+@Epic("SauceDemo Checkout Testing")
+@Feature("Checkout Form Validation")
+public class CheckoutDatasetTest extends BaseTest {
+    private static final Logger logger = LoggerFactory.getLogger(CheckoutDatasetTest.class);
+
+    @Test(description = "Verify checkout form outcome for each row of the dataset shard")
+    @Story("Checkout Form Validation")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test submits names and postal codes from a JSON Lines or CSV dataset and checks the "
+            + "form accepts them or reports the expected required field. One browser session serves the "
+            + "whole shard: rejected rows are resubmitted in place, only accepted ones reload the form")
+    public void testCheckoutDataset(ITestContext context) {
+        int rows = 0;
+        List<String> mismatches = new ArrayList<>();
+
+        // Steps 1-2: Go straight to checkout with the items in the cart
+        CheckoutStepOnePage checkoutPage = navigateTo(CheckoutStepOnePage.class, 4);
+
+        try (DataRows dataset = openDataset(context)) {
+            while (dataset.hasNext()) {
+                Object[] row = dataset.next();
+                String firstName = nullToEmpty((String) row[0]);
+                String lastName = nullToEmpty((String) row[1]);
+                String postalCode = nullToEmpty((String) row[2]);
+                CheckoutOutcome expected = expectedOutcome((String) row[3]);
+                rows++;
+                if (expected == null) {
+                    mismatches.add("'" + firstName + "', '" + lastName + "', '" + postalCode
+                            + "': unknown expected outcome '" + row[3] + "'");
+                    continue;
+                }
+
+                // Step 3: Submit the row and classify what the form did
+                CheckoutOutcome outcome = CheckoutOutcome.classify(
+                        checkoutPage.submitInPlace(firstName, lastName, postalCode));
+                logger.debug("Dataset row {}: {} {}, {} -> {}", rows, firstName, lastName, postalCode, outcome);
+
+                // Step 4: Compare with the row's expectation
+                if (outcome != expected) {
+                    mismatches.add("'" + firstName + "', '" + lastName + "', '" + postalCode + "': expected "
+                            + expected + " but was " + outcome);
+                }
+
+                // A rejected row leaves the form in place for the next one; acceptance moves on to step two
+                if (outcome == CheckoutOutcome.ACCEPTED || outcome == CheckoutOutcome.NO_RESPONSE) {
+                    checkoutPage = navigateTo(CheckoutStepOnePage.class, 4);
+                }
+            }
+        }
+        if (rows == 0) {
+            throw new SkipException("No dataset rows in this shard");
+        }
+
+        Assert.assertTrue(mismatches.isEmpty(), mismatches.size() + " of " + rows
+                + " dataset rows had an unexpected checkout outcome:\n" + String.join("\n", mismatches));
+        logger.info("Dataset shard completed: {} rows", rows);
+    }
+
+    @Test(dataProvider = "checkoutRows",
+            description = "Verify checkout form outcome for one dataset row")
+    @Story("Checkout Form Validation")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test submits one dataset row on its own browser session, so each row is reported "
+            + "separately. Meant for small datasets or replaying a row; TestRunner --checkout-dataset "
+            + "runs testCheckoutDataset instead")
+    public void testCheckoutDatasetRow(String firstName, String lastName, String postalCode, String expectedCell) {
+        CheckoutOutcome expected = expectedOutcome(expectedCell);
+        Assert.assertNotNull(expected, "Unknown expected outcome '" + expectedCell + "', expected one of "
+                + Arrays.toString(CheckoutOutcome.values()));
+
+        // Steps 1-2: Go straight to checkout with the items in the cart
+        CheckoutStepOnePage checkoutPage = navigateTo(CheckoutStepOnePage.class, 4);
+
+        // Step 3: Submit the row and compare with its expectation
+        CheckoutOutcome outcome = CheckoutOutcome.classify(checkoutPage.submitInPlace(
+                nullToEmpty(firstName), nullToEmpty(lastName), nullToEmpty(postalCode)));
+        Assert.assertEquals(outcome, expected, "Checkout outcome for '" + firstName + "', '" + lastName
+                + "', '" + postalCode + "'");
+    }
+
+    /**
+     * The dataset's rows, streamed as TestNG asks for them (non-parallel: each row opens a session).
+     */
+    @DataProvider(name = "checkoutRows")
+    public static Iterator<Object[]> checkoutRows(ITestContext context) {
+        return openDataset(context);
+    }
+
+    /**
+     * Streams the dataset; each <test> given a data.shard parameter (see TestRunner
+     * --checkout-dataset) reads its own slice.
+     */
+    private static DataRows openDataset(ITestContext context) {
+        String file = ConfigReader.getProperty("data.checkout.file", "datasets/checkout-validation.csv");
+        String shard = context.getCurrentXmlTest().getParameter("data.shard");
+        if (shard == null) {
+            shard = ConfigReader.getProperty("data.shard", "");
+        }
+        logger.info("Streaming checkout dataset {} (shard {})", file, shard.isEmpty() ? "all" : shard);
+        return DataRows.open(file, shard.isEmpty() ? null : Shard.parse(shard),
+                "firstName", "lastName", "postalCode", "expected");
+    }
+
+    /**
+     * The outcome named by an expected cell, or null when the cell is empty or names none.
+     */
+    private static CheckoutOutcome expectedOutcome(String cell) {
+        if (cell == null) {
+            return null;
+        }
+        try {
+            return CheckoutOutcome.valueOf(cell.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,36 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.base.BaseTest;
+import com.swaglabs.fuzz.CheckoutFuzzer;
+import io.qameta.allure.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+@Epic("SauceDemo Checkout Testing")
+@Feature("Checkout Form Fuzzing")
+public class CheckoutFuzzTest extends BaseTest {
+    private static final Logger logger = LoggerFactory.getLogger(CheckoutFuzzTest.class);
+
+    @DataProvider(name = "fuzzSeeds", parallel = true)
+    public Object[][] fuzzSeeds() {
+        List<Long> seeds = CheckoutFuzzer.seeds();
+        int inputs = CheckoutFuzzer.inputsPerSession(seeds.size());
+        return seeds.stream().map(seed -> new Object[]{seed, inputs}).toArray(Object[][]::new);
+    }
+
+    @Test(description = "Checkout form requires exactly the blank fields for generated input", dataProvider = "fuzzSeeds")
+    @Story("Checkout Form Property-Based Validation")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Submits generated unicode, whitespace, long and special-character names and postal codes in "
+            + "place and checks that the first blank field is reported and the form keeps what was entered")
+    public void testCheckoutFormProperties(long seed, int inputs) {
+        logger.info("Fuzzing checkout form with seed {} ({} inputs)", seed, inputs);
+        List<String> failures = new CheckoutFuzzer(driver(), driverWait(), seed).run(inputs);
+        Assert.assertTrue(failures.isEmpty(), "Checkout form properties violated:\n" + String.join("\n", failures));
+    }
+}
@@ -1,14 +1,26 @@
 package com.swaglabs.tests;
 
 import com.swaglabs.base.BaseTest;
+import com.swaglabs.data.CheckoutDataGenerator;
+import com.swaglabs.listeners.StandInServerListener;
+import com.swaglabs.network.AllowResources;
 import com.swaglabs.pages.*;
+import com.swaglabs.standin.RouteFault;
+import com.swaglabs.standin.StandInServer;
+import com.swaglabs.utils.ConfigReader;
+import com.swaglabs.utils.FormValidationHelper;
 import com.swaglabs.utils.TestDataReader;
+import com.swaglabs.utils.ValidationError;
 import io.qameta.allure.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Iterator;
+
 @Epic("SauceDemo Checkout Testing")
 @Feature("Checkout Field Validation and Empty Cart Scenarios")
 public class CheckoutValidationTest extends BaseTest {
@@ -22,9 +34,9 @@ public class CheckoutValidationTest extends BaseTest {
         logger.info("Starting checkout Numerical validation test");
 
         // Step 1: Login and add items to cart
-        LoginPage loginPage = new LoginPage(driver, wait);
-        String username = TestDataReader.getTestDataAsString("credentials.username");
-        String password = TestDataReader.getTestDataAsString("credentials.password");
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
+        String username = TestDataReader.getCredentials().getUsername();
+        String password = TestDataReader.getCredentials().getPassword();
 
         InventoryPage inventoryPage = loginPage.login(username, password);
 
@@ -61,9 +73,9 @@ public class CheckoutValidationTest extends BaseTest {
         logger.info("Starting checkout empty First Name validation test");
 
         // Step 1: Login and add items to cart
-        LoginPage loginPage = new LoginPage(driver, wait);
-        String username = TestDataReader.getTestDataAsString("credentials.username");
-        String password = TestDataReader.getTestDataAsString("credentials.password");
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
+        String username = TestDataReader.getCredentials().getUsername();
+        String password = TestDataReader.getCredentials().getPassword();
 
         InventoryPage inventoryPage = loginPage.login(username, password);
 
@@ -101,9 +113,9 @@ public class CheckoutValidationTest extends BaseTest {
         logger.info("Starting checkout empty Last Name validation test");
 
         // Step 1: Login and add items to cart
-        LoginPage loginPage = new LoginPage(driver, wait);
-        String username = TestDataReader.getTestDataAsString("credentials.username");
-        String password = TestDataReader.getTestDataAsString("credentials.password");
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
+        String username = TestDataReader.getCredentials().getUsername();
+        String password = TestDataReader.getCredentials().getPassword();
 
         InventoryPage inventoryPage = loginPage.login(username, password);
 
@@ -141,9 +153,9 @@ public class CheckoutValidationTest extends BaseTest {
         logger.info("Starting checkout empty Postal Code validation test");
 
         // Step 1: Login and add items to cart
-        LoginPage loginPage = new LoginPage(driver, wait);
-        String username = TestDataReader.getTestDataAsString("credentials.username");
-        String password = TestDataReader.getTestDataAsString("credentials.password");
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
+        String username = TestDataReader.getCredentials().getUsername();
+        String password = TestDataReader.getCredentials().getPassword();
 
         InventoryPage inventoryPage = loginPage.login(username, password);
 
@@ -181,9 +193,9 @@ public class CheckoutValidationTest extends BaseTest {
         logger.info("Starting checkout valid mixed postal code test");
 
         // Step 1: Login and add items to cart
-        LoginPage loginPage = new LoginPage(driver, wait);
-        String username = TestDataReader.getTestDataAsString("credentials.username");
-        String password = TestDataReader.getTestDataAsString("credentials.password");
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
+        String username = TestDataReader.getCredentials().getUsername();
+        String password = TestDataReader.getCredentials().getPassword();
 
         InventoryPage inventoryPage = loginPage.login(username, password);
 
@@ -218,9 +230,9 @@ public class CheckoutValidationTest extends BaseTest {
         logger.info("Starting checkout with empty cart test");
 
         // Step 1: Login without adding items to cart
-        LoginPage loginPage = new LoginPage(driver, wait);
-        String username = TestDataReader.getTestDataAsString("credentials.username");
-        String password = TestDataReader.getTestDataAsString("credentials.password");
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
+        String username = TestDataReader.getCredentials().getUsername();
+        String password = TestDataReader.getCredentials().getPassword();
 
         InventoryPage inventoryPage = loginPage.login(username, password);
 
@@ -275,9 +287,9 @@ public class CheckoutValidationTest extends BaseTest {
         logger.info("Starting comprehensive checkout validation test with all empty fields");
 
         // Step 1: Login and add items to cart
-        LoginPage loginPage = new LoginPage(driver, wait);
-        String username = TestDataReader.getTestDataAsString("credentials.username");
-        String password = TestDataReader.getTestDataAsString("credentials.password");
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
+        String username = TestDataReader.getCredentials().getUsername();
+        String password = TestDataReader.getCredentials().getPassword();
 
         InventoryPage inventoryPage = loginPage.login(username, password);
 
@@ -318,13 +330,14 @@ public class CheckoutValidationTest extends BaseTest {
     @Story("Valid Checkout Flow")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Test validates successful checkout with properly formatted data")
+    @AllowResources(urls = "*pony-express*")
     public void testSuccessfulCheckoutWithValidData() {
         logger.info("Starting successful checkout with valid data test");
 
         // Step 1: Login and add items to cart
-        LoginPage loginPage = new LoginPage(driver, wait);
-        String username = TestDataReader.getTestDataAsString("credentials.username");
-        String password = TestDataReader.getTestDataAsString("credentials.password");
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
+        String username = TestDataReader.getCredentials().getUsername();
+        String password = TestDataReader.getCredentials().getPassword();
 
         InventoryPage inventoryPage = loginPage.login(username, password);
 
@@ -371,9 +384,9 @@ public class CheckoutValidationTest extends BaseTest {
         logger.info("Starting checkout cancel button test");
 
         // Step 1: Login and add items to cart
-        LoginPage loginPage = new LoginPage(driver, wait);
-        String username = TestDataReader.getTestDataAsString("credentials.username");
-        String password = TestDataReader.getTestDataAsString("credentials.password");
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
+        String username = TestDataReader.getCredentials().getUsername();
+        String password = TestDataReader.getCredentials().getPassword();
 
         InventoryPage inventoryPage = loginPage.login(username, password);
 
@@ -399,6 +412,151 @@ public class CheckoutValidationTest extends BaseTest {
         logger.info("Checkout cancel button test completed successfully");
     }
 
+    @Test(description = "Verify continue returns promptly after a delayed checkout step two", priority = 10)
+    @Story("Checkout Wait Latency")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test injects a 2 s delay on checkout-step-two.html in the local stand-in and verifies "
+            + "the continue flow returns within one polling interval (plus page load) of the response")
+    public void testContinueWaitsOnlyAsLongAsNeeded() {
+        StandInServer server = StandInServerListener.getServer();
+        if (server == null) {
+            throw new SkipException("Requires the local stand-in server (-Dstandin.enabled=true)");
+        }
+        logger.info("Starting checkout continue latency test");
+        long injectedDelayMs = 2000;
+        long allowedOvershootMs = BasePage.pollingInterval().toMillis() + 1000;
+
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
+        InventoryPage inventoryPage = loginPage.login(
+                TestDataReader.getCredentials().getUsername(),
+                TestDataReader.getCredentials().getPassword());
+        inventoryPage.addBackpackToCart();
+        CheckoutStepOnePage checkoutPage = inventoryPage.clickShoppingCartLink().clickCheckoutButton();
+        checkoutPage.fillCheckoutInformation("Emmanuel", "Arhu", "12345");
+
+        server.injectFault("/checkout-step-two.html", RouteFault.delay(injectedDelayMs));
+        try {
+            long clickedAt = System.nanoTime();
+            CheckoutStepTwoPage checkoutStepTwo = checkoutPage.clickContinueButton();
+            long returnedAt = System.nanoTime();
+
+            long servedAt = server.getLastServedNanos("/checkout-step-two.html");
+            Assert.assertTrue(servedAt > clickedAt, "Checkout step two should have been served after continue");
+            long elapsedMs = (returnedAt - clickedAt) / 1_000_000;
+            long overshootMs = (returnedAt - servedAt) / 1_000_000;
+            logger.info("Continue returned after {} ms, {} ms after step two was served", elapsedMs, overshootMs);
+
+            Assert.assertTrue(elapsedMs >= injectedDelayMs,
+                    "Continue should have waited for the delayed page. Actual: " + elapsedMs + " ms");
+            Assert.assertTrue(overshootMs <= allowedOvershootMs,
+                    "Continue overslept the delayed page by " + overshootMs + " ms (allowed "
+                            + allowedOvershootMs + " ms)");
+            Assert.assertTrue(checkoutStepTwo.isCheckoutStepTwoPageLoaded(),
+                    "Should navigate to checkout step two after the delay");
+        } finally {
+            server.clearFaults();
+        }
+
+        takeScreenshot();
+        logger.info("Checkout continue latency test completed successfully");
+    }
+
+    @DataProvider(name = "requiredFieldCases")
+    public Object[][] requiredFieldCases() {
+        return new Object[][]{
+                {"", "Arhu", "12345", ValidationError.FIRST_NAME_REQUIRED},
+                {"Emmanuel", "", "12345", ValidationError.LAST_NAME_REQUIRED},
+                {"Emmanuel", "Arhu", "", ValidationError.POSTAL_CODE_REQUIRED},
+                {"", "", "", ValidationError.FIRST_NAME_REQUIRED}
+        };
+    }
+
+    @Test(description = "Verify required field validation on a checkout reached by direct navigation", priority = 12,
+            dataProvider = "requiredFieldCases")
+    @Story("Checkout Form Required Field Validation")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Variant of the required field tests that reaches checkout through the Navigator (URL and cart "
+            + "state injection) instead of the login, inventory and cart pages")
+    public void testRequiredFieldsAfterDirectNavigation(String firstName, String lastName, String postalCode,
+                                                        ValidationError expected) {
+        logger.info("Starting required field test after direct navigation: expecting {}", expected);
+
+        // Steps 1-2: Go straight to checkout with the items in the cart
+        CheckoutStepOnePage checkoutPage = navigateTo(CheckoutStepOnePage.class, 4);
+        Assert.assertTrue(checkoutPage.isCheckoutStepOnePageLoaded(),
+                "Navigator should land on checkout step one");
+
+        // Step 3: Fill the form and try to continue
+        checkoutPage.enterFirstName(firstName);
+        checkoutPage.enterLastName(lastName);
+        checkoutPage.enterPostalCode(postalCode);
+        checkoutPage.clickContinueButton();
+
+        // Step 4: Verify the error names the first missing field
+        Assert.assertTrue(checkoutPage.isErrorMessageDisplayed(), "Error message should be displayed");
+        String errorMessage = checkoutPage.getErrorMessageText();
+        Assert.assertEquals(FormValidationHelper.classify(errorMessage), expected,
+                "Unexpected validation error: " + errorMessage);
+
+        logger.info("Required field test after direct navigation completed successfully");
+    }
+
+    @Test(description = "Verify successful checkout on a checkout reached by direct navigation", priority = 13)
+    @Story("Successful Checkout Flow")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Variant of testSuccessfulCheckoutWithValidData that reaches checkout through the Navigator")
+    public void testSuccessfulCheckoutAfterDirectNavigation() {
+        logger.info("Starting successful checkout test after direct navigation");
+
+        // Steps 1-2: Go straight to checkout with the items in the cart
+        CheckoutStepOnePage checkoutPage = navigateTo(CheckoutStepOnePage.class, 4, 0);
+        Assert.assertTrue(checkoutPage.isCheckoutStepOnePageLoaded(),
+                "Navigator should land on checkout step one");
+
+        // Step 3: Fill form with valid data and continue
+        checkoutPage.fillCheckoutInformation("Emmanuel", "Arhu", "12345");
+        CheckoutStepTwoPage checkoutStepTwo = checkoutPage.clickContinueButton();
+
+        // Step 4: Verify the overview shows the injected cart
+        Assert.assertTrue(checkoutStepTwo.isCheckoutStepTwoPageLoaded(),
+                "Should navigate to checkout step two");
+        CheckoutCompletePage completePage = checkoutStepTwo.clickFinishButton();
+        Assert.assertTrue(completePage.isCheckoutCompletePageLoaded(),
+                "Should complete the order placed from the injected cart");
+
+        takeScreenshot();
+        logger.info("Successful checkout test after direct navigation completed successfully");
+    }
+
+    @DataProvider(name = "generatedCheckoutData")
+    public Iterator<Object[]> generatedCheckoutData() {
+        // Rows are generated as TestNG asks for them; -Ddata.seed regenerates a run's data
+        return CheckoutDataGenerator.forTest("testCheckoutAcceptsGeneratedData")
+                .rows(ConfigReader.settings().getCheckoutDataRows());
+    }
+
+    @Test(description = "Verify checkout accepts generated names and postal codes", priority = 11,
+            dataProvider = "generatedCheckoutData")
+    @Story("Checkout Form Validation")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test validates that realistic names and postal codes in many national formats are accepted")
+    public void testCheckoutAcceptsGeneratedData(String firstName, String lastName, String postalCode) {
+        logger.info("Starting generated checkout data test: {} {}, {}", firstName, lastName, postalCode);
+
+        // Steps 1-2: Go straight to checkout with the items in the cart
+        CheckoutStepOnePage checkoutPage = navigateTo(CheckoutStepOnePage.class, 4);
+
+        // Step 3: Fill form with the generated details
+        checkoutPage.fillCheckoutInformation(firstName, lastName, postalCode);
+
+        // Step 4: Verify successful navigation to step two
+        CheckoutStepTwoPage checkoutStepTwo = checkoutPage.clickContinueButton();
+        Assert.assertTrue(checkoutStepTwo.isCheckoutStepTwoPageLoaded(),
+                "Should navigate to checkout step two with " + firstName + " " + lastName + ", " + postalCode);
+
+        logger.info("Generated checkout data test completed successfully");
+    }
+
     /**
      * Helper method to handle any browser popups that might appear
      */
@@ -408,7 +566,7 @@ public class CheckoutValidationTest extends BaseTest {
             Thread.sleep(1000);
 
             // Handle potential browser popups (like password manager)
-            com.swaglabs.utils.AlertHandler.handlePasswordChangeAlert(driver, 3);
+            com.swaglabs.utils.AlertHandler.handlePasswordChangeAlert(driver(), 3);
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
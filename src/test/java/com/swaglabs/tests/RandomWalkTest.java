@@ -0,0 +1,30 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.base.BaseTest;
+import com.swaglabs.navigation.RandomWalk;
+import io.qameta.allure.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+@Epic("SauceDemo Model-Based Testing")
+@Feature("Random Walks over the Shopping Flow")
+public class RandomWalkTest extends BaseTest {
+    private static final Logger logger = LoggerFactory.getLogger(RandomWalkTest.class);
+
+    @DataProvider(name = "walkSeeds", parallel = true)
+    public Object[][] walkSeeds() {
+        return RandomWalk.seeds().stream().map(seed -> new Object[]{seed}).toArray(Object[][]::new);
+    }
+
+    @Test(description = "Random walk keeps badge, cart rows and totals consistent", dataProvider = "walkSeeds")
+    @Story("Seeded Random Walk")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Takes walk.steps random add, remove, cancel, continue and finish steps from the login page, "
+            + "checking the cart badge, cart rows and order totals against the model after each one")
+    public void testRandomWalk(long seed) {
+        logger.info("Starting random walk {}", seed);
+        new RandomWalk(driver(), driverWait(), seed, RandomWalk.configuredSteps()).run();
+    }
+}
@@ -1,12 +1,19 @@
 package com.swaglabs.tests;
 
 import com.swaglabs.base.BaseTest;
+import com.swaglabs.data.CheckoutInfo;
+import com.swaglabs.data.Credentials;
+import com.swaglabs.data.Pricing;
+import com.swaglabs.instrumentation.FlowTimings;
+import com.swaglabs.network.AllowResources;
 import com.swaglabs.pages.*;
 import com.swaglabs.utils.TestDataReader;
 import io.qameta.allure.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 
 @Epic("SauceDemo E2E Testing")
@@ -18,24 +25,30 @@ public class SwagLabsTest extends BaseTest {
     @Story("User can complete full shopping journey")
     @Severity(SeverityLevel.CRITICAL)
     @Description("Test covers the complete user journey: login, add items to cart, checkout, and order completion")
-    public void testCompleteShoppingFlow() {
+    @AllowResources(urls = "*pony-express*")
+    @Parameters({"persona"})
+    public void testCompleteShoppingFlow(@Optional("") String persona) {
         logger.info("Starting complete shopping flow test");
 
         // Step 1: Verify login page and login
-        LoginPage loginPage = new LoginPage(driver, wait);
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
         Assert.assertTrue(loginPage.isLoginPageDisplayed(), "Login page should be displayed");
         Assert.assertEquals(loginPage.getPageTitle(), "Swag Labs", "Page title should be 'Swag Labs'");
 
-        String username = TestDataReader.getTestDataAsString("credentials.username");
-        String password = TestDataReader.getTestDataAsString("credentials.password");
+        Credentials credentials = TestDataReader.getCredentials();
+        String username = persona.isEmpty() ? credentials.getUsername() : persona;
+        String password = credentials.getPassword();
 
+        FlowTimings.begin(username);
         InventoryPage inventoryPage = loginPage.login(username, password);
         takeScreenshot();
 
         // Step 2: Verify inventory page
         Assert.assertTrue(inventoryPage.isInventoryPageLoaded(), "Inventory page should be loaded");
+        FlowTimings.lap("login");
         Assert.assertTrue(inventoryPage.isPageTitleDisplayed(), "Page title 'Products' should be displayed");
         Assert.assertTrue(inventoryPage.areProductNamesDisplayed(), "Product names should be displayed correctly");
+        FlowTimings.lap("inventoryLoad");
 
         // Step 3: Add items to cart
         inventoryPage.addBackpackToCart();
@@ -46,34 +59,41 @@ public class SwagLabsTest extends BaseTest {
 
         Assert.assertEquals(inventoryPage.getCartBadgeCount(), "2", "Cart should show 2 items");
         takeScreenshot();
+        FlowTimings.lap("addToCart");
 
         // Step 4: Navigate to cart and verify items
         CartPage cartPage = inventoryPage.clickShoppingCartLink();
         Assert.assertTrue(cartPage.isCartPageLoaded(), "Cart page should be loaded");
+        cartPage.capturePerformance();
         Assert.assertTrue(cartPage.areCartHeadersDisplayed(), "Cart headers should be displayed");
         Assert.assertEquals(cartPage.getCartItemCount(), 2, "Cart should contain 2 items");
         Assert.assertTrue(cartPage.areItemsInCart("Sauce Labs Backpack", "Sauce Labs Bike Light"),
                 "Cart should contain expected items");
         takeScreenshot();
+        FlowTimings.lap("cart");
 
         // Step 5: Proceed to checkout step one
         CheckoutStepOnePage checkoutStepOnePage = cartPage.clickCheckoutButton();
         Assert.assertTrue(checkoutStepOnePage.isCheckoutStepOnePageLoaded(),
                 "Checkout step one page should be loaded");
         Assert.assertTrue(checkoutStepOnePage.areFormFieldsDisplayed(), "Form fields should be displayed");
+        checkoutStepOnePage.capturePerformance();
 
         // Step 6: Fill checkout information
-        String firstName = TestDataReader.getTestDataAsString("checkout.firstName");
-        String lastName = TestDataReader.getTestDataAsString("checkout.lastName");
-        String postalCode = TestDataReader.getTestDataAsString("checkout.postalCode");
+        CheckoutInfo details = TestDataReader.getCheckoutInfo("testCompleteShoppingFlow");
+        String firstName = details.getFirstName();
+        String lastName = details.getLastName();
+        String postalCode = details.getPostalCode();
 
         checkoutStepOnePage.fillCheckoutInformation(firstName, lastName, postalCode);
         takeScreenshot();
+        FlowTimings.lap("checkoutInformation");
 
         // Step 7: Continue to checkout step two
         CheckoutStepTwoPage checkoutStepTwoPage = checkoutStepOnePage.clickContinueButton();
         Assert.assertTrue(checkoutStepTwoPage.isCheckoutStepTwoPageLoaded(),
                 "Checkout step two page should be loaded");
+        checkoutStepTwoPage.capturePerformance();
         Assert.assertTrue(checkoutStepTwoPage.isPaymentInfoDisplayed(), "Payment info should be displayed");
         Assert.assertTrue(checkoutStepTwoPage.isShippingInfoDisplayed(), "Shipping info should be displayed");
         Assert.assertTrue(checkoutStepTwoPage.isPriceTotalInfoDisplayed(), "Price total info should be displayed");
@@ -82,9 +102,10 @@ public class SwagLabsTest extends BaseTest {
         Assert.assertTrue(checkoutStepTwoPage.isSauceCardPaymentMethod(),
                 "Payment method should be SauceCard");
 
-        String expectedSubtotal = TestDataReader.getTestDataAsString("pricing.subtotal");
-        String expectedTax = TestDataReader.getTestDataAsString("pricing.tax");
-        String expectedTotal = TestDataReader.getTestDataAsString("pricing.total");
+        Pricing pricing = TestDataReader.getPricing();
+        String expectedSubtotal = pricing.getSubtotal();
+        String expectedTax = pricing.getTax();
+        String expectedTotal = pricing.getTotal();
 
         Assert.assertTrue(checkoutStepTwoPage.verifySubtotal(expectedSubtotal),
                 "Subtotal should match expected amount: $" + expectedSubtotal);
@@ -93,11 +114,13 @@ public class SwagLabsTest extends BaseTest {
         Assert.assertTrue(checkoutStepTwoPage.verifyTotal(expectedTotal),
                 "Total should match expected amount: $" + expectedTotal);
         takeScreenshot();
+        FlowTimings.lap("checkoutOverview");
 
         // Step 9: Complete the order
         CheckoutCompletePage checkoutCompletePage = checkoutStepTwoPage.clickFinishButton();
         Assert.assertTrue(checkoutCompletePage.isCheckoutCompletePageLoaded(),
                 "Checkout complete page should be loaded");
+        checkoutCompletePage.capturePerformance();
         Assert.assertTrue(checkoutCompletePage.areOrderCompletionElementsDisplayed(),
                 "Order completion elements should be displayed");
         Assert.assertTrue(checkoutCompletePage.isOrderCompletionMessageCorrect(),
@@ -105,6 +128,7 @@ public class SwagLabsTest extends BaseTest {
         Assert.assertTrue(checkoutCompletePage.isPonyExpressImageDisplayed(),
                 "Pony express image should be displayed");
         takeScreenshot();
+        FlowTimings.lap("checkoutComplete");
 
         // Step 10: Return to products page
         InventoryPage finalInventoryPage = checkoutCompletePage.clickBackToProductsButton();
@@ -113,6 +137,7 @@ public class SwagLabsTest extends BaseTest {
         Assert.assertTrue(finalInventoryPage.isPageTitleDisplayed(),
                 "Products page title should be displayed");
         takeScreenshot();
+        FlowTimings.lap("backToProducts");
 
         logger.info("Complete shopping flow test completed successfully");
     }
@@ -123,9 +148,10 @@ public class SwagLabsTest extends BaseTest {
     public void testLoginPageElements() {
         logger.info("Starting login page elements test");
 
-        LoginPage loginPage = new LoginPage(driver, wait);
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
         Assert.assertTrue(loginPage.isLoginPageDisplayed(), "Login page elements should be displayed");
         Assert.assertEquals(loginPage.getPageTitle(), "Swag Labs", "Page title should be 'Swag Labs'");
+        loginPage.capturePerformance();
         takeScreenshot();
 
         logger.info("Login page elements test completed successfully");
@@ -241,13 +267,14 @@ public class SwagLabsTest extends BaseTest {
     public void testInventoryPageAfterLogin() {
         logger.info("Starting inventory page test");
 
-        LoginPage loginPage = new LoginPage(driver, wait);
-        String username = TestDataReader.getTestDataAsString("credentials.username");
-        String password = TestDataReader.getTestDataAsString("credentials.password");
+        LoginPage loginPage = new LoginPage(driver(), driverWait());
+        String username = TestDataReader.getCredentials().getUsername();
+        String password = TestDataReader.getCredentials().getPassword();
 
         InventoryPage inventoryPage = loginPage.login(username, password);
         Assert.assertTrue(inventoryPage.isInventoryPageLoaded(), "Inventory page should be loaded");
         Assert.assertTrue(inventoryPage.areProductNamesDisplayed(), "Product names should be displayed");
+        inventoryPage.capturePerformance();
         takeScreenshot();
 
         logger.info("Inventory page test completed successfully");
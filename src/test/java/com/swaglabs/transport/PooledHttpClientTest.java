@@ -0,0 +1,237 @@
+package com.swaglabs.transport;
+
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PooledHttpClient's response parsing and connection reuse against a scripted loopback server
+ * that answers each request with canned bytes, or hangs up to play a server closing an idle
+ * connection.
+ */
+public class PooledHttpClientTest {
+    private static final String HANG_UP = "";
+
+    private ScriptedServer server;
+    private PooledHttpClient client;
+
+    @AfterMethod(alwaysRun = true)
+    public void stop() throws IOException {
+        if (client != null) {
+            client.close();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private PooledHttpClient start(String... responses) throws IOException {
+        server = new ScriptedServer(responses);
+        ClientConfig config = ClientConfig.defaultConfig()
+                .baseUri(URI.create("http://127.0.0.1:" + server.getPort()))
+                .readTimeout(Duration.ofSeconds(5));
+        client = new PooledHttpClient(config, 2, 30_000, null);
+        return client;
+    }
+
+    private static String ok(String body, String... headers) {
+        return "HTTP/1.1 200 OK\r\n" + String.join("", headers) + "Content-Length: "
+                + body.getBytes(StandardCharsets.UTF_8).length + "\r\n\r\n" + body;
+    }
+
+    private static String body(HttpResponse response) {
+        return Contents.utf8String(response.getContent());
+    }
+
+    @Test
+    public void testContentLengthBodiesShareOneConnection() throws IOException {
+        start(ok("{\"value\":1}"), ok("{\"value\":2}", "Content-Type: application/json\r\n"));
+
+        HttpResponse first = client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+        HttpResponse second = client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+
+        Assert.assertEquals(first.getStatus(), 200);
+        Assert.assertEquals(body(first), "{\"value\":1}");
+        Assert.assertEquals(body(second), "{\"value\":2}");
+        Assert.assertEquals(second.getHeader("Content-Type"), "application/json");
+        Assert.assertEquals(server.getConnections(), 1, "A keep-alive response should return the connection");
+    }
+
+    @Test
+    public void testChunkedBodiesAreReassembled() throws IOException {
+        start("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n"
+                + "5\r\nhello\r\n" + "7;name=value\r\n, world\r\n" + "0\r\nX-Trailer: ignored\r\n\r\n",
+                ok("next"));
+
+        Assert.assertEquals(body(client.execute(new HttpRequest(HttpMethod.GET, "/chunked"))), "hello, world");
+        Assert.assertEquals(body(client.execute(new HttpRequest(HttpMethod.GET, "/next"))), "next",
+                "Trailers should be consumed so the next response starts cleanly");
+        Assert.assertEquals(server.getConnections(), 1);
+    }
+
+    @Test
+    public void testNoContentAndCloseDelimitedBodies() throws IOException {
+        start("HTTP/1.1 204 No Content\r\n\r\n", "HTTP/1.0 200 OK\r\n\r\nuntil the end");
+
+        HttpResponse empty = client.execute(new HttpRequest(HttpMethod.DELETE, "/session/1"));
+        HttpResponse closeDelimited = client.execute(new HttpRequest(HttpMethod.GET, "/legacy"));
+
+        Assert.assertEquals(empty.getStatus(), 204);
+        Assert.assertEquals(body(empty), "");
+        Assert.assertEquals(body(closeDelimited), "until the end");
+        Assert.assertEquals(server.getConnections(), 1);
+    }
+
+    @Test
+    public void testRequestBodyIsSentWithItsLength() throws IOException {
+        start(ok("{}"));
+        HttpRequest request = new HttpRequest(HttpMethod.POST, "/session/1/url");
+        request.setContent(Contents.utf8String("{\"url\":\"https://www.saucedemo.com\"}"));
+
+        client.execute(request);
+
+        Assert.assertEquals(server.getRequests(),
+                Collections.singletonList("POST /session/1/url {\"url\":\"https://www.saucedemo.com\"}"));
+    }
+
+    @Test
+    public void testMalformedContentLengthFails() throws IOException {
+        start("HTTP/1.1 200 OK\r\nContent-Length: lots\r\n\r\n");
+
+        Assert.assertThrows(UncheckedIOException.class,
+                () -> client.execute(new HttpRequest(HttpMethod.GET, "/status")));
+    }
+
+    @Test
+    public void testStaleConnectionIsRetriedForGet() throws IOException {
+        start(ok("first"), HANG_UP, ok("retried"));
+
+        client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+        HttpResponse retried = client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+
+        Assert.assertEquals(body(retried), "retried");
+        Assert.assertEquals(server.getConnections(), 2);
+    }
+
+    @Test
+    public void testStaleConnectionIsNotRetriedForPost() throws IOException {
+        start(ok("first"), HANG_UP, ok("must not be reached"));
+
+        client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+        Assert.assertThrows(UncheckedIOException.class,
+                () -> client.execute(new HttpRequest(HttpMethod.POST, "/session/1/element/2/click")));
+
+        Assert.assertEquals(server.getRequests().size(), 2, "The click should have been sent exactly once");
+    }
+
+    /**
+     * Answers the n-th request with responses[n] on whatever connection it arrives; HANG_UP
+     * closes that connection instead.
+     */
+    private static class ScriptedServer {
+        private final ServerSocket socket;
+        private final String[] responses;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger connections = new AtomicInteger();
+        private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+
+        private ScriptedServer(String... responses) throws IOException {
+            this.responses = responses;
+            this.socket = new ServerSocket(0, 8, InetAddress.getLoopbackAddress());
+            Thread acceptor = new Thread(this::accept, "scripted-server");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        private int getPort() {
+            return socket.getLocalPort();
+        }
+
+        private int getConnections() {
+            return connections.get();
+        }
+
+        private List<String> getRequests() {
+            return new ArrayList<>(requests);
+        }
+
+        private void accept() {
+            while (!socket.isClosed()) {
+                try (Socket connection = socket.accept()) {
+                    connections.incrementAndGet();
+                    serve(connection);
+                } catch (IOException e) {
+                    // Closed by the test, or the client hung up
+                }
+            }
+        }
+
+        private void serve(Socket connection) throws IOException {
+            InputStream in = connection.getInputStream();
+            OutputStream out = connection.getOutputStream();
+            String head;
+            while ((head = readHead(in)) != null) {
+                int contentLength = 0;
+                for (String line : head.split("\r\n")) {
+                    if (line.toLowerCase(Locale.ROOT).startsWith("content-length:")) {
+                        contentLength = Integer.parseInt(line.substring(line.indexOf(':') + 1).trim());
+                    }
+                }
+                String body = new String(in.readNBytes(contentLength), StandardCharsets.UTF_8);
+                String[] requestLine = head.substring(0, head.indexOf("\r\n")).split(" ");
+                requests.add(requestLine[0] + " " + requestLine[1] + (body.isEmpty() ? "" : " " + body));
+
+                int index = next.getAndIncrement();
+                String response = index < responses.length ? responses[index] : HANG_UP;
+                if (response.equals(HANG_UP)) {
+                    return;
+                }
+                out.write(response.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                if (response.startsWith("HTTP/1.0")) {
+                    return;
+                }
+            }
+        }
+
+        private static String readHead(InputStream in) throws IOException {
+            ByteArrayOutputStream head = new ByteArrayOutputStream();
+            int matched = 0;
+            int b;
+            while ((b = in.read()) != -1) {
+                head.write(b);
+                matched = (b == '\r' && matched % 2 == 0) || (b == '\n' && matched % 2 == 1) ? matched + 1 : 0;
+                if (matched == 4) {
+                    return head.toString(StandardCharsets.ISO_8859_1);
+                }
+            }
+            return null;
+        }
+
+        private void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.swaglabs.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * MultiPatternMatcher against the scan it replaced, FormValidationHelper.containsAnyPattern, on
+ * seeded random texts built from pieces of the patterns in random case, and on overlapping
+ * patterns, which only match through the automaton's failure links.
+ */
+public class MultiPatternMatcherTest {
+    private static final String[][] CHECKOUT_GROUPS = {
+            FormValidationHelper.FIRST_NAME_ERROR_PATTERNS,
+            FormValidationHelper.LAST_NAME_ERROR_PATTERNS,
+            FormValidationHelper.POSTAL_CODE_ERROR_PATTERNS
+    };
+    // Letters whose lower case is one char either way, so String and Character lowercasing agree
+    private static final String NOISE = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 :.,'\u00E9\u00C9\u03A9\u00DF";
+
+    private static int scan(String text, String[][] groups) {
+        int matched = 0;
+        for (int group = 0; group < groups.length; group++) {
+            if (FormValidationHelper.containsAnyPattern(text, groups[group])) {
+                matched |= 1 << group;
+            }
+        }
+        return matched;
+    }
+
+    private static String randomText(Random random, String[][] groups) {
+        StringBuilder text = new StringBuilder();
+        int pieces = 1 + random.nextInt(4);
+        for (int piece = 0; piece < pieces; piece++) {
+            if (random.nextInt(3) == 0) {
+                for (int i = random.nextInt(12); i > 0; i--) {
+                    text.append(NOISE.charAt(random.nextInt(NOISE.length())));
+                }
+                continue;
+            }
+            String[] group = groups[random.nextInt(groups.length)];
+            String pattern = group[random.nextInt(group.length)];
+            // The whole pattern, or a prefix or suffix of it that should not match on its own
+            int start = random.nextInt(4) == 0 ? random.nextInt(pattern.length()) : 0;
+            int end = random.nextInt(4) == 0 ? start + random.nextInt(pattern.length() - start + 1) : pattern.length();
+            for (char c : pattern.substring(start, end).toCharArray()) {
+                text.append(random.nextBoolean() ? Character.toUpperCase(c) : c);
+            }
+        }
+        return text.toString();
+    }
+
+    @Test
+    public void testAgreesWithContainsAnyPatternOnRandomTexts() {
+        MultiPatternMatcher matcher = new MultiPatternMatcher(CHECKOUT_GROUPS);
+        Random random = new Random(20240601);
+        int matches = 0;
+        for (int i = 0; i < 2000; i++) {
+            String text = randomText(random, CHECKOUT_GROUPS);
+            if (text.trim().isEmpty()) {
+                continue;
+            }
+            int expected = scan(text, CHECKOUT_GROUPS);
+            Assert.assertEquals(matcher.match(text), expected, "Groups matched in '" + text + "'");
+            if (expected != 0) {
+                matches++;
+            }
+        }
+        Assert.assertTrue(matches > 100, "The generator should produce matching texts too, got " + matches);
+    }
+
+    @Test
+    public void testOverlappingPatternsAreAllFound() {
+        String[][] groups = {{"he"}, {"she"}, {"his"}, {"hers"}};
+        MultiPatternMatcher matcher = new MultiPatternMatcher(groups);
+
+        for (String text : new String[]{"ushers", "USHERS", "this", "ahishe", "hhe", "sh", "h"}) {
+            Assert.assertEquals(matcher.match(text), scan(text, groups), text);
+        }
+        Assert.assertEquals(matcher.match("ushers"), 0b1011, "he, she and hers, but not his");
+    }
+
+    @Test
+    public void testCaseIsIgnoredBeyondAscii() {
+        MultiPatternMatcher matcher = new MultiPatternMatcher(new String[]{"\u00E9l\u00E8ve"}, new String[]{"Stra\u00DFe"});
+
+        Assert.assertEquals(matcher.match("UN \u00C9L\u00C8VE"), 0b01);
+        Assert.assertEquals(matcher.match("stra\u00DFe 5"), 0b10);
+        Assert.assertEquals(matcher.match("eleve strasse"), 0);
+    }
+
+    @Test
+    public void testNullAndEmptyMatchNothing() {
+        MultiPatternMatcher matcher = new MultiPatternMatcher(CHECKOUT_GROUPS);
+
+        Assert.assertEquals(matcher.match(null), 0);
+        Assert.assertEquals(matcher.match(""), 0);
+    }
+
+    @Test
+    public void testClassifyPrefersFirstNameThenLastName() {
+        Assert.assertEquals(FormValidationHelper.classify("Error: First Name is required"),
+                ValidationError.FIRST_NAME_REQUIRED);
+        Assert.assertEquals(FormValidationHelper.classify("error: last name is required; postal code is required"),
+                ValidationError.LAST_NAME_REQUIRED);
+        Assert.assertEquals(FormValidationHelper.classify("ZIP CODE IS REQUIRED"), ValidationError.POSTAL_CODE_REQUIRED);
+        Assert.assertEquals(FormValidationHelper.classify("Epic sadface: Username is required"),
+                ValidationError.UNRECOGNIZED);
+        Assert.assertNull(FormValidationHelper.classify("   "));
+    }
+
+    @Test
+    public void testAtMostThirtyTwoGroups() {
+        String[][] groups = new String[33][];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = new String[]{String.format(Locale.ROOT, "p%02d", i)};
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> new MultiPatternMatcher(groups));
+
+        String[][] thirtyTwo = new String[32][];
+        System.arraycopy(groups, 0, thirtyTwo, 0, 32);
+        Assert.assertEquals(new MultiPatternMatcher(thirtyTwo).match("p00 p31"), 1 | 1 << 31);
+    }
+}
@@ -0,0 +1,206 @@
+package com.swaglabs.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The Settings parsers on hand-built snapshots, and the order ConfigReader layers its sources in.
+ */
+public class SettingsTest {
+
+    private static Settings settings(String... keysAndValues) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            values.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return new Settings(values);
+    }
+
+    @Test
+    public void testDefaultsWhenKeysAreMissing() {
+        Settings settings = new Settings(Collections.emptyMap());
+
+        Assert.assertEquals(settings.getExplicitWait(), Duration.ofSeconds(10));
+        Assert.assertEquals(settings.getPollingInterval(), Duration.ofMillis(100));
+        Assert.assertFalse(settings.isHeadless());
+        Assert.assertTrue(settings.isDaemonEnabled());
+        Assert.assertEquals(settings.getDaemonPort(), 4455);
+        Assert.assertEquals(settings.getTransportKeepAlive(), Duration.ofSeconds(30));
+        Assert.assertEquals(settings.getParallelismCpuGrow(), 0.60);
+        Assert.assertEquals(settings.getNavigationPriorPageLoadMillis(), 600.0);
+        Assert.assertNull(settings.get("no.such.key"));
+        Assert.assertEquals(settings.get("no.such.key", "fallback"), "fallback");
+    }
+
+    @DataProvider(name = "durations")
+    public Object[][] durations() {
+        return new Object[][]{
+                {"timeout.explicit", "15", Duration.ofSeconds(15)},
+                {"timeout.explicit", "1500ms", Duration.ofMillis(1500)},
+                {"timeout.explicit", " 2 m ", Duration.ofMinutes(2)},
+                {"timeout.explicit", "20S", Duration.ofSeconds(20)},
+                {"timeout.explicit", "", Duration.ofSeconds(10)},
+                {"timeout.polling.ms", "250", Duration.ofMillis(250)},
+                {"timeout.polling.ms", "1s", Duration.ofSeconds(1)},
+                {"daemon.connect.timeout.ms", "0", Duration.ZERO}
+        };
+    }
+
+    @Test(dataProvider = "durations")
+    public void testDurationsTakeTheKeysUnitUnlessGivenOne(String key, String value, Duration expected) {
+        Settings settings = settings(key, value);
+        Duration actual = key.equals("timeout.explicit") ? settings.getExplicitWait()
+                : key.equals("timeout.polling.ms") ? settings.getPollingInterval()
+                : settings.getDaemonConnectTimeout();
+        Assert.assertEquals(actual, expected, key + "=" + value);
+    }
+
+    @DataProvider(name = "invalid")
+    public Object[][] invalid() {
+        return new Object[][]{
+                {"timeout.explicit", "ten"},
+                {"timeout.explicit", "-5"},
+                {"timeout.explicit", "1.5s"},
+                {"timeout.explicit", "10h"},
+                {"timeout.explicit", "99999999999999999999"},
+                {"timeout.explicit", "9223372036854775807m"},
+                {"headless.mode", "maybe"},
+                {"browser.slots", "-1"},
+                {"browser.slots", "two"},
+                {"browser.slots", "3000000000"},
+                {"daemon.port", "65536"},
+                {"parallelism.cpu.grow", "1.5"},
+                {"parallelism.cpu.shrink", "NaN"},
+                {"navigation.prior.command.ms", "-1"},
+                {"navigation.prior.page.load.ms", "Infinity"},
+                {"standin.port", "70000"},
+                {"standin.faults.seed", "forty-two"},
+                {"walk.seed", "12.5"},
+                {"fuzz.replay", "1,two,3"},
+                {"perf.budget.LoginPage.ttfbMs", "fast"}
+        };
+    }
+
+    @Test(dataProvider = "invalid")
+    public void testInvalidValuesFailNamingTheKey(String key, String value) {
+        try {
+            settings(key, value);
+            Assert.fail("Expected " + key + "='" + value + "' to be rejected");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Invalid configuration " + key + "="),
+                    "Message should name the key: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testBooleans() {
+        Assert.assertTrue(settings("headless.mode", "yes").isHeadless());
+        Assert.assertTrue(settings("headless.mode", " ON ").isHeadless());
+        Assert.assertTrue(settings("headless.mode", "1").isHeadless());
+        Assert.assertFalse(settings("daemon.enabled", "off").isDaemonEnabled());
+        Assert.assertFalse(settings("daemon.enabled", "FALSE").isDaemonEnabled());
+    }
+
+    @Test
+    public void testHeadlessWinsOverHeadlessMode() {
+        Assert.assertFalse(settings("headless", "false", "headless.mode", "true").isHeadless());
+        Assert.assertTrue(settings("headless", "true", "headless.mode", "false").isHeadless());
+        Assert.assertTrue(settings("headless.mode", "true").isHeadless());
+    }
+
+    @Test
+    public void testNumbers() {
+        Settings settings = settings("daemon.port", "0", "parallelism.cpu.grow", "1", "parallelism.cpu.shrink", "0",
+                "navigation.prior.command.ms", "12.5", "parallelism.memory.reserve.mb", "4096");
+
+        Assert.assertEquals(settings.getDaemonPort(), 0);
+        Assert.assertEquals(settings.getParallelismCpuGrow(), 1.0);
+        Assert.assertEquals(settings.getParallelismCpuShrink(), 0.0);
+        Assert.assertEquals(settings.getNavigationPriorCommandMillis(), 12.5);
+        Assert.assertEquals(settings.getParallelismMemoryReserveMb(), 4096L);
+    }
+
+    @Test
+    public void testPerfBudgetsFallBackToTheDefault() {
+        Settings settings = settings("perf.budget.enforce", "false", "perf.budget.default.ttfbMs", "800",
+                "perf.budget.LoginPage.ttfbMs", "3000", "perf.budget.CartPage.loadEventMs", "");
+
+        Assert.assertEquals(settings.getPerfBudget("LoginPage", "ttfbMs"), 3000.0);
+        Assert.assertEquals(settings.getPerfBudget("CartPage", "ttfbMs"), 800.0);
+        Assert.assertNull(settings.getPerfBudget("CartPage", "loadEventMs"), "An empty budget means none");
+        Assert.assertNull(settings.getPerfBudget("CartPage", "longTaskTotalMs"));
+    }
+
+    @Test
+    public void testSeedsAreConfiguredOrTakenFromTheClock() {
+        Settings settings = settings("walk.seed", " 42 ", "fuzz.seed", "", "fuzz.replay", "7, -8");
+
+        Assert.assertEquals(settings.getSeed("walk.seed"), 42L);
+        long before = System.currentTimeMillis();
+        long clockSeed = settings.getSeed("fuzz.seed");
+        Assert.assertTrue(clockSeed >= before && clockSeed <= System.currentTimeMillis(),
+                "An empty seed should come from the clock");
+        Assert.assertEquals(settings.getFuzzReplay(), Arrays.asList(7L, -8L));
+        Assert.assertTrue(settings.getWalkReplay().isEmpty());
+        Assert.assertThrows(IllegalArgumentException.class, () -> settings.getSeed("timeout.explicit"));
+    }
+
+    @Test
+    public void testSnapshotIsACopy() {
+        Map<String, String> values = new HashMap<>();
+        values.put("base.url", "https://one.example");
+        Settings settings = new Settings(values);
+        values.put("base.url", "https://two.example");
+
+        Assert.assertEquals(settings.get("base.url"), "https://one.example");
+    }
+
+    @Test
+    public void testLayersOverrideInOrder() {
+        String key = "timeout.explicit";
+        Settings before = ConfigReader.settings();
+        String fromFile = before.get(key);
+        Assert.assertNotNull(fromFile, key + " should come from config.properties");
+        boolean fromEnvironment = System.getenv("TIMEOUT_EXPLICIT") != null;
+
+        String previous = System.getProperty(key);
+        try {
+            System.setProperty(key, "42s");
+            Assert.assertSame(ConfigReader.settings(), before, "System properties are only read on reload");
+            ConfigReader.reload();
+            Assert.assertEquals(ConfigReader.settings().getExplicitWait(), Duration.ofSeconds(42),
+                    "A system property should win over config.properties" + (fromEnvironment ? " and the environment" : ""));
+            Assert.assertEquals(before.get(key), fromFile, "An earlier snapshot should not change");
+
+            String override = "unit.settings.layering";
+            System.setProperty(override, "system");
+            ConfigReader.setProperty(override, "override");
+            Assert.assertEquals(ConfigReader.getProperty(override), "override",
+                    "setProperty should win over a system property");
+            System.setProperty(override, "changed");
+            ConfigReader.reload();
+            Assert.assertEquals(ConfigReader.getProperty(override), "override", "Overrides should survive a reload");
+            Assert.assertEquals(ConfigReader.setProperty(override, "second"), "override",
+                    "setProperty should return the override it replaced");
+            ConfigReader.clearProperty(override);
+            Assert.assertEquals(ConfigReader.getProperty(override), "changed",
+                    "Clearing an override should fall back to the system property");
+            System.clearProperty(override);
+        } finally {
+            if (previous == null) {
+                System.clearProperty(key);
+            } else {
+                System.setProperty(key, previous);
+            }
+            ConfigReader.reload();
+        }
+        Assert.assertEquals(ConfigReader.settings().get(key), before.get(key));
+    }
+}